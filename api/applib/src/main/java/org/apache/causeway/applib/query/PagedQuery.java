@@ -0,0 +1,52 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Provides the elements of a (parented or standalone) table one page at a time, so that
+ * paging and sorting are performed by the datastore rather than in memory.
+ *
+ * <p>
+ *     Typically implemented by a repository, and made available to viewers through the
+ *     {@link org.apache.causeway.applib.services.tablecol.TablePagingService} SPI.
+ * </p>
+ *
+ * @see org.apache.causeway.applib.services.tablecol.TablePagingService
+ * @since 2.0 {@index}
+ */
+public interface PagedQuery<T> {
+
+    /**
+     * The query to fetch the elements within given {@link QueryRange range}, ordered by the specified property.
+     *
+     * @param range - the page window (start and limit)
+     * @param sortProperty - the id of the property to order by, or <code>null</code> for the natural
+     *      order of the underlying query
+     * @param ascending - whether to sort ascending; ignored if there is no <code>sortProperty</code>
+     */
+    Query<T> queryFor(QueryRange range, @Nullable String sortProperty, boolean ascending);
+
+    /**
+     * The total number of elements, usually obtained from a separate count query.
+     */
+    long count();
+
+}
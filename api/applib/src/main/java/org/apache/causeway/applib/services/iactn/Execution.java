@@ -21,6 +21,8 @@
 import java.sql.Timestamp;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.events.domain.AbstractDomainEvent;
@@ -245,15 +247,87 @@ public void setThrew(final Exception threw) {
      * {@link Execution#getReturned()}) will (obviously) still be null.
      * </p>
      */
-    @Getter
     private T dto;
 
+    /**
+     * Builds the {@link #getDto() dto} on first access; null once materialized
+     * (or if the dto was {@link #setDto(MemberExecutionDto) set} directly).
+     */
+    private Supplier<T> dtoSupplier;
+
+    /**
+     * Updates to be applied to the {@link #getDto() dto} once it is materialized.
+     */
+    private List<Consumer<T>> pendingDtoUpdates;
+
+    /**
+     * A serializable representation of this action invocation/property edit.
+     *
+     * <p>
+     * This <i>will</i> be populated (by the framework) during the method call itself (representing the
+     * action invocation/property edit), though some fields ({@link Execution#getCompletedAt()},
+     * {@link Execution#getReturned()}) will (obviously) still be null.
+     * </p>
+     *
+     * <p>
+     * The dto is built lazily on first access, so that no cost is incurred if no subscriber ever asks for it.
+     * </p>
+     */
+    public synchronized T getDto() {
+        if(dto == null
+                && dtoSupplier != null) {
+            dto = dtoSupplier.get();
+            dtoSupplier = null;
+            if(pendingDtoUpdates != null) {
+                pendingDtoUpdates.forEach(update -> update.accept(dto));
+                pendingDtoUpdates = null;
+            }
+        }
+        return dto;
+    }
+
     /**
      * <b>NOT API</b>: Set by framework (implementation of
      * {@link org.apache.causeway.core.metamodel.execution.InternalInteraction.MemberExecutor})
      */
-    public void setDto(final T executionDto) {
+    public synchronized void setDto(final T executionDto) {
         this.dto = executionDto;
+        this.dtoSupplier = null;
+        this.pendingDtoUpdates = null;
+    }
+
+    /**
+     * <b>NOT API</b>: Set by framework (implementation of
+     * {@link org.apache.causeway.core.metamodel.execution.InternalInteraction.MemberExecutor}),
+     * deferring the construction of the {@link #getDto() dto} until first requested.
+     */
+    public synchronized void setDtoSupplier(final Supplier<T> dtoSupplier) {
+        this.dto = null;
+        this.dtoSupplier = dtoSupplier;
+        this.pendingDtoUpdates = null;
+    }
+
+    /**
+     * <b>NOT API</b>: Applies the update to the {@link #getDto() dto}; if not yet materialized, the update is
+     * deferred until it is.  Has no effect if there is neither a dto nor a means to create one.
+     */
+    public synchronized void updateDto(final Consumer<T> update) {
+        if(dto != null) {
+            update.accept(dto);
+            return;
+        }
+        if(dtoSupplier == null) {
+            return;
+        }
+        if(pendingDtoUpdates == null) {
+            pendingDtoUpdates = _Lists.newArrayList();
+        }
+        pendingDtoUpdates.add(update);
+    }
+
+    synchronized boolean hasDto() {
+        return dto != null
+                || dtoSupplier != null;
     }
 
 
@@ -285,21 +359,28 @@ void syncMetrics(
 
                 execution.completedAt = timestamp;
 
-                if(execution.dto==null) {
+                if(!execution.hasDto()) {
                     return;
                 }
-                final MetricsDto metricsDto = metricsFor(execution);
+                final Timestamp startedAt = execution.startedAt;
+                final Timestamp completedAt = execution.completedAt;
+                final int numberObjectsLoadedBefore = execution.numberObjectsLoadedBefore;
+                final int numberObjectsDirtiedBefore = execution.numberObjectsDirtiedBefore;
+
+                execution.updateDto(dto -> {
+                    final MetricsDto metricsDto = metricsFor(dto);
 
-                final PeriodDto periodDto = timingsFor(metricsDto);
-                periodDto.setStartedAt(JavaSqlXMLGregorianCalendarMarshalling.toXMLGregorianCalendar(execution.startedAt));
-                periodDto.setCompletedAt(JavaSqlXMLGregorianCalendarMarshalling.toXMLGregorianCalendar(execution.completedAt));
+                    final PeriodDto periodDto = timingsFor(metricsDto);
+                    periodDto.setStartedAt(JavaSqlXMLGregorianCalendarMarshalling.toXMLGregorianCalendar(startedAt));
+                    periodDto.setCompletedAt(JavaSqlXMLGregorianCalendarMarshalling.toXMLGregorianCalendar(completedAt));
 
-                final ObjectCountsDto objectCountsDto = objectCountsFor(metricsDto);
-                numberObjectsLoadedFor(objectCountsDto).setBefore(execution.numberObjectsLoadedBefore);
-                numberObjectsDirtiedFor(objectCountsDto).setBefore(execution.numberObjectsDirtiedBefore);
+                    final ObjectCountsDto objectCountsDto = objectCountsFor(metricsDto);
+                    numberObjectsLoadedFor(objectCountsDto).setBefore(numberObjectsLoadedBefore);
+                    numberObjectsDirtiedFor(objectCountsDto).setBefore(numberObjectsDirtiedBefore);
 
-                numberObjectsLoadedFor(objectCountsDto).setAfter(numberObjectsLoaded);
-                numberObjectsDirtiedFor(objectCountsDto).setAfter(numberObjectsDirtied);
+                    numberObjectsLoadedFor(objectCountsDto).setAfter(numberObjectsLoaded);
+                    numberObjectsDirtiedFor(objectCountsDto).setAfter(numberObjectsDirtied);
+                });
             }
 
             // ....
@@ -319,8 +400,8 @@ private static ObjectCountsDto objectCountsFor(final MetricsDto metricsDto) {
             return MemberExecutionDtoUtils.objectCountsFor(metricsDto);
         }
 
-        private static MetricsDto metricsFor(final Execution<?, ?> execution) {
-            return MemberExecutionDtoUtils.metricsFor(execution.dto);
+        private static MetricsDto metricsFor(final MemberExecutionDto executionDto) {
+            return MemberExecutionDtoUtils.metricsFor(executionDto);
         }
 
         private static PeriodDto timingsFor(final MetricsDto metricsDto) {
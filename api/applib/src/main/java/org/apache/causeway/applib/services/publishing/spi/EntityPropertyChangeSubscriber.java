@@ -19,6 +19,7 @@
 package org.apache.causeway.applib.services.publishing.spi;
 
 import org.apache.causeway.applib.annotation.DomainObject;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.having.HasEnabling;
 
 /**
@@ -48,4 +49,34 @@ public interface EntityPropertyChangeSubscriber extends HasEnabling {
      */
     void onChanging(EntityPropertyChange entityPropertyChange);
 
+    /**
+     * Receives the property change events of the current transaction
+     * in bulk.
+     *
+     * <p>
+     *     Called during the pre-commit phase with the
+     *     {@link EntityPropertyChange}s that would otherwise be passed
+     *     individually to {@link #onChanging(EntityPropertyChange)}.
+     *     Subscribers that write to a data store can override this to
+     *     amortize the cost of each write, eg using JDBC batching.
+     * </p>
+     *
+     * <p>
+     *     May be called several times per transaction: when entity change
+     *     tracking is in <i>bounded</i> mode
+     *     (<code>causeway.persistence.entity-change-tracking.mode</code>),
+     *     the changes are published in chunks, with one call per chunk.
+     *     Subscribers must therefore not assume that any one call receives
+     *     the full set of the transaction's changes.
+     * </p>
+     *
+     * <p>
+     *     The default implementation simply delegates to
+     *     {@link #onChanging(EntityPropertyChange)} for each change.
+     * </p>
+     */
+    default void onBulkChanging(final Can<EntityPropertyChange> entityPropertyChanges) {
+        entityPropertyChanges.forEach(this::onChanging);
+    }
+
 }
@@ -187,8 +187,10 @@ private <T> T executeWithCaching(final Callable<T> callable, final Key cacheKey)
                 return _Casts.uncheckedCast(cacheValue.getResult());
             }
 
-            // cache miss, so get the result...
-            T result = callable.call();
+            // cache miss, so get the result (possibly from the shared tier) ...
+            T result = isSharedCacheable(cacheKey)
+                    ? sharedCache.execute(callable, cacheKey)
+                    : callable.call();
 
             // ... and cache
             //
@@ -245,4 +247,12 @@ private boolean isIgnoreCache() {
                 .anyMatch(c->c.isIgnoreCache());
     }
 
+    @Autowired(required = false)
+    protected SharedQueryResultsCache sharedCache;
+
+    private boolean isSharedCacheable(final Key cacheKey) {
+        return sharedCache != null
+                && sharedCache.isCacheable(cacheKey.getCallingClass(), cacheKey.getMethodName());
+    }
+
 }
@@ -0,0 +1,87 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.queryresultscache;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+/**
+ * SPI for an optional application-wide tier behind {@link QueryResultsCache}.
+ *
+ * <p>
+ *     Whereas {@link QueryResultsCache} only holds results for the duration of an
+ *     {@link org.apache.causeway.applib.services.iactn.Interaction}, an implementation of this SPI may hold results
+ *     across interactions.  It is consulted by {@link QueryResultsCache} on a miss of its own (interaction-scoped)
+ *     cache, and only for those calling methods for which it {@link #isCacheable(Class, String) opts in}.
+ * </p>
+ *
+ * <p>
+ *     Because results outlive the interaction that computed them, an implementation must not hand out entities
+ *     loaded by a different (possibly closed) persistence context, nor share them between concurrent interactions.
+ *     The default implementation holds entities by their bookmark, re-resolving them in the calling interaction;
+ *     values, view models or DTOs are shared as is, so should not be modified by the caller.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+public interface SharedQueryResultsCache {
+
+    /**
+     * Whether results for the given calling class and method may be held in this shared tier.
+     */
+    boolean isCacheable(Class<?> callingClass, String methodName);
+
+    /**
+     * Returns the cached result for the key, else invokes the callable and caches its result.
+     */
+    <T> T execute(Callable<T> callable, QueryResultsCache.Key cacheKey) throws Exception;
+
+    /**
+     * Evicts all cached results that touched any of the given entity types.
+     *
+     * <p>
+     *     Called by the framework when a transaction that created, updated or deleted entities of those types is
+     *     about to complete.
+     * </p>
+     */
+    void invalidate(Set<Class<?>> changedEntityTypes);
+
+    /**
+     * Evicts all cached results.
+     */
+    void invalidateAll();
+
+    // -- METRICS
+
+    /**
+     * Number of lookups served from the shared tier.
+     */
+    long getHitCount();
+
+    /**
+     * Number of lookups that had to invoke the underlying query.
+     */
+    long getMissCount();
+
+    /**
+     * Number of results evicted, whether due to size, weight, time-to-live or invalidation.
+     */
+    long getEvictionCount();
+
+}
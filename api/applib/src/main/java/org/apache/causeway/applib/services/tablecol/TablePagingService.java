@@ -0,0 +1,94 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.tablecol;
+
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.query.PagedQuery;
+
+/**
+ * Allows parented- and standalone tables to fetch their rows a page at a time, with sorting pushed down
+ * to the datastore, rather than loading (and sorting) every element of the collection in memory.
+ *
+ * <p>
+ *     There can be multiple implementations of this service registered,
+ *     ordered as per the Spring
+ *     {@link org.springframework.core.annotation.Order} annotation (or equivalent).
+ *     The result of the first service implementation to return a
+ *     non-<code>null</code> value will be used.
+ * </p>
+ *
+ * <p>
+ *      If all provided implementations return <code>null</code>, then the
+ *      table is populated from the collection (or action result) as usual.
+ * </p>
+ *
+ * <p>
+ *     For a standalone table, the action is still invoked (once, when invoked by the user), but viewers that
+ *     support paging ignore its result, and do not invoke it again when re-rendering the table;
+ *     such actions would therefore typically return only the first page.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+public interface TablePagingService {
+
+    /**
+     * For the parent collection owned by the specified parent and collection
+     * Id, return the {@link PagedQuery} to obtain its elements.
+     *
+     * <p>
+     *     Return <code>null</code> if the collection's elements should not be paged.
+     * </p>
+     *
+     * @param parent
+     * @param collectionId - the logical member name that identifies the collection
+     *      within its domain object type
+     * @param elementType
+     */
+    @Nullable
+    PagedQuery<?> pagedParented(
+            final Object parent,
+            final String collectionId,
+            final Class<?> elementType);
+
+    /**
+     * For the standalone collection returned by the specified action, return the {@link PagedQuery}
+     * to obtain its elements.
+     *
+     * <p>
+     *     Return <code>null</code> if the action result's elements should not be paged.
+     * </p>
+     *
+     * @param actionOwner - the object (or mixee) on which the action was invoked
+     * @param actionId - the logical member name that identifies the action
+     *      within its domain object type
+     * @param arguments - the arguments with which the action was invoked
+     * @param elementType
+     */
+    @Nullable
+    PagedQuery<?> pagedStandalone(
+            final Object actionOwner,
+            final String actionId,
+            final List<Object> arguments,
+            final Class<?> elementType);
+
+}
@@ -19,16 +19,22 @@
 package org.apache.causeway.applib.value;
 
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
+import java.io.InputStream;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import java.io.Serializable;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import javax.activation.MimeType;
 import javax.activation.MimeTypeParseException;
@@ -46,6 +52,7 @@
 import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.commons.internal.image._Images;
+import org.apache.causeway.commons.io.DataSink;
 import org.apache.causeway.commons.io.DataSource;
 import org.apache.causeway.commons.io.HashUtils;
 import org.apache.causeway.commons.io.HashUtils.HashAlgorithm;
@@ -75,6 +82,13 @@
  *     </li>
  * </ul>
  *
+ * <p>
+ * A {@link Blob} created using {@link #ofDataSource(String, CommonMimeType, DataSource)} is lazy:
+ * its bytes are only read into memory if {@link #getBytes()} is called, while
+ * {@link #asDataSource()}, {@link #writeBytesTo(OutputStream)}, {@link #tryHash(HashAlgorithm)} and
+ * {@link #zip()} stream from the underlying {@link DataSource}.
+ * </p>
+ *
  * @see Clob
  * @since 1.x {@index}
  */
@@ -126,6 +140,62 @@ public static Try<Blob> tryRead(final String name, final CommonMimeType mimeType
                 .mapSuccess(bytes->Blob.of(name, mimeType, bytes.orElse(null)));
     }
 
+    /**
+     * Returns a new lazy {@link Blob} of given {@code name}, {@code mimeType} and content from {@code dataSource},
+     * which is read only once required.
+     * <p>
+     * The {@link DataSource} is read each time the content is streamed, and is read into memory
+     * if {@link #getBytes()} is called, hence must be repeatable.
+     * <p>
+     * Lazy {@link Blob}s are equal only if backed by the same {@link DataSource} instance,
+     * as {@link #equals(Object)} and {@link #hashCode()} never read the content.
+     * <p>
+     * Persisting a lazy {@link Blob} with JDO streams its content to the database,
+     * as does the REST viewer to the response.
+     * Persisting with JPA (see {@code BlobJpaEmbeddable}) and JAXB (de-)serialization read it into memory.
+     * <p>
+     * {@code name} may or may not include the desired filename extension, as it
+     * is guaranteed, that the resulting {@link Blob} has the appropriate extension
+     * as constraint by the given {@code mimeType}.
+     * @param name - may or may not include the desired filename extension
+     * @param mimeType
+     * @param dataSource - the {@link DataSource} to be opened for reading (eg. a file or a content store)
+     * @return new {@link Blob}
+     */
+    public static Blob ofDataSource(final String name, final CommonMimeType mimeType, final @NonNull DataSource dataSource) {
+        val proposedFileExtension = mimeType.getProposedFileExtensions().getFirst().orElse("");
+        val fileName = _Strings.asFileNameWithExtension(name, proposedFileExtension);
+        return new Blob(fileName, mimeType.getMimeType(), dataSource);
+    }
+
+    /**
+     * Returns a new {@link Blob} of given {@code name}, {@code mimeType} and content read from given
+     * {@link InputStream}, which is not closed.
+     * <p>
+     * Content of up to {@code memoryThreshold} bytes is held in memory, while larger content is spooled to a
+     * temporary file (see {@link DataSource#ofInputStreamSpooled(InputStream)}),
+     * making for a lazy {@link Blob} (see {@link #ofDataSource(String, CommonMimeType, DataSource)}).
+     * <p>
+     * Unlike the other factories, {@code name} is used as is.
+     * @param name - including the filename extension, if any
+     * @param mimeTypeBase
+     * @param inputStream - to read the content from
+     * @param memoryThreshold - in bytes
+     * @return new {@link Blob}
+     */
+    @SneakyThrows
+    public static Blob ofInputStreamSpooled(
+            final String name, final String mimeTypeBase, final @NonNull InputStream inputStream, final int memoryThreshold) {
+        val mimeType = CommonMimeType.newMimeType(mimeTypeBase);
+        val head = inputStream.readNBytes(memoryThreshold + 1);
+        if(head.length <= memoryThreshold) {
+            return new Blob(name, mimeType, head);
+        }
+        val dataSource = DataSource.ofInputStreamSpooled(
+                new SequenceInputStream(new ByteArrayInputStream(head), inputStream));
+        return new Blob(name, mimeType, dataSource);
+    }
+
     /**
      * Shortcut for {@code tryRead(name, mimeType, DataSource.ofFile(file))}
      * @see #tryRead(String, org.apache.causeway.applib.value.NamedWithMimeType.CommonMimeType, DataSource)
@@ -137,8 +207,9 @@ public static Try<Blob> tryRead(final String name, final CommonMimeType mimeType
      // --
 
     private final MimeType mimeType;
-    private final byte[] bytes;
+    private volatile byte[] bytes; // lazily read from dataSource, if any
     private final String name;
+    private final transient @Nullable DataSource dataSource;
 
     public Blob(final String name, final String primaryType, final String subtype, final byte[] bytes) {
         this(name, CommonMimeType.newMimeType(primaryType, subtype), bytes);
@@ -164,6 +235,23 @@ public Blob(final String name, final MimeType mimeType, final byte[] bytes) {
         this.name = name;
         this.mimeType = mimeType;
         this.bytes = bytes;
+        this.dataSource = null;
+    }
+
+    // package private, in support of Clob#toBlob
+    Blob(final String name, final MimeType mimeType, final DataSource dataSource) {
+        if(name == null) {
+            throw new IllegalArgumentException("Name cannot be null");
+        }
+        if(mimeType == null) {
+            throw new IllegalArgumentException("MimeType cannot be null");
+        }
+        if(name.contains(":")) {
+            throw new IllegalArgumentException("Name cannot contain ':'");
+        }
+        this.name = name;
+        this.mimeType = mimeType;
+        this.dataSource = dataSource;
     }
 
     @Override
@@ -176,10 +264,28 @@ public MimeType getMimeType() {
         return mimeType;
     }
 
+    /**
+     * If lazy, reads the entire content into memory (once).
+     */
     public byte[] getBytes() {
+        if(bytes==null) {
+            synchronized(this) {
+                if(bytes==null) {
+                    bytes = _NullSafe.toNonNull(dataSource.bytes());
+                }
+            }
+        }
         return bytes;
     }
 
+    /**
+     * Whether the content (as yet) is held in memory, that is, whether not lazy,
+     * or if lazy, {@link #getBytes()} was already called.
+     */
+    public boolean isMaterialized() {
+        return bytes!=null;
+    }
+
     // -- UTILITIES
 
     /**
@@ -198,9 +304,12 @@ public void writeBytesTo(final @Nullable OutputStream os) {
         if(os==null) {
             return;
         }
-        if(bytes!=null) {
+        if(isMaterialized()) {
             os.write(bytes);
+            return;
         }
+        dataSource.tryReadAndAccept(is->is.transferTo(os))
+            .ifFailureFail();
     }
 
     /**
@@ -229,7 +338,9 @@ public void writeTo(final @Nullable File file) {
      * @see DataSource
      */
     public DataSource asDataSource() {
-        return DataSource.ofBytes(_NullSafe.toNonNull(getBytes()));
+        return isMaterialized()
+                ? DataSource.ofBytes(bytes)
+                : dataSource;
     }
 
     /**
@@ -248,6 +359,9 @@ public Blob zip() {
     public Blob zip(final @Nullable String zipEntryNameIfAny) {
         val zipEntryName = _Strings.nonEmpty(zipEntryNameIfAny)
             .orElseGet(this::getName);
+        if(!isMaterialized()) {
+            return Blob.ofDataSource(getName()+".zip", CommonMimeType.ZIP, zipped(zipEntryName));
+        }
         val zipBuilder = ZipUtils.zipEntryBuilder();
         zipBuilder.add(zipEntryName, getBytes());
         return Blob.of(getName()+".zip", CommonMimeType.ZIP, zipBuilder.toBytes());
@@ -266,7 +380,9 @@ public Blob unZip(final @NonNull CommonMimeType resultingMimeType) {
     // -- HASHING
 
     public Try<HashUtils.Hash> tryHash(final @NonNull HashAlgorithm hashAlgorithm) {
-        return HashUtils.tryDigest(hashAlgorithm, bytes, 4*1024); // 4k default
+        return isMaterialized()
+                ? HashUtils.tryDigest(hashAlgorithm, bytes, 4*1024) // 4k default
+                : dataSource.tryHash(hashAlgorithm);
     }
 
     public Try<HashUtils.Hash> tryMd5() {
@@ -289,20 +405,28 @@ public boolean equals(final Object o) {
             return false;
         final Blob blob = (Blob) o;
         return Objects.equals(mimeType.toString(), blob.mimeType.toString()) &&
-                Arrays.equals(bytes, blob.bytes) &&
-                Objects.equals(name, blob.name);
+                Objects.equals(name, blob.name) &&
+                (dataSource!=null
+                    || blob.dataSource!=null
+                        ? dataSource == blob.dataSource // lazy, don't read the content
+                        : Arrays.equals(bytes, blob.bytes));
     }
 
     @Override
     public int hashCode() {
         int result = Objects.hash(mimeType.toString(), name);
-        result = 31 * result + Arrays.hashCode(bytes);
+        result = 31 * result + (dataSource!=null
+                ? System.identityHashCode(dataSource) // lazy, don't read the content
+                : Arrays.hashCode(bytes));
         return result;
     }
 
     @Override
     public String toString() {
-        return getName() + " [" + getMimeType().getBaseType() + "]: " + getBytes().length + " bytes";
+        return getName() + " [" + getMimeType().getBaseType() + "]: "
+                + (isMaterialized()
+                        ? getBytes().length + " bytes"
+                        : "lazy");
     }
 
     /**
@@ -372,6 +496,35 @@ public Optional<BufferedImage> asImage() {
 
     }
 
+    // -- HELPER
+
+    /**
+     * Zips on each read, via a temporary file, so the content is never held in memory.
+     */
+    private DataSource zipped(final String zipEntryName) {
+        return new DataSource() {
+            @Override
+            public <T> Try<T> tryReadAll(final @NonNull Function<InputStream, Try<T>> consumingMapper) {
+                return Try.call(()->{
+                    val tempFile = File.createTempFile("causeway-blob-", ".zip");
+                    try {
+                        DataSink.ofFile(tempFile).writeAll(os->{
+                            try(val zos = new ZipOutputStream(os)) {
+                                zos.putNextEntry(new ZipEntry(zipEntryName));
+                                writeBytesTo(zos);
+                                zos.closeEntry();
+                            }
+                        });
+                        return DataSource.ofFile(tempFile).tryReadAll(consumingMapper)
+                                .valueAsNullableElseFail();
+                    } finally {
+                        tempFile.delete();
+                    }
+                });
+            }
+        };
+    }
+
     // -- SERIALIZATION PROXY
 
     private Object writeReplace() {
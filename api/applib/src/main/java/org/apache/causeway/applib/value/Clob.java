@@ -21,6 +21,7 @@
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.OutputStreamWriter;
@@ -69,6 +70,13 @@
  *     </li>
  * </ul>
  *
+ * <p>
+ * A {@link Clob} created using {@link #ofDataSource(String, CommonMimeType, DataSource, Charset)} is lazy:
+ * its characters are only read into memory if {@link #getChars()} is called, while
+ * {@link #writeCharsTo(Writer)} (and {@link #toBlob(Charset)} using the same {@link Charset})
+ * stream from the underlying {@link DataSource}.
+ * </p>
+ *
  * @see Blob
  * @since 1.x {@index}
  */
@@ -82,7 +90,9 @@ public final class Clob implements NamedWithMimeType {
 
     private final String name;
     private final MimeType mimeType;
-    private final CharSequence chars;
+    private volatile CharSequence chars; // lazily read from dataSource, if any
+    private final transient @Nullable DataSource dataSource;
+    private final transient @Nullable Charset charset;
 
 
     // -- FACTORIES
@@ -127,6 +137,35 @@ public static Try<Clob> tryRead(final String name, final CommonMimeType mimeType
                 .mapSuccess(string->Clob.of(name, mimeType, string.orElse(null)));
     }
 
+    /**
+     * Returns a new lazy {@link Clob} of given {@code name}, {@code mimeType} and content from {@code dataSource},
+     * which is read only once required.
+     * <p>
+     * The {@link DataSource} is read each time the content is streamed, and is read into memory
+     * if {@link #getChars()} is called, hence must be repeatable.
+     * <p>
+     * Lazy {@link Clob}s are equal only if backed by the same {@link DataSource} instance (and {@link Charset}),
+     * as {@link #equals(Object)} and {@link #hashCode()} never read the content.
+     * <p>
+     * Persisting a lazy {@link Clob} (JDO or JPA) reads its content into memory,
+     * as do the REST viewer and JAXB (de-)serialization.
+     * <p>
+     * {@code name} may or may not include the desired filename extension, as it
+     * is guaranteed, that the resulting {@link Clob} has the appropriate extension
+     * as constraint by the given {@code mimeType}.
+     * @param name - may or may not include the desired filename extension
+     * @param mimeType
+     * @param dataSource - the {@link DataSource} to be opened for reading (eg. a file or a content store)
+     * @param charset - {@link Charset} to use for reading from given {@link DataSource}
+     * @return new {@link Clob}
+     */
+    public static Clob ofDataSource(final String name, final CommonMimeType mimeType,
+            final @NonNull DataSource dataSource, final @NonNull Charset charset) {
+        val proposedFileExtension = mimeType.getProposedFileExtensions().getFirst().orElse("");
+        val fileName = _Strings.asFileNameWithExtension(name, proposedFileExtension);
+        return new Clob(fileName, mimeType.getMimeType(), dataSource, charset);
+    }
+
     /**
      * Shortcut for {@code tryRead(name, mimeType, DataSource.ofFile(file), charset)}
      * @see #tryRead(String, org.apache.causeway.applib.value.NamedWithMimeType.CommonMimeType, DataSource, Charset)
@@ -182,6 +221,24 @@ public Clob(final String name, final MimeType mimeType, final CharSequence chars
         this.name = name;
         this.mimeType = mimeType;
         this.chars = chars;
+        this.dataSource = null;
+        this.charset = null;
+    }
+
+    private Clob(final String name, final MimeType mimeType, final DataSource dataSource, final Charset charset) {
+        if(name == null) {
+            throw new IllegalArgumentException("Name cannot be null");
+        }
+        if(mimeType == null) {
+            throw new IllegalArgumentException("MimeType cannot be null");
+        }
+        if(name.contains(":")) {
+            throw new IllegalArgumentException("Name cannot contain ':'");
+        }
+        this.name = name;
+        this.mimeType = mimeType;
+        this.dataSource = dataSource;
+        this.charset = charset;
     }
 
     @Override
@@ -194,10 +251,32 @@ public MimeType getMimeType() {
         return mimeType;
     }
 
+    /**
+     * If lazy, reads the entire content into memory (once).
+     */
     public CharSequence getChars() {
+        if(chars==null) {
+            synchronized(this) {
+                if(chars==null) {
+                    chars = dataSource.tryReadAsString(charset)
+                            .valueAsNullableElseFail();
+                    if(chars==null) {
+                        chars = ""; // empty DataSource
+                    }
+                }
+            }
+        }
         return chars;
     }
 
+    /**
+     * Whether the content (as yet) is held in memory, that is, whether not lazy,
+     * or if lazy, {@link #getChars()} was already called.
+     */
+    public boolean isMaterialized() {
+        return chars!=null;
+    }
+
     // -- UTILITIES
 
     /**
@@ -205,6 +284,10 @@ public CharSequence getChars() {
      * for the underlying String to byte[] conversion.
      */
     public Blob toBlob(final @NonNull Charset charset) {
+        if(!isMaterialized()
+                && charset.equals(this.charset)) {
+            return new Blob(getName(), getMimeType(), dataSource);
+        }
         return new Blob(getName(), getMimeType(), _Strings.toBytes(getChars().toString(), charset));
     }
 
@@ -216,9 +299,15 @@ public Blob toBlobUtf8() {
     }
 
     public void writeCharsTo(final Writer wr) throws IOException {
-        if(wr!=null && chars!=null){
+        if(wr==null) {
+            return;
+        }
+        if(isMaterialized()) {
             wr.append(chars);
+            return;
         }
+        dataSource.tryReadAndAccept(is->new InputStreamReader(is, charset).transferTo(wr))
+            .ifFailureFail();
     }
 
     /**
@@ -269,16 +358,25 @@ public boolean equals(final Object o) {
         final Clob clob = (Clob) o;
         return Objects.equals(name, clob.name) &&
                 Objects.equals(mimeType.toString(), clob.mimeType.toString()) &&
-                Objects.equals(chars, clob.chars);
+                (dataSource!=null
+                    || clob.dataSource!=null
+                        ? dataSource == clob.dataSource // lazy, don't read the content
+                            && Objects.equals(charset, clob.charset)
+                        : Objects.equals(chars, clob.chars));
     }
 
     @Override public int hashCode() {
-        return Objects.hash(name, mimeType.toString(), chars);
+        return Objects.hash(name, mimeType.toString(), dataSource!=null
+                ? System.identityHashCode(dataSource) // lazy, don't read the content
+                : chars);
     }
 
     @Override
     public String toString() {
-        return getName() + " [" + getMimeType().getBaseType() + "]: " + getChars().length() + " chars";
+        return getName() + " [" + getMimeType().getBaseType() + "]: "
+                + (isMaterialized()
+                        ? getChars().length() + " chars"
+                        : "lazy");
     }
 
     /**
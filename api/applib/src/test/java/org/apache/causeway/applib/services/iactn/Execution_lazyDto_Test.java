@@ -0,0 +1,108 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.iactn;
+
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.applib.id.LogicalType;
+import org.apache.causeway.applib.services.metrics.MetricsService;
+import org.apache.causeway.applib.util.schema.MemberExecutionDtoUtils;
+import org.apache.causeway.schema.ixn.v2.ActionInvocationDto;
+
+import lombok.val;
+
+class Execution_lazyDto_Test {
+
+    private ActionInvocation execution;
+    private AtomicInteger dtoBuilt;
+
+    private final MetricsService metricsService = new MetricsService() {
+        @Override public int numberEntitiesLoaded() { return 5; }
+        @Override public int numberEntitiesDirtied() { return 2; }
+    };
+
+    @BeforeEach
+    void setUp() {
+        execution = new ActionInvocation(
+                null,
+                Identifier.actionIdentifier(LogicalType.fqcn(Execution_lazyDto_Test.class), "someAction"),
+                new Object(),
+                Collections.emptyList());
+        dtoBuilt = new AtomicInteger();
+        execution.setDtoSupplier(()->{
+            dtoBuilt.incrementAndGet();
+            return new ActionInvocationDto();
+        });
+    }
+
+    @Test
+    void dto_is_not_built_unless_requested() {
+        execution.setCompletedAt(new Timestamp(0L), metricsService);
+        execution.updateDto(dto->dto.setLogicalMemberIdentifier("x"));
+
+        assertEquals(0, dtoBuilt.get());
+    }
+
+    @Test
+    void dto_is_built_once_and_deferred_updates_applied_in_order() {
+        execution.setCompletedAt(new Timestamp(1000L), metricsService);
+        execution.updateDto(dto->dto.setLogicalMemberIdentifier("first"));
+        execution.updateDto(dto->dto.setLogicalMemberIdentifier("second"));
+
+        val dto = execution.getDto();
+
+        assertSame(dto, execution.getDto());
+        assertEquals(1, dtoBuilt.get());
+        assertEquals("second", dto.getLogicalMemberIdentifier());
+
+        val metricsDto = MemberExecutionDtoUtils.metricsFor(dto);
+        assertNotNull(metricsDto.getTimings().getCompletedAt());
+        assertEquals(5, metricsDto.getObjectCounts().getLoaded().getAfter());
+        assertEquals(2, metricsDto.getObjectCounts().getDirtied().getAfter());
+    }
+
+    @Test
+    void updates_after_materialization_are_applied_immediately() {
+        val dto = execution.getDto();
+        execution.updateDto(x->x.setLogicalMemberIdentifier("later"));
+
+        assertEquals("later", dto.getLogicalMemberIdentifier());
+    }
+
+    @Test
+    void updates_are_ignored_when_there_is_no_dto() {
+        execution.setDto(null);
+        execution.updateDto(dto->dto.setLogicalMemberIdentifier("ignored"));
+        execution.setCompletedAt(new Timestamp(0L), metricsService);
+
+        assertNull(execution.getDto());
+    }
+
+}
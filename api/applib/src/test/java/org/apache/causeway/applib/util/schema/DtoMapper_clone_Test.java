@@ -0,0 +1,165 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.util.schema;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import org.apache.causeway.applib.jaxb.JavaSqlXMLGregorianCalendarMarshalling;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.internal.base._Timing;
+import org.apache.causeway.commons.io.DataSink;
+import org.apache.causeway.commons.io.DataSource;
+import org.apache.causeway.commons.io.DtoMapper;
+import org.apache.causeway.schema.cmd.v2.ActionDto;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+import org.apache.causeway.schema.cmd.v2.ParamDto;
+import org.apache.causeway.schema.cmd.v2.ParamsDto;
+import org.apache.causeway.schema.common.v2.OidDto;
+import org.apache.causeway.schema.common.v2.OidsDto;
+import org.apache.causeway.schema.common.v2.ValueType;
+import org.apache.causeway.schema.ixn.v2.InteractionDto;
+
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+class DtoMapper_clone_Test {
+
+    CommandDto commandDto;
+    InteractionDto interactionDto;
+
+    @BeforeEach
+    void setUp() {
+        val params = List.of(
+                param("quantity", ValueType.INT, 3),
+                param("description", ValueType.STRING, "some text"),
+                param("amount", ValueType.BIG_DECIMAL, new BigDecimal("12.34")));
+
+        commandDto = new CommandDto();
+        commandDto.setMajorVersion("2");
+        commandDto.setMinorVersion("0");
+        commandDto.setInteractionId(UUID.randomUUID().toString());
+        commandDto.setUsername("sven");
+        commandDto.setTimestamp(JavaSqlXMLGregorianCalendarMarshalling.toXMLGregorianCalendar(new Timestamp(2_000_000L)));
+
+        val oidDto = new OidDto();
+        oidDto.setType("customer.Customer");
+        oidDto.setId("123");
+        val targets = new OidsDto();
+        targets.getOid().add(oidDto);
+        commandDto.setTargets(targets);
+
+        val actionDto = new ActionDto();
+        actionDto.setLogicalMemberIdentifier("customer.Customer#placeOrder");
+        actionDto.setParameters(new ParamsDto());
+        actionDto.getParameters().getParameter().addAll(params);
+        commandDto.setMember(actionDto);
+        CommandDtoUtils.setUserData(commandDto, "someKey", "someValue");
+
+        interactionDto = new InteractionDto();
+        interactionDto.setMajorVersion("2");
+        interactionDto.setMinorVersion("0");
+        interactionDto.setInteractionId(commandDto.getInteractionId());
+        interactionDto.setExecution(InteractionDtoUtils.newActionInvocation(
+                1, Bookmark.forLogicalTypeNameAndIdentifier("customer.Customer", "123"),
+                "customer.Customer#placeOrder", params, "sven"));
+    }
+
+    @Test
+    void commandDto_clone_isDeepAndEquivalent() {
+        val mapper = CommandDtoUtils.dtoMapper();
+
+        val clone = mapper.clone(commandDto);
+
+        assertNotSame(commandDto, clone);
+        assertNotSame(commandDto.getTargets(), clone.getTargets());
+        assertNotSame(commandDto.getMember(), clone.getMember());
+        assertEquals(mapper.toString(commandDto), mapper.toString(clone));
+
+        // when mutating the clone
+        clone.getTargets().getOid().get(0).setId("456");
+        CommandDtoUtils.setUserData(clone, "someKey", "someOtherValue");
+
+        // then the original is unaffected
+        assertEquals("123", commandDto.getTargets().getOid().get(0).getId());
+        assertEquals("someValue", CommandDtoUtils.getUserData(commandDto, "someKey"));
+        assertNotEquals(mapper.toString(commandDto), mapper.toString(clone));
+    }
+
+    @Test
+    void interactionDto_clone_isDeepAndEquivalent() {
+        val mapper = InteractionDtoUtils.dtoMapper();
+
+        val clone = mapper.clone(interactionDto);
+
+        assertNotSame(interactionDto, clone);
+        assertNotSame(interactionDto.getExecution(), clone.getExecution());
+        assertEquals(mapper.toString(interactionDto), mapper.toString(clone));
+    }
+
+    //XXX not a real test, just for performance tuning
+    @Test
+    void clone_structuralVsRoundtrip() {
+        final int iterations = 1_000;
+        val mapper = CommandDtoUtils.dtoMapper();
+
+        // warm-up
+        for(int i=0; i<iterations; ++i) {
+            mapper.clone(commandDto);
+            roundtrip(mapper, commandDto);
+        }
+
+        val structural = _Timing.run(()->{
+            for(int i=0; i<iterations; ++i) {
+                mapper.clone(commandDto);
+            }
+        });
+        val roundtrip = _Timing.run(()->{
+            for(int i=0; i<iterations; ++i) {
+                roundtrip(mapper, commandDto);
+            }
+        });
+
+        log.info("{} clones of CommandDto, structural: {}, XML round-trip: {}",
+                iterations, structural, roundtrip);
+    }
+
+    // -- HELPER
+
+    private static ParamDto param(final String name, final ValueType valueType, final Object value) {
+        return CommonDtoUtils.recordFundamentalValue(valueType, CommonDtoUtils.paramDto(name), value);
+    }
+
+    private static <T> T roundtrip(final DtoMapper<T> mapper, final T dto) {
+        val bytes = new byte[1][];
+        mapper.write(dto, DataSink.ofByteArrayConsumer(x->bytes[0] = x));
+        return mapper.read(DataSource.ofBytes(bytes[0]));
+    }
+
+}
@@ -0,0 +1,167 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.value;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.value.NamedWithMimeType.CommonMimeType;
+import org.apache.causeway.commons.io.DataSource;
+
+import lombok.val;
+
+class Blob_ofDataSource_Test {
+
+    private byte[] bytes;
+    private AtomicInteger readCount;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setup() {
+        val rd = new Random(9999); // fixed seed - reproducible tests
+        this.bytes = new byte[16*1024];
+        rd.nextBytes(bytes);
+        this.readCount = new AtomicInteger();
+        this.dataSource = DataSource.ofBytes(bytes)
+                .map(is->{
+                    readCount.incrementAndGet();
+                    return is;
+                });
+    }
+
+    @Test
+    void isNotReadUntilRequired() {
+        val blob = Blob.ofDataSource("name", CommonMimeType.BIN, dataSource);
+        assertEquals("name.bin", blob.getName());
+        assertFalse(blob.isMaterialized());
+        assertEquals(0, readCount.get());
+    }
+
+    @Test
+    void streamsWithoutMaterializing() {
+        val blob = Blob.ofDataSource("name", CommonMimeType.BIN, dataSource);
+
+        val os = new ByteArrayOutputStream();
+        blob.writeBytesTo(os);
+        assertArrayEquals(bytes, os.toByteArray());
+
+        assertEquals(Blob.of("name", CommonMimeType.BIN, bytes).md5Hex(), blob.md5Hex());
+        assertArrayEquals(bytes, blob.asDataSource().bytes());
+
+        assertFalse(blob.isMaterialized());
+        assertEquals(3, readCount.get());
+    }
+
+    @Test
+    void zipUnzipRoundtripWithoutMaterializing() {
+        val blob = Blob.ofDataSource("name", CommonMimeType.BIN, dataSource);
+        val zipped = blob.zip();
+        assertFalse(zipped.isMaterialized());
+        assertEquals(Blob.of("name", CommonMimeType.BIN, bytes), zipped.unZip(CommonMimeType.BIN));
+        assertFalse(blob.isMaterialized());
+    }
+
+    @Test
+    void materializesOnceOnGetBytes() {
+        val blob = Blob.ofDataSource("name", CommonMimeType.BIN, dataSource);
+        assertArrayEquals(bytes, blob.getBytes());
+        assertArrayEquals(bytes, blob.getBytes());
+        assertTrue(blob.isMaterialized());
+        assertEquals(1, readCount.get());
+    }
+
+    @Test
+    void equalityDoesNotReadTheContent() {
+        val blob = Blob.ofDataSource("name", CommonMimeType.BIN, dataSource);
+        val sameDataSource = Blob.ofDataSource("name", CommonMimeType.BIN, dataSource);
+        val otherDataSource = Blob.ofDataSource("name", CommonMimeType.BIN, DataSource.ofBytes(bytes));
+
+        assertEquals(blob, sameDataSource);
+        assertEquals(blob.hashCode(), sameDataSource.hashCode());
+        assertNotEquals(blob, otherDataSource);
+        assertNotEquals(blob, Blob.of("name", CommonMimeType.BIN, bytes));
+        assertNotEquals(Blob.of("name", CommonMimeType.BIN, bytes), blob);
+
+        // equality is not affected by materializing
+        blob.getBytes();
+        assertEquals(blob, sameDataSource);
+        assertEquals(blob.hashCode(), sameDataSource.hashCode());
+
+        assertFalse(sameDataSource.isMaterialized());
+        assertEquals(1, readCount.get());
+    }
+
+    @Test
+    void spoolsOnlyAboveMemoryThreshold() {
+        val small = Blob.ofInputStreamSpooled("name.bin", CommonMimeType.BIN.getBaseType(),
+                new ByteArrayInputStream(bytes), bytes.length);
+        assertTrue(small.isMaterialized());
+        assertEquals(Blob.of("name", CommonMimeType.BIN, bytes), small);
+
+        val large = Blob.ofInputStreamSpooled("name.bin", CommonMimeType.BIN.getBaseType(),
+                new ByteArrayInputStream(bytes), bytes.length - 1);
+        assertFalse(large.isMaterialized());
+        assertEquals("name.bin", large.getName());
+        assertEquals(Blob.of("name", CommonMimeType.BIN, bytes).md5Hex(), large.md5Hex());
+        assertArrayEquals(bytes, large.asDataSource().bytes());
+        assertFalse(large.isMaterialized());
+    }
+
+    @Test
+    void clobEqualityDoesNotReadTheContent() {
+        val clobDataSource = DataSource.ofStringUtf8("Hello World!")
+                .map(is->{
+                    readCount.incrementAndGet();
+                    return is;
+                });
+        val clob = Clob.ofDataSource("name", CommonMimeType.TXT, clobDataSource, StandardCharsets.UTF_8);
+
+        assertEquals(clob, Clob.ofDataSource("name", CommonMimeType.TXT, clobDataSource, StandardCharsets.UTF_8));
+        assertEquals(clob.hashCode(),
+                Clob.ofDataSource("name", CommonMimeType.TXT, clobDataSource, StandardCharsets.UTF_8).hashCode());
+        assertNotEquals(clob, Clob.ofDataSource("name", CommonMimeType.TXT, clobDataSource, StandardCharsets.UTF_16));
+        assertNotEquals(clob, new Clob("name.txt", CommonMimeType.TXT.getMimeType(), "Hello World!"));
+        assertEquals(0, readCount.get());
+    }
+
+    @Test
+    void lazyClobToBlobUsingSameCharset() {
+        val clob = Clob.ofDataSource("name", CommonMimeType.TXT,
+                DataSource.ofStringUtf8("Hello World!"), StandardCharsets.UTF_8);
+        val blob = clob.toBlobUtf8();
+        assertFalse(clob.isMaterialized());
+        assertFalse(blob.isMaterialized());
+        assertEquals("Hello World!", clob.asString());
+        assertArrayEquals("Hello World!".getBytes(StandardCharsets.UTF_8), blob.getBytes());
+        assertFalse(clob.isMaterialized());
+    }
+
+}
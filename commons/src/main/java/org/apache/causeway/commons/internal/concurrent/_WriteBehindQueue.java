@@ -0,0 +1,629 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.internal.concurrent;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+import lombok.experimental.Accessors;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Bounded in-memory queue, drained by a single background (daemon) thread that hands
+ * the queued items to a batch writer, typically to persist them in their own transaction.
+ * <p>
+ * Back-pressure: {@link #offer(Object)} blocks for at most {@link Options#offerTimeout()}
+ * while the queue is full, and then returns {@code false}, in which case the caller is
+ * expected to write the item itself (synchronously).
+ * <p>
+ * Failures: a batch that fails to be written is retried (up to {@link Options#maxAttempts()}),
+ * and if it still fails, its items are written one by one, so that a single bad item does
+ * not take the others with it.
+ * <p>
+ * Durability (optional): if a {@link Options#journalFile()} is configured, every accepted
+ * item is first appended (as a single Base64 encoded line) to that file, and synced to disk
+ * before {@link #offer(Object)} returns. Syncs are shared (group commit): while one offer
+ * syncs the journal, concurrent offers only append, and are then covered by a single
+ * subsequent sync.
+ * The file is truncated whenever all journaled items have been written successfully. Items
+ * that could not be written are retained in the journal, and re-written (using the
+ * {@link Options#journalReplayWriter()}) once the queue is idle. Any items still in the
+ * journal on {@link #start()} (eg. after a crash) are replayed before the background thread
+ * is started.
+ * <p>
+ * On {@link #close()}, no more items are accepted, and the background thread drains the
+ * queue (waiting at most {@link Options#shutdownTimeout()}).
+ *
+ * @param <T> item type
+ */
+@Log4j2
+public final class _WriteBehindQueue<T> implements AutoCloseable {
+
+    //XXX record candidate
+    @Builder
+    @Value @Accessors(fluent=true)
+    public static class Options<T> {
+        @Builder.Default
+        private final int capacity = 10_000;
+        @Builder.Default
+        private final int batchSize = 100;
+        /**
+         * Maximum time to wait for a batch to fill up, before writing a partial batch.
+         */
+        @Builder.Default @NonNull
+        private final Duration flushInterval = Duration.ofMillis(500);
+        /**
+         * Maximum time {@link _WriteBehindQueue#offer(Object)} blocks while the queue is full.
+         */
+        @Builder.Default @NonNull
+        private final Duration offerTimeout = Duration.ofSeconds(1);
+        /**
+         * Maximum time {@link _WriteBehindQueue#close()} waits for the queue to be drained.
+         */
+        @Builder.Default @NonNull
+        private final Duration shutdownTimeout = Duration.ofSeconds(30);
+        /**
+         * Number of times a batch is attempted to be written, before its items are written one by one.
+         */
+        @Builder.Default
+        private final int maxAttempts = 3;
+        /**
+         * Delay before retrying a failed batch, and minimum delay between attempts to re-write
+         * the items retained in the journal.
+         */
+        @Builder.Default @NonNull
+        private final Duration retryBackoff = Duration.ofSeconds(1);
+        /**
+         * Optional append-only journal; requires both {@link #journalEncoder()} and {@link #journalDecoder()}.
+         */
+        private final @Nullable File journalFile;
+        private final @Nullable Function<T, String> journalEncoder;
+        private final @Nullable Function<String, T> journalDecoder;
+        /**
+         * Writes items recovered from the journal, which may already have been written (prior to a crash),
+         * hence should be idempotent. If not set, the regular batch writer is used.
+         */
+        private final @Nullable Consumer<List<T>> journalReplayWriter;
+    }
+
+    @Getter private final String name;
+    private final Options<T> options;
+    private final Consumer<List<T>> batchWriter;
+
+    private final BlockingQueue<Pending<T>> queue;
+    private final Thread writerThread;
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private volatile boolean closed; // written under closeLock's write lock
+
+    private final Object journalLock = new Object();
+    private FileChannel journalChannel; // guarded by journalLock
+    private BufferedWriter journalWriter; // guarded by journalLock
+    private long journaledNotYetWritten; // guarded by journalLock
+    private long journalLinesAppended; // guarded by journalLock
+    private final Object journalSyncLock = new Object();
+    private volatile long journalLinesSynced; // written under journalSyncLock
+    private boolean journalRetainsFailures; // guarded by journalLock
+    private long lastJournalRewriteNanos; // writer thread only
+
+    private final LongAdder itemsWritten = new LongAdder();
+    private final LongAdder itemsFailed = new LongAdder();
+    private final LongAdder itemsRejected = new LongAdder();
+    private final AtomicLong inFlightSinceNanos = new AtomicLong(0L);
+
+    public static <T> _WriteBehindQueue<T> create(
+            final @NonNull String name,
+            final @NonNull Options<T> options,
+            final @NonNull Consumer<List<T>> batchWriter) {
+        return new _WriteBehindQueue<>(name, options, batchWriter);
+    }
+
+    private _WriteBehindQueue(
+            final String name,
+            final Options<T> options,
+            final Consumer<List<T>> batchWriter) {
+        if(options.journalFile()!=null
+                && (options.journalEncoder()==null
+                    || options.journalDecoder()==null)) {
+            throw new IllegalArgumentException("journal requires both an encoder and a decoder");
+        }
+        this.name = name;
+        this.options = options;
+        this.batchWriter = batchWriter;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, options.capacity()));
+        this.writerThread = new Thread(this::drainLoop, "write-behind-" + name);
+        this.writerThread.setDaemon(true);
+    }
+
+    // -- LIFECYCLE
+
+    /**
+     * Replays the journal (if any) and starts the background writer.
+     */
+    public _WriteBehindQueue<T> start() {
+        replayJournal();
+        openJournal();
+        writerThread.start();
+        log.info("{}: started (capacity={}, batchSize={}, journal={})",
+                name, options.capacity(), options.batchSize(), options.journalFile());
+        return this;
+    }
+
+    /**
+     * Stops accepting items, and waits for the queued items to be written.
+     */
+    @Override
+    public void close() {
+        // waits for any offer in progress, so that it is either rejected or drained below
+        closeLock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        try {
+            writerThread.join(options.shutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if(writerThread.isAlive()
+                || !queue.isEmpty()) {
+            log.warn("{}: shutdown timed out with {} item(s) not yet written{}",
+                    name, getQueueDepth(),
+                    options.journalFile()!=null
+                        ? " (these remain in the journal)"
+                        : "");
+        }
+        closeJournal();
+    }
+
+    // -- PRODUCING
+
+    /**
+     * Queues the item for writing, blocking for at most the configured offer timeout
+     * if the queue is full.
+     *
+     * @return whether the item was accepted; if not, the caller is responsible for writing it
+     */
+    public boolean offer(final @NonNull T item) {
+        closeLock.readLock().lock();
+        try {
+            if(closed
+                    || !journal(item)) {
+                itemsRejected.increment();
+                return false;
+            }
+            try {
+                val accepted = queue.offer(
+                        new Pending<>(item, System.nanoTime()),
+                        options.offerTimeout().toMillis(), TimeUnit.MILLISECONDS);
+                if(accepted) {
+                    return true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // the caller writes it instead; if journaled, a replay must be idempotent anyway
+            acknowledgeJournaled(1, true);
+            itemsRejected.increment();
+            return false;
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    // -- METRICS
+
+    /**
+     * Number of items queued, but not yet handed to the batch writer.
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * How long the oldest item not yet written has been waiting.
+     */
+    public Duration getLag() {
+        val now = System.nanoTime();
+        val inFlightSince = inFlightSinceNanos.get();
+        val head = queue.peek();
+        val oldest = inFlightSince!=0L
+                ? inFlightSince
+                : head!=null
+                    ? head.enqueuedAtNanos
+                    : now;
+        return Duration.ofNanos(now - oldest);
+    }
+
+    public long getItemsWritten() {
+        return itemsWritten.sum();
+    }
+
+    public long getItemsFailed() {
+        return itemsFailed.sum();
+    }
+
+    /**
+     * Number of items not accepted by {@link #offer(Object)}, because the queue was full (or closed).
+     */
+    public long getItemsRejected() {
+        return itemsRejected.sum();
+    }
+
+    // -- DRAINING
+
+    private void drainLoop() {
+        val batchSize = Math.max(1, options.batchSize());
+        val batch = new ArrayList<Pending<T>>(batchSize);
+        while(!closed
+                || !queue.isEmpty()) {
+            try {
+                val first = queue.poll(options.flushInterval().toMillis(), TimeUnit.MILLISECONDS);
+                if(first==null) {
+                    rewriteRetainedJournal();
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                if(!closed) {
+                    log.warn("{}: writer interrupted, {} item(s) not yet written", name, getQueueDepth());
+                }
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(final List<Pending<T>> batch) {
+        val items = new ArrayList<T>(batch.size());
+        batch.forEach(pending->items.add(pending.item));
+        inFlightSinceNanos.set(batch.get(0).enqueuedAtNanos);
+        int failed = items.size();
+        try {
+            failed = writeElseWriteOneByOne(items);
+        } finally {
+            inFlightSinceNanos.set(0L);
+            acknowledgeJournaled(items.size(), failed==0);
+        }
+    }
+
+    /**
+     * @return number of items that could not be written
+     */
+    private int writeElseWriteOneByOne(final List<T> items) {
+        if(tryWrite(items, Math.max(1, options.maxAttempts()))) {
+            itemsWritten.add(items.size());
+            return 0;
+        }
+        int failed = 0;
+        if(items.size() == 1) {
+            failed = 1;
+        } else {
+            log.warn("{}: writing the {} item(s) of the failed batch one by one", name, items.size());
+            for(val item : items) {
+                if(tryWrite(List.of(item), 1)) {
+                    itemsWritten.increment();
+                } else {
+                    failed++;
+                }
+            }
+        }
+        itemsFailed.add(failed);
+        log.error("{}: failed to write {} item(s){}",
+                name, failed,
+                options.journalFile()!=null
+                    ? " (these are retained in the journal, and re-written later)"
+                    : "");
+        return failed;
+    }
+
+    private boolean tryWrite(final List<T> items, final int attempts) {
+        for(int attempt = 1; attempt <= attempts; attempt++) {
+            try {
+                batchWriter.accept(items);
+                return true;
+            } catch (Throwable e) {
+                log.warn("{}: failed to write {} item(s) (attempt {} of {})",
+                        name, items.size(), attempt, attempts, e);
+            }
+            if(attempt < attempts
+                    && !sleep(options.retryBackoff())) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether not interrupted
+     */
+    private static boolean sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // -- JOURNAL
+
+    /**
+     * @return whether journaled (or no journal is configured)
+     */
+    private boolean journal(final T item) {
+        val journalFile = options.journalFile();
+        if(journalFile==null) {
+            return true;
+        }
+        val line = Base64.getEncoder().encodeToString(
+                options.journalEncoder().apply(item).getBytes(StandardCharsets.UTF_8));
+        final long lineNr;
+        synchronized(journalLock) {
+            if(journalWriter==null) {
+                return false; // not started or already closed
+            }
+            try {
+                journalWriter.write(line);
+                journalWriter.newLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(
+                        String.format("%s: failed to append to journal %s", name, journalFile), e);
+            }
+            journaledNotYetWritten++;
+            lineNr = ++journalLinesAppended;
+        }
+        try {
+            syncJournal(lineNr);
+        } catch (IOException e) {
+            // the caller writes it instead (see offer); if replayed nevertheless, that must be idempotent anyway
+            acknowledgeJournaled(1, true);
+            throw new UncheckedIOException(
+                    String.format("%s: failed to sync journal %s", name, journalFile), e);
+        }
+        return true;
+    }
+
+    /**
+     * Group commit: syncs the journal up to (at least) given line, unless already synced by a concurrent offer.
+     * Lines appended while syncing are not blocked, and are covered by the next sync.
+     */
+    private void syncJournal(final long lineNr) throws IOException {
+        if(journalLinesSynced >= lineNr) {
+            return;
+        }
+        synchronized(journalSyncLock) {
+            if(journalLinesSynced >= lineNr) {
+                return; // synced while waiting for the lock
+            }
+            final long appended;
+            final FileChannel channel;
+            synchronized(journalLock) {
+                journalWriter.flush();
+                appended = journalLinesAppended;
+                channel = journalChannel;
+            }
+            channel.force(false);
+            journalLinesSynced = appended;
+        }
+    }
+
+    private void acknowledgeJournaled(final int count, final boolean success) {
+        val journalFile = options.journalFile();
+        if(journalFile==null) {
+            return;
+        }
+        synchronized(journalLock) {
+            journaledNotYetWritten -= count;
+            journalRetainsFailures |= !success;
+            if(journaledNotYetWritten == 0
+                    && !journalRetainsFailures
+                    && journalChannel!=null) {
+                try {
+                    journalWriter.flush();
+                    journalChannel.truncate(0L);
+                } catch (IOException e) {
+                    log.warn("{}: failed to truncate journal {}", name, journalFile, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Once idle, re-writes the items retained in the journal (after a failure), so that it can be truncated
+     * again, rather than grow until the next start.
+     */
+    private void rewriteRetainedJournal() {
+        val journalFile = options.journalFile();
+        if(journalFile==null
+                || System.nanoTime() - lastJournalRewriteNanos < options.retryBackoff().toNanos()) {
+            return;
+        }
+        final List<T> items;
+        synchronized(journalLock) {
+            if(!journalRetainsFailures
+                    || journaledNotYetWritten != 0
+                    || journalWriter==null) {
+                return;
+            }
+            lastJournalRewriteNanos = System.nanoTime();
+            try {
+                journalWriter.flush();
+                items = readJournal(journalFile);
+            } catch (IOException | UncheckedIOException e) {
+                log.warn("{}: failed to read journal {}", name, journalFile, e);
+                return;
+            }
+        }
+        try {
+            replay(items);
+        } catch (Throwable e) {
+            log.warn("{}: failed to re-write {} item(s) retained in journal {}", name, items.size(), journalFile, e);
+            return;
+        }
+        synchronized(journalLock) {
+            // unless items were journaled meanwhile, in which case the journal is re-written again later
+            if(journaledNotYetWritten == 0
+                    && journalChannel!=null) {
+                try {
+                    journalChannel.truncate(0L);
+                    journalRetainsFailures = false;
+                } catch (IOException e) {
+                    log.warn("{}: failed to truncate journal {}", name, journalFile, e);
+                }
+            }
+        }
+        log.info("{}: re-wrote {} item(s) retained in journal {}", name, items.size(), journalFile);
+    }
+
+    private void replayJournal() {
+        val journalFile = options.journalFile();
+        if(journalFile==null
+                || !journalFile.exists()) {
+            return;
+        }
+        val items = readJournal(journalFile);
+        if(!items.isEmpty()) {
+            log.info("{}: replaying {} item(s) from journal {}", name, items.size(), journalFile);
+            try {
+                replay(items);
+            } catch (Throwable e) {
+                // keep the journal for manual recovery, rather than have it truncated by openJournal
+                val retained = new File(journalFile.getPath() + ".unreplayed-" + System.currentTimeMillis());
+                log.error("{}: failed to replay journal, retained as {}", name, retained, e);
+                if(!journalFile.renameTo(retained)) {
+                    log.error("{}: failed to retain journal {}", name, journalFile);
+                }
+            }
+        }
+        // replayed items are written, so the journal starts out empty (see openJournal)
+    }
+
+    private List<T> readJournal(final File journalFile) {
+        final List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFile.toPath(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    String.format("%s: failed to read journal %s", name, journalFile), e);
+        }
+        val items = new ArrayList<T>(lines.size());
+        for(val line : lines) {
+            if(line.isBlank()) {
+                continue;
+            }
+            try {
+                items.add(options.journalDecoder().apply(
+                        new String(Base64.getDecoder().decode(line), StandardCharsets.UTF_8)));
+            } catch (Exception e) {
+                // most likely a partially written last line
+                log.warn("{}: skipping unreadable journal entry", name, e);
+            }
+        }
+        return items;
+    }
+
+    private void replay(final List<T> items) {
+        val replayWriter = options.journalReplayWriter()!=null
+                ? options.journalReplayWriter()
+                : batchWriter;
+        val batchSize = Math.max(1, options.batchSize());
+        for(int from = 0; from < items.size(); from += batchSize) {
+            replayWriter.accept(items.subList(from, Math.min(from + batchSize, items.size())));
+        }
+    }
+
+    private void openJournal() {
+        val journalFile = options.journalFile();
+        if(journalFile==null) {
+            return;
+        }
+        synchronized(journalLock) {
+            try {
+                val out = new FileOutputStream(journalFile, true);
+                journalChannel = out.getChannel();
+                journalChannel.truncate(0L);
+                journalWriter = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException(
+                        String.format("%s: failed to open journal %s", name, journalFile), e);
+            }
+        }
+    }
+
+    private void closeJournal() {
+        synchronized(journalLock) {
+            if(journalWriter==null) {
+                return;
+            }
+            try {
+                journalWriter.close();
+            } catch (IOException e) {
+                log.warn("{}: failed to close journal {}", name, options.journalFile(), e);
+            } finally {
+                journalWriter = null;
+                journalChannel = null;
+            }
+        }
+    }
+
+    // -- HELPER
+
+    //XXX record candidate
+    private static final class Pending<T> {
+        final T item;
+        final long enqueuedAtNanos;
+        Pending(final T item, final long enqueuedAtNanos) {
+            this.item = item;
+            this.enqueuedAtNanos = enqueuedAtNanos;
+        }
+    }
+
+}
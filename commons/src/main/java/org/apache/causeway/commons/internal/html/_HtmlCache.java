@@ -0,0 +1,201 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.internal.html;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.hash._Hashes;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * <h1>- internal use only -</h1>
+ * <p>
+ * Size-bounded cache of HTML rendered from some markup (eg. Markdown or AsciiDoc), keyed by the converter
+ * (which stands for the converter's options) and a SHA-256 hash of the markup; least recently used entries are
+ * evicted first.
+ * <p>
+ * Converters are not called while holding the cache's lock, so the same markup might occasionally be converted
+ * more than once concurrently.
+ * <p>
+ * <b>WARNING</b>: Do <b>NOT</b> use any of the classes provided by this package! <br/>
+ * These may be changed or removed without notice!
+ * </p>
+ *
+ * @since 2.0
+ */
+public final class _HtmlCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    private static final _HtmlCache SHARED = new _HtmlCache(DEFAULT_MAX_ENTRIES);
+
+    /**
+     * The cache shared by all value types that render to HTML.
+     */
+    public static _HtmlCache shared() {
+        return SHARED;
+    }
+
+    private volatile int maxEntries;
+
+    /**
+     * Guarded by itself; in access order.
+     */
+    private final Map<String, String> htmlByKey;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public _HtmlCache(final int maxEntries) {
+        this.maxEntries = requireNonNegative(maxEntries);
+        this.htmlByKey = new LinkedHashMap<>(16, 0.75f, /*accessOrder*/ true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, String> eldest) {
+                if(size() > _HtmlCache.this.maxEntries) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the HTML cached for given markup, converting (and caching) it if required.
+     *
+     * @param converterKey - identifies the converter, including any options that affect the HTML rendered
+     * @param markup - to be converted
+     * @param converter - converts the markup to HTML
+     */
+    public String computeIfAbsent(
+            final @NonNull String converterKey,
+            final @Nullable String markup,
+            final @NonNull UnaryOperator<String> converter) {
+
+        if(maxEntries == 0) {
+            return converter.apply(markup);
+        }
+
+        val key = keyOf(converterKey, markup);
+        synchronized (htmlByKey) {
+            val html = htmlByKey.get(key);
+            if(html != null) {
+                hitCount.increment();
+                return html;
+            }
+        }
+        missCount.increment();
+        val html = converter.apply(markup);
+        if(html != null) {
+            synchronized (htmlByKey) {
+                htmlByKey.put(key, html);
+            }
+        }
+        return html;
+    }
+
+    /**
+     * Changes the bound of this cache, evicting the least recently used entries if required;
+     * <code>0</code> disables caching.
+     */
+    public void setMaxEntries(final int maxEntries) {
+        this.maxEntries = requireNonNegative(maxEntries);
+        synchronized (htmlByKey) {
+            val iterator = htmlByKey.entrySet().iterator();
+            while(htmlByKey.size() > maxEntries) {
+                iterator.next();
+                iterator.remove();
+                evictionCount.increment();
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (htmlByKey) {
+            htmlByKey.clear();
+        }
+    }
+
+    // -- METRICS
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public int getSize() {
+        synchronized (htmlByKey) {
+            return htmlByKey.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public double getHitRatio() {
+        val hits = getHitCount();
+        val total = hits + getMissCount();
+        return total == 0
+                ? 0.
+                : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("_HtmlCache[size=%d,maxEntries=%d,hits=%d,misses=%d,evictions=%d]",
+                getSize(), maxEntries, getHitCount(), getMissCount(), getEvictionCount());
+    }
+
+    // -- HELPER
+
+    private static String keyOf(final String converterKey, final @Nullable String markup) {
+        val hash = _Hashes.digest(_Hashes.Algorithm.SHA256,
+                        markup != null ? markup.getBytes(StandardCharsets.UTF_8) : null)
+                .map(Base64.getEncoder()::encodeToString)
+                .orElse("");
+        return converterKey + ":" + hash;
+    }
+
+    private static int requireNonNegative(final int maxEntries) {
+        if(maxEntries < 0) {
+            throw new IllegalArgumentException(String.format("maxEntries must not be negative, got %d", maxEntries));
+        }
+        return maxEntries;
+    }
+
+}
@@ -78,6 +78,21 @@ default Try<Void> tryReadAndAccept(final @NonNull ThrowingConsumer<InputStream>
             Try.run(()->inputStreamConsumer.accept(inputStream)));
     }
 
+    /**
+     * Opens a new {@link InputStream} for reading, which the caller is responsible for closing.
+     * <p>
+     * For when the {@link InputStream} has to outlive a call to {@link #tryReadAll(Function)},
+     * eg. when bound to a JDBC statement, that is executed later.
+     * <p>
+     * Unless overridden, reads the entire content into memory.
+     * @return either a successful or failed {@link Try} (non-null);
+     *     if the InputStream is absent or not readable, the returned Try will hold the underlying {@link Exception}
+     */
+    default Try<InputStream> tryOpenInputStream() {
+        return tryReadAsBytes()
+                .mapSuccessAsNullable(ByteArrayInputStream::new);
+    }
+
     // -- READ AS BYTES
 
     /**
@@ -172,6 +187,17 @@ default DataSource map(final @NonNull ThrowingFunction<InputStream, InputStream>
             @Override public <T> Try<T> tryReadAll(final @NonNull Function<InputStream, Try<T>> consumingMapper) {
                 return self.tryReadAll(is->consumingMapper.apply(inputStreamMapper.apply(is)));
             }
+            @Override public Try<InputStream> tryOpenInputStream() {
+                return self.tryOpenInputStream()
+                        .mapSuccessAsNullable(is->{
+                            try {
+                                return inputStreamMapper.apply(is);
+                            } catch (Exception e) {
+                                is.close();
+                                throw e;
+                            }
+                        });
+            }
         };
     }
 
@@ -232,6 +258,9 @@ static DataSource ofInputStreamSupplier(final @NonNull ThrowingSupplier<InputStr
                 // unwrap the inner try
                 .mapSuccessAsNullable(wrappedTry->wrappedTry.valueAsNullableElseFail());
             }
+            @Override public Try<InputStream> tryOpenInputStream() {
+                return Try.call(inputStreamSupplier::getWithException);
+            }
         };
     }
 
@@ -247,6 +276,21 @@ static DataSource ofInputStreamEagerly(final @Nullable InputStream inputStream)
         return ofBytes(_Bytes.of(inputStream));
     }
 
+    /**
+     * Creates a {@link DataSource} for given {@link InputStream} eagerly,
+     * spooling it to a temporary file (readable by its owner only), which can be later read from repeatedly.
+     * The file is deleted once the returned {@link DataSource} is no longer reachable.
+     * <p>
+     * Given {@link InputStream} is not closed.
+     * If reading from given {@link InputStream} throws any exception, it is propagated without catching.
+     */
+    @SneakyThrows
+    static DataSource ofInputStreamSpooled(final @Nullable InputStream inputStream) {
+        return inputStream==null
+                ? empty()
+                : _SpooledDataSource.spool(inputStream);
+    }
+
     /**
      * Creates a {@link DataSource} for given resource path relative to {@link Class}.
      * <p>
@@ -0,0 +1,207 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.io;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.namespace.QName;
+
+import org.springframework.lang.Nullable;
+import org.w3c.dom.Node;
+
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.commons.internal.collections._Lists;
+
+import lombok.NonNull;
+import lombok.val;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Structural deep copy of JAXB (eg. xjc generated) DTO graphs, as an alternative to cloning
+ * by means of a marshalling/unmarshalling round-trip.
+ * <p>
+ * Per type copy plans are created reflectively on first use and cached thereafter.
+ * Copying a graph that contains an instance of a type, that is not understood, throws an
+ * {@link UnsupportedOperationException}, in which case callers should fall back to the round-trip.
+ *
+ * @since 2.0
+ */
+@UtilityClass
+class JaxbCopier {
+
+    /**
+     * Returns a deep copy of given {@code dto}.
+     * @throws UnsupportedOperationException if the graph contains types not supported for structural copying
+     */
+    @Nullable
+    <T> T deepCopy(final @Nullable T dto) {
+        return _Casts.uncheckedCast(copy(dto));
+    }
+
+    // -- HELPER
+
+    private final Set<Class<?>> IMMUTABLE_TYPES = Set.of(
+            String.class, Boolean.class, Character.class,
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, QName.class, UUID.class);
+
+    private final ClassValue<UnaryOperator<Object>> COPIERS = new ClassValue<UnaryOperator<Object>>() {
+        @Override
+        protected UnaryOperator<Object> computeValue(final Class<?> type) {
+            return copierFor(type);
+        }
+    };
+
+    private Object copy(final @Nullable Object value) {
+        return value!=null
+                ? COPIERS.get(value.getClass()).apply(value)
+                : null;
+    }
+
+    private UnaryOperator<Object> copierFor(final Class<?> type) {
+        if(IMMUTABLE_TYPES.contains(type)
+                || type.isEnum()
+                || type.getPackageName().equals("java.time")) {
+            return UnaryOperator.identity();
+        }
+        if(type == byte[].class) {
+            return value->((byte[])value).clone();
+        }
+        if(XMLGregorianCalendar.class.isAssignableFrom(type)) {
+            return value->((XMLGregorianCalendar)value).clone();
+        }
+        if(Date.class.isAssignableFrom(type)) {
+            return value->((Date)value).clone();
+        }
+        if(List.class.isAssignableFrom(type)) {
+            return JaxbCopier::copyList;
+        }
+        if(JAXBElement.class.isAssignableFrom(type)) {
+            return JaxbCopier::copyElement;
+        }
+        if(Node.class.isAssignableFrom(type)) {
+            return value->((Node)value).cloneNode(true);
+        }
+        if(type.isAnnotationPresent(XmlType.class)
+                && !Modifier.isAbstract(type.getModifiers())) {
+            try {
+                return new BeanCopier(type);
+            } catch (Exception e) {
+                // fall through, eg. no accessible no-arg constructor
+            }
+        }
+        return unsupported(type);
+    }
+
+    private UnaryOperator<Object> unsupported(final Class<?> type) {
+        return value->{
+            throw new UnsupportedOperationException(
+                    String.format("structural copy not supported for type %s", type.getName()));
+        };
+    }
+
+    private Object copyList(final Object value) {
+        val list = (List<?>) value;
+        val listCopy = _Lists.newArrayList(list.size());
+        for(val element : list) {
+            listCopy.add(copy(element));
+        }
+        return listCopy;
+    }
+
+    private Object copyElement(final Object value) {
+        val element = (JAXBElement<?>) value;
+        val elementCopy = new JAXBElement<Object>(
+                element.getName(),
+                _Casts.uncheckedCast(element.getDeclaredType()),
+                element.getScope(),
+                copy(element.getValue()));
+        elementCopy.setNil(element.isNil());
+        return elementCopy;
+    }
+
+    /**
+     * Copies all instance fields (including inherited ones) of a JAXB bound bean.
+     */
+    private static class BeanCopier implements UnaryOperator<Object> {
+
+        private final Constructor<?> constructor;
+        private final Field[] fields;
+        private final boolean[] isPrimitive;
+
+        BeanCopier(final @NonNull Class<?> type) throws NoSuchMethodException {
+            this.constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+
+            val fieldList = new ArrayList<Field>();
+            for(Class<?> cls = type; cls!=null && cls!=Object.class; cls = cls.getSuperclass()) {
+                for(val field : cls.getDeclaredFields()) {
+                    if(Modifier.isStatic(field.getModifiers())
+                            || field.isSynthetic()) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    fieldList.add(field);
+                }
+            }
+            this.fields = fieldList.toArray(new Field[0]);
+            this.isPrimitive = new boolean[fields.length];
+            for(int i=0; i<fields.length; ++i) {
+                isPrimitive[i] = fields[i].getType().isPrimitive();
+            }
+        }
+
+        /**
+         * @throws UnsupportedOperationException if instantiation or field access fails,
+         *      so callers fall back to the round-trip
+         */
+        @Override
+        public Object apply(final Object source) {
+            try {
+                val target = constructor.newInstance();
+                for(int i=0; i<fields.length; ++i) {
+                    val field = fields[i];
+                    val value = field.get(source);
+                    field.set(target, isPrimitive[i]
+                            ? value
+                            : copy(value));
+                }
+                return target;
+            } catch (ReflectiveOperationException e) {
+                throw new UnsupportedOperationException(
+                        String.format("structural copy failed for type %s", constructor.getDeclaringClass().getName()), e);
+            }
+        }
+
+    }
+
+}
@@ -206,6 +206,20 @@ public void write(final T dto, final DataSink sink) {
                 sink.writeAll(os->Try.run(()->opts.marshal(jaxbContext, dto, os)));
             }
 
+            /**
+             * Copies the DTO graph structurally, falling back to a marshalling/unmarshalling
+             * round-trip only if the graph contains types not supported by the {@link JaxbCopier}.
+             */
+            @Override
+            public T clone(final T dto) {
+                if(dto==null) return dto;
+                try {
+                    return JaxbCopier.deepCopy(dto);
+                } catch (UnsupportedOperationException e) {
+                    return DtoMapper.super.clone(dto);
+                }
+            }
+
         };
     }
 
@@ -0,0 +1,113 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.io;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Cleaner;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.function.Function;
+
+import org.apache.causeway.commons.functional.Try;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * {@link DataSource} backed by a temporary file, which is deleted once the {@link DataSource} is no longer reachable.
+ *
+ * @see DataSource#ofInputStreamSpooled(InputStream)
+ */
+final class _SpooledDataSource implements DataSource {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    static DataSource spool(final @NonNull InputStream inputStream) throws IOException {
+        val file = createTempFile();
+        try(val os = new FileOutputStream(file)) {
+            inputStream.transferTo(os);
+        } catch (IOException | RuntimeException e) {
+            file.delete();
+            throw e;
+        }
+        return new _SpooledDataSource(file);
+    }
+
+    private final File file;
+
+    private _SpooledDataSource(final File file) {
+        this.file = file;
+        CLEANER.register(this, new Deleter(file));
+    }
+
+    @Override
+    public <T> Try<T> tryReadAll(final @NonNull Function<InputStream, Try<T>> consumingMapper) {
+        return Try.call(()->{
+            try(final InputStream is = new FileInputStream(file)) {
+                return consumingMapper.apply(is);
+            }
+        })
+        // unwrap the inner try
+        .mapSuccessAsNullable(wrappedTry->wrappedTry.valueAsNullableElseFail());
+    }
+
+    /**
+     * The file is deleted once this {@link DataSource} is no longer reachable,
+     * which on some platforms will fail while the returned {@link InputStream} is still open.
+     */
+    @Override
+    public Try<InputStream> tryOpenInputStream() {
+        return Try.call(()->new FileInputStream(file));
+    }
+
+    // -- HELPER
+
+    @RequiredArgsConstructor
+    private static final class Deleter implements Runnable {
+        private final File file;
+        @Override
+        public void run() {
+            file.delete();
+        }
+    }
+
+    /**
+     * The content may be sensitive, so the file is created readable by its owner only.
+     */
+    private static File createTempFile() throws IOException {
+        if(FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            return Files.createTempFile("causeway-spooled-", ".bin",
+                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")))
+                    .toFile();
+        }
+        val file = Files.createTempFile("causeway-spooled-", ".bin").toFile();
+        file.setReadable(false, false);
+        file.setReadable(true, true);
+        file.setWritable(false, false);
+        file.setWritable(true, true);
+        return file;
+    }
+
+}
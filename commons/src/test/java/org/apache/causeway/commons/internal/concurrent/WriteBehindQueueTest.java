@@ -0,0 +1,371 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.internal.concurrent;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+
+class WriteBehindQueueTest {
+
+    @Test
+    void itemsShouldBeWrittenInBatches_andDrainedOnClose() {
+
+        val batches = Collections.synchronizedList(new ArrayList<List<Integer>>());
+
+        val queue = _WriteBehindQueue.<Integer>create("test",
+                _WriteBehindQueue.Options.<Integer>builder()
+                    .batchSize(10)
+                    .flushInterval(Duration.ofMillis(10))
+                    .build(),
+                batch->batches.add(new ArrayList<>(batch)))
+                .start();
+
+        for (int i = 0; i < 95; i++) {
+            assertTrue(queue.offer(i));
+        }
+        queue.close();
+
+        val written = new ArrayList<Integer>();
+        batches.forEach(written::addAll);
+        assertEquals(95, written.size());
+        assertEquals(95L, queue.getItemsWritten());
+        assertEquals(0, queue.getQueueDepth());
+        assertTrue(batches.stream().allMatch(batch->batch.size() <= 10));
+        assertFalse(queue.offer(95)); // closed
+    }
+
+    @Test
+    void fullQueue_shouldRejectAfterOfferTimeout() throws InterruptedException {
+
+        val writerBlocked = new CountDownLatch(1);
+        val releaseWriter = new CountDownLatch(1);
+
+        val queue = _WriteBehindQueue.<Integer>create("test",
+                _WriteBehindQueue.Options.<Integer>builder()
+                    .capacity(2)
+                    .batchSize(1)
+                    .flushInterval(Duration.ofMillis(10))
+                    .offerTimeout(Duration.ofMillis(10))
+                    .build(),
+                batch->{
+                    writerBlocked.countDown();
+                    try {
+                        releaseWriter.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                })
+                .start();
+
+        assertTrue(queue.offer(0)); // taken by the (then blocked) writer
+        writerBlocked.await();
+        assertTrue(queue.offer(1));
+        assertTrue(queue.offer(2));
+        assertFalse(queue.offer(3)); // back-pressure
+        assertEquals(1L, queue.getItemsRejected());
+        assertEquals(2, queue.getQueueDepth());
+        assertTrue(queue.getLag().compareTo(Duration.ZERO) > 0);
+
+        releaseWriter.countDown();
+        queue.close();
+        assertEquals(3L, queue.getItemsWritten());
+    }
+
+    @Test
+    void failedBatches_shouldBeReplayedFromJournal(final @TempDir File tempDir) {
+
+        val journalFile = new File(tempDir, "test.journal");
+        val options = _WriteBehindQueue.Options.<Integer>builder()
+                .batchSize(5)
+                .flushInterval(Duration.ofMillis(10))
+                .retryBackoff(Duration.ofMillis(1))
+                .journalFile(journalFile)
+                .journalEncoder(Object::toString)
+                .journalDecoder(Integer::valueOf)
+                .build();
+
+        // first run: writer always fails, so items remain in the journal
+        val failing = _WriteBehindQueue.<Integer>create("test", options,
+                batch->{ throw new IllegalStateException("db down"); })
+                .start();
+        for (int i = 0; i < 7; i++) {
+            assertTrue(failing.offer(i));
+        }
+        failing.close();
+        assertEquals(7L, failing.getItemsFailed());
+        assertTrue(journalFile.length() > 0);
+
+        // second run: journaled items are replayed on start
+        val replayed = Collections.synchronizedList(new ArrayList<Integer>());
+        val recovering = _WriteBehindQueue.<Integer>create("test", options, replayed::addAll)
+                .start();
+        recovering.close();
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6), replayed);
+        assertEquals(0L, journalFile.length());
+    }
+
+    @Test
+    void journal_shouldBeTruncatedOnceAllWritten(final @TempDir File tempDir) throws Exception {
+
+        val journalFile = new File(tempDir, "test.journal");
+        val queue = _WriteBehindQueue.<Integer>create("test",
+                _WriteBehindQueue.Options.<Integer>builder()
+                    .flushInterval(Duration.ofMillis(10))
+                    .journalFile(journalFile)
+                    .journalEncoder(Object::toString)
+                    .journalDecoder(Integer::valueOf)
+                    .build(),
+                batch->{})
+                .start();
+        for (int i = 0; i < 3; i++) {
+            assertTrue(queue.offer(i));
+        }
+        queue.close();
+
+        assertEquals(3L, queue.getItemsWritten());
+        assertTrue(Files.readAllLines(journalFile.toPath()).isEmpty());
+    }
+
+    @Test
+    void failedBatch_shouldBeRetried() {
+
+        val attempts = new AtomicInteger();
+        val written = Collections.synchronizedList(new ArrayList<Integer>());
+
+        val queue = _WriteBehindQueue.<Integer>create("test",
+                _WriteBehindQueue.Options.<Integer>builder()
+                    .batchSize(10)
+                    .flushInterval(Duration.ofMillis(10))
+                    .maxAttempts(3)
+                    .retryBackoff(Duration.ofMillis(1))
+                    .build(),
+                batch->{
+                    if(attempts.incrementAndGet() <= 2) {
+                        throw new IllegalStateException("db temporarily down");
+                    }
+                    written.addAll(batch);
+                })
+                .start();
+
+        assertTrue(queue.offer(0));
+        queue.close();
+
+        assertEquals(List.of(0), written);
+        assertEquals(1L, queue.getItemsWritten());
+        assertEquals(0L, queue.getItemsFailed());
+    }
+
+    @Test
+    void failedBatch_shouldBeWrittenOneByOne() throws InterruptedException {
+
+        val writerBlocked = new CountDownLatch(1);
+        val releaseWriter = new CountDownLatch(1);
+        val written = Collections.synchronizedList(new ArrayList<Integer>());
+
+        val queue = _WriteBehindQueue.<Integer>create("test",
+                _WriteBehindQueue.Options.<Integer>builder()
+                    .batchSize(10)
+                    .flushInterval(Duration.ofMillis(10))
+                    .maxAttempts(2)
+                    .retryBackoff(Duration.ofMillis(1))
+                    .build(),
+                batch->{
+                    if(batch.contains(-1)) {
+                        // hold the writer, so that the next items are queued up as a single batch
+                        writerBlocked.countDown();
+                        try {
+                            releaseWriter.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return;
+                    }
+                    if(batch.contains(3)) {
+                        throw new IllegalArgumentException("poison");
+                    }
+                    written.addAll(batch);
+                })
+                .start();
+
+        assertTrue(queue.offer(-1));
+        writerBlocked.await();
+        for (int i = 0; i < 5; i++) {
+            assertTrue(queue.offer(i));
+        }
+        releaseWriter.countDown();
+        queue.close();
+
+        assertEquals(List.of(0, 1, 2, 4), written);
+        assertEquals(5L, queue.getItemsWritten()); // including the first item
+        assertEquals(1L, queue.getItemsFailed());
+    }
+
+    @Test
+    void retainedJournal_shouldBeRewrittenOnceIdle(final @TempDir File tempDir) throws Exception {
+
+        val journalFile = new File(tempDir, "test.journal");
+        val down = new AtomicBoolean(true);
+        val rewritten = Collections.synchronizedList(new ArrayList<Integer>());
+
+        val queue = _WriteBehindQueue.<Integer>create("test",
+                _WriteBehindQueue.Options.<Integer>builder()
+                    .flushInterval(Duration.ofMillis(10))
+                    .maxAttempts(1)
+                    .retryBackoff(Duration.ofMillis(10))
+                    .journalFile(journalFile)
+                    .journalEncoder(Object::toString)
+                    .journalDecoder(Integer::valueOf)
+                    .journalReplayWriter(batch->{
+                        if(down.get()) {
+                            throw new IllegalStateException("db down");
+                        }
+                        rewritten.addAll(batch);
+                    })
+                    .build(),
+                batch->{
+                    if(down.get()) {
+                        throw new IllegalStateException("db down");
+                    }
+                })
+                .start();
+
+        assertTrue(queue.offer(0));
+        assertTrue(queue.offer(1));
+        awaitTrue(()->queue.getItemsFailed() == 2L);
+        assertTrue(journalFile.length() > 0);
+
+        // when the database is back
+        down.set(false);
+
+        // then the retained items are re-written, and the journal truncated (without a restart)
+        awaitTrue(()->journalFile.length() == 0L);
+        assertEquals(List.of(0, 1), rewritten);
+
+        // ... and is truncated again after subsequent writes
+        assertTrue(queue.offer(2));
+        queue.close();
+        assertEquals(1L, queue.getItemsWritten());
+        assertEquals(0L, journalFile.length());
+    }
+
+    @Test
+    void offersRacingClose_shouldEitherBeRejectedOrWritten() throws InterruptedException {
+
+        val written = new LongAdder();
+        val accepted = new LongAdder();
+
+        val queue = _WriteBehindQueue.<Integer>create("test",
+                _WriteBehindQueue.Options.<Integer>builder()
+                    .flushInterval(Duration.ofMillis(1))
+                    .build(),
+                batch->written.add(batch.size()))
+                .start();
+
+        final ExecutorService producers = Executors.newFixedThreadPool(4);
+        for (int p = 0; p < 4; p++) {
+            producers.execute(()->{
+                for (int i = 0; i < 10_000; i++) {
+                    if(queue.offer(i)) {
+                        accepted.increment();
+                    }
+                }
+            });
+        }
+        Thread.sleep(5);
+        queue.close();
+        producers.shutdown();
+        assertTrue(producers.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(accepted.sum(), written.sum());
+        assertEquals(accepted.sum(), queue.getItemsWritten());
+    }
+
+    @Test
+    void concurrentOffers_shouldAllBeJournaled(final @TempDir File tempDir) throws InterruptedException {
+
+        val journalFile = new File(tempDir, "test.journal");
+        val options = _WriteBehindQueue.Options.<Integer>builder()
+                .flushInterval(Duration.ofMillis(10))
+                .maxAttempts(1)
+                .retryBackoff(Duration.ofMinutes(1)) // don't re-write the retained journal during the test
+                .journalFile(journalFile)
+                .journalEncoder(Object::toString)
+                .journalDecoder(Integer::valueOf)
+                .build();
+
+        // writer always fails, so every accepted item must remain in the journal
+        val queue = _WriteBehindQueue.<Integer>create("test", options,
+                batch->{ throw new IllegalStateException("db down"); })
+                .start();
+
+        final ExecutorService producers = Executors.newFixedThreadPool(4);
+        for (int p = 0; p < 4; p++) {
+            val producer = p;
+            producers.execute(()->{
+                for (int i = 0; i < 250; i++) {
+                    assertTrue(queue.offer(producer * 1000 + i));
+                }
+            });
+        }
+        producers.shutdown();
+        assertTrue(producers.awaitTermination(10, TimeUnit.SECONDS));
+        queue.close();
+
+        val replayed = Collections.synchronizedList(new ArrayList<Integer>());
+        _WriteBehindQueue.<Integer>create("test", options, replayed::addAll)
+                .start()
+                .close();
+
+        assertEquals(1000, replayed.size());
+        assertEquals(1000L, replayed.stream().distinct().count());
+    }
+
+    // -- HELPER
+
+    private static void awaitTrue(final BooleanSupplier condition) throws InterruptedException {
+        val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while(!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.sleep(5);
+        }
+    }
+
+}
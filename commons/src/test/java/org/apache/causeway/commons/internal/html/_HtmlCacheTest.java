@@ -0,0 +1,95 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.internal.html;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class _HtmlCacheTest {
+
+    _HtmlCache cache;
+    AtomicInteger conversionCount;
+
+    @BeforeEach
+    void setUp() {
+        cache = new _HtmlCache(2);
+        conversionCount = new AtomicInteger();
+    }
+
+    private String toHtml(final String markup) {
+        conversionCount.incrementAndGet();
+        return "<p>" + markup + "</p>";
+    }
+
+    @Test
+    void same_markup_is_converted_once() {
+        assertEquals("<p>a</p>", cache.computeIfAbsent("md", "a", this::toHtml));
+        assertEquals("<p>a</p>", cache.computeIfAbsent("md", "a", this::toHtml));
+
+        assertEquals(1, conversionCount.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRatio());
+    }
+
+    @Test
+    void converters_do_not_share_entries() {
+        cache.computeIfAbsent("md", "a", this::toHtml);
+        assertEquals("<div>a</div>", cache.computeIfAbsent("adoc", "a", markup->"<div>" + markup + "</div>"));
+    }
+
+    @Test
+    void least_recently_used_is_evicted() {
+        cache.computeIfAbsent("md", "a", this::toHtml);
+        cache.computeIfAbsent("md", "b", this::toHtml);
+        cache.computeIfAbsent("md", "a", this::toHtml); // a is now the most recently used
+        cache.computeIfAbsent("md", "c", this::toHtml); // evicts b
+
+        assertEquals(2, cache.getSize());
+        assertEquals(1, cache.getEvictionCount());
+
+        cache.computeIfAbsent("md", "a", this::toHtml);
+        assertEquals(3, conversionCount.get());
+        cache.computeIfAbsent("md", "b", this::toHtml);
+        assertEquals(4, conversionCount.get());
+    }
+
+    @Test
+    void shrinking_evicts_and_zero_disables() {
+        cache.computeIfAbsent("md", "a", this::toHtml);
+        cache.computeIfAbsent("md", "b", this::toHtml);
+
+        cache.setMaxEntries(1);
+        assertEquals(1, cache.getSize());
+
+        cache.setMaxEntries(0);
+        cache.computeIfAbsent("md", "c", this::toHtml);
+        cache.computeIfAbsent("md", "c", this::toHtml);
+        assertEquals(0, cache.getSize());
+        assertEquals(4, conversionCount.get());
+
+        assertThrows(IllegalArgumentException.class, ()->cache.setMaxEntries(-1));
+    }
+
+}
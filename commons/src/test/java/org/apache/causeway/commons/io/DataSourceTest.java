@@ -0,0 +1,85 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.apache.causeway.commons.internal.base._Bytes;
+
+import lombok.val;
+
+class DataSourceTest {
+
+    private byte[] bytes;
+
+    @BeforeEach
+    void setup() {
+        val rd = new Random(9999); // fixed seed - reproducible tests
+        this.bytes = new byte[16*1024];
+        rd.nextBytes(bytes);
+    }
+
+    @Test
+    void open_input_stream_outlives_the_read_callback() throws Exception {
+        val opened = new AtomicInteger();
+        val dataSource = DataSource.ofInputStreamSupplier(()->{
+            opened.incrementAndGet();
+            return new ByteArrayInputStream(bytes);
+        });
+
+        try(final InputStream is = dataSource.tryOpenInputStream().valueAsNonNullElseFail()) {
+            assertArrayEquals(bytes, _Bytes.of(is));
+        }
+        assertEquals(1, opened.get());
+
+        // mapped
+        try(final InputStream is = dataSource.map(in->in).tryOpenInputStream().valueAsNonNullElseFail()) {
+            assertArrayEquals(bytes, _Bytes.of(is));
+        }
+        assertEquals(2, opened.get());
+    }
+
+    @Test
+    void spooled_can_be_read_repeatedly() throws Exception {
+        val dataSource = DataSource.ofInputStreamSpooled(new ByteArrayInputStream(bytes));
+
+        assertArrayEquals(bytes, dataSource.bytes());
+        assertArrayEquals(bytes, dataSource.bytes());
+        try(final InputStream is = dataSource.tryOpenInputStream().valueAsNonNullElseFail()) {
+            assertArrayEquals(bytes, _Bytes.of(is));
+        }
+        assertEquals(DataSource.ofBytes(bytes).md5Hex(), dataSource.md5Hex());
+    }
+
+    @Test
+    void spooled_null_is_empty() {
+        assertFalse(DataSource.ofInputStreamSpooled(null).tryReadAsBytes().getValue().isPresent());
+    }
+
+}
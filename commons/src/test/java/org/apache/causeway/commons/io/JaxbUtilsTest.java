@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.commons.io;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -28,6 +30,7 @@
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.apache.causeway.commons.internal.base._Strings;
@@ -59,6 +62,24 @@ static class B {
         @Getter @Setter private String string;
     }
 
+    @XmlRootElement(name = "type-c")
+    @XmlType
+    @XmlAccessorType(XmlAccessType.FIELD)
+    @EqualsAndHashCode
+    static class C {
+
+        static final AtomicInteger instantiationFailuresRemaining = new AtomicInteger();
+
+        C() {
+            if(instantiationFailuresRemaining.getAndDecrement()>0) {
+                throw new IllegalStateException("instantiation failure");
+            }
+        }
+
+        @XmlElement(required = false)
+        @Getter @Setter private String string;
+    }
+
     /**
      * Works for arbitrary {@link XmlRootElement#name()} combinations,
      * except you cannot use the same {@code name="root"} say on both {@link A} and {@link B}.
@@ -91,4 +112,21 @@ void typesafeUnmarshallingFromAmbiguousContext() {
 
     }
 
+    @Test
+    void cloneFallsBackToRoundtripWhenStructuralCopyFails() {
+
+        // given
+        val c = new C();
+        c.setString("c-string");
+        val mapper = JaxbUtils.mapperFor(C.class);
+
+        // when ... the structural copy fails to instantiate C
+        C.instantiationFailuresRemaining.set(1);
+        val cloned = mapper.clone(c);
+
+        // then
+        assertEquals(c, cloned);
+        assertNotSame(c, cloned);
+    }
+
 }
@@ -18,9 +18,9 @@
  */
 package org.apache.causeway.core.codegen.bytebuddy.services;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
-import java.util.function.Function;
 
 import org.objenesis.Objenesis;
 import org.objenesis.ObjenesisStd;
@@ -29,22 +29,81 @@
 
 import org.apache.causeway.commons.internal._Constants;
 import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.context._Context;
 import org.apache.causeway.commons.internal.proxy._ProxyFactory;
 import org.apache.causeway.commons.internal.proxy._ProxyFactoryServiceAbstract;
 
+import lombok.val;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.NamingStrategy;
-import net.bytebuddy.dynamic.DynamicType.Builder.MethodDefinition.ImplementationDefinition;
+import net.bytebuddy.TypeCache;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.implementation.FieldAccessor;
 import net.bytebuddy.implementation.InvocationHandlerAdapter;
 import net.bytebuddy.matcher.ElementMatchers;
 
 @Service
 public class ProxyFactoryServiceByteBuddy extends _ProxyFactoryServiceAbstract {
 
+    /**
+     * Implemented by any generated proxy class, to provide per instance access to the
+     * {@link InvocationHandler}, that all intercepted method calls are dispatched to.
+     * <p>
+     * Not meant to be used by client code; is public only because generated proxy classes
+     * (which live in the package of the proxied type) must be able to implement it.
+     * Read only: the field is populated via {@link #invocationHandlerField}.
+     */
+    public static interface InvocationHandlerAware {
+        InvocationHandler get$$invocationHandler();
+    }
+
+    private static final String INVOCATION_HANDLER_FIELD = "$$invocationHandler";
+
+    /**
+     * The (private) {@link InvocationHandler} field of each generated proxy class, made accessible once.
+     */
+    private static final ClassValue<Field> invocationHandlerField = new ClassValue<Field>() {
+        @Override
+        protected Field computeValue(final Class<?> proxyClass) {
+            try {
+                val field = proxyClass.getDeclaredField(INVOCATION_HANDLER_FIELD);
+                field.setAccessible(true);
+                return field;
+            } catch (NoSuchFieldException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    };
+
+    /**
+     * Handler, that is used while a proxy instance is being constructed,
+     * that is before its {@link InvocationHandlerAware} field is populated:
+     * any method called by the proxied type's constructor is intercepted as well.
+     */
+    private static final ThreadLocal<InvocationHandler> handlerUnderConstruction = new ThreadLocal<>();
+
+    /**
+     * Shared by all generated proxy classes: dispatches to the proxy instance's own {@link InvocationHandler}.
+     */
+    private static final InvocationHandler dispatcher = (proxy, method, args)->{
+        InvocationHandler handler = ((InvocationHandlerAware)proxy).get$$invocationHandler();
+        if(handler==null) {
+            handler = handlerUnderConstruction.get();
+        }
+        return handler.invoke(proxy, method, args);
+    };
+
     private final ClassLoadingStrategyAdvisor strategyAdvisor = new ClassLoadingStrategyAdvisor();
 
+    /**
+     * Generated proxy classes, one per (base, interfaces) pair, keyed by class loader.
+     */
+    private final TypeCache<TypeCache.SimpleKey> proxyClassCache =
+            new TypeCache.WithInlineExpunction<>(TypeCache.Sort.SOFT);
+
     @Override
     public <T> _ProxyFactory<T> factory(
             final Class<T> base,
@@ -53,13 +112,8 @@ public <T> _ProxyFactory<T> factory(
 
         final Objenesis objenesis = new ObjenesisStd();
 
-        final Function<InvocationHandler, Class<? extends T>> proxyClassFactory = handler->
-        nextProxyDef(base, interfaces)
-        .intercept(InvocationHandlerAdapter.of(handler))
-        .make()
-        .load(_Context.getDefaultClassLoader(),
-                strategyAdvisor.getSuitableStrategy(base))
-        .getLoaded();
+        // generated once (per base and interfaces), reused by all proxy instances
+        final _Lazy<Class<? extends T>> proxyClass = _Lazy.threadSafe(()->proxyClass(base, interfaces));
 
         return new _ProxyFactory<T>() {
 
@@ -99,8 +153,8 @@ public T createInstance(final InvocationHandler handler, final Object[] construc
             // -- HELPER (create w/o initialize)
 
             private Object createNotUsingConstructor(final InvocationHandler invocationHandler) {
-                final Class<? extends T> proxyClass = proxyClassFactory.apply(invocationHandler);
-                final Object object = objenesis.newInstance(proxyClass);
+                final Object object = objenesis.newInstance(proxyClass.get());
+                setInvocationHandler(object, invocationHandler);
                 return object;
             }
 
@@ -108,10 +162,22 @@ private Object createNotUsingConstructor(final InvocationHandler invocationHandl
 
             private Object createUsingConstructor(final InvocationHandler invocationHandler, @Nullable final Object[] constructorArgs)
                     throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
-                final Class<? extends T> proxyClass = proxyClassFactory.apply(invocationHandler);
-                return proxyClass
-                        .getConstructor(constructorArgTypes==null ? _Constants.emptyClasses : constructorArgTypes)
-                        .newInstance(constructorArgs==null ? _Constants.emptyObjects : constructorArgs);
+                // the constructor might itself create proxies (using the same thread local), so restore rather than remove
+                final InvocationHandler outerHandlerUnderConstruction = handlerUnderConstruction.get();
+                handlerUnderConstruction.set(invocationHandler);
+                try {
+                    final Object object = proxyClass.get()
+                            .getConstructor(constructorArgTypes==null ? _Constants.emptyClasses : constructorArgTypes)
+                            .newInstance(constructorArgs==null ? _Constants.emptyObjects : constructorArgs);
+                    setInvocationHandler(object, invocationHandler);
+                    return object;
+                } finally {
+                    if(outerHandlerUnderConstruction!=null) {
+                        handlerUnderConstruction.set(outerHandlerUnderConstruction);
+                    } else {
+                        handlerUnderConstruction.remove();
+                    }
+                }
             }
 
         };
@@ -120,14 +186,43 @@ private Object createUsingConstructor(final InvocationHandler invocationHandler,
 
     // -- HELPER
 
-    private static <T> ImplementationDefinition<T> nextProxyDef(
+    private static void setInvocationHandler(final Object proxy, final InvocationHandler invocationHandler) {
+        try {
+            invocationHandlerField.get(proxy.getClass()).set(proxy, invocationHandler);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> Class<? extends T> proxyClass(
+            final Class<T> base,
+            final Class<?>[] interfaces) {
+        val interfacesNonNull = interfaces==null ? _Constants.emptyClasses : interfaces;
+        // same class loader as before proxy classes were cached (not the base's own)
+        val classLoader = _Context.getDefaultClassLoader();
+        return _Casts.uncheckedCast(proxyClassCache.findOrInsert(
+                classLoader,
+                new TypeCache.SimpleKey(base, interfacesNonNull),
+                ()->nextProxyDef(base, interfacesNonNull)
+                    .make()
+                    .load(classLoader, strategyAdvisor.getSuitableStrategy(base))
+                    .getLoaded(),
+                proxyClassCache));
+    }
+
+    private static <T> DynamicType.Builder<T> nextProxyDef(
             final Class<T> base,
             final Class<?>[] interfaces) {
         return new ByteBuddy()
                 .with(new NamingStrategy.SuffixingRandom("bb"))
                 .subclass(base)
                 .implement(interfaces)
-                .method(ElementMatchers.any());
+                .defineField(INVOCATION_HANDLER_FIELD, InvocationHandler.class, Visibility.PRIVATE)
+                .method(ElementMatchers.any())
+                .intercept(InvocationHandlerAdapter.of(dispatcher))
+                // takes precedence over the any() matcher above (getter only)
+                .implement(InvocationHandlerAware.class)
+                .intercept(FieldAccessor.ofField(INVOCATION_HANDLER_FIELD));
     }
 
     private static void ensureSameSize(final Class<?>[] a, final Object[] b) {
@@ -0,0 +1,128 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.codegen.bytebuddy.services;
+
+import java.lang.reflect.InvocationHandler;
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+
+class ProxyFactoryServiceByteBuddyTest {
+
+    public static class Greeter {
+        public String greet(final String name) {
+            return "hello " + name;
+        }
+    }
+
+    public static class GreeterCallingOwnMethodFromConstructor {
+        final String greeting;
+        public GreeterCallingOwnMethodFromConstructor(final String name) {
+            this.greeting = greet(name);
+        }
+        public String greet(final String name) {
+            return "hello " + name;
+        }
+    }
+
+    public static class GreeterGreetingTwiceFromConstructor {
+        final String first;
+        final String second;
+        public GreeterGreetingTwiceFromConstructor(final String name) {
+            this.first = greet(name);
+            this.second = greet(name);
+        }
+        public String greet(final String name) {
+            return "hello " + name;
+        }
+    }
+
+    ProxyFactoryServiceByteBuddy proxyFactoryService;
+
+    @BeforeEach
+    void setUp() {
+        proxyFactoryService = new ProxyFactoryServiceByteBuddy();
+    }
+
+    private static InvocationHandler handler(final String prefix) {
+        return (proxy, method, args)->
+            prefix + ":" + method.getName() + (args!=null && args.length>0 ? ":" + args[0] : "");
+    }
+
+    @Test
+    void each_instance_dispatches_to_its_own_handler() {
+        val factory = proxyFactoryService.factory(Greeter.class, null, null);
+
+        val proxy1 = factory.createInstance(handler("a"), false);
+        val proxy2 = factory.createInstance(handler("b"), true);
+
+        assertEquals("a:greet:x", proxy1.greet("x"));
+        assertEquals("b:greet:y", proxy2.greet("y"));
+    }
+
+    @Test
+    void proxy_class_is_reused() {
+        val proxy1 = proxyFactoryService.factory(Greeter.class, null, null).createInstance(handler("a"), false);
+        val proxy2 = proxyFactoryService.factory(Greeter.class, null, null).createInstance(handler("b"), false);
+        val proxy3 = proxyFactoryService.factory(Greeter.class, new Class<?>[] {Callable.class}, null)
+                .createInstance(handler("c"), false);
+
+        assertSame(proxy1.getClass(), proxy2.getClass());
+        assertFalse(proxy1.getClass() == proxy3.getClass()); // different interfaces
+        assertTrue(Greeter.class.isAssignableFrom(proxy1.getClass()));
+        assertTrue(proxy3 instanceof Callable);
+    }
+
+    @Test
+    void methods_called_from_constructor_are_dispatched_to_handler() {
+        val factory = proxyFactoryService.factory(
+                GreeterCallingOwnMethodFromConstructor.class, null, new Class<?>[] {String.class});
+
+        val proxy = factory.createInstance(handler("a"), new Object[] {"x"});
+
+        assertEquals("a:greet:x", proxy.greeting);
+        assertEquals("a:greet:y", proxy.greet("y"));
+    }
+
+    @Test
+    void proxies_created_while_constructing_a_proxy_do_not_clear_its_handler() {
+        val innerFactory = proxyFactoryService.factory(
+                GreeterCallingOwnMethodFromConstructor.class, null, new Class<?>[] {String.class});
+        val outerFactory = proxyFactoryService.factory(
+                GreeterGreetingTwiceFromConstructor.class, null, new Class<?>[] {String.class});
+
+        val outerHandler = (InvocationHandler) (proxy, method, args)->{
+            val inner = innerFactory.createInstance(handler("inner"), new Object[] {"n"});
+            return "outer:" + args[0] + "/" + inner.greeting;
+        };
+        val proxy = outerFactory.createInstance(outerHandler, new Object[] {"x"});
+
+        assertEquals("outer:x/inner:greet:n", proxy.first);
+        assertEquals("outer:x/inner:greet:n", proxy.second);
+    }
+
+}
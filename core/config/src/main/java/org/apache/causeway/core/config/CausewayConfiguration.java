@@ -127,6 +127,37 @@ public static class Security {
          */
         private boolean actionsWithSafeSemanticsRequireOnlyViewingPermission = false;
 
+        private final AuthorizationDecisionCache authorizationDecisionCache = new AuthorizationDecisionCache();
+        @Data
+        public static class AuthorizationDecisionCache {
+
+            /**
+             * Whether the visibility and usability decisions of the configured
+             * {@link org.apache.causeway.core.security.authorization.Authorizor} are cached application-wide,
+             * keyed by the set of roles of the user (rather than the user itself), such that users having the
+             * same roles share answers.
+             *
+             * <p>
+             *     Only enable if the {@link org.apache.causeway.core.security.authorization.Authorizor} in use
+             *     decides based on the user's roles alone.  Cached decisions expire after the configured
+             *     time-to-live, or when an <code>AuthorizationChangedEvent</code> is published.
+             * </p>
+             */
+            private boolean enabled = false;
+
+            /**
+             * How long the decisions for a set of roles are cached for.
+             */
+            private Duration timeToLive = Duration.ofMinutes(10);
+
+            /**
+             * The maximum number of (distinct) role sets for which decisions are cached;
+             * the least recently used are evicted first.
+             */
+            @Min(value = 1)
+            private int maxRoleSets = 1_000;
+        }
+
         private final Shiro shiro = new Shiro();
         @Data
         public static class Shiro {
@@ -1469,6 +1500,23 @@ public IntrospectionPolicy getPolicy() {
                  */
                 private boolean validateIncrementally = true;
 
+                /**
+                 * Whether domain methods (property accessors, actions, supporting methods) should be invoked via
+                 * compiled <code>MethodHandle</code>s (or <code>LambdaMetafactory</code> generated functions
+                 * for zero-arg methods), rather than via reflection.
+                 *
+                 * <p>
+                 * Reflection is still used as a fallback for any method that cannot be compiled,
+                 * and for methods of types only introspected after the metamodel was locked down.
+                 * </p>
+                 *
+                 * <p>
+                 * Disabled by default, as compiling costs time and memory at bootstrap, which only pays off
+                 * for applications that invoke the same domain methods many times.
+                 * </p>
+                 */
+                private boolean compileMethodInvokers = false;
+
             }
 
             private final Validator validator = new Validator();
@@ -1721,6 +1769,48 @@ public static class RepositoryService {
 
             }
 
+            private final QueryResultsCache queryResultsCache = new QueryResultsCache();
+            @Data
+            public static class QueryResultsCache {
+
+                private final Shared shared = new Shared();
+                @Data
+                public static class Shared {
+                    /**
+                     * The calling methods (in the form <code>fully.qualified.ClassName#methodName</code>) whose
+                     * results - as passed through
+                     * {@link org.apache.causeway.applib.services.queryresultscache.QueryResultsCache#execute(java.util.concurrent.Callable, Class, String, Object...)}
+                     * - may additionally be held in the application-wide shared tier, surviving the end of the
+                     * interaction.
+                     *
+                     * <p>
+                     *     Intended for reference data lookups (countries, currencies, statuses and the like) that are
+                     *     read on most requests but rarely change.  If empty (the default), the shared tier is not used
+                     *     at all.
+                     * </p>
+                     */
+                    private final List<String> callingMethods = new ArrayList<>();
+
+                    /**
+                     * Upper bound on the number of results held in the shared tier; least recently used entries
+                     * are evicted first.
+                     */
+                    private int maxEntries = 1_000;
+
+                    /**
+                     * Upper bound on the total weight of results held in the shared tier, where the weight of a
+                     * result is the number of its elements (1 for a scalar result).
+                     */
+                    private long maxWeight = 100_000;
+
+                    /**
+                     * How long a result may be served from the shared tier before it is recomputed, regardless of
+                     * whether any entity change has invalidated it.
+                     */
+                    private Duration timeToLive = Duration.ofMinutes(10);
+                }
+            }
+
             private final ExceptionRecognizer exceptionRecognizer = new ExceptionRecognizer();
             @Data
             public static class ExceptionRecognizer {
@@ -1834,6 +1924,67 @@ public static class Schema {
             private String createSchemaSqlTemplate = "CREATE SCHEMA IF NOT EXISTS %S";
 
         }
+
+        private final DtoStorage dtoStorage = new DtoStorage();
+        @Data
+        public static class DtoStorage {
+
+            /**
+             * The format used to write schema DTOs (<code>CommandDto</code>, <code>InteractionDto</code>,
+             * <code>ChangesDto</code>) to their database columns, for example by the command log,
+             * execution log and execution outbox extensions.
+             * <p>
+             * Reading is transparent, that is, rows written in either format can always be read back,
+             * independent of this setting.
+             */
+            private Format format = Format.XML;
+
+            public enum Format {
+                /**
+                 * (Pretty printed) XML, as historically used.
+                 */
+                XML,
+                /**
+                 * GZIP compressed, Base64 encoded XML, prefixed with a version marker.
+                 */
+                COMPRESSED;
+                public boolean isCompressed() { return this == COMPRESSED; }
+            }
+        }
+
+        private final EntityChangeTracking entityChangeTracking = new EntityChangeTracking();
+        @Data
+        public static class EntityChangeTracking {
+
+            /**
+             * How entity property changes are retained until the end of the transaction, when they are
+             * published to any {@link org.apache.causeway.applib.services.publishing.spi.EntityPropertyChangeSubscriber}s.
+             */
+            private Mode mode = Mode.DEFAULT;
+
+            /**
+             * Only applies in {@link Mode#BOUNDED} mode: the number of finalized property changes held in
+             * memory, beyond which any further ones are spilled to a temporary file.
+             */
+            @Min(value = 1)
+            private int spillThreshold = 10_000;
+
+            public enum Mode {
+                /**
+                 * All enlisted entities (and a pre-value for each of their properties) are retained until
+                 * the end of the transaction, at which point post-values are captured.
+                 */
+                DEFAULT,
+                /**
+                 * Intended for bulk transactions: post-values are captured as soon as an entity is flushed,
+                 * after which only changed properties are retained in compact (string) form, and those
+                 * beyond the {@link EntityChangeTracking#getSpillThreshold() spill threshold} are
+                 * written to a temporary file. Changes are published in chunks when the transaction ends.
+                 */
+                BOUNDED;
+                public boolean isBounded() { return this == BOUNDED; }
+            }
+        }
     }
 
     private final Prototyping prototyping = new Prototyping();
@@ -2715,6 +2866,31 @@ public static class Kroki {
             private Duration requestTimeout = Duration.ofMillis(5000);
         }
 
+        private final AsciiDoc asciiDoc = new AsciiDoc();
+        @Data
+        public static class AsciiDoc {
+            /**
+             * Number of Asciidoctor instances used to convert AsciiDoc to HTML, allowing for concurrent conversions.
+             * <p>
+             * Each instance is a (JRuby backed) Asciidoctor, so is fairly heavyweight.
+             */
+            @Min(value = 1)
+            private int converterPoolSize = 1;
+        }
+
+        private final RenderedHtmlCache renderedHtmlCache = new RenderedHtmlCache();
+        @Data
+        public static class RenderedHtmlCache {
+            /**
+             * Maximum number of HTML documents rendered by the Markdown and AsciiDoc value types that are cached
+             * (keyed by a hash of their source), the least recently used being evicted first.
+             * <p>
+             * Set to <code>0</code> to disable caching.
+             */
+            @Min(value = 0)
+            private int maxEntries = 1000;
+        }
+
     }
 
     private final Testing testing = new Testing();
@@ -2918,6 +3094,22 @@ public enum PersistPolicy {
              * </p>
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
+
+            /**
+             * The maximum number of audit trail entries written to the database in a single (JDBC) batch, when
+             * persisting all of the property changes of a transaction.
+             *
+             * <p>
+             *     Entries are persisted without flushing, and then flushed once every <code>batchSize</code>
+             *     entries, allowing the persistence provider to group the inserts together.  For JPA, the inserts are
+             *     only sent as JDBC batches if EclipseLink batch writing is enabled, which it is not by default.
+             *     It is a persistence unit wide setting, enabled using eg.
+             *     <code>eclipselink.jdbc.batch-writing=jdbc</code> (optionally with
+             *     <code>eclipselink.jdbc.batch-writing.size</code> set to this <code>batchSize</code>).
+             * </p>
+             */
+            @Min(value = 1)
+            private int batchSize = 100;
         }
 
         private final CommandLog commandLog = new CommandLog();
@@ -2960,6 +3152,35 @@ public enum PersistPolicy {
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
 
+            private final RunBackgroundCommands runBackgroundCommands = new RunBackgroundCommands();
+            @Data
+            public static class RunBackgroundCommands {
+
+                /**
+                 * The number of threads used by <code>RunBackgroundCommandsJob</code> to execute background commands
+                 * concurrently.  Commands with the same target are always executed one after the other, in the
+                 * order they were created.
+                 */
+                private int threads = 4;
+
+                /**
+                 * The maximum number of background commands claimed (and then executed) by each run of
+                 * <code>RunBackgroundCommandsJob</code>.
+                 */
+                private int batchSize = 100;
+
+                /**
+                 * How long a node's claim on a background command is held.  If the command has still not been
+                 * executed by then (for example because the node died), then it may be claimed and executed by
+                 * another node.
+                 *
+                 * <p>
+                 *     Should comfortably exceed the time taken to execute a batch of commands.
+                 * </p>
+                 */
+                private Duration leaseDuration = Duration.ofMinutes(5);
+            }
+
         }
 
         private final CommandReplay commandReplay = new CommandReplay();
@@ -2986,6 +3207,30 @@ public static class SecondaryAccess {
 
             private Integer batchSize = 10;
 
+            private final Pipeline pipeline = new Pipeline();
+            @Data
+            public static class Pipeline {
+                /**
+                 * Number of batches of commands fetched from the primary ahead of the batch being replayed, so
+                 * that the secondary is not idle during the round trips to the primary.
+                 *
+                 * <p>
+                 *     Set to <code>0</code> to alternate strictly between fetching a batch and replaying it.
+                 * </p>
+                 */
+                @Min(value = 0)
+                private int prefetchBatches = 2;
+
+                /**
+                 * Upper bound of the batch size. Starting with {@link CommandReplay#getBatchSize()}, the batch
+                 * size doubles (up to this bound) while the primary returns full batches, that is while the
+                 * secondary is lagging behind, and halves again (down to the configured batch size) once it
+                 * has caught up.
+                 */
+                @Min(value = 1)
+                private int maxBatchSize = 100;
+            }
+
             private final QuartzSession quartzSession = new QuartzSession();
             @Data
             public static class QuartzSession {
@@ -3135,6 +3380,80 @@ public static class Cors {
 
         }
 
+        /**
+         * Write-behind settings, shared by the <i>executionLog</i> and <i>executionOutbox</i> extensions.
+         */
+        @Data
+        public static class WriteBehind {
+
+            /**
+             * Whether entries are persisted asynchronously, rather than within the transaction of the
+             * execution being published.  Disabled by default.
+             *
+             * <p>
+             *     If enabled, entries are queued in memory and then persisted in batches, each within their own
+             *     transaction, by a background writer.  This shortens the business transaction, but an entry
+             *     is no longer guaranteed to be persisted if (and only if) that transaction commits.  Use the
+             *     {@link #getJournalFile() journal} to survive an unexpected shutdown of the JVM.
+             * </p>
+             */
+            private boolean enabled = false;
+
+            /**
+             * Maximum number of entries held in memory, waiting to be persisted.
+             */
+            @Min(value = 1)
+            private int queueCapacity = 10_000;
+
+            /**
+             * Maximum number of entries persisted within a single transaction by the background writer.
+             */
+            @Min(value = 1)
+            private int batchSize = 100;
+
+            /**
+             * Maximum time the background writer waits for a batch to fill up, before persisting a partial batch.
+             */
+            private Duration flushInterval = Duration.ofMillis(500);
+
+            /**
+             * Back-pressure: while the queue is full, the publishing thread blocks for up to this long.  If
+             * there is still no room, the entry is persisted synchronously (as if write-behind were disabled).
+             */
+            private Duration offerTimeout = Duration.ofSeconds(1);
+
+            /**
+             * Maximum time to wait on shutdown for the queued entries to be persisted.
+             */
+            private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+            /**
+             * Optional path of a local append-only journal file.  Each queued entry is appended to this file
+             * first, and the file is truncated once all entries have been persisted.  Entries remaining
+             * in the journal (eg. after a crash) are persisted on next startup, skipping any that already exist.
+             */
+            private Optional<String> journalFile = Optional.empty();
+        }
+
+        private final ExcelDownload excelDownload = new ExcelDownload();
+        @Data
+        public static class ExcelDownload {
+
+            /**
+             * Collections with more rows than this are exported using a streaming workbook, which keeps only
+             * a window of {@link #getStreamingRowAccessWindowSize()} rows in memory and flushes the others
+             * to a temporary file.
+             */
+            @Min(value = 0)
+            private int streamingRowThreshold = 10_000;
+
+            /**
+             * Number of rows kept in memory by the streaming workbook, see {@link #getStreamingRowThreshold()}.
+             */
+            @Min(value = 1)
+            private int streamingRowAccessWindowSize = 100;
+        }
+
         private final ExecutionLog executionLog = new ExecutionLog();
         @Data
         public static class ExecutionLog {
@@ -3174,6 +3493,12 @@ public enum PersistPolicy {
              * </p>
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
+
+            /**
+             * Optionally, persist execution log entries asynchronously.
+             */
+            @Valid
+            private final WriteBehind writeBehind = new WriteBehind();
         }
 
         private final ExecutionOutbox executionOutbox = new ExecutionOutbox();
@@ -3229,6 +3554,17 @@ public enum PersistPolicy {
              */
             private ExecutionOutbox.PersistPolicy persist = ExecutionOutbox.PersistPolicy.ENABLED;
 
+            /**
+             * Optionally, persist outbox entries asynchronously.
+             *
+             * <p>
+             *     Note that this weakens the guarantee of the transactional outbox pattern: an entry is no longer
+             *     committed atomically with the changes of the execution it describes.
+             * </p>
+             */
+            @Valid
+            private final WriteBehind writeBehind = new WriteBehind();
+
         }
 
         private final Secman secman = new Secman();
@@ -3472,6 +3808,64 @@ public enum UserMenuMeActionPolicy {
              * </p>
              */
             private UserMenuMeActionPolicy userMenuMeActionPolicy = UserMenuMeActionPolicy.HIDE;
+
+            private final AuthenticationCache authenticationCache = new AuthenticationCache();
+            @Data
+            public static class AuthenticationCache {
+
+                /**
+                 * Whether successful password authentications are cached, for use by stateless
+                 * clients that re-authenticate on every request (such as the REST API using HTTP Basic Auth).
+                 * A cached entry spares the user lookup and the password hash comparison.
+                 *
+                 * <p>
+                 *     Entries are keyed by a (keyed) hash of the credentials, never the raw password, and are
+                 *     invalidated whenever any user, role or permission is changed (within this JVM).
+                 * </p>
+                 */
+                private boolean enabled = false;
+
+                /**
+                 * How long a successful authentication is cached for.
+                 */
+                private Duration timeToLive = Duration.ofMinutes(5);
+
+                /**
+                 * The maximum number of cached authentications; the oldest are evicted first.
+                 */
+                @Min(value = 1)
+                private int maxSize = 10_000;
+            }
+
+            private final PermissionCache permissionCache = new PermissionCache();
+            @Data
+            public static class PermissionCache {
+
+                /**
+                 * Whether each user's permissions are cached across requests (rather than looked up once per
+                 * interaction), with their visibility and usability answers memoized per feature.
+                 * Users having equal permissions share the same cached answers.
+                 *
+                 * <p>
+                 *     The cache is invalidated whenever any user, role or permission is changed, but only within
+                 *     this JVM. Where multiple nodes share the same database, a change made through one node
+                 *     is only seen by the others once their cached entries have expired (see
+                 *     {@link #getTimeToLive()}).
+                 * </p>
+                 */
+                private boolean enabled = false;
+
+                /**
+                 * How long a user's permissions are cached for.
+                 */
+                private Duration timeToLive = Duration.ofMinutes(5);
+
+                /**
+                 * The maximum number of users whose permissions are cached; the oldest are evicted first.
+                 */
+                @Min(value = 1)
+                private int maxEntries = 10_000;
+            }
         }
 
         private final SessionLog sessionLog = new SessionLog();
@@ -32,6 +32,7 @@
 import org.apache.causeway.core.config.converters.PatternsConverter;
 import org.apache.causeway.core.config.datasources.DataSourceIntrospectionService;
 import org.apache.causeway.core.config.environment.CausewayLocaleInitializer;
+import org.apache.causeway.core.config.environment.CausewayRenderedHtmlCacheInitializer;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
 import org.apache.causeway.core.config.environment.CausewayTimeZoneInitializer;
 import org.apache.causeway.core.config.validators.PatternOptionalStringConstraintValidator;
@@ -47,6 +48,7 @@
     CausewayBeanFactoryPostProcessorForSpring.class,
     CausewayLocaleInitializer.class,
     CausewayTimeZoneInitializer.class,
+    CausewayRenderedHtmlCacheInitializer.class,
     PatternOptionalStringConstraintValidator.class,
     RestfulPathProvider.class,
 
@@ -380,6 +380,10 @@ public static class Jdbc {
         private boolean allowNativeSqlQueries = true;
 
         /**
+         * Batch writing is disabled by default.  Set to <code>jdbc</code> to group the inserts and updates of a
+         * flush into JDBC batches, eg. for bulk audit trail writes
+         * (see <code>causeway.extensions.audit-trail.batch-size</code>).
+         *
          * @see <a href="https://www.eclipse.org/eclipselink/documentation/2.7/jpa/extensions/persistenceproperties_ref.htm#CIHIAGAF">eclipselink.jdbc.batch-writing</a>
          */
         @CausewayConfiguration.OneOf(value={"jdbc", "buffered", "oracle-jdbc", "none"})
@@ -18,12 +18,22 @@
  */
 package org.apache.causeway.core.metamodel.commons;
 
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.base._NullSafe;
@@ -33,8 +43,10 @@
 
 import lombok.Builder;
 import lombok.NonNull;
+import lombok.SneakyThrows;
 import lombok.val;
 import lombok.experimental.UtilityClass;
+import lombok.extern.log4j.Log4j2;
 
 /**
  * Utility for method invocation pre-processing.
@@ -44,10 +56,28 @@
  * <p>
  * We do this for collection parameter types List, Set, SortedSet, Collection, Can, Arrays
  * missing arguments and primitives that are not initialized.
+ * <p>
+ * Methods that were {@link #prepare(MethodFacade) prepared} are invoked via a compiled {@link MethodInvoker}.
+ * Reflective invocation is used otherwise and as fallback,
+ * eg. when a method is not accessible or arguments don't match the parameter types.
+ * <p>
+ * Whether to prepare methods at all is up to the caller (the {@code SpecificationLoader} of each application
+ * context), hence there is no JVM-wide switch. Prepared invokers are stored with their method's declaring class
+ * (see {@link ClassValue}), such that they don't pin any class loader.
  */
 @UtilityClass
+@Log4j2
 public class CanonicalInvoker {
 
+    // compiled invokers by declaring class, empty if a method cannot be compiled
+    private final ClassValue<Map<Method, Optional<CompiledMethod>>> invokersByClass =
+            new ClassValue<Map<Method, Optional<CompiledMethod>>>() {
+                @Override
+                protected Map<Method, Optional<CompiledMethod>> computeValue(final Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
     @lombok.Value @Builder
     public static class ObjectConstructionRequest {
         final @NonNull Constructor<?> constructor;
@@ -118,9 +148,37 @@ public Object invoke(
                 .build());
     }
 
+    /**
+     * Compiles the {@link MethodInvoker} for given {@link MethodFacade}, to be used for all subsequent invocations.
+     * @return the method's declaring class, as required to {@link #clearPreparedInvokers(Iterable) clear}
+     *      the compiled invoker later on
+     */
+    public Class<?> prepare(final @NonNull MethodFacade methodFacade) {
+        val method = methodFacade.asMethodForIntrospection();
+        invokersByClass.get(method.getDeclaringClass())
+            .computeIfAbsent(method, CanonicalInvoker::compile);
+        return method.getDeclaringClass();
+    }
+
+    /**
+     * Clears any compiled {@link MethodInvoker}s of methods declared by given classes,
+     * eg. when the metamodel is disposed.
+     */
+    public void clearPreparedInvokers(final @NonNull Iterable<Class<?>> declaringClasses) {
+        declaringClasses.forEach(invokersByClass::remove);
+    }
+
     public Object invoke(final MethodInvocationRequest invocationRequest) {
 
         val adaptedExecutionParameters = invocationRequest.getAdaptedParameters();
+        val method = invocationRequest.getMethod();
+        val targetPojo = invocationRequest.getTargetPojo();
+
+        val compiledMethod = preparedInvokerFor(method).orElse(null);
+        if(compiledMethod!=null
+                && compiledMethod.isInvocationCompatible(targetPojo, adaptedExecutionParameters)) {
+            return compiledMethod.invoke(targetPojo, adaptedExecutionParameters);
+        }
 
         // supports effective private methods as well
         return _Reflect.invokeMethodOn(
@@ -137,6 +195,126 @@ public Object invoke(final MethodInvocationRequest invocationRequest) {
 
     // -- HELPER
 
+    private Optional<CompiledMethod> preparedInvokerFor(final Method method) {
+        return invokersByClass.get(method.getDeclaringClass())
+                .getOrDefault(method, Optional.empty());
+    }
+
+    /**
+     * A compiled {@link MethodInvoker} together with what is needed to check its arguments,
+     * as looked up once when compiled, such that invocations don't allocate.
+     */
+    private static final class CompiledMethod {
+
+        private final Method method;
+        private final MethodInvoker invoker;
+        private final Class<?>[] parameterTypes;
+        // null for static methods
+        private final @Nullable Class<?> targetType;
+
+        CompiledMethod(final Method method, final MethodInvoker invoker) {
+            this.method = method;
+            this.invoker = invoker;
+            this.parameterTypes = method.getParameterTypes();
+            this.targetType = Modifier.isStatic(method.getModifiers())
+                    ? null
+                    : method.getDeclaringClass();
+        }
+
+        /**
+         * Whether the compiled invoker can be used without changing the failure semantics,
+         * otherwise falls back to reflection, which provides the verbose exceptions.
+         */
+        boolean isInvocationCompatible(final Object targetPojo, final @Nullable Object[] args) {
+            if(targetType!=null
+                    && !targetType.isInstance(targetPojo)) {
+                return false;
+            }
+            if(parameterTypes.length != _NullSafe.size(args)) {
+                return false;
+            }
+            for(int i=0; i<parameterTypes.length; ++i) {
+                if(!isValueCompatibleWithType(args[i], parameterTypes[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @SneakyThrows
+        Object invoke(final Object targetPojo, final @Nullable Object[] args) {
+            try {
+                return invoker.invoke(targetPojo, args);
+            } catch (Throwable e) {
+                // same as reflective invocation would do
+                throw toVerboseException(method, args, new InvocationTargetException(e));
+            }
+        }
+
+    }
+
+    /**
+     * Returns empty if given {@link Method} cannot be compiled, eg. because not accessible.
+     */
+    private Optional<CompiledMethod> compile(final Method method) {
+        try {
+            val lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            val methodHandle = lookup.unreflect(method).asFixedArity();
+            return Optional.of(new CompiledMethod(method,
+                    compileViaLambdaMetafactory(lookup, method, methodHandle)
+                    .orElseGet(()->compileViaMethodHandle(method, methodHandle))));
+        } catch (Throwable e) {
+            log.debug("cannot compile invoker for {}, falling back to reflection", method, e);
+            return Optional.empty();
+        }
+    }
+
+    private MethodInvoker compileViaMethodHandle(final Method method, final MethodHandle methodHandle) {
+        val paramCount = method.getParameterCount();
+        if(Modifier.isStatic(method.getModifiers())) {
+            val spreader = methodHandle
+                    .asType(MethodType.genericMethodType(paramCount))
+                    .asSpreader(Object[].class, paramCount);
+            return (target, args)->(Object) spreader.invokeExact(args);
+        }
+        val spreader = methodHandle
+                .asType(MethodType.genericMethodType(paramCount + 1))
+                .asSpreader(Object[].class, paramCount);
+        return (target, args)->(Object) spreader.invokeExact(target, args);
+    }
+
+    /**
+     * Zero-arg instance methods (eg. property getters) are compiled into a {@link LambdaMetafactory}
+     * generated {@link Function}.
+     */
+    private Optional<MethodInvoker> compileViaLambdaMetafactory(
+            final MethodHandles.Lookup lookup,
+            final Method method,
+            final MethodHandle methodHandle) {
+        if(method.getParameterCount()>0
+                || Modifier.isStatic(method.getModifiers())
+                || method.getReturnType()==void.class) {
+            return Optional.empty();
+        }
+        try {
+            val callSite = LambdaMetafactory.metafactory(
+                    lookup,
+                    "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    methodHandle,
+                    MethodType.methodType(
+                            ClassUtils.resolvePrimitiveIfNecessary(method.getReturnType()),
+                            method.getDeclaringClass()));
+            final Function<Object, Object> getter = _Casts.uncheckedCast(callSite.getTarget().invoke());
+            return Optional.of((target, args)->getter.apply(target));
+        } catch (Throwable e) {
+            // eg. lookup lacks full privilege access
+            log.debug("cannot use LambdaMetafactory for {}", method, e);
+            return Optional.empty();
+        }
+    }
+
     private Throwable toVerboseException(
             final Executable executable,
             final Object[] adaptedExecutionParameters,
@@ -194,14 +372,20 @@ private Throwable toVerboseException(
     private boolean isValueCompatibleWithType(
             final @NonNull Optional<Object> value,
             final @NonNull Class<?> type) {
+        return isValueCompatibleWithType(value.orElse(null), type);
+    }
+
+    private boolean isValueCompatibleWithType(
+            final @Nullable Object value,
+            final @NonNull Class<?> type) {
 
-        if(!value.isPresent()) {
+        if(value==null) {
             // null is not compatible with an expected primitive type
             // but null is compatible with any other expected type
             return !type.isPrimitive();
         }
 
-        val runtimeType = value.get().getClass();
+        val runtimeType = value.getClass();
 
         if(ClassExtensions.equalsWhenBoxing(runtimeType, type)) {
             return true;
@@ -0,0 +1,44 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.commons;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Compiled (JIT inlinable) alternative to reflective {@link Method#invoke(Object, Object...)},
+ * either based on a {@link MethodHandle} or a {@link LambdaMetafactory} generated function.
+ *
+ * @see CanonicalInvoker
+ * @since 2.0
+ */
+@FunctionalInterface
+interface MethodInvoker {
+
+    /**
+     * @param target - ignored for static methods
+     * @param args - must match the method's parameter types (not verified)
+     * @throws Throwable - as thrown by the invoked method (not wrapped)
+     */
+    Object invoke(Object target, @Nullable Object[] args) throws Throwable;
+
+}
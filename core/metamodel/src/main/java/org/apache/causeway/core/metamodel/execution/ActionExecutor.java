@@ -136,9 +136,9 @@ public Object execute(final ActionInvocation currentExecution) {
         val ownerAdapter = head.getOwner();
         val ownerHasBookmark = ManagedObjects.bookmark(ownerAdapter).isPresent();
         if (ownerHasBookmark) {
-            val invocationDto =
-                    getInteractionDtoServiceInternal().asActionInvocationDto(owningAction, head, arguments);
-            currentExecution.setDto(invocationDto);
+            // the dto itself is only built if and when requested (eg by an ExecutionSubscriber)
+            currentExecution.setDtoSupplier(
+                    getInteractionDtoServiceInternal().asActionInvocationDtoSupplier(owningAction, head, arguments));
         }
 
         if(!isPostable()) {
@@ -153,9 +153,9 @@ public Object execute(final PropertyEdit currentExecution) {
         val ownerHasBookmark = ManagedObjects.bookmark(ownerAdapter).isPresent();
 
         if (ownerHasBookmark) {
-            val propertyEditDto =
-                    getInteractionDtoServiceInternal().asPropertyEditDto(owningProperty, head, newValue);
-            currentExecution.setDto(propertyEditDto);
+            // the dto itself is only built if and when requested (eg by an ExecutionSubscriber)
+            currentExecution.setDtoSupplier(
+                    getInteractionDtoServiceInternal().asPropertyEditDtoSupplier(owningProperty, head, newValue));
         }
 
         if(!isPostable()) {
@@ -144,6 +144,15 @@ default <F extends Facet> Stream<F> streamFacets(final Class<F> requiredType) {
      */
     void addFacet(@NonNull Facet facet);
 
+    /**
+     * Compiles the currently winning facets into an immutable lookup table,
+     * such that subsequent facet lookups no longer require any locking.
+     * <p>
+     * Meant to be called once the metamodel is locked down after full introspection.
+     * Any subsequent {@link #addFacet(Facet)} reverts this holder to its mutable (synchronized) state.
+     */
+    void freeze();
+
     // -- VALIDATION SUPPORT
 
     Stream<FacetRanking> streamFacetRankings();
@@ -29,7 +29,6 @@
 
 import static org.apache.causeway.commons.internal.base._Casts.uncheckedCast;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -38,7 +37,6 @@
 /**
  * For base subclasses or, more likely, to help write tests.
  */
-@AllArgsConstructor
 @RequiredArgsConstructor
 //@Log4j2
 abstract class FacetHolderAbstract
@@ -51,11 +49,27 @@
     // not private nor final, as featureIdentifier might depend on lazily provided LogicalTypeFacet
     @Getter(onMethod_ = {@Override}) protected Identifier featureIdentifier;
 
+    protected FacetHolderAbstract(
+            final @NonNull MetaModelContext metaModelContext,
+            final Identifier featureIdentifier) {
+        this.metaModelContext = metaModelContext;
+        this.featureIdentifier = featureIdentifier;
+    }
+
     private final Map<Class<? extends Facet>, FacetRanking> rankingByType = _Maps.newHashMap();
     private final Object $lock = new Object();
 
+    /**
+     * Lock-free lookup table, populated by {@link #freeze()}, cleared on any subsequent facet addition.
+     */
+    private volatile FacetLookupTable frozen;
+
     @Override
     public final boolean containsFacet(final Class<? extends Facet> facetType) {
+        val frozen = this.frozen;
+        if(frozen!=null) {
+            return frozen.contains(facetType);
+        }
         synchronized($lock) {
             return snapshot.get().containsKey(facetType);
         }
@@ -65,6 +79,7 @@ public final boolean containsFacet(final Class<? extends Facet> facetType) {
     public final void addFacet(final @NonNull Facet facet) {
         synchronized($lock) {
 
+            frozen = null; // unfreeze
             val ranking = rankingByType.computeIfAbsent(facet.facetType(), FacetRanking::new);
             val needsInvalidate = ranking.add(facet);
             if(needsInvalidate) {
@@ -77,6 +92,10 @@ public final void addFacet(final @NonNull Facet facet) {
     // which potentially leads to inconsistent behavior with facet and facet-ranking streaming
     @Override
     public /*final*/ <T extends Facet> T getFacet(final Class<T> facetType) {
+        val frozen = this.frozen;
+        if(frozen!=null) {
+            return frozen.get(facetType);
+        }
         synchronized($lock) {
             return uncheckedCast(snapshot.get().get(facetType));
         }
@@ -84,6 +103,10 @@ public final void addFacet(final @NonNull Facet facet) {
 
     @Override
     public final Stream<Facet> streamFacets() {
+        val frozen = this.frozen;
+        if(frozen!=null) {
+            return frozen.stream();
+        }
         synchronized($lock) {
             // consumers should play nice and don't take too long (as we have a lock)
             return snapshot.get().values().stream();
@@ -92,11 +115,22 @@ public final Stream<Facet> streamFacets() {
 
     @Override
     public final int getFacetCount() {
+        val frozen = this.frozen;
+        if(frozen!=null) {
+            return frozen.size();
+        }
         synchronized($lock) {
             return snapshot.get().size();
         }
     }
 
+    @Override
+    public final void freeze() {
+        synchronized($lock) {
+            frozen = FacetLookupTable.compile(snapshot.get());
+        }
+    }
+
     // -- VALIDATION SUPPORT
 
     @Override
@@ -77,6 +77,12 @@ public void addFacet(@NonNull final Facet facet) {
         facetHolder.addFacet(facet);
     }
 
+    @Override
+    public void freeze() {
+        shared.freeze();
+        local.freeze();
+    }
+
     @Override
     public MetaModelContext getMetaModelContext() {
         return shared.getMetaModelContext();
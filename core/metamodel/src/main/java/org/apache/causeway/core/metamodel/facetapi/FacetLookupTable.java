@@ -0,0 +1,94 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facetapi;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.apache.causeway.commons.internal.base._NullSafe;
+
+import static org.apache.causeway.commons.internal.base._Casts.uncheckedCast;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Immutable facet lookup table, indexed by a dense (JVM wide) facet-type ordinal.
+ * <p>
+ * Once compiled, lookups are lock-free array accesses.
+ *
+ * @see FacetHolder#freeze()
+ */
+final class FacetLookupTable {
+
+    private static final AtomicInteger ordinalCounter = new AtomicInteger();
+    private static final ClassValue<Integer> ordinalByFacetType = new ClassValue<Integer>() {
+        @Override protected Integer computeValue(final Class<?> facetType) {
+            return ordinalCounter.getAndIncrement();
+        }
+    };
+
+    static int ordinalOf(final @NonNull Class<? extends Facet> facetType) {
+        return ordinalByFacetType.get(facetType);
+    }
+
+    static FacetLookupTable compile(final @NonNull Map<Class<? extends Facet>, Facet> facetsByType) {
+        val facets = facetsByType.values().toArray(new Facet[facetsByType.size()]);
+        int maxOrdinal = -1;
+        for(val facetType : facetsByType.keySet()) {
+            maxOrdinal = Math.max(maxOrdinal, ordinalOf(facetType));
+        }
+        val facetsByOrdinal = new Facet[maxOrdinal + 1];
+        facetsByType.forEach((facetType, facet)->
+            facetsByOrdinal[ordinalOf(facetType)] = facet);
+        return new FacetLookupTable(facetsByOrdinal, facets);
+    }
+
+    private final Facet[] facetsByOrdinal;
+    private final Facet[] facets;
+
+    private FacetLookupTable(final Facet[] facetsByOrdinal, final Facet[] facets) {
+        this.facetsByOrdinal = facetsByOrdinal;
+        this.facets = facets;
+    }
+
+    <T extends Facet> T get(final Class<T> facetType) {
+        if(facetType==null) {
+            return null;
+        }
+        val ordinal = ordinalOf(facetType);
+        return ordinal < facetsByOrdinal.length
+                ? uncheckedCast(facetsByOrdinal[ordinal])
+                : null;
+    }
+
+    boolean contains(final Class<? extends Facet> facetType) {
+        return get(facetType)!=null;
+    }
+
+    Stream<Facet> stream() {
+        return _NullSafe.stream(facets);
+    }
+
+    int size() {
+        return facets.length;
+    }
+
+}
@@ -67,6 +67,11 @@ default void addFacet(final Facet facet) {
         getFacetHolder().addFacet(facet);
     }
 
+    @Override
+    default void freeze() {
+        getFacetHolder().freeze();
+    }
+
     @Override
     default Stream<FacetRanking> streamFacetRankings() {
         return getFacetHolder().streamFacetRankings();
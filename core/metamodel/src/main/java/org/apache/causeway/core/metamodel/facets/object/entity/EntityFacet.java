@@ -19,6 +19,8 @@
 package org.apache.causeway.core.metamodel.facets.object.entity;
 
 import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -142,6 +144,23 @@ default Bookmark bookmarkForElseFail(final @Nullable Object pojo) {
      */
     Optional<Object> fetchByBookmark(Bookmark bookmark);
 
+    /**
+     * The entity pojos corresponding to given {@link Bookmark}s, keyed by bookmark,
+     * based on whether could be found.
+     * <p>
+     * Bookmarks that could not be found are not contained in the resulting map.
+     *
+     * @implNote the default implementation calls {@link #fetchByBookmark(Bookmark)} once per bookmark,
+     *      implementations are encouraged to fetch in bulk instead
+     */
+    default Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+        final Map<Bookmark, Object> entityPojosByBookmark = new LinkedHashMap<>();
+        bookmarks.forEach(bookmark->
+            fetchByBookmark(bookmark)
+                .ifPresent(entityPojo->entityPojosByBookmark.put(bookmark, entityPojo)));
+        return entityPojosByBookmark;
+    }
+
     Can<ManagedObject> fetchByQuery(Query<?> query);
 
     void persist(Object pojo);
@@ -159,6 +159,15 @@ public final ManagedObject invokeWithRuleChecking(
         return route(actionResult);
     }
 
+    /**
+     * Checks visibility, usability and validity of given arguments, as {@link #invokeWithRuleChecking(Can)} does,
+     * without invoking the action.
+     */
+    public void checkRules(
+            final @NonNull Can<ManagedObject> actionParameters) throws AuthorizationException {
+        getAction().checkRules(interactionHead(), actionParameters, InteractionInitiatedBy.USER, getWhere());
+    }
+
     // -- ACTION RESULT ROUTING
 
     private ManagedObject route(final @Nullable ManagedObject actionResult) {
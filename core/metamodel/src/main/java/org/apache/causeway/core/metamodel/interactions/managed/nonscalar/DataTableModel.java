@@ -19,18 +19,26 @@
 package org.apache.causeway.core.metamodel.interactions.managed.nonscalar;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.annotation.TableDecorator;
 import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.query.PagedQuery;
+import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.applib.services.tablecol.TablePagingService;
 import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.commons.internal.base._NullSafe;
+import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.binding._BindableAbstract;
 import org.apache.causeway.commons.internal.binding._Bindables;
 import org.apache.causeway.commons.internal.binding._Observables;
@@ -86,15 +94,49 @@ public static DataTableModel forAction(
         if(actionResult==null) {
             new DataTableModel(managedAction, managedAction.getWhere(), Can::empty);
         }
+        val elements = elementsOf(actionResult);
+
+        return new DataTableModel(managedAction, managedAction.getWhere(),
+                ()->elements, args);
+    }
+
+    /**
+     * Optionally, the table of a safe action's non-scalar result, based on whether a {@link TablePagingService}
+     * provides a {@link PagedQuery} for it, in which case the action is not invoked:
+     * just the visible page plus the count are fetched via the {@link PagedQuery}.
+     * <p>
+     * The action's rules are checked as if it was invoked. Should the table stop being {@link #isPaged() paged}
+     * (eg. once a {@link #getSearchArgument() search argument} is set), the action is invoked on demand.
+     * <p>
+     * Actions that are not safe are never skipped, as their side effects are expected.
+     * @throws org.apache.causeway.core.metamodel.spec.feature.ObjectMember.AuthorizationException
+     *      if the action is hidden or disabled
+     * @throws org.apache.causeway.applib.exceptions.RecoverableException if the arguments are not valid
+     */
+    public static Optional<DataTableModel> forActionIfPaged(
+            final ManagedAction managedAction,
+            final Can<ManagedObject> args) {
+
+        if(!managedAction.getAction().getSemantics().isSafeInNature()) {
+            return Optional.empty();
+        }
+        val table = new DataTableModel(managedAction, managedAction.getWhere(), ()->
+            elementsOf(managedAction.invokeWithRuleChecking(args)),
+            args);
+        if(!table.isPaged()) {
+            return Optional.empty();
+        }
+        managedAction.checkRules(args);
+        return Optional.of(table);
+    }
+
+    private static Can<ManagedObject> elementsOf(final ManagedObject actionResult) {
         if(!(actionResult instanceof PackedManagedObject)) {
             throw _Exceptions.unexpectedCodeReach();
         }
-
         val elements = ((PackedManagedObject)actionResult).unpack();
         elements.forEach(ManagedObject::getBookmark);
-
-        return new DataTableModel(managedAction, managedAction.getWhere(),
-                ()->elements);
+        return elements;
     }
 
     // -- CONSTRUCTION
@@ -112,14 +154,36 @@ public static DataTableModel forAction(
     @Getter private final @NonNull LazyObservable<Can<DataColumn>> dataColumns;
     @Getter private final @NonNull LazyObservable<String> title;
 
+    // the action's arguments, if any, in support of the TablePagingService
+    private final @NonNull Can<ManagedObject> args;
+    private final @NonNull _Lazy<Optional<PagedQuery<?>>> pagedQuery;
+    // memoized until invalidated, as is potentially expensive
+    private final @NonNull _Lazy<Long> pagedElementCount;
+    // rows fetched page by page (if paged), keyed by bookmark, in support of row selection;
+    // holds the most recently fetched page, plus those rows of other pages, that were toggled by the user
+    private final Map<Object, DataRow> dataRowsPaged = _Maps.newConcurrentHashMap();
+    // whether all rows are selected (if paged), including those of pages not yet fetched
+    private final AtomicBoolean isAllSelectedWhenPaged = new AtomicBoolean();
+
     private DataTableModel(
             // we need access to the owner in support of imperative title and referenced column detection
             final ManagedMember managedMember,
             final Where where,
             final Supplier<Can<ManagedObject>> elementSupplier) {
+        this(managedMember, where, elementSupplier, Can.empty());
+    }
+
+    private DataTableModel(
+            final ManagedMember managedMember,
+            final Where where,
+            final Supplier<Can<ManagedObject>> elementSupplier,
+            final Can<ManagedObject> args) {
 
         this.managedMember = managedMember;
         this.where = where;
+        this.args = args;
+        this.pagedQuery = _Lazy.threadSafe(this::lookupPagedQuery);
+        this.pagedElementCount = _Lazy.threadSafe(()->pagedQuery.get().map(PagedQuery::count).orElse(0L));
 
         //dataElements = _Observables.lazy(elementSupplier);
         dataElements = _Observables.lazy(()->elementSupplier.get().map(e->
@@ -137,7 +201,10 @@ private DataTableModel(
                 .collect(Can.toCan()));
 
         dataRowsSelected = _Observables.lazy(()->
-            dataRowsFiltered.getValue().stream()
+            (isPaged() && isAllSelectedWhenPaged.get()
+                    ? dataRowsAllWhenPaged()
+                    : dataRowsForSelection())
+            .stream()
             .filter(dataRow->dataRow.getSelectToggle().getValue().booleanValue())
             .collect(Can.toCan()));
 
@@ -147,10 +214,11 @@ private DataTableModel(
             if(isClearToggleAllEvent.get()) {
                 return;
             }
+            isAllSelectedWhenPaged.set(isAllOn);
             dataRowsSelected.invalidate();
             try {
                 isToggleAllEvent.set(true);
-                dataRowsFiltered.getValue().forEach(dataRow->dataRow.getSelectToggle().setValue(isAllOn));
+                dataRowsForSelection().forEach(dataRow->dataRow.getSelectToggle().setValue(isAllOn));
             } finally {
                 isToggleAllEvent.set(false);
             }
@@ -184,9 +252,22 @@ public Optional<TableDecorator> getTableDecoratorIfAny() {
 
     /**
      * Count filtered data rows.
+     * <p>
+     * If {@link #isPaged() paged}, instead the count as provided by the {@link PagedQuery},
+     * which is memoized until {@link #invalidatePagedElementCount()}.
      */
     public int getElementCount() {
-        return dataRowsFiltered.getValue().size();
+        return isPaged()
+                ? (int)Math.min(pagedElementCount.get(), Integer.MAX_VALUE)
+                : dataRowsFiltered.getValue().size();
+    }
+
+    /**
+     * Discards the memoized count of a {@link #isPaged() paged} table, such that it is re-queried on next access,
+     * eg. at the end of each request.
+     */
+    public void invalidatePagedElementCount() {
+        pagedElementCount.clear();
     }
 
     public ObjectMember getMetaModel() {
@@ -199,12 +280,138 @@ public ObjectSpecification getElementType() {
 
     private final Map<UUID, Optional<DataRow>> dataRowByUuidLookupCache = _Maps.newConcurrentHashMap();
     public Optional<DataRow> lookupDataRow(final @NonNull UUID uuid) {
+        if(isPaged()) {
+            // don't fall back to loading all elements
+            return dataRowsPaged.values().stream()
+                    .filter(dr->dr.getUuid().equals(uuid))
+                    .findFirst();
+        }
         // lookup can be safely cached
         return dataRowByUuidLookupCache.computeIfAbsent(uuid, __->getDataRowsFiltered().getValue().stream()
                 .filter(dr->dr.getUuid().equals(uuid))
                 .findFirst());
     }
 
+    // -- PAGING
+
+    /**
+     * Whether a {@link TablePagingService} provides a {@link PagedQuery} for this table,
+     * in which case rows should be fetched using {@link #getDataRowsPage(QueryRange, String, boolean)}
+     * rather than {@link #getDataRowsFiltered()}.
+     * <p>
+     * Paging is disabled while a {@link #getSearchArgument() search argument} is set, as the {@link PagedQuery}
+     * cannot filter by it.
+     */
+    public boolean isPaged() {
+        return pagedQuery.get().isPresent()
+                && _Strings.isEmpty(searchArgument.getValue());
+    }
+
+    /**
+     * Fetches just the data rows within given range, ordered by given property (if any),
+     * with both paging and sorting delegated to the {@link PagedQuery}.
+     * <p>
+     * Rows not visible to the user are skipped, hence a page might contain fewer rows than requested.
+     * <p>
+     * Rows of previously fetched pages are discarded, unless their selection was toggled by the user.
+     * @param range - the page window
+     * @param sortPropertyId - the id of the property to sort by, or <code>null</code>
+     * @param ascending - sort direction, ignored if there is no sort property
+     * @throws IllegalStateException if not {@link #isPaged() paged}
+     */
+    public Can<DataRow> getDataRowsPage(
+            final @NonNull QueryRange range,
+            final @Nullable String sortPropertyId,
+            final boolean ascending) {
+        if(!isPaged()) {
+            throw _Exceptions.illegalState("table %s is not paged", managedMember.getIdentifier());
+        }
+        val isAllSelected = isAllSelectedWhenPaged.get();
+        val dataRows = fetchDataRows(range, sortPropertyId, ascending);
+        // rows in their default selection state, need not be retained
+        dataRowsPaged.values().removeIf(dataRow->dataRow.getSelectToggle().getValue().booleanValue()==isAllSelected);
+        dataRows.forEach(dataRow->dataRowsPaged.put(keyOf(dataRow.getRowElement()), dataRow));
+        return dataRows;
+    }
+
+    /**
+     * Rows not yet fetched, inherit their selection state from the most recent toggle-all,
+     * while rows already fetched (and toggled since) retain their selection state.
+     */
+    private Can<DataRow> fetchDataRows(
+            final @NonNull QueryRange range,
+            final @Nullable String sortPropertyId,
+            final boolean ascending) {
+        val query = pagedQuery.get().orElseThrow()
+                .queryFor(range, sortPropertyId, ascending);
+        val mmc = managedMember.getMetaModel().getMetaModelContext();
+        val objectManager = mmc.getObjectManager();
+        val serviceInjector = mmc.getServiceInjector();
+        val isAllSelected = isAllSelectedWhenPaged.get();
+        return mmc.getRepositoryService().allMatches(query).stream()
+                .map(objectManager::adapt)
+                .map(serviceInjector::injectServicesInto)
+                .filter(this::ignoreHidden)
+                .map(domainObject->newDataRow(domainObject,
+                        Optional.ofNullable(dataRowsPaged.get(keyOf(domainObject)))
+                            .map(previous->previous.getSelectToggle().getValue().booleanValue())
+                            .orElse(isAllSelected)))
+                .collect(Can.toCan());
+    }
+
+    /**
+     * All data rows of a paged table, as required when all are selected.
+     */
+    private Can<DataRow> dataRowsAllWhenPaged() {
+        return fetchDataRows(QueryRange.unconstrained(), null, true);
+    }
+
+    private DataRow newDataRow(final ManagedObject domainObject, final boolean selected) {
+        val dataRow = new DataRow(this, domainObject);
+        if(selected) {
+            try {
+                isToggleAllEvent.set(true); // don't clear the toggle-all
+                dataRow.getSelectToggle().setValue(true);
+            } finally {
+                isToggleAllEvent.set(false);
+            }
+        }
+        return dataRow;
+    }
+
+    private static Object keyOf(final ManagedObject domainObject) {
+        return domainObject.getBookmark()
+                .<Object>map(bookmark->bookmark)
+                .orElseGet(UUID::randomUUID);
+    }
+
+    private Optional<PagedQuery<?>> lookupPagedQuery() {
+        val serviceRegistry = managedMember.getMetaModel().getMetaModelContext().getServiceRegistry();
+        val tablePagingServices = serviceRegistry.select(TablePagingService.class);
+        if(tablePagingServices.isEmpty()) {
+            return Optional.empty();
+        }
+        val owner = managedMember.getOwner().getPojo();
+        val memberId = managedMember.getIdentifier().getMemberLogicalName();
+        val elementType = getElementType().getCorrespondingClass();
+        final List<Object> argPojos = args.stream()
+                .map(ManagedObject::getPojo) // preserves nulls
+                .collect(Collectors.toList());
+        return tablePagingServices.stream()
+                .<PagedQuery<?>>map(tablePagingService->
+                    managedMember.getMemberType().isAction()
+                    ? tablePagingService.pagedStandalone(owner, memberId, argPojos, elementType)
+                    : tablePagingService.pagedParented(owner, memberId, elementType))
+                .filter(_NullSafe::isPresent)
+                .findFirst();
+    }
+
+    private Can<DataRow> dataRowsForSelection() {
+        return isPaged()
+                ? Can.ofCollection(dataRowsPaged.values())
+                : dataRowsFiltered.getValue();
+    }
+
     // -- TOGGLE ALL
 
     final AtomicBoolean isToggleAllEvent = new AtomicBoolean();
@@ -316,10 +523,12 @@ public DataTableModel getDataTableModel(final ManagedObject owner) {
             val actionInteraction = ActionInteraction.start(owner, memberId, where);
             val managedAction = actionInteraction.getManagedActionElseFail();
             val args = argsMemento.getArgumentList(managedAction.getMetaModel());
-            // invocation bypassing domain events (pass-through)
-            val actionResult = managedAction.invoke(args, InteractionInitiatedBy.PASS_THROUGH)
-                    .getSuccessElseFail();
-            return forAction(managedAction, args, actionResult);
+            // invocation bypassing domain events (pass-through),
+            // deferred until the elements are required, that is, never if paged
+            return new DataTableModel(managedAction, managedAction.getWhere(), ()->
+                elementsOf(managedAction.invoke(args, InteractionInitiatedBy.PASS_THROUGH)
+                    .getSuccessElseFail()),
+                args);
         }
     }
 
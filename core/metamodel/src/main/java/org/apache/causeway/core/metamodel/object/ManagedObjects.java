@@ -426,6 +426,35 @@ public static Try<String> imperativeText(
         return result;
     }
 
+    // -- SNAPSHOT
+
+    /**
+     * Returns given object in a form, that retains its current identity, even if its state changes later.
+     * <p>
+     * That is, view models are detached from their current state by memoizing their bookmark now
+     * (as their bookmark encodes their state),
+     * and non-scalars are snapshotted element-wise.
+     * Values and entities are returned as is: value pojos are immutable
+     * and an entity's identity does not change with its state.
+     */
+    public static ManagedObject snapshot(final @Nullable ManagedObject managedObject) {
+        if(isNullOrUnspecifiedOrEmpty(managedObject)) {
+            return managedObject;
+        }
+        if(managedObject instanceof PackedManagedObject) {
+            return ManagedObject.packed(
+                    managedObject.getSpecification(),
+                    ((PackedManagedObject)managedObject).unpack().map(ManagedObjects::snapshot));
+        }
+        if(!managedObject.getSpecialization().isViewmodel()) {
+            return managedObject;
+        }
+        // a view model's memoized bookmark may be invalidated once its state changes, so detach from it
+        return bookmark(managedObject)
+                .map(bookmark->ManagedObject.bookmarked(managedObject.getSpecification(), managedObject.getPojo(), bookmark))
+                .orElse(managedObject);
+    }
+
     // -- VIEWMODEL UTILITIES
 
     public static void refreshViewmodel(
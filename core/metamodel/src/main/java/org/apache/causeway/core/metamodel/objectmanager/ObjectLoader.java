@@ -18,10 +18,15 @@
  */
 package org.apache.causeway.core.metamodel.objectmanager;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.handler.ChainOfResponsibility;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
@@ -30,6 +35,7 @@
 import org.apache.causeway.core.metamodel.facets.object.value.ValueSerializer.Format;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ProtoObject;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
 import lombok.NonNull;
 import lombok.val;
@@ -41,6 +47,18 @@ public interface ObjectLoader {
 
     ManagedObject loadObject(@NonNull ProtoObject objectLoadRequest);
 
+    /**
+     * Loads the objects for given requests, preserving their order.
+     * <p>
+     * Each element is what {@link #loadObject(ProtoObject)} would return for the corresponding request.
+     *
+     * @implNote the default implementation loads one by one,
+     *      whereas the default {@link ObjectLoader} fetches entities in bulk per entity type
+     */
+    default Can<ManagedObject> loadObjects(final @NonNull Can<ProtoObject> objectLoadRequests) {
+        return objectLoadRequests.map(this::loadObject);
+    }
+
     // -- HANDLER
 
     static interface Handler
@@ -51,11 +69,53 @@ public interface ObjectLoader {
     // -- FACTORY
 
     public static ObjectLoader createDefault(final MetaModelContext mmc) {
-        return request ->
-            ChainOfResponsibility.named(
-                    "ObjectLoader",
-                    handlers)
-                .handle(Objects.requireNonNull(request));
+        return new ObjectLoader() {
+
+            @Override
+            public ManagedObject loadObject(final @NonNull ProtoObject objectLoadRequest) {
+                return ChainOfResponsibility.named(
+                        "ObjectLoader",
+                        handlers)
+                    .handle(Objects.requireNonNull(objectLoadRequest));
+            }
+
+            @Override
+            public Can<ManagedObject> loadObjects(final @NonNull Can<ProtoObject> objectLoadRequests) {
+
+                // only requests, that the chain would pass on to LoadEntity, are fetched in bulk
+                final Map<ObjectSpecification, List<Bookmark>> entityBookmarksBySpec = new LinkedHashMap<>();
+                objectLoadRequests.forEach(request->{
+                    val handler = handlers.stream()
+                            .filter(h->h.isHandling(request))
+                            .findFirst()
+                            .orElse(null);
+                    if(handler==BuiltinHandlers.LoadEntity) {
+                        entityBookmarksBySpec
+                            .computeIfAbsent(request.getObjectSpecification(), __->new ArrayList<>())
+                            .add(request.getBookmark());
+                    }
+                });
+
+                final Map<ProtoObject, ManagedObject> entitiesByRequest = new HashMap<>();
+                entityBookmarksBySpec.forEach((spec, bookmarks)->{
+                    if(bookmarks.size()<2) {
+                        return; // nothing to gain, leave it to the regular lookup
+                    }
+                    val entityPojosByBookmark = spec.entityFacetElseFail()
+                            .fetchByBookmarks(Can.ofCollection(bookmarks));
+                    bookmarks.forEach(bookmark->
+                        entitiesByRequest.put(
+                                ProtoObject.of(spec, bookmark),
+                                BuiltinHandlers.entityElseEmpty(spec, bookmark,
+                                        Optional.ofNullable(entityPojosByBookmark.get(bookmark)))));
+                });
+
+                return objectLoadRequests.map(request->
+                    Optional.ofNullable(entitiesByRequest.get(request))
+                        .orElseGet(()->loadObject(request)));
+            }
+
+        };
     }
 
     // -- HANDLERS
@@ -130,9 +190,7 @@ public ManagedObject handle(final ProtoObject objectLoadRequest) {
                 val bookmark = objectLoadRequest.getBookmark();
                 val entityPojoIfAny = entityFacet.fetchByBookmark(bookmark);
 
-                return entityPojoIfAny
-                        .map(entityPojo->ManagedObject.entity(spec, entityPojo, Optional.of(bookmark)))
-                        .orElseGet(()->ManagedObject.empty(spec));
+                return entityElseEmpty(spec, bookmark, entityPojoIfAny);
             }
         },
         LoadOther{
@@ -149,6 +207,18 @@ public ManagedObject handle(final ProtoObject objectLoadRequest) {
             }
         },
         ;
+
+        /**
+         * An entity that could not be found is recovered as empty (does not fail).
+         */
+        static ManagedObject entityElseEmpty(
+                final ObjectSpecification spec,
+                final Bookmark bookmark,
+                final Optional<Object> entityPojoIfAny) {
+            return entityPojoIfAny
+                    .map(entityPojo->ManagedObject.entity(spec, entityPojo, Optional.of(bookmark)))
+                    .orElseGet(()->ManagedObject.empty(spec));
+        }
     }
 
 }
@@ -126,6 +126,31 @@ default ManagedObject loadObjectElseFail(final @NonNull Bookmark bookmark) {
         return adapter;
     }
 
+    /**
+     * Bulk variant of {@link #loadObjectElseFail(Bookmark)}, preserving the order of given {@code bookmarks}.
+     * <p>
+     * Same as calling {@link #loadObjectElseFail(Bookmark)} per bookmark, except that entities are fetched
+     * in bulk per entity type. In particular, an entity that cannot be found is recovered as empty,
+     * while a bookmark, that cannot be resolved to an {@link ObjectSpecification}, fails.
+     *
+     * @see ObjectLoader#loadObjects(Can)
+     */
+    default Can<ManagedObject> loadObjectsElseFail(final @NonNull Can<Bookmark> bookmarks) {
+        val specLoader = getMetaModelContext().getSpecificationLoader();
+        val objectLoadRequests = bookmarks.map(bookmark->
+            ProtoObject.resolve(specLoader, bookmark)
+                .orElseThrow(()->
+                    _Exceptions.unrecoverable("failed to restore object from bookmark %s", bookmark)));
+        val adapters = getObjectLoader().loadObjects(objectLoadRequests);
+        adapters.zip(bookmarks, (adapter, bookmark)->{
+            if(adapter.getSpecialization().isEntity()) {
+                _Assert.assertEquals(bookmark, adapter.getBookmark().orElse(null),
+                        ()->"object loaded from bookmark must itself return an equal bookmark");
+            }
+        });
+        return adapters;
+    }
+
     /**
      * Resolves injection-points for the result. (Handles service injection.)
      */
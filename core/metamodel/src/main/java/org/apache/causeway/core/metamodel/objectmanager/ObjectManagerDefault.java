@@ -18,6 +18,10 @@
  */
 package org.apache.causeway.core.metamodel.objectmanager;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import javax.annotation.PostConstruct;
 import javax.annotation.Priority;
 import javax.inject.Inject;
@@ -28,6 +32,7 @@
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
@@ -37,6 +42,7 @@
 import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoCollection;
 import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoForEmpty;
 import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoForScalar;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -92,9 +98,7 @@ public ManagedObject demementify(final @Nullable ObjectMemento memento) {
              * as the latter can be ambiguous, when shared in a type hierarchy*/
             val elementSpec = getSpecificationLoader().specForLogicalTypeElseFail(logicalType);
 
-            val objects = objectMementoCollection.unwrapList().stream()
-                    .map(this::demementify)
-                    .collect(Can.toCan());
+            val objects = demementifyAll(objectMementoCollection.unwrapList());
 
             return ManagedObject.packed(elementSpec, objects);
         }
@@ -108,6 +112,53 @@ public ManagedObject demementify(final @Nullable ObjectMemento memento) {
     }
 
 
+    // -- HELPER
+
+    /**
+     * Entity mementos are recovered via {@link #loadObjectsElseFail(Can)}, that is, same as when recreated one by one,
+     * except that entities are fetched in bulk per entity type. Preserves the order of given mementos.
+     */
+    private Can<ManagedObject> demementifyAll(final List<ObjectMemento> mementos) {
+
+        final List<Integer> entityIndexes = new ArrayList<>();
+        final List<Bookmark> entityBookmarks = new ArrayList<>();
+        for(int i = 0; i < mementos.size(); i++) {
+            val memento = mementos.get(i);
+            if(isEntityLookup(memento)) {
+                entityIndexes.add(i);
+                entityBookmarks.add(memento.getBookmark());
+            }
+        }
+
+        if(entityBookmarks.size()<2) {
+            return mementos.stream()
+                    .map(this::demementify)
+                    .collect(Can.toCan());
+        }
+
+        final List<ManagedObject> objects = new ArrayList<>(Collections.nCopies(mementos.size(), null));
+        loadObjectsElseFail(Can.ofCollection(entityBookmarks))
+            .zip(entityIndexes, (entity, index)->objects.set(index, entity));
+        for(int i = 0; i < mementos.size(); i++) {
+            if(objects.get(i)==null) {
+                objects.set(i, demementify(mementos.get(i)));
+            }
+        }
+        return Can.ofCollection(objects);
+    }
+
+    /**
+     * Whether given memento would be recreated by an entity lookup via {@link #loadObjectElseFail(Bookmark)}.
+     */
+    private boolean isEntityLookup(final @Nullable ObjectMemento memento) {
+        if(!(memento instanceof ObjectMementoForScalar)) {
+            return false;
+        }
+        return getSpecificationLoader().specForLogicalType(memento.getLogicalType())
+                .map(ObjectSpecification::isEntity)
+                .orElse(false);
+    }
+
     // JUnit support
     public static ObjectManager forTesting(final MetaModelContext metaModelContext) {
         val objectManager = new ObjectManagerDefault(metaModelContext);
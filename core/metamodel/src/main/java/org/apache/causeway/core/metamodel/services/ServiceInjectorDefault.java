@@ -18,6 +18,9 @@
  */
 package org.apache.causeway.core.metamodel.services;
 
+import java.util.Map;
+import java.util.Optional;
+
 import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -29,6 +32,7 @@
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.inject.ServiceInjector;
+import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 
@@ -37,6 +41,8 @@
 import lombok.val;
 
 /**
+ * Injects services into domain objects (entities, view models, mixins, etc.), using a per class
+ * injection plan (see {@link _InjectionPlan}), such that injection points are resolved only once per class.
  *
  * @since 2.0
  *
@@ -52,6 +58,11 @@ public class ServiceInjectorDefault implements ServiceInjector {
 
     private final AutowireCapableBeanFactory autowireCapableBeanFactory;
 
+    /**
+     * An empty {@link Optional} for classes that are left to Spring.
+     */
+    private final Map<Class<?>, Optional<_InjectionPlan>> injectionPlansByClass = _Maps.newConcurrentHashMap();
+
     @Override
     public <T> T injectServicesInto(final @Nullable T domainObject) {
 
@@ -72,6 +83,15 @@ public <T> T injectServicesInto(final @Nullable T domainObject) {
     }
 
     private <T> void injectInto(final @NonNull T domainObject) {
+        val injectionPlan = injectionPlansByClass.computeIfAbsent(domainObject.getClass(),
+                cls->Optional.ofNullable(_InjectionPlan.create(cls, autowireCapableBeanFactory)))
+                .orElse(null);
+        if(injectionPlan!=null) {
+            if(!injectionPlan.isNoop()) {
+                injectionPlan.injectInto(domainObject);
+            }
+            return;
+        }
         autowireCapableBeanFactory.autowireBeanProperties(
                 domainObject,
                 AutowireCapableBeanFactory.AUTOWIRE_NO,
@@ -0,0 +1,254 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import javax.inject.Inject;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._NullSafe;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Per class injection plan, as used by {@link ServiceInjectorDefault}, with the injection points (fields and
+ * methods annotated with {@link Inject @Inject} or {@link Autowired @Autowired}) resolved only once.
+ * <p>
+ * Dependencies are still resolved via the {@link AutowireCapableBeanFactory} (so honoring qualifiers,
+ * {@link java.util.Optional}, {@link javax.inject.Provider} etc.), but using pre-built {@link DependencyDescriptor}s;
+ * those resolving to a singleton bean are remembered. Values are assigned via {@link MethodHandle}s.
+ * <p>
+ * Classes using any other injection annotation (such as {@code @Value} or {@code @Resource}) are not planned,
+ * but left to Spring's {@link AutowireCapableBeanFactory#autowireBeanProperties(Object, int, boolean)}.
+ */
+@RequiredArgsConstructor
+@Log4j2
+final class _InjectionPlan {
+
+    /**
+     * Names of injection annotations, for which we delegate to Spring, rather than resolving ourselves.
+     */
+    private static final Set<String> UNPLANNED_ANNOTATION_NAMES = Set.of(
+            "org.springframework.beans.factory.annotation.Value",
+            "javax.annotation.Resource",
+            "jakarta.annotation.Resource",
+            "jakarta.inject.Inject",
+            "javax.persistence.PersistenceContext",
+            "javax.persistence.PersistenceUnit");
+
+    private static final _InjectionPlan NOOP = new _InjectionPlan(Can.empty());
+
+    private final @NonNull Can<InjectionPoint> injectionPoints;
+
+    /**
+     * @return {@code null} if the class uses injection annotations that are not planned,
+     * to be left to Spring instead
+     */
+    static _InjectionPlan create(
+            final @NonNull Class<?> cls,
+            final @NonNull AutowireCapableBeanFactory beanFactory) {
+
+        val hierarchy = new ArrayList<Class<?>>();
+        for(Class<?> c = cls; c != null && c != Object.class; c = c.getSuperclass()) {
+            hierarchy.add(0, c); // superclass first, as does Spring
+        }
+
+        val injectionPoints = new ArrayList<InjectionPoint>();
+        try {
+            for(val c : hierarchy) {
+                for(val field : c.getDeclaredFields()) {
+                    if(isUnplanned(field)) {
+                        return null;
+                    }
+                    val required = requiredIfInjectionPoint(field);
+                    if(required==null
+                            || Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    injectionPoints.add(new FieldInjectionPoint(beanFactory,
+                            descriptor(new DependencyDescriptor(field, required), cls),
+                            MethodHandles.lookup().unreflectSetter(field)));
+                }
+                for(val method : c.getDeclaredMethods()) {
+                    if(isUnplanned(method)) {
+                        return null;
+                    }
+                    val required = requiredIfInjectionPoint(method);
+                    if(required==null
+                            || method.isBridge()
+                            || Modifier.isStatic(method.getModifiers())
+                            || !method.equals(ClassUtils.getMostSpecificMethod(method, cls))) {
+                        continue;
+                    }
+                    method.setAccessible(true);
+                    val paramDescriptors = new ArrayList<InjectionPoint.Dependency>(method.getParameterCount());
+                    for (int i = 0; i < method.getParameterCount(); i++) {
+                        paramDescriptors.add(new InjectionPoint.Dependency(beanFactory,
+                                descriptor(new DependencyDescriptor(new MethodParameter(method, i), required), cls)));
+                    }
+                    injectionPoints.add(new MethodInjectionPoint(
+                            Can.ofCollection(paramDescriptors),
+                            MethodHandles.lookup().unreflect(method)));
+                }
+            }
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.warn("cannot plan injection into {}, falling back to Spring", cls.getName(), e);
+            return null;
+        }
+
+        return injectionPoints.isEmpty()
+                ? NOOP
+                : new _InjectionPlan(Can.ofCollection(injectionPoints));
+    }
+
+    boolean isNoop() {
+        return injectionPoints.isEmpty();
+    }
+
+    void injectInto(final @NonNull Object target) {
+        injectionPoints.forEach(injectionPoint->injectionPoint.injectInto(target));
+    }
+
+    // -- INJECTION POINTS
+
+    private static interface InjectionPoint {
+
+        void injectInto(Object target);
+
+        /**
+         * A dependency as resolved via the {@link AutowireCapableBeanFactory}, remembered if a singleton bean.
+         */
+        @RequiredArgsConstructor
+        static final class Dependency {
+            private final AutowireCapableBeanFactory beanFactory;
+            private final DependencyDescriptor descriptor;
+            private volatile Object singleton;
+
+            Object resolve() {
+                val cached = singleton;
+                if(cached!=null) {
+                    return cached;
+                }
+                val beanNames = new LinkedHashSet<String>(2);
+                val value = beanFactory.resolveDependency(descriptor, null, beanNames, null);
+                if(value!=null
+                        && beanNames.size()==1) {
+                    val beanName = beanNames.iterator().next();
+                    if(beanFactory.isSingleton(beanName)
+                            && beanFactory.getBean(beanName) == value) {
+                        this.singleton = value;
+                    }
+                }
+                return value;
+            }
+        }
+    }
+
+    private static final class FieldInjectionPoint implements InjectionPoint {
+        private final Dependency dependency;
+        private final MethodHandle setter;
+
+        FieldInjectionPoint(
+                final AutowireCapableBeanFactory beanFactory,
+                final DependencyDescriptor descriptor,
+                final MethodHandle setter) {
+            this.dependency = new Dependency(beanFactory, descriptor);
+            this.setter = setter;
+        }
+
+        @SneakyThrows
+        @Override
+        public void injectInto(final Object target) {
+            val value = dependency.resolve();
+            if(value!=null) {
+                setter.invoke(target, value);
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class MethodInjectionPoint implements InjectionPoint {
+        private final Can<Dependency> dependencies;
+        private final MethodHandle method;
+
+        @SneakyThrows
+        @Override
+        public void injectInto(final Object target) {
+            val args = new Object[dependencies.size() + 1];
+            args[0] = target;
+            int i = 1;
+            for(val dependency : dependencies) {
+                val value = dependency.resolve();
+                if(value==null) {
+                    return; // as does Spring, if a non-required dependency cannot be resolved
+                }
+                args[i++] = value;
+            }
+            method.invokeWithArguments(args);
+        }
+    }
+
+    // -- HELPER
+
+    private static DependencyDescriptor descriptor(final DependencyDescriptor descriptor, final Class<?> cls) {
+        descriptor.setContainingClass(cls);
+        return descriptor;
+    }
+
+    /**
+     * @return {@code null} if not an injection point, otherwise whether required
+     */
+    private static Boolean requiredIfInjectionPoint(final AccessibleObject member) {
+        if(AnnotatedElementUtils.hasAnnotation(member, Inject.class)) {
+            return true;
+        }
+        val autowired = AnnotatedElementUtils.findMergedAnnotation(member, Autowired.class);
+        return autowired!=null
+                ? autowired.required()
+                : null;
+    }
+
+    private static boolean isUnplanned(final AccessibleObject member) {
+        return _NullSafe.stream(member.getAnnotations())
+                .map(Annotation::annotationType)
+                .map(Class::getName)
+                .anyMatch(UNPLANNED_ANNOTATION_NAMES::contains);
+    }
+
+}
@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.core.metamodel.services.ixn;
 
+import java.util.function.Supplier;
+
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.metamodel.interactions.InteractionHead;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
@@ -66,6 +68,21 @@ ActionInvocationDto asActionInvocationDto(
             InteractionHead head,
             Can<ManagedObject> argumentAdapters);
 
+    /**
+     * As per {@link #asActionInvocationDto(ObjectAction, InteractionHead, Can)}, but deferring the
+     * (comparatively expensive) construction of the {@link ActionInvocationDto} until it is first requested.
+     *
+     * <p>
+     *     The execution sequence, target and current user are captured immediately, as are the arguments'
+     *     identities and view model state (see {@link org.apache.causeway.core.metamodel.object.ManagedObjects#snapshot});
+     *     only the marshalling of the arguments is deferred.
+     * </p>
+     */
+    Supplier<ActionInvocationDto> asActionInvocationDtoSupplier(
+            ObjectAction objectAction,
+            InteractionHead head,
+            Can<ManagedObject> argumentAdapters);
+
     /**
      * Called by the framework when editing a property, to create an
      * {@link PropertyEditDto} capturing the details of the action
@@ -86,6 +103,14 @@ PropertyEditDto asPropertyEditDto(
             OneToOneAssociation property,
             InteractionHead interactionHead, ManagedObject newValueAdapterIfAny);
 
+    /**
+     * As per {@link #asPropertyEditDto(OneToOneAssociation, InteractionHead, ManagedObject)}, but deferring the
+     * construction of the {@link PropertyEditDto} until it is first requested.
+     */
+    Supplier<PropertyEditDto> asPropertyEditDtoSupplier(
+            OneToOneAssociation property,
+            InteractionHead interactionHead, ManagedObject newValueAdapterIfAny);
+
     /**
      * Called by the framework to attach the result of an action invocation
      * to the aforementioned {@link ActionInvocationDto}.
@@ -19,6 +19,7 @@
 package org.apache.causeway.core.metamodel.services.objectlifecycle;
 
 import java.sql.Timestamp;
+import java.util.function.Consumer;
 
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.causeway.applib.services.xactn.TransactionId;
@@ -28,4 +29,18 @@ public interface HasEnlistedEntityPropertyChanges {
 
     Can<EntityPropertyChange> getPropertyChanges(Timestamp timestamp, String user, TransactionId txId);
 
+    /**
+     * Passes the property changes to given {@code chunkConsumer}, in one or more chunks, allowing implementations
+     * to not have to hold all of them in memory at once. Called at least once, possibly with an empty chunk.
+     * <p>
+     * By default, passes all of {@link #getPropertyChanges(Timestamp, String, TransactionId)} as a single chunk.
+     */
+    default void streamPropertyChanges(
+            final Timestamp timestamp,
+            final String user,
+            final TransactionId txId,
+            final Consumer<Can<EntityPropertyChange>> chunkConsumer) {
+        chunkConsumer.accept(getPropertyChanges(timestamp, user, txId));
+    }
+
 }
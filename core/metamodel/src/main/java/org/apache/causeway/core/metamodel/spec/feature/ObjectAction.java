@@ -28,6 +28,7 @@
 import org.apache.causeway.applib.annotation.PromptStyle;
 import org.apache.causeway.applib.annotation.SemanticsOf;
 import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.exceptions.RecoverableException;
 import org.apache.causeway.applib.value.Blob;
 import org.apache.causeway.applib.value.Clob;
 import org.apache.causeway.commons.collections.Can;
@@ -109,6 +110,40 @@ ManagedObject executeWithRuleChecking(
             InteractionInitiatedBy interactionInitiatedBy,
             Where where) throws AuthorizationException;
 
+    /**
+     * Checks the visibility, usability and validity as {@link #executeWithRuleChecking} does,
+     * without invoking the action.
+     * @throws HiddenException
+     * @throws DisabledException
+     * @throws RecoverableException if the arguments are not valid
+     */
+    default void checkRules(
+            final InteractionHead head,
+            final Can<ManagedObject> parameters,
+            final InteractionInitiatedBy interactionInitiatedBy,
+            final Where where) throws AuthorizationException {
+
+        val target = head.getOwner();
+
+        // see it?
+        final Consent visibility = isVisible(target, interactionInitiatedBy, where);
+        if (visibility.isVetoed()) {
+            throw new HiddenException();
+        }
+
+        // use it?
+        final Consent usability = isUsable(target, interactionInitiatedBy, where);
+        if(usability.isVetoed()) {
+            throw new DisabledException(usability.getReasonAsString().orElse("no reason given"));
+        }
+
+        // do it?
+        final Consent validity = isArgumentSetValid(head, parameters, interactionInitiatedBy);
+        if(validity.isVetoed()) {
+            throw new RecoverableException(validity.getReasonAsString().orElse("no reason given"));
+        }
+    }
+
     /**
      * Invokes the action's method on the target object given the specified set
      * of parameters.
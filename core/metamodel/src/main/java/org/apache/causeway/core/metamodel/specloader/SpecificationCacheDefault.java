@@ -20,49 +20,54 @@
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.commons.collections.Can;
-import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.collections.snapshot._VersionedList;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
 import lombok.NonNull;
 import lombok.val;
 
-
+/**
+ * Read-optimized cache: lookups of already cached specifications are served from a
+ * {@link ConcurrentHashMap} without any locking, while the slow path (adding, removing,
+ * clearing) is serialized on {@code this}.
+ * <p>
+ * The slow path must not use {@link ConcurrentHashMap#computeIfAbsent(Object, Function)},
+ * as the mapping function might re-enter this cache (not supported by {@link ConcurrentHashMap}).
+ */
 class SpecificationCacheDefault<T extends ObjectSpecification> implements SpecificationCache<T> {
 
-    private final Map<Class<?>, T> specByClass = _Maps.newHashMap();
+    private final Map<Class<?>, T> specByClass = new ConcurrentHashMap<>();
 
     // optimization: specialized list to keep track of any additions to the cache fast
     private final _VersionedList<T> vList = new _VersionedList<>();
 
     @Override
     public Optional<T> lookup(final Class<?> cls) {
-        synchronized(this) {
-            return Optional.ofNullable(specByClass.get(cls));
-        }
+        return Optional.ofNullable(specByClass.get(cls));
     }
 
     @Override
     public T computeIfAbsent(
             final Class<?> cls,
             final Function<Class<?>, T> mappingFunction) {
+        // fast path, lock-free
+        val cached = specByClass.get(cls);
+        if(cached!=null) {
+            return cached;
+        }
+        // slow path
         synchronized(this) {
             T spec = specByClass.get(cls);
             if(spec==null) {
                 spec = mappingFunction.apply(cls);
                 internalPut(spec);
-
-//debug
-//                if(cls.getSimpleName().equals("MarkupStream")) {
-//                    System.out.println("!!! MarkupStream");
-//                }
-
             }
             return spec;
         }
@@ -78,9 +83,8 @@ public void clear() {
 
     @Override
     public Can<T> snapshotSpecs() {
-        synchronized(this) {
-            return Can.ofCollection(specByClass.values());
-        }
+        // weakly consistent iteration, safe without locking
+        return Can.ofCollection(specByClass.values());
     }
 
     @Override
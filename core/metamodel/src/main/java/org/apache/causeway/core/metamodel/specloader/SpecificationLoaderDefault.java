@@ -22,7 +22,9 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
@@ -55,6 +57,7 @@
 import org.apache.causeway.commons.internal.base._Timing;
 import org.apache.causeway.commons.internal.collections._Lists;
 import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.commons.internal.collections._Sets;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.beans.CausewayBeanMetaData;
@@ -65,9 +68,12 @@
 import org.apache.causeway.core.config.progmodel.ProgrammingModelConstants;
 import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
 import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel.PreloadableTypes;
+import org.apache.causeway.core.metamodel.commons.CanonicalInvoker;
 import org.apache.causeway.core.metamodel.commons.ClassUtil;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.core.metamodel.facetapi.Facet;
+import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
+import org.apache.causeway.core.metamodel.facets.ImperativeFacet;
 import org.apache.causeway.core.metamodel.progmodel.ProgrammingModel;
 import org.apache.causeway.core.metamodel.progmodel.ProgrammingModelService;
 import org.apache.causeway.core.metamodel.progmodels.dflt.ProgrammingModelFacetsJava11;
@@ -75,10 +81,13 @@
 import org.apache.causeway.core.metamodel.services.classsubstitutor.ClassSubstitutor.Substitution;
 import org.apache.causeway.core.metamodel.services.classsubstitutor.ClassSubstitutorRegistry;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.Hierarchical.Depth;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
 import org.apache.causeway.core.metamodel.specloader.facetprocessor.FacetProcessor;
 import org.apache.causeway.core.metamodel.specloader.postprocessor.PostProcessor;
 import org.apache.causeway.core.metamodel.specloader.specimpl.IntrospectionState;
+import org.apache.causeway.core.metamodel.specloader.specimpl.ObjectSpecificationAbstract;
 import org.apache.causeway.core.metamodel.specloader.specimpl.dflt.ObjectSpecificationDefault;
 import org.apache.causeway.core.metamodel.specloader.validator.ValidationFailure;
 import org.apache.causeway.core.metamodel.specloader.validator.ValidationFailures;
@@ -134,6 +143,8 @@
 
     private final SpecificationCache<ObjectSpecification> cache = new SpecificationCacheDefault<>();
     private final LogicalTypeResolver logicalTypeResolver = new LogicalTypeResolverDefault();
+    // declaring classes of the methods, this loader has prepared a CanonicalInvoker for
+    private final Set<Class<?>> classesWithPreparedInvokers = ConcurrentHashMap.newKeySet();
 
     /**
      * We only ever mark the meta-model as fully introspected if in {@link #isFullIntrospect() full}
@@ -328,6 +339,9 @@ public void createMetaModel() {
 
         if(isFullIntrospect()) {
             setMetamodelFullyIntrospected(true);
+            if(causewayConfiguration.getCore().getMetaModel().getIntrospector().isLockAfterFullIntrospection()) {
+                freezeFacets();
+            }
         }
     }
 
@@ -346,6 +360,8 @@ public void disposeMetaModel() {
         waitForValidationToFinish();
         logicalTypeResolver.clear();
         cache.clear();
+        CanonicalInvoker.clearPreparedInvokers(classesWithPreparedInvokers);
+        classesWithPreparedInvokers.clear();
         validationResult.clear();
         serviceRegistry.clearRegisteredBeans();
         log.info("Metamodel disposed.");
@@ -672,6 +688,51 @@ private void introspect(
         }
     }
 
+    /**
+     * Compiles all facet holders of the (locked down) metamodel into their immutable lookup tables,
+     * such that subsequent facet lookups are lock-free.
+     * Also prepares the method invokers of all imperative facets.
+     */
+    private void freezeFacets() {
+        val stopWatch = _Timing.now();
+        val prepareInvokers = causewayConfiguration.getCore().getMetaModel().getIntrospector().isCompileMethodInvokers();
+        forEach(spec->{
+            freeze(spec, prepareInvokers);
+            spec.streamDeclaredAssociations(MixedIn.INCLUDED)
+                .forEach(association->freeze(association, prepareInvokers));
+            spec.streamDeclaredActions(MixedIn.INCLUDED)
+                .forEach(action->{
+                    freeze(action, prepareInvokers);
+                    action.getParameters().forEach(param->freeze(param, prepareInvokers));
+                });
+        });
+        stopWatch.stop();
+        log.info(" - facets frozen in {} ms", stopWatch.getMillis());
+    }
+
+    private void freeze(final FacetHolder facetHolder, final boolean prepareInvokers) {
+        facetHolder.freeze();
+        if(prepareInvokers) {
+            facetHolder.streamFacets(ImperativeFacet.class)
+                .flatMap(imperativeFacet->imperativeFacet.getMethods().stream())
+                .map(CanonicalInvoker::prepare)
+                .forEach(classesWithPreparedInvokers::add);
+        }
+    }
+
+    private void removeSubclassesFromCache(
+            final @Nullable ObjectSpecification spec,
+            final Set<ObjectSpecification> visited) {
+        if(spec==null
+                || !visited.add(spec)) {
+            return;
+        }
+        spec.subclasses(Depth.DIRECT).forEach(subclass->{
+            cache.remove(subclass.getCorrespondingClass());
+            removeSubclassesFromCache(subclass, visited);
+        });
+    }
+
     private void invalidateCache(final Class<?> cls) {
 
         val substitute = classSubstitutorRegistry.getSubstitution(cls);
@@ -682,6 +743,13 @@ private void invalidateCache(final Class<?> cls) {
         ObjectSpecification spec =
                 loadSpecification(substitute.apply(cls), IntrospectionState.FULLY_INTROSPECTED);
 
+        if(spec instanceof ObjectSpecificationAbstract) {
+            // also drops the facets resolved by any of its subclasses or implementors
+            ((ObjectSpecificationAbstract) spec).invalidateCachedFacets();
+        }
+        // subclasses and implementors refer to the spec being replaced, so are reloaded (lazily) as well
+        removeSubclassesFromCache(spec, _Sets.newHashSet());
+
         while(spec != null) {
             val type = spec.getCorrespondingClass();
             cache.remove(type);
@@ -28,7 +28,6 @@
 import org.apache.causeway.applib.annotation.ActionLayout;
 import org.apache.causeway.applib.annotation.SemanticsOf;
 import org.apache.causeway.applib.annotation.Where;
-import org.apache.causeway.applib.exceptions.RecoverableException;
 import org.apache.causeway.applib.services.command.Command;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.collections.CanVector;
@@ -411,26 +410,7 @@ public ManagedObject executeWithRuleChecking(
             final InteractionInitiatedBy interactionInitiatedBy,
             final Where where) {
 
-        val target = head.getOwner();
-
-        // see it?
-        final Consent visibility = isVisible(target, interactionInitiatedBy, where);
-        if (visibility.isVetoed()) {
-            throw new HiddenException();
-        }
-
-        // use it?
-        final Consent usability = isUsable(target, interactionInitiatedBy, where);
-        if(usability.isVetoed()) {
-            throw new DisabledException(usability.getReasonAsString().orElse("no reason given"));
-        }
-
-        // do it?
-        final Consent validity = isArgumentSetValid(head, arguments, interactionInitiatedBy);
-        if(validity.isVetoed()) {
-            throw new RecoverableException(validity.getReasonAsString().orElse("no reason given"));
-        }
-
+        checkRules(head, arguments, interactionInitiatedBy, where);
         return execute(head, arguments, interactionInitiatedBy);
     }
 
@@ -19,7 +19,10 @@
 package org.apache.causeway.core.metamodel.specloader.specimpl;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -27,6 +30,7 @@
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
 
 import org.apache.causeway.applib.Identifier;
@@ -37,11 +41,13 @@
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.collections.ImmutableEnumSet;
 import org.apache.causeway.commons.internal.assertions._Assert;
+import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.base._Oneshot;
 import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.collections._Lists;
+import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.collections._Multimaps;
 import org.apache.causeway.commons.internal.collections._Multimaps.ListMultimap;
 import org.apache.causeway.commons.internal.collections._Sets;
@@ -92,6 +98,7 @@
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.NonNull;
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
@@ -146,6 +153,9 @@ public Can<ObjectSpecification> snapshot() {
     private final _Lazy<Can<ObjectAssociation>> unmodifiableAssociations =
             _Lazy.threadSafe(()->Can.ofCollection(associations));
 
+    // indexes associations by id; updated in replaceAssociations()
+    private volatile _MemberIdIndex<ObjectAssociation> associationsById = _MemberIdIndex.empty();
+
     // -- ACTIONS
 
     private final List<ObjectAction> objectActions = _Lists.newArrayList();
@@ -161,6 +171,10 @@ public Can<ObjectSpecification> snapshot() {
     private final ListMultimap<ActionScope, ObjectAction> objectActionsByType =
             _Multimaps.newConcurrentListMultimap();
 
+    // indexes objectActions by id, partitioned by type; updated in replaceActions()
+    private volatile Map<ActionScope, _MemberIdIndex<ObjectAction>> objectActionsByTypeAndId =
+            Collections.emptyMap();
+
     // -- INTERFACES
 
     private final List<ObjectSpecification> interfaces = _Lists.newArrayList();
@@ -195,6 +209,19 @@ public Can<ObjectSpecification> snapshot() {
 
     private IntrospectionState introspectionState = IntrospectionState.NOT_INTROSPECTED;
 
+    /**
+     * Effective facet per facet-type, taking interfaces and the superclass chain into account;
+     * resolved once by {@link #freeze()}, cleared by {@link #invalidateCachedFacets()}.
+     */
+    private volatile Map<Class<? extends Facet>, Facet> resolvedFacets;
+
+    /**
+     * Whether this spec or any of its (transitive) subclasses has {@link #resolvedFacets} to be invalidated,
+     * such that adding facets during introspection (before any spec is frozen) need not walk the subclasses.
+     * Never reset, hence may be a false positive after an invalidation, but never a false negative.
+     */
+    private volatile boolean resolvedFacetsInHierarchy;
+
 
     // -- Constructor
     protected ObjectSpecificationAbstract(
@@ -352,6 +379,11 @@ protected void updateAsSubclassTo(final List<ObjectSpecification> supertypeSpecs
 
     private void updateSubclasses(final ObjectSpecification subclass) {
         this.directSubclasses.addSubclass(subclass);
+        // a subclass that was frozen before being linked to this spec
+        if(subclass instanceof ObjectSpecificationAbstract
+                && ((ObjectSpecificationAbstract) subclass).resolvedFacetsInHierarchy) {
+            markResolvedFacetsInHierarchy();
+        }
     }
 
     protected final void replaceAssociations(final Stream<ObjectAssociation> associations) {
@@ -360,6 +392,8 @@ protected final void replaceAssociations(final Stream<ObjectAssociation> associa
             this.associations.clear();
             this.associations.addAll(orderedAssociations);
             unmodifiableAssociations.clear(); // invalidate
+            this.associationsById = _MemberIdIndex.of(orderedAssociations, association->
+                Stream.of(association.getId()));
         }
     }
 
@@ -370,18 +404,25 @@ protected final void replaceActions(final Stream<ObjectAction> objectActions) {
             this.objectActions.addAll(orderedActions);
             unmodifiableActions.clear(); // invalidate
 
-            // rebuild objectActionsByType multi-map
+            // rebuild objectActionsByType multi-map and its id index
+            val objectActionsByTypeAndId = new EnumMap<ActionScope, _MemberIdIndex<ObjectAction>>(ActionScope.class);
             for (val actionType : ActionScope.values()) {
                 val objectActionForType = objectActionsByType.getOrElseNew(actionType);
                 objectActionForType.clear();
                 orderedActions.stream()
                 .filter(ObjectAction.Predicates.ofActionType(actionType))
                 .forEach(objectActionForType::add);
+                objectActionsByTypeAndId.put(actionType, _MemberIdIndex.of(objectActionForType, action->
+                    Stream.of(
+                        action.getFeatureIdentifier().getMemberNameAndParameterClassNamesIdentityString(),
+                        action.getFeatureIdentifier().getMemberLogicalName())));
             }
+            this.objectActionsByTypeAndId = objectActionsByTypeAndId;
         }
     }
 
     public void invalidateCachedFacets() {
+        invalidateResolvedFacets();
         valueFacet = getFacet(ValueFacet.class);
         titleFacet = lookupNonFallbackFacet(TitleFacet.class).orElse(null);
         iconFacet = getFacet(IconFacet.class);
@@ -553,6 +594,100 @@ public final Optional<Contributing> contributing() {
 
     @Override
     public <Q extends Facet> Q getFacet(final Class<Q> facetType) {
+        val resolvedFacets = this.resolvedFacets;
+        if(resolvedFacets!=null) {
+            return _Casts.uncheckedCast(resolvedFacets.get(facetType));
+        }
+        return resolveFacet(facetType);
+    }
+
+    @Override
+    public void addFacet(final @NonNull Facet facet) {
+        invalidateResolvedFacets();
+        super.addFacet(facet);
+    }
+
+    /**
+     * Freezes this spec's own facets and resolves the effective facet for every facet-type
+     * found within its type hierarchy, such that subsequent {@link #getFacet(Class)} calls
+     * no longer need to walk interfaces and superclasses.
+     */
+    @Override
+    public void freeze() {
+        super.freeze();
+        val facetTypes = _Sets.<Class<? extends Facet>>newHashSet();
+        collectFacetTypesOfHierarchy(this, facetTypes, _Sets.newHashSet());
+        val resolvedFacets = _Maps.<Class<? extends Facet>, Facet>newHashMap();
+        facetTypes.forEach(facetType->{
+            val facet = resolveFacet(facetType);
+            if(facet!=null) {
+                resolvedFacets.put(facetType, facet);
+            }
+        });
+        this.resolvedFacets = Collections.unmodifiableMap(resolvedFacets);
+        markResolvedFacetsInHierarchy();
+    }
+
+    /**
+     * Marks this spec and its supertypes (superclass and interfaces), stopping at those already marked,
+     * as their supertypes are marked already.
+     */
+    private void markResolvedFacetsInHierarchy() {
+        if(resolvedFacetsInHierarchy) {
+            return;
+        }
+        resolvedFacetsInHierarchy = true;
+        if(superclass() instanceof ObjectSpecificationAbstract) {
+            ((ObjectSpecificationAbstract) superclass()).markResolvedFacetsInHierarchy();
+        }
+        interfaces()
+            .filter(ObjectSpecificationAbstract.class::isInstance)
+            .map(ObjectSpecificationAbstract.class::cast)
+            .forEach(ObjectSpecificationAbstract::markResolvedFacetsInHierarchy);
+    }
+
+    private void invalidateResolvedFacets() {
+        if(!resolvedFacetsInHierarchy) {
+            return; // nothing resolved, neither by this spec nor by any of its subclasses
+        }
+        invalidateResolvedFacets(_Sets.newHashSet());
+    }
+
+    /**
+     * Subclasses and implementors (both of which are registered as direct subclasses of this spec) might have
+     * resolved facets inherited from this spec, even if this spec itself has not (yet) resolved any; so propagates
+     * to those that have (see {@link #resolvedFacetsInHierarchy}), visiting each spec only once.
+     */
+    private void invalidateResolvedFacets(final Set<ObjectSpecification> visited) {
+        if(!resolvedFacetsInHierarchy
+                || !visited.add(this)) {
+            return;
+        }
+        resolvedFacets = null;
+        directSubclasses.snapshot()
+            .filter(ObjectSpecificationAbstract.class::isInstance)
+            .map(ObjectSpecificationAbstract.class::cast)
+            .forEach(subclass->subclass.invalidateResolvedFacets(visited));
+    }
+
+    private static void collectFacetTypesOfHierarchy(
+            final @Nullable ObjectSpecification spec,
+            final Set<Class<? extends Facet>> facetTypes,
+            final Set<ObjectSpecification> visited) {
+        if(spec==null
+                || !visited.add(spec)) {
+            return;
+        }
+        // only the spec's own facets, not the inherited ones
+        spec.getFacetHolder().streamFacets()
+            .map(Facet::facetType)
+            .forEach(facetTypes::add);
+        spec.interfaces().forEach(interfaceSpec->
+            collectFacetTypesOfHierarchy(interfaceSpec, facetTypes, visited));
+        collectFacetTypesOfHierarchy(spec.superclass(), facetTypes, visited);
+    }
+
+    private <Q extends Facet> Q resolveFacet(final Class<Q> facetType) {
 
         synchronized(unmodifiableInterfaces) {
 
@@ -700,8 +835,34 @@ public Optional<ObjectAssociation> getDeclaredAssociation(final String id, final
             return Optional.empty();
         }
 
-        return streamDeclaredAssociations(mixedIn)
-                .filter(objectAssociation->objectAssociation.getId().equals(id))
+        mixedInAssociationAdder.trigger(this::createMixedInAssociationsAndResort); // only if not already
+
+        return associationsById.lookup(id, mixedIn);
+    }
+
+    /**
+     * Looks up a declared action either by its fully specified identity string (with parameters) or
+     * by its abbreviated form, using a hash index instead of a linear search.
+     */
+    protected final Optional<ObjectAction> lookupDeclaredAction(
+            final @Nullable String id,
+            final ImmutableEnumSet<ActionScope> actionScopes,
+            final MixedIn mixedIn) {
+        introspectUpTo(IntrospectionState.FULLY_INTROSPECTED);
+
+        if(_Strings.isEmpty(id)) {
+            return Optional.empty();
+        }
+
+        mixedInActionAdder.trigger(this::createMixedInActionsAndResort);
+
+        val objectActionsByTypeAndId = this.objectActionsByTypeAndId;
+        return actionScopes.stream()
+                .map(objectActionsByTypeAndId::get)
+                .filter(_NullSafe::isPresent)
+                .map(index->index.lookup(id, mixedIn))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
                 .findFirst();
     }
 
@@ -0,0 +1,97 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader.specimpl;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
+
+import lombok.val;
+
+/**
+ * package private utility
+ * <p>
+ * Immutable id to member hash index, partitioned by {@link MixedIn}.
+ * For any given id, the first member (in iteration order) wins,
+ * same as with a linear {@code stream().filter(..).findFirst()} search.
+ */
+final class _MemberIdIndex<T extends ObjectMember> {
+
+    private static final _MemberIdIndex<?> EMPTY = new _MemberIdIndex<>(new EnumMap<>(MixedIn.class));
+
+    @SuppressWarnings("unchecked")
+    static <T extends ObjectMember> _MemberIdIndex<T> empty() {
+        return (_MemberIdIndex<T>) EMPTY;
+    }
+
+    /**
+     * @param orderedMembers - members in their (sorted) iteration order
+     * @param idsOf - all the ids a member can be looked up by
+     */
+    static <T extends ObjectMember> _MemberIdIndex<T> of(
+            final Iterable<T> orderedMembers,
+            final Function<T, Stream<String>> idsOf) {
+
+        val membersById = new EnumMap<MixedIn, Map<String, T>>(MixedIn.class);
+        for (val mixedIn : MixedIn.values()) {
+            membersById.put(mixedIn, _Maps.newHashMap());
+        }
+
+        for (val member : orderedMembers) {
+            for (val mixedIn : MixedIn.values()) {
+                if(!mixedIn.toFilter().test(member)) {
+                    continue;
+                }
+                val index = membersById.get(mixedIn);
+                idsOf.apply(member)
+                    .forEach(id->index.putIfAbsent(id, member));
+            }
+        }
+
+        membersById.replaceAll((mixedIn, index)->Collections.unmodifiableMap(index));
+        return new _MemberIdIndex<>(membersById);
+    }
+
+    private final EnumMap<MixedIn, Map<String, T>> membersById;
+
+    private _MemberIdIndex(final EnumMap<MixedIn, Map<String, T>> membersById) {
+        this.membersById = membersById;
+    }
+
+    Optional<T> lookup(final @Nullable String id, final MixedIn mixedIn) {
+        if(_Strings.isEmpty(id)) {
+            return Optional.empty();
+        }
+        val index = membersById.get(mixedIn);
+        return index!=null
+                ? Optional.ofNullable(index.get(id))
+                : Optional.empty();
+    }
+
+}
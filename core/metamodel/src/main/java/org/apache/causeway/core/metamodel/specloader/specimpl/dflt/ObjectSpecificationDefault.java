@@ -245,16 +245,7 @@ public Optional<ObjectAction> getDeclaredAction(
             final ImmutableEnumSet<ActionScope> actionScopes,
             final MixedIn mixedIn) {
 
-        introspectUpTo(IntrospectionState.FULLY_INTROSPECTED);
-
-        return _Strings.isEmpty(id)
-            ? Optional.empty()
-            : streamDeclaredActions(actionScopes, mixedIn)
-                .filter(action->
-                    id.equals(action.getFeatureIdentifier().getMemberNameAndParameterClassNamesIdentityString())
-                            || id.equals(action.getFeatureIdentifier().getMemberLogicalName())
-                )
-                .findFirst();
+        return lookupDeclaredAction(id, actionScopes, mixedIn);
     }
 
     @Override
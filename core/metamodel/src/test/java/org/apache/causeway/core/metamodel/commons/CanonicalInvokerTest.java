@@ -0,0 +1,108 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.commons;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.apache.causeway.commons.internal.reflection._MethodFacades;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+class CanonicalInvokerTest {
+
+    public static class Customer {
+        private String name = "Joe";
+        public String getName() { return name; }
+        public int getAge() { return 42; }
+        public void setName(final String name) { this.name = name; }
+        public String greet(final String greeting, final int times) { return greeting.repeat(times) + " " + name; }
+        String packagePrivate() { return "hidden"; }
+        public String fail() { throw new UnsupportedOperationException("boom"); }
+    }
+
+    @AfterEach
+    void tearDown() {
+        CanonicalInvoker.clearPreparedInvokers(List.of(Customer.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void invokeGetters(final boolean prepared) {
+        val customer = new Customer();
+        assertEquals("Joe", CanonicalInvoker.invoke(method("getName", prepared), customer));
+        assertEquals(42, CanonicalInvoker.invoke(method("getAge", prepared), customer));
+        assertEquals("hidden", CanonicalInvoker.invoke(method("packagePrivate", prepared), customer));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void invokeWithArgs(final boolean prepared) {
+        val customer = new Customer();
+        assertNull(CanonicalInvoker.invoke(method("setName", prepared, String.class), customer, new Object[] {"Jim"}));
+        assertEquals("hihi Jim",
+                CanonicalInvoker.invoke(method("greet", prepared, String.class, int.class), customer, new Object[] {"hi", 2}));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void invokeFailing(final boolean prepared) {
+        val customer = new Customer();
+        val ex = assertThrows(UnsupportedOperationException.class, ()->
+            CanonicalInvoker.invoke(method("fail", prepared), customer));
+        assertEquals("boom", ex.getMessage());
+        // param type mismatch
+        assertThrows(IllegalArgumentException.class, ()->
+            CanonicalInvoker.invoke(method("greet", prepared, String.class, int.class), customer, new Object[] {"hi", "2"}));
+    }
+
+    @Test
+    void clearPreparedInvokers() {
+        val customer = new Customer();
+        val getName = method("getName", true);
+        assertEquals("Joe", CanonicalInvoker.invoke(getName, customer));
+
+        CanonicalInvoker.clearPreparedInvokers(List.of(Customer.class));
+
+        // falls back to reflection
+        assertEquals("Joe", CanonicalInvoker.invoke(getName, customer));
+    }
+
+    // -- HELPER
+
+    @SneakyThrows
+    private static java.lang.reflect.Method method(
+            final String name, final boolean prepared, final Class<?>... paramTypes) {
+        val method = Customer.class.getDeclaredMethod(name, paramTypes);
+        if(prepared) {
+            assertEquals(Customer.class, CanonicalInvoker.prepare(_MethodFacades.regular(method)));
+        }
+        return method;
+    }
+
+}
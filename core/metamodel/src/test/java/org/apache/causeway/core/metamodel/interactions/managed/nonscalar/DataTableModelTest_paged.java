@@ -0,0 +1,297 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.interactions.managed.nonscalar;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.ViewModel;
+import org.apache.causeway.applib.annotation.Action;
+import org.apache.causeway.applib.annotation.Collection;
+import org.apache.causeway.applib.annotation.DomainObject;
+import org.apache.causeway.applib.annotation.Nature;
+import org.apache.causeway.applib.annotation.Property;
+import org.apache.causeway.applib.annotation.SemanticsOf;
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.query.PagedQuery;
+import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.tablecol.TablePagingService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.execution.MemberExecutorService;
+import org.apache.causeway.core.metamodel.interactions.managed.ManagedAction;
+import org.apache.causeway.core.metamodel.interactions.managed.ManagedCollection;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.services.events.MetamodelEventService;
+
+import lombok.Getter;
+import lombok.val;
+
+class DataTableModelTest_paged
+implements HasMetaModelContext {
+
+    @DomainObject(nature = Nature.VIEW_MODEL)
+    public static class Item implements ViewModel {
+        @Getter(onMethod_ = {@Property})
+        private final String name;
+        public Item(final String memento) {
+            this.name = memento;
+        }
+        @Override
+        public String viewModelMemento() {
+            return name;
+        }
+    }
+
+    @DomainObject(nature = Nature.VIEW_MODEL)
+    public static class Owner implements ViewModel {
+        public Owner(final String memento) {}
+        @Override
+        public String viewModelMemento() {
+            return "owner";
+        }
+        @Collection
+        public List<Item> getItems() {
+            return ITEMS;
+        }
+        @Action(semantics = SemanticsOf.SAFE)
+        public List<Item> findItems() {
+            return ITEMS.subList(0, 2);
+        }
+        @Action(semantics = SemanticsOf.NON_IDEMPOTENT)
+        public List<Item> createItems() {
+            return ITEMS.subList(0, 2);
+        }
+    }
+
+    static final List<Item> ITEMS = IntStream.range(0, 5)
+            .mapToObj(i->new Item("item-" + i))
+            .collect(Collectors.toList());
+
+    @Getter
+    private MetaModelContext metaModelContext;
+    private AtomicInteger countInvocationCount;
+    private MemberExecutorService memberExecutor;
+    private ManagedObject owner;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        countInvocationCount = new AtomicInteger();
+        memberExecutor = Mockito.mock(MemberExecutorService.class);
+
+        final PagedQuery<Item> pagedQuery = new PagedQuery<Item>() {
+            @Override
+            public Query<Item> queryFor(final QueryRange range, final String sortProperty, final boolean ascending) {
+                return Query.allInstances(Item.class).withRange(range);
+            }
+            @Override
+            public long count() {
+                countInvocationCount.incrementAndGet();
+                return ITEMS.size();
+            }
+        };
+        val tablePagingService = new TablePagingService() {
+            @Override
+            public PagedQuery<?> pagedParented(final Object parent, final String collectionId, final Class<?> elementType) {
+                return pagedQuery;
+            }
+            @Override
+            public PagedQuery<?> pagedStandalone(
+                    final Object actionOwner, final String actionId, final List<Object> arguments, final Class<?> elementType) {
+                return pagedQuery;
+            }
+        };
+
+        val repositoryService = Mockito.mock(RepositoryService.class);
+        Mockito.when(repositoryService.allMatches(Mockito.<Query<Object>>any())).thenAnswer(invocation->{
+            final Query<?> query = invocation.getArgument(0);
+            val range = query.getRange();
+            return ITEMS.stream()
+                    .skip(range.getStart())
+                    .limit(range.hasLimit() ? range.getLimit() : Long.MAX_VALUE)
+                    .collect(Collectors.toList());
+        });
+
+        metaModelContext = MetaModelContext_forTesting.builder()
+                .repositoryService(repositoryService)
+                .memberExecutor(memberExecutor)
+                .metamodelEventService(MetamodelEventService.builder()
+                        .publisher(event->{}) // rule checking posts action domain events
+                        .build())
+                .singleton(tablePagingService)
+                .build();
+        owner = getObjectManager().adapt(new Owner("owner"));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        metaModelContext.getSpecificationLoader().disposeMetaModel();
+    }
+
+    private DataTableModel collectionTable() {
+        return DataTableModel.forCollection(ManagedCollection.of(
+                owner, owner.getSpecification().getCollectionElseFail("items"), Where.NOT_SPECIFIED));
+    }
+
+    private ManagedAction managedAction(final String actionId) {
+        return ManagedAction.of(
+                owner, owner.getSpecification().getAction(actionId).orElseThrow(), Where.NOT_SPECIFIED);
+    }
+
+    private static Can<String> names(final Can<DataRow> dataRows) {
+        return dataRows.map(dataRow->((Item)dataRow.getRowElement().getPojo()).getName());
+    }
+
+    private static void select(final DataRow dataRow, final boolean selected) {
+        dataRow.getSelectToggle().setValue(selected);
+    }
+
+    @Test
+    void fetches_page_by_page() {
+        val table = collectionTable();
+        assertTrue(table.isPaged());
+
+        assertEquals(Can.of("item-2", "item-3"), names(table.getDataRowsPage(QueryRange.of(2, 2), null, true)));
+        assertEquals(Can.of("item-4"), names(table.getDataRowsPage(QueryRange.of(4, 2), null, true)));
+    }
+
+    @Test
+    void count_is_memoized_until_invalidated() {
+        val table = collectionTable();
+
+        assertEquals(5, table.getElementCount());
+        assertEquals(5, table.getElementCount());
+        assertEquals(1, countInvocationCount.get());
+
+        table.invalidatePagedElementCount();
+        assertEquals(5, table.getElementCount());
+        assertEquals(2, countInvocationCount.get());
+    }
+
+    @Test
+    void only_current_page_and_selected_rows_are_retained() {
+        val table = collectionTable();
+        val firstPage = table.getDataRowsPage(QueryRange.of(0, 2), null, true);
+        select(firstPage.getElseFail(0), true);
+
+        table.getDataRowsPage(QueryRange.of(2, 2), null, true);
+
+        assertTrue(table.lookupDataRow(firstPage.getElseFail(0).getUuid()).isPresent());
+        assertFalse(table.lookupDataRow(firstPage.getElseFail(1).getUuid()).isPresent());
+        assertEquals(Can.of("item-0"), names(table.getDataRowsSelected().getValue()));
+    }
+
+    @Test
+    void selection_is_retained_when_revisiting_a_page() {
+        val table = collectionTable();
+        select(table.getDataRowsPage(QueryRange.of(0, 2), null, true).getElseFail(0), true);
+        table.getDataRowsPage(QueryRange.of(2, 2), null, true);
+
+        val firstPageAgain = table.getDataRowsPage(QueryRange.of(0, 2), null, true);
+
+        assertTrue(firstPageAgain.getElseFail(0).getSelectToggle().getValue());
+        assertFalse(firstPageAgain.getElseFail(1).getSelectToggle().getValue());
+        assertEquals(Can.of("item-0"), names(table.getDataRowsSelected().getValue()));
+    }
+
+    @Test
+    void select_all_includes_pages_not_yet_visited() {
+        val table = collectionTable();
+        val firstPage = table.getDataRowsPage(QueryRange.of(0, 2), null, true);
+
+        table.getSelectAllToggle().setValue(true);
+        assertEquals(Can.of("item-0", "item-1", "item-2", "item-3", "item-4"),
+                names(table.getDataRowsSelected().getValue()));
+
+        // when deselecting a single row
+        select(firstPage.getElseFail(1), false);
+        assertEquals(Can.of("item-0", "item-2", "item-3", "item-4"),
+                names(table.getDataRowsSelected().getValue()));
+
+        // rows of pages visited later are selected too
+        val secondPage = table.getDataRowsPage(QueryRange.of(2, 2), null, true);
+        assertTrue(secondPage.getElseFail(0).getSelectToggle().getValue());
+
+        // deselecting a single row has cleared the toggle-all, so toggle on then off
+        table.getSelectAllToggle().setValue(true);
+        table.getSelectAllToggle().setValue(false);
+        assertEquals(Can.empty(), names(table.getDataRowsSelected().getValue()));
+    }
+
+    @Test
+    void search_argument_disables_paging() {
+        val table = collectionTable();
+        assertTrue(table.isPaged());
+
+        table.getSearchArgument().setValue("item");
+
+        assertFalse(table.isPaged());
+        assertEquals(5, table.getElementCount());
+        assertEquals(0, countInvocationCount.get());
+    }
+
+    @Test
+    void standalone_table_recreated_from_memento_does_not_invoke_action() {
+        val managedAction = ManagedAction.of(
+                owner, owner.getSpecification().getAction("findItems").orElseThrow(), Where.NOT_SPECIFIED);
+        val actionResult = ManagedObject.packed(
+                getSpecificationLoader().specForTypeElseFail(Item.class),
+                Can.ofCollection(ITEMS.subList(0, 2)).map(getObjectManager()::adapt));
+        val memento = DataTableModel.forAction(managedAction, Can.empty(), actionResult)
+                .getMemento(managedAction.getMementoForArgs(Can.empty()));
+
+        val table = memento.getDataTableModel(owner);
+
+        assertTrue(table.isPaged());
+        assertEquals(5, table.getElementCount());
+        assertEquals(Can.of("item-0", "item-1"), names(table.getDataRowsPage(QueryRange.of(0, 2), null, true)));
+        Mockito.verify(memberExecutor, Mockito.never()).invokeAction(Mockito.any());
+    }
+
+    @Test
+    void safe_action_table_is_paged_without_invoking_action() {
+        val table = DataTableModel.forActionIfPaged(managedAction("findItems"), Can.empty()).orElseThrow();
+
+        assertTrue(table.isPaged());
+        assertEquals(5, table.getElementCount());
+        assertEquals(Can.of("item-0", "item-1"), names(table.getDataRowsPage(QueryRange.of(0, 2), null, true)));
+        Mockito.verify(memberExecutor, Mockito.never()).invokeAction(Mockito.any());
+    }
+
+    @Test
+    void non_safe_action_is_always_invoked() {
+        assertFalse(DataTableModel.forActionIfPaged(managedAction("createItems"), Can.empty()).isPresent());
+    }
+
+}
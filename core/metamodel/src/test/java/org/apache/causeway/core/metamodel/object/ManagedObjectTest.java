@@ -29,10 +29,15 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import org.apache.causeway.applib.ViewModel;
+import org.apache.causeway.applib.annotation.DomainObject;
+import org.apache.causeway.applib.annotation.Nature;
 import org.apache.causeway.applib.domain.DomainObjectList;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal._Constants;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
@@ -245,4 +250,42 @@ void comparatorShouldNotViolateItsGeneralContract() {
         managedObjects.sort(ManagedObjects.NATURAL_NULL_FIRST);
     }
 
+    @DomainObject(nature = Nature.VIEW_MODEL)
+    public static class Counter implements ViewModel {
+        int count;
+        public Counter(final String memento) {
+            this.count = Integer.parseInt(memento);
+        }
+        @Override
+        public String viewModelMemento() {
+            return "" + count;
+        }
+    }
+
+    @Test
+    void snapshotShouldRetainViewmodelStateAtTimeOfSnapshot() {
+        val counterSpec = specLoader.specForTypeElseFail(Counter.class);
+        val counter = new Counter("1");
+        val viewmodel = ManagedObject.adaptSingular(specLoader, counter);
+
+        val snapshot = ManagedObjects.snapshot(viewmodel);
+        val packedSnapshot = ManagedObjects.snapshot(ManagedObject.packed(counterSpec, Can.of(viewmodel)));
+
+        // when the view model's state changes and its memoized bookmark is invalidated
+        counter.count = 2;
+        ((Bookmarkable.BookmarkRefreshable)viewmodel).invalidateBookmark();
+
+        // then
+        assertEquals("2", viewmodel.getBookmark().orElseThrow().getIdentifier());
+        assertEquals("1", snapshot.getBookmark().orElseThrow().getIdentifier());
+        assertEquals("1", ((PackedManagedObject)packedSnapshot).unpack().getFirstElseFail()
+                .getBookmark().orElseThrow().getIdentifier());
+    }
+
+    @Test
+    void snapshotShouldReturnValuesAsIs() {
+        val value = ManagedObject.value(specLoader.specForTypeElseFail(String.class), "hello");
+        assertSame(value, ManagedObjects.snapshot(value));
+    }
+
 }
@@ -0,0 +1,138 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.services.inject.ServiceInjector;
+import org.apache.causeway.core.config.CausewayModuleCoreConfig;
+import org.apache.causeway.core.config.beans.CausewayBeanFactoryPostProcessorForSpring;
+
+import lombok.Getter;
+import lombok.val;
+
+@ActiveProfiles("test")
+@SpringBootTest(classes = {
+        CausewayBeanFactoryPostProcessorForSpring.class,
+        CausewayModuleCoreConfig.class,
+        ServiceInjectorDefault.class,
+        ServiceInjectorDefaultTest_usingPlans.Producers.class,
+},
+properties = {
+        "test.greeting=hello"
+})
+@DirtiesContext(classMode = ClassMode.BEFORE_CLASS)
+class ServiceInjectorDefaultTest_usingPlans {
+
+    @Configuration
+    static class Producers {
+        @Bean A a() { return new A(); }
+        @Bean B b1() { return new B(); }
+        @Bean B b2() { return new B(); }
+    }
+
+    // -- SCENARIO
+
+    // managed
+    static class A { }
+    static class B { }
+    static class C { }
+
+    // not-managed
+    static abstract class Base {
+        @Inject @Getter private A baseA;
+    }
+
+    // not-managed
+    static class D extends Base {
+        @Inject @Getter private A a;
+        @Inject @Getter private List<B> bs;
+        @Inject @Getter private Optional<C> c;
+        @Inject @Getter private Provider<A> aProvider;
+        @Autowired(required = false) @Getter private C cIfAny;
+        @Getter private A aViaSetter;
+        @Inject void setAViaSetter(final A a) { this.aViaSetter = a; }
+    }
+
+    // not-managed
+    static class E {
+        @Getter private A a;
+    }
+
+    // not-managed, left to Spring
+    static class F {
+        @Inject @Getter private A a;
+        @Value("${test.greeting}") @Getter private String greeting;
+    }
+
+    // -- TESTS
+
+    @Inject private ServiceInjector injector;
+    @Inject private A serviceA;
+
+    @Test
+    void shouldInject_fieldsAndSetters_includingInherited() {
+
+        for (int i = 0; i < 2; i++) { // second time around uses cached plan
+
+            val d = injector.injectServicesInto(new D());
+
+            assertSame(serviceA, d.getBaseA());
+            assertSame(serviceA, d.getA());
+            assertEquals(2, d.getBs().size());
+            assertTrue(d.getC().isEmpty());
+            assertSame(serviceA, d.getAProvider().get());
+            assertNull(d.getCIfAny());
+            assertSame(serviceA, d.getAViaSetter());
+        }
+    }
+
+    @Test
+    void shouldIgnore_classesWithoutInjectionPoints() {
+        assertNull(injector.injectServicesInto(new E()).getA());
+    }
+
+    @Test
+    void shouldFallbackToSpring_forUnplannedAnnotations() {
+        val f = injector.injectServicesInto(new F());
+        assertNotNull(f.getA());
+        assertEquals("hello", f.getGreeting());
+    }
+
+}
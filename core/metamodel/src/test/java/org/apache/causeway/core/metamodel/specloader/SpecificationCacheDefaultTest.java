@@ -18,6 +18,11 @@
  */
 package org.apache.causeway.core.metamodel.specloader;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,7 +31,9 @@
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.apache.causeway.applib.id.LogicalType;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
@@ -111,4 +118,44 @@ public void getByObjectType_whenSet() {
         assertSame(objectSpec, customerSpec);
     }
 
+    @Test
+    public void computeIfAbsent_whenContended() throws InterruptedException {
+
+        val threadCount = 8;
+        val iterations = 10_000;
+        val mappingCalls = new AtomicInteger();
+        val misses = new AtomicInteger();
+        val startGate = new CountDownLatch(1);
+        val executor = Executors.newFixedThreadPool(threadCount);
+
+        for (int t = 0; t < threadCount; t++) {
+            executor.execute(()->{
+                try {
+                    startGate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < iterations; i++) {
+                    val spec = specificationCache.computeIfAbsent(Customer.class, __->{
+                        mappingCalls.incrementAndGet();
+                        return customerSpec;
+                    });
+                    if(spec!=customerSpec
+                            || specificationCache.lookup(Customer.class).orElse(null)!=customerSpec) {
+                        misses.incrementAndGet();
+                    }
+                }
+            });
+        }
+
+        startGate.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(1, mappingCalls.get());
+        assertEquals(0, misses.get());
+        assertThat(specificationCache.snapshotSpecs().size(), is(1));
+    }
+
 }
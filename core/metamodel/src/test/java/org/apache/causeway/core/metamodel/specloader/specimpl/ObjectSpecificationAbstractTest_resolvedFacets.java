@@ -0,0 +1,107 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader.specimpl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.facetapi.Facet;
+import org.apache.causeway.core.metamodel.facetapi.FacetAbstract;
+import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
+
+import lombok.Getter;
+import lombok.val;
+
+class ObjectSpecificationAbstractTest_resolvedFacets
+implements HasMetaModelContext {
+
+    public static class Base {}
+    public static class Sub extends Base {}
+
+    static interface SomeFacet extends Facet {}
+    static class SomeFacetImpl extends FacetAbstract implements SomeFacet {
+        SomeFacetImpl(final FacetHolder holder) {
+            super(SomeFacet.class, holder);
+        }
+    }
+
+    @Getter
+    private MetaModelContext metaModelContext;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        metaModelContext = MetaModelContext_forTesting.buildDefault();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        metaModelContext.getSpecificationLoader().disposeMetaModel();
+    }
+
+    @Test
+    void facet_added_to_unfrozen_superclass_is_seen_by_frozen_subclass() {
+        val subSpec = (ObjectSpecificationAbstract) getSpecificationLoader().loadSpecification(Sub.class);
+        val baseSpec = (ObjectSpecificationAbstract) getSpecificationLoader().loadSpecification(Base.class);
+        subSpec.freeze(); // the superclass' spec itself has not resolved any facets
+        assertNull(subSpec.getFacet(SomeFacet.class));
+
+        val facet = new SomeFacetImpl(baseSpec);
+        baseSpec.addFacet(facet);
+
+        assertSame(facet, subSpec.getFacet(SomeFacet.class));
+    }
+
+    @Test
+    void facet_added_to_superclass_is_seen_by_frozen_subclass() {
+        val subSpec = (ObjectSpecificationAbstract) getSpecificationLoader().loadSpecification(Sub.class);
+        val baseSpec = (ObjectSpecificationAbstract) getSpecificationLoader().loadSpecification(Base.class);
+        baseSpec.freeze();
+        subSpec.freeze();
+        assertNull(subSpec.getFacet(SomeFacet.class));
+
+        val facet = new SomeFacetImpl(baseSpec);
+        baseSpec.addFacet(facet);
+
+        assertSame(facet, subSpec.getFacet(SomeFacet.class));
+    }
+
+    @Test
+    void reloading_superclass_reloads_subclass() {
+        val subSpec = getSpecificationLoader().loadSpecification(Sub.class);
+        val baseSpec = getSpecificationLoader().loadSpecification(Base.class);
+        assertSame(baseSpec, subSpec.superclass());
+
+        getSpecificationLoader().reloadSpecification(Base.class);
+
+        val reloadedBaseSpec = getSpecificationLoader().loadSpecification(Base.class);
+        val reloadedSubSpec = getSpecificationLoader().loadSpecification(Sub.class);
+        assertNotSame(baseSpec, reloadedBaseSpec);
+        assertNotSame(subSpec, reloadedSubSpec);
+        assertSame(reloadedBaseSpec, reloadedSubSpec.superclass());
+    }
+
+}
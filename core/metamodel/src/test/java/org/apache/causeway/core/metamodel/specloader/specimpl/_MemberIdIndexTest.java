@@ -0,0 +1,124 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader.specimpl;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.MixedInMember;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
+
+import lombok.val;
+
+class _MemberIdIndexTest {
+
+    Map<ObjectAction, List<String>> idsByMember;
+
+    @BeforeEach
+    void setUp() {
+        idsByMember = new IdentityHashMap<>();
+    }
+
+    private ObjectAction action(final String... ids) {
+        val action = Mockito.mock(ObjectAction.class);
+        idsByMember.put(action, List.of(ids));
+        return action;
+    }
+
+    private ObjectAction mixedInAction(final String... ids) {
+        val action = Mockito.mock(ObjectAction.class, Mockito.withSettings().extraInterfaces(MixedInMember.class));
+        idsByMember.put(action, List.of(ids));
+        return action;
+    }
+
+    private _MemberIdIndex<ObjectAction> indexOf(final ObjectAction... orderedMembers) {
+        return _MemberIdIndex.of(List.of(orderedMembers), member->idsByMember.get(member).stream());
+    }
+
+    @Test
+    void lookup_by_any_of_the_ids() {
+        val act = action("act()", "act");
+        val other = action("other(java.lang.String)", "other");
+        val index = indexOf(act, other);
+
+        assertSame(act, index.lookup("act()", MixedIn.INCLUDED).orElseThrow());
+        assertSame(act, index.lookup("act", MixedIn.INCLUDED).orElseThrow());
+        assertSame(other, index.lookup("other(java.lang.String)", MixedIn.INCLUDED).orElseThrow());
+        assertSame(other, index.lookup("other", MixedIn.INCLUDED).orElseThrow());
+    }
+
+    @Test
+    void lookup_of_unknown_or_empty_id() {
+        val index = indexOf(action("act()", "act"));
+
+        assertEquals(Optional.empty(), index.lookup("unknown", MixedIn.INCLUDED));
+        assertEquals(Optional.empty(), index.lookup("", MixedIn.INCLUDED));
+        assertEquals(Optional.empty(), index.lookup(null, MixedIn.INCLUDED));
+        assertEquals(Optional.empty(), _MemberIdIndex.<ObjectAction>empty().lookup("act", MixedIn.INCLUDED));
+    }
+
+    @Test
+    void overloads_are_distinguished_by_full_id_and_first_wins_by_logical_name() {
+        val first = action("act()", "act");
+        val second = action("act(int)", "act");
+        val index = indexOf(first, second);
+
+        assertSame(first, index.lookup("act()", MixedIn.INCLUDED).orElseThrow());
+        assertSame(second, index.lookup("act(int)", MixedIn.INCLUDED).orElseThrow());
+        // same as a linear search, the first in iteration order wins
+        assertSame(first, index.lookup("act", MixedIn.INCLUDED).orElseThrow());
+        assertSame(second, indexOf(second, first).lookup("act", MixedIn.INCLUDED).orElseThrow());
+    }
+
+    @Test
+    void colliding_ids_of_different_members_resolve_to_the_first() {
+        // one member's full id equals another's logical name
+        val first = action("act", "x");
+        val second = action("y", "act");
+        val index = indexOf(first, second);
+
+        assertSame(first, index.lookup("act", MixedIn.INCLUDED).orElseThrow());
+        assertSame(second, index.lookup("y", MixedIn.INCLUDED).orElseThrow());
+    }
+
+    @Test
+    void partitioned_by_mixed_in() {
+        val declared = action("act()", "act");
+        val mixedIn = mixedInAction("mixin()", "act");
+        val index = indexOf(mixedIn, declared);
+
+        assertSame(mixedIn, index.lookup("act", MixedIn.INCLUDED).orElseThrow());
+        assertSame(declared, index.lookup("act", MixedIn.EXCLUDED).orElseThrow());
+        assertSame(mixedIn, index.lookup("act", MixedIn.ONLY).orElseThrow());
+
+        assertEquals(Optional.empty(), index.lookup("mixin()", MixedIn.EXCLUDED));
+        assertEquals(Optional.empty(), index.lookup("act()", MixedIn.ONLY));
+    }
+
+}
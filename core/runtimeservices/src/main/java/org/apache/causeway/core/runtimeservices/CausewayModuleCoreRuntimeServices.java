@@ -55,6 +55,7 @@
 import org.apache.causeway.core.runtimeservices.publish.ExecutionPublisherDefault;
 import org.apache.causeway.core.runtimeservices.publish.LifecycleCallbackNotifier;
 import org.apache.causeway.core.runtimeservices.publish.ObjectLifecyclePublisherDefault;
+import org.apache.causeway.core.runtimeservices.queryresultscache.SharedQueryResultsCacheDefault;
 import org.apache.causeway.core.runtimeservices.recognizer.ExceptionRecognizerServiceDefault;
 import org.apache.causeway.core.runtimeservices.recognizer.dae.ExceptionRecognizerForDataAccessException;
 import org.apache.causeway.core.runtimeservices.repository.RepositoryServiceDefault;
@@ -113,6 +114,7 @@
         SchemaValueMarshallerDefault.class,
         ScratchpadDefault.class,
         SerializingAdapterDefault.class,
+        SharedQueryResultsCacheDefault.class,
         SitemapServiceDefault.class,
         SpringBeansService.class,
         TransactionServiceSpring.class,
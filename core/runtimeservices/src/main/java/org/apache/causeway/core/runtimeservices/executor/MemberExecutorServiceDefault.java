@@ -188,9 +188,11 @@ private ManagedObject invokeActionInternally(
                     "bookmark required for non-empty scalars %s", scalarNonEmpty.getSpecification()));
         });
 
-        // sync DTO with result
-        interactionDtoFactory
-        .updateResult((ActionInvocationDto)priorExecution.getDto(), owningAction, returnedAdapter);
+        // sync DTO with result (deferred until the DTO is materialized, if ever,
+        // hence snapshot the result now, as a returned view model might change its state in the meantime)
+        val returnedSnapshot = ManagedObjects.snapshot(returnedAdapter);
+        priorExecution.updateDto(dto->
+            interactionDtoFactory.updateResult((ActionInvocationDto)dto, owningAction, returnedSnapshot));
 
         // update Command (if required)
         setCommandResultIfEntity(command, returnedAdapter);
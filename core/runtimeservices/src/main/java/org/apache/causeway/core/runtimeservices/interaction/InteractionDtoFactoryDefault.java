@@ -19,6 +19,7 @@
 package org.apache.causeway.core.runtimeservices.interaction;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 import javax.annotation.Priority;
 import javax.inject.Inject;
@@ -76,6 +77,14 @@ public ActionInvocationDto asActionInvocationDto(
             final ObjectAction objectAction,
             final InteractionHead head,
             final Can<ManagedObject> argumentAdapters) {
+        return asActionInvocationDtoSupplier(objectAction, head, argumentAdapters).get();
+    }
+
+    @Override
+    public Supplier<ActionInvocationDto> asActionInvocationDtoSupplier(
+            final ObjectAction objectAction,
+            final InteractionHead head,
+            final Can<ManagedObject> argumentAdapters) {
 
         _Assert.assertEquals(objectAction.getParameterCount(), argumentAdapters.size(),
                 "action's parameter count and provided argument count must match");
@@ -90,15 +99,21 @@ public ActionInvocationDto asActionInvocationDto(
 
         final String currentUser = userService.currentUserNameElseNobody();
 
-        final ActionDto actionDto = new ActionDto();
-        commandDtoServiceInternal.addActionArgs(head, objectAction, actionDto, argumentAdapters);
-        final List<ParamDto> parameterDtos = CommandDtoUtils.parametersFor(actionDto).getParameter();
-
-        return InteractionDtoUtils.newActionInvocation(
-                nextEventSequence, targetBookmark,
-                actionDto.getLogicalMemberIdentifier(),
-                parameterDtos, currentUser
-                );
+        // snapshot the arguments now, as referenced entities might be deleted
+        // and view models might change their state by the time the dto is built
+        val argumentSnapshots = argumentAdapters.map(ManagedObjects::snapshot);
+
+        return ()->{
+            final ActionDto actionDto = new ActionDto();
+            commandDtoServiceInternal.addActionArgs(head, objectAction, actionDto, argumentSnapshots);
+            final List<ParamDto> parameterDtos = CommandDtoUtils.parametersFor(actionDto).getParameter();
+
+            return InteractionDtoUtils.newActionInvocation(
+                    nextEventSequence, targetBookmark,
+                    actionDto.getLogicalMemberIdentifier(),
+                    parameterDtos, currentUser
+                    );
+        };
     }
 
     @Override
@@ -126,6 +141,14 @@ public PropertyEditDto asPropertyEditDto(
             final OneToOneAssociation property,
             final InteractionHead interactionHead,
             final ManagedObject newValueAdapterIfAny) {
+        return asPropertyEditDtoSupplier(property, interactionHead, newValueAdapterIfAny).get();
+    }
+
+    @Override
+    public Supplier<PropertyEditDto> asPropertyEditDtoSupplier(
+            final OneToOneAssociation property,
+            final InteractionHead interactionHead,
+            final ManagedObject newValueAdapterIfAny) {
 
         ManagedObject targetAdapter = interactionHead.getOwner();
 
@@ -137,15 +160,21 @@ public PropertyEditDto asPropertyEditDto(
 
         final String currentUser = userService.currentUserNameElseNobody();
 
-        final PropertyDto propertyDto = new PropertyDto();
-        commandDtoServiceInternal.addPropertyValue(interactionHead, property, propertyDto, newValueAdapterIfAny);
-        final ValueWithTypeDto newValue = propertyDto.getNewValue();
-
-        return InteractionDtoUtils.newPropertyEdit(
-                nextEventSequence, targetBookmark,
-                propertyDto.getLogicalMemberIdentifier(),
-                newValue, currentUser
-                );
+        // snapshot the new value now, as a referenced entity might be deleted
+        // or a view model might change its state by the time the dto is built
+        val newValueSnapshot = ManagedObjects.snapshot(newValueAdapterIfAny);
+
+        return ()->{
+            final PropertyDto propertyDto = new PropertyDto();
+            commandDtoServiceInternal.addPropertyValue(interactionHead, property, propertyDto, newValueSnapshot);
+            final ValueWithTypeDto newValue = propertyDto.getNewValue();
+
+            return InteractionDtoUtils.newPropertyEdit(
+                    nextEventSequence, targetBookmark,
+                    propertyDto.getLogicalMemberIdentifier(),
+                    newValue, currentUser
+                    );
+        };
     }
 
 }
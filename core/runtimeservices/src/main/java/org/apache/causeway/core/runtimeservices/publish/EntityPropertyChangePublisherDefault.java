@@ -89,10 +89,14 @@ public void publishChangedProperties() {
         val currentUser = userService.currentUserNameElseNobody();
         val currentTransactionId = transactionService.currentTransactionId().orElse(TransactionId.empty());
 
-        val propertyChanges = hasEnlistedEntityPropertyChanges().getPropertyChanges(
+        hasEnlistedEntityPropertyChanges().streamPropertyChanges(
                 currentTime,
                 currentUser,
-                currentTransactionId);
+                currentTransactionId,
+                this::publishChunk);
+    }
+
+    private void publishChunk(final Can<EntityPropertyChange> propertyChanges) {
 
         XrayUtil.SequenceHandle xrayHandle = null;
         try {
@@ -103,11 +107,11 @@ public void publishChangedProperties() {
                     () -> getCannotPublishReason(propertyChanges)
             );
 
-            propertyChanges.forEach(propertyChange->{
+            if(!propertyChanges.isEmpty()) {
                 for (val subscriber : enabledSubscribers) {
-                    subscriber.onChanging(propertyChange);
+                    subscriber.onBulkChanging(propertyChanges);
                 }
-            });
+            }
         } finally {
             _Xray.exitPublishing(xrayHandle);
         }
@@ -93,6 +93,8 @@ public void onPreUpdate(
 
     @Override
     public void onPostUpdate(final ManagedObject entity) {
+        entityChangeTracker()
+            .ifPresent(entityChangeTracker->entityChangeTracker.onEntityFlushed(entity));
         lifecycleCallbackNotifier().postUpdate(entity);
     }
 
@@ -0,0 +1,468 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.queryresultscache;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.causeway.applib.services.queryresultscache.SharedQueryResultsCache;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.commons.internal.base._NullSafe;
+import org.apache.causeway.commons.internal.collections._Sets;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Default implementation of {@link SharedQueryResultsCache}, holding results in a bounded, least-recently-used map
+ * for the calling methods listed in
+ * <code>causeway.core.runtime-services.query-results-cache.shared.calling-methods</code>.
+ *
+ * <p>
+ *     Entities are not shared between interactions: a result made up of entities (a single entity, or an
+ *     {@link Optional}, {@link List} or {@link Set} of them) is held as the entities' {@link Bookmark}s, and is
+ *     re-resolved through the {@link ObjectManager} (in bulk) by each interaction that hits it.  Results that
+ *     contain entities in any other shape (for example maps, arrays, or mixed with other objects) are not cached at
+ *     all; other results (values, view models or DTOs) are held and shared as is.
+ * </p>
+ *
+ * <p>
+ *     Each entry remembers the entity types it touched (as inferred from the entities making up the result), and
+ *     is evicted when an entity of any of those types is changed.  Results that do not contain any entities (for
+ *     example counts, or empty lists) are evicted on any entity change at all, since there is no way to tell which
+ *     entity types they were derived from.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(CausewayModuleCoreRuntimeServices.NAMESPACE + ".SharedQueryResultsCacheDefault")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class SharedQueryResultsCacheDefault implements SharedQueryResultsCache {
+
+    private final SpecificationLoader specificationLoader;
+    private final ObjectManager objectManager;
+    private final LongSupplier nanoTime;
+
+    private final Set<String> callingMethods;
+    private final int maxEntries;
+    private final long maxWeight;
+    private final long timeToLiveNanos;
+
+    /**
+     * Guarded by {@code this}; in access order, so that the eldest entry is the least recently used.
+     */
+    private final LinkedHashMap<QueryResultsCache.Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalWeight;
+    /**
+     * Incremented on every invalidation, so that results computed concurrently with an invalidation are not cached.
+     */
+    private long generation;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    @Inject
+    public SharedQueryResultsCacheDefault(
+            final CausewayConfiguration causewayConfiguration,
+            final SpecificationLoader specificationLoader,
+            final ObjectManager objectManager) {
+        this(causewayConfiguration.getCore().getRuntimeServices().getQueryResultsCache().getShared(),
+                specificationLoader, objectManager, System::nanoTime);
+    }
+
+    // JUnit support
+    SharedQueryResultsCacheDefault(
+            final CausewayConfiguration.Core.RuntimeServices.QueryResultsCache.Shared config,
+            final SpecificationLoader specificationLoader,
+            final ObjectManager objectManager,
+            final LongSupplier nanoTime) {
+        this.specificationLoader = specificationLoader;
+        this.objectManager = objectManager;
+        this.nanoTime = nanoTime;
+        this.callingMethods = _Sets.newHashSet(config.getCallingMethods());
+        this.maxEntries = config.getMaxEntries();
+        this.maxWeight = config.getMaxWeight();
+        this.timeToLiveNanos = config.getTimeToLive().toNanos();
+    }
+
+    @Override
+    public boolean isCacheable(final Class<?> callingClass, final String methodName) {
+        return !callingMethods.isEmpty()
+                && callingMethods.contains(callingClass.getName() + "#" + methodName);
+    }
+
+    @Override
+    public <T> T execute(final Callable<T> callable, final QueryResultsCache.Key cacheKey) throws Exception {
+
+        final Entry cached;
+        final long generationBefore;
+        synchronized (this) {
+            val entry = entries.get(cacheKey);
+            if(entry != null
+                    && entry.isExpired(nanoTime.getAsLong())) {
+                remove(cacheKey);
+                cached = null;
+            } else {
+                cached = entry;
+            }
+            generationBefore = generation;
+        }
+
+        if(cached != null) {
+            // not holding the lock while re-resolving entities
+            val result = cached.getBookmarks() == null
+                    ? Optional.ofNullable(cached.getResult())
+                    : rehydrate(cached.getBookmarks(), cached.getShape());
+            if(cached.getBookmarks() == null
+                    || result.isPresent()) {
+                hitCount.increment();
+                log.debug("SHARED HIT: {}", cacheKey);
+                return _Casts.uncheckedCast(result.orElse(null));
+            }
+            // some entity has since been deleted
+            synchronized (this) {
+                if(entries.get(cacheKey) == cached) {
+                    remove(cacheKey);
+                }
+            }
+        }
+
+        missCount.increment();
+        log.debug("SHARED MISS: {}", cacheKey);
+
+        // not holding the lock while querying
+        final T result = callable.call();
+
+        val touchedEntityTypes = touchedEntityTypes(result);
+        val weight = weigh(result);
+        if(weight > maxWeight) {
+            return result; // would evict everything else
+        }
+        final long expiresAtNanos = nanoTime.getAsLong() + timeToLiveNanos;
+        final Entry entry;
+        if(touchedEntityTypes.isEmpty()) {
+            entry = new Entry(result, null, null, touchedEntityTypes, weight, expiresAtNanos);
+        } else {
+            val shape = shapeOf(result);
+            val bookmarks = shape != null
+                    ? bookmarksOf(result)
+                    : Optional.<Can<Bookmark>>empty();
+            if(!bookmarks.isPresent()) {
+                return result; // entities that cannot be re-resolved in another interaction
+            }
+            entry = new Entry(null, bookmarks.get(), shape, touchedEntityTypes, weight, expiresAtNanos);
+        }
+
+        synchronized (this) {
+            if(generation != generationBefore) {
+                return result; // possibly stale, as entities changed while querying
+            }
+            val previous = entries.put(cacheKey, entry);
+            if(previous != null) {
+                totalWeight -= previous.getWeight();
+            }
+            totalWeight += entry.getWeight();
+            evictExcess();
+        }
+        return result;
+    }
+
+    @Override
+    public void invalidate(final Set<Class<?>> changedEntityTypes) {
+        if(_NullSafe.isEmpty(changedEntityTypes)) {
+            return;
+        }
+        synchronized (this) {
+            generation++;
+            val iterator = entries.values().iterator();
+            while(iterator.hasNext()) {
+                val entry = iterator.next();
+                if(entry.isTouchedByAnyOf(changedEntityTypes)) {
+                    iterator.remove();
+                    totalWeight -= entry.getWeight();
+                    evictionCount.increment();
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void invalidateAll() {
+        generation++;
+        evictionCount.add(entries.size());
+        entries.clear();
+        totalWeight = 0L;
+    }
+
+    // -- METRICS
+
+    @Override
+    public long getHitCount() {
+        return hitCount.longValue();
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount.longValue();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictionCount.longValue();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    // -- HELPER
+
+    /**
+     * How to re-assemble the entities of a cached result from their bookmarks.
+     */
+    private enum Shape {
+        SINGULAR,
+        OPTIONAL,
+        LIST,
+        SET
+    }
+
+    @RequiredArgsConstructor
+    private static final class Entry {
+        /**
+         * The result as is, if it does not contain any entities; otherwise <code>null</code>.
+         */
+        @Getter private final @Nullable Object result;
+        /**
+         * The bookmarks of the entities making up the result, if it contains any; otherwise <code>null</code>.
+         */
+        @Getter private final @Nullable Can<Bookmark> bookmarks;
+        @Getter private final @Nullable Shape shape;
+        /**
+         * Empty if the result contains no entities, in which case the entry is touched by any change.
+         */
+        private final Set<Class<?>> touchedEntityTypes;
+        @Getter private final long weight;
+        private final long expiresAtNanos;
+
+        boolean isExpired(final long now) {
+            return now - expiresAtNanos >= 0;
+        }
+
+        boolean isTouchedByAnyOf(final Set<Class<?>> changedEntityTypes) {
+            if(touchedEntityTypes.isEmpty()) {
+                return true;
+            }
+            for (val changedType : changedEntityTypes) {
+                for (val touchedType : touchedEntityTypes) {
+                    if(touchedType.isAssignableFrom(changedType)
+                            || changedType.isAssignableFrom(touchedType)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    // guarded by this
+    private void remove(final QueryResultsCache.Key cacheKey) {
+        val removed = entries.remove(cacheKey);
+        if(removed != null) {
+            totalWeight -= removed.getWeight();
+            evictionCount.increment();
+        }
+    }
+
+    // guarded by this
+    private void evictExcess() {
+        val iterator = entries.values().iterator();
+        while(iterator.hasNext()
+                && (entries.size() > maxEntries || totalWeight > maxWeight)) {
+            val eldest = iterator.next();
+            iterator.remove();
+            totalWeight -= eldest.getWeight();
+            evictionCount.increment();
+        }
+    }
+
+    private static @Nullable Shape shapeOf(final Object result) {
+        if(result instanceof Optional) {
+            return Shape.OPTIONAL;
+        }
+        if(result instanceof List) {
+            return Shape.LIST;
+        }
+        if(result instanceof Set) {
+            return Shape.SET;
+        }
+        if(result instanceof Map
+                || result instanceof Iterable
+                || result.getClass().isArray()) {
+            return null;
+        }
+        return Shape.SINGULAR;
+    }
+
+    /**
+     * @return empty if any element is not a (persistent) entity
+     */
+    private Optional<Can<Bookmark>> bookmarksOf(final Object result) {
+        final Iterable<?> elements = result instanceof Optional
+                ? ((Optional<?>) result).map(List::of).orElseGet(List::of)
+                : result instanceof Iterable
+                    ? (Iterable<?>) result
+                    : List.of(result);
+        final List<Bookmark> bookmarks = new ArrayList<>();
+        for (val element : elements) {
+            if(element == null
+                    || !isEntity(element.getClass())) {
+                return Optional.empty();
+            }
+            val bookmark = objectManager.adapt(element).getBookmark();
+            if(!bookmark.isPresent()) {
+                return Optional.empty();
+            }
+            bookmarks.add(bookmark.get());
+        }
+        return Optional.of(Can.ofCollection(bookmarks));
+    }
+
+    /**
+     * @return empty if any of the entities no longer exists
+     */
+    private Optional<Object> rehydrate(final Can<Bookmark> bookmarks, final Shape shape) {
+        final List<Object> pojos = new ArrayList<>(bookmarks.size());
+        for (val object : objectManager.loadObjectsElseFail(bookmarks)) {
+            val pojo = object.getPojo();
+            if(pojo == null) {
+                return Optional.empty();
+            }
+            pojos.add(pojo);
+        }
+        switch (shape) {
+        case SINGULAR:
+            return Optional.of(pojos.get(0));
+        case OPTIONAL:
+            return Optional.of(pojos.stream().findFirst());
+        case SET:
+            return Optional.of(new LinkedHashSet<>(pojos));
+        case LIST:
+        default:
+            return Optional.of(pojos);
+        }
+    }
+
+    private boolean isEntity(final Class<?> type) {
+        return specificationLoader.specForType(type)
+                .map(ObjectSpecification::isEntity)
+                .orElse(false);
+    }
+
+    private Set<Class<?>> touchedEntityTypes(final @Nullable Object result) {
+        final Set<Class<?>> types = _Sets.newHashSet();
+        forEachElement(result, element->{
+            val type = element.getClass();
+            if(!types.contains(type)
+                    && isEntity(type)) {
+                types.add(type);
+            }
+        });
+        return types;
+    }
+
+    private static long weigh(final @Nullable Object result) {
+        val counter = new long[] {0L};
+        forEachElement(result, element->counter[0]++);
+        return Math.max(1L, counter[0]);
+    }
+
+    private static void forEachElement(
+            final @Nullable Object result,
+            final @NonNull Consumer<Object> action) {
+        if(result == null) {
+            return;
+        }
+        if(result instanceof Optional) {
+            ((Optional<?>) result).ifPresent(action);
+            return;
+        }
+        if(result instanceof Map) {
+            forEachElement(((Map<?, ?>) result).values(), action);
+            return;
+        }
+        if(result instanceof Iterable) {
+            final Iterator<?> iterator = ((Iterable<?>) result).iterator();
+            while(iterator.hasNext()) {
+                val element = iterator.next();
+                if(element != null) {
+                    action.accept(element);
+                }
+            }
+            return;
+        }
+        if(result.getClass().isArray()) {
+            final int length = Array.getLength(result);
+            for (int i = 0; i < length; i++) {
+                val element = Array.get(result, i);
+                if(element != null) {
+                    action.accept(element);
+                }
+            }
+            return;
+        }
+        action.accept(result);
+    }
+
+}
@@ -0,0 +1,237 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.queryresultscache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+
+import lombok.Value;
+import lombok.val;
+
+class SharedQueryResultsCacheDefaultTest {
+
+    @Value static class Country { String code; }
+    static class Currency {}
+    static class CountryRepository {}
+    @Value static class CountryDto { String code; }
+
+    private CausewayConfiguration.Core.RuntimeServices.QueryResultsCache.Shared config;
+    private SpecificationLoader specificationLoader;
+    private ObjectManager objectManager;
+    /**
+     * The persisted countries, by code.
+     */
+    private final Map<String, Country> countries = new ConcurrentHashMap<>();
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger queryCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        config = new CausewayConfiguration.Core.RuntimeServices.QueryResultsCache.Shared();
+        config.getCallingMethods().add(CountryRepository.class.getName() + "#findAll");
+
+        val entitySpec = Mockito.mock(ObjectSpecification.class);
+        Mockito.when(entitySpec.isEntity()).thenReturn(true);
+        specificationLoader = Mockito.mock(SpecificationLoader.class);
+        Mockito.when(specificationLoader.specForType(Mockito.any())).thenReturn(Optional.of(entitySpec));
+        Mockito.when(specificationLoader.specForType(CountryDto.class)).thenReturn(Optional.empty());
+
+        countries.put("FR", new Country("FR"));
+        countries.put("DE", new Country("DE"));
+
+        // loading an entity yields a new instance (as would a different persistence context)
+        objectManager = Mockito.mock(ObjectManager.class);
+        Mockito.when(objectManager.adapt(Mockito.any())).thenAnswer(invocation->
+            managedObject(invocation.getArgument(0)));
+        Mockito.when(objectManager.loadObjectsElseFail(Mockito.any())).thenAnswer(invocation->
+            invocation.<Can<Bookmark>>getArgument(0)
+                .map(bookmark->managedObject(countries.containsKey(bookmark.getIdentifier())
+                        ? new Country(bookmark.getIdentifier())
+                        : null)));
+    }
+
+    private static ManagedObject managedObject(final Country country) {
+        val managedObject = Mockito.mock(ManagedObject.class);
+        Mockito.when(managedObject.getPojo()).thenReturn(country);
+        Mockito.when(managedObject.getBookmark()).thenReturn(Optional.ofNullable(country)
+                .map(x->Bookmark.forLogicalTypeNameAndIdentifier("Country", x.getCode())));
+        return managedObject;
+    }
+
+    private SharedQueryResultsCacheDefault newCache() {
+        return new SharedQueryResultsCacheDefault(config, specificationLoader, objectManager, now::get);
+    }
+
+    private static QueryResultsCache.Key key(final Object... keys) {
+        return new QueryResultsCache.Key(CountryRepository.class, "findAll", keys);
+    }
+
+    private List<Country> findAll() {
+        queryCount.incrementAndGet();
+        return List.of(new Country("FR"), new Country("DE"));
+    }
+
+    @Test
+    void only_opted_in_calling_methods_are_cacheable() {
+        val cache = newCache();
+        assertTrue(cache.isCacheable(CountryRepository.class, "findAll"));
+        assertFalse(cache.isCacheable(CountryRepository.class, "findByName"));
+    }
+
+    @Test
+    void second_lookup_is_a_hit() throws Exception {
+        val cache = newCache();
+        val first = cache.execute(this::findAll, key());
+        val second = cache.execute(this::findAll, key());
+
+        assertEquals(first, second);
+        assertEquals(1, queryCount.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void entities_are_re_resolved_on_every_hit() throws Exception {
+        val cache = newCache();
+        val first = cache.execute(this::findAll, key());
+        val second = cache.execute(this::findAll, key());
+        val third = cache.execute(this::findAll, key());
+
+        assertEquals(first, second);
+        assertNotSame(first.get(0), second.get(0));
+        assertNotSame(second.get(0), third.get(0));
+
+        val country = cache.execute(()->Optional.of(new Country("FR")), key("FR"));
+        assertEquals(country, cache.execute(Optional::empty, key("FR")));
+    }
+
+    @Test
+    void re_queried_when_an_entity_no_longer_exists() throws Exception {
+        val cache = newCache();
+        cache.execute(this::findAll, key());
+        countries.remove("DE");
+        cache.execute(this::findAll, key());
+
+        assertEquals(2, queryCount.get());
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    void entities_in_other_shapes_are_not_cached() throws Exception {
+        val cache = newCache();
+        cache.execute(()->Map.of("FR", new Country("FR")), key(1));
+        cache.execute(()->new Country[] {new Country("FR")}, key(2));
+        cache.execute(()->List.of(new Country("FR"), new CountryDto("FR")), key(3));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void values_and_dtos_are_shared_as_is() throws Exception {
+        val cache = newCache();
+        val first = cache.execute(()->List.of(new CountryDto("FR")), key());
+        val second = cache.execute(()->List.of(new CountryDto("FR")), key());
+        assertSame(first, second);
+    }
+
+    @Test
+    void expires_after_time_to_live() throws Exception {
+        config.setTimeToLive(Duration.ofSeconds(1));
+        val cache = newCache();
+        cache.execute(this::findAll, key());
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        cache.execute(this::findAll, key());
+
+        assertEquals(2, queryCount.get());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void bounded_by_max_entries_and_weight() throws Exception {
+        config.setMaxEntries(2);
+        val cache = newCache();
+        cache.execute(this::findAll, key(1));
+        cache.execute(this::findAll, key(2));
+        cache.execute(this::findAll, key(3));
+        assertEquals(2, cache.size());
+
+        config.setMaxWeight(3); // each result weighs 2
+        val lighterCache = newCache();
+        lighterCache.execute(this::findAll, key(1));
+        lighterCache.execute(this::findAll, key(2));
+        assertEquals(1, lighterCache.size());
+    }
+
+    @Test
+    void invalidated_only_by_changes_to_touched_entity_types() throws Exception {
+        val cache = newCache();
+        cache.execute(this::findAll, key());
+
+        cache.invalidate(Set.of(Currency.class));
+        cache.execute(this::findAll, key());
+        assertEquals(1, queryCount.get());
+
+        cache.invalidate(Set.of(Country.class));
+        cache.execute(this::findAll, key());
+        assertEquals(2, queryCount.get());
+    }
+
+    @Test
+    void results_without_entities_are_invalidated_by_any_change() throws Exception {
+        val cache = newCache();
+        cache.execute(List::of, key());
+        cache.invalidate(Set.of(Currency.class));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void result_computed_during_invalidation_is_not_cached() throws Exception {
+        val cache = newCache();
+        cache.execute(()->{
+            cache.invalidate(Set.of(Country.class));
+            return findAll();
+        }, key());
+        assertEquals(0, cache.size());
+    }
+
+}
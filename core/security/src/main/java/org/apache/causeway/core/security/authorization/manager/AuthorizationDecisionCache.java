@@ -0,0 +1,148 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.security.authorization.manager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Application-wide cache of the decisions of an {@link org.apache.causeway.core.security.authorization.Authorizor},
+ * keyed by the fingerprint of the user's role set, the {@link Identifier} and the mode (viewing or changing).
+ *
+ * @see CausewayConfiguration.Security.AuthorizationDecisionCache
+ */
+final class AuthorizationDecisionCache {
+
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Guarded by itself; in access order, evicting the least recently used role set.
+     */
+    private final Map<String, RoleSetDecisions> decisionsByFingerprint;
+
+    AuthorizationDecisionCache(
+            final @NonNull CausewayConfiguration.Security.AuthorizationDecisionCache config,
+            final @NonNull LongSupplier nanoClock) {
+        this.timeToLiveNanos = config.getTimeToLive().toNanos();
+        this.nanoClock = nanoClock;
+        val maxRoleSets = config.getMaxRoleSets();
+        this.decisionsByFingerprint = new LinkedHashMap<>(16, 0.75f, /*accessOrder*/ true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, RoleSetDecisions> eldest) {
+                return size() > maxRoleSets;
+            }
+        };
+    }
+
+    boolean isVisible(
+            final InteractionContext authentication,
+            final Identifier identifier,
+            final Predicate<Identifier> authorizor) {
+        val decisions = decisionsFor(authentication);
+        return decisions != null
+                ? decide(decisions.viewing, identifier, authorizor)
+                : authorizor.test(identifier);
+    }
+
+    boolean isUsable(
+            final InteractionContext authentication,
+            final Identifier identifier,
+            final Predicate<Identifier> authorizor) {
+        val decisions = decisionsFor(authentication);
+        return decisions != null
+                ? decide(decisions.changing, identifier, authorizor)
+                : authorizor.test(identifier);
+    }
+
+    void invalidate() {
+        synchronized (decisionsByFingerprint) {
+            decisionsByFingerprint.clear();
+        }
+    }
+
+    // -- HELPER
+
+    // not using computeIfAbsent, so that the authorizor is not called while holding the map's lock
+    private static boolean decide(
+            final Map<Identifier, Boolean> decisions,
+            final Identifier identifier,
+            final Predicate<Identifier> authorizor) {
+        val cached = decisions.get(identifier);
+        if(cached != null) {
+            return cached;
+        }
+        val decision = authorizor.test(identifier);
+        decisions.putIfAbsent(identifier, decision);
+        return decision;
+    }
+
+    private @Nullable RoleSetDecisions decisionsFor(final @Nullable InteractionContext authentication) {
+        if(authentication == null
+                || authentication.getUser() == null) {
+            return null;
+        }
+        val fingerprint = fingerprintOf(authentication);
+        val now = nanoClock.getAsLong();
+        synchronized (decisionsByFingerprint) {
+            val decisions = decisionsByFingerprint.get(fingerprint);
+            if(decisions != null
+                    && now - decisions.createdAtNanos < timeToLiveNanos) {
+                return decisions;
+            }
+            val newDecisions = new RoleSetDecisions(now);
+            decisionsByFingerprint.put(fingerprint, newDecisions);
+            return newDecisions;
+        }
+    }
+
+    /**
+     * The (sorted, distinct) role names, so that users having the same roles share decisions.
+     */
+    private static String fingerprintOf(final InteractionContext authentication) {
+        return authentication.getUser().streamRoleNames()
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining("\u0000"));
+    }
+
+    private static final class RoleSetDecisions {
+        private final long createdAtNanos;
+        private final Map<Identifier, Boolean> viewing = new ConcurrentHashMap<>();
+        private final Map<Identifier, Boolean> changing = new ConcurrentHashMap<>();
+        private RoleSetDecisions(final long createdAtNanos) {
+            this.createdAtNanos = createdAtNanos;
+        }
+    }
+
+}
@@ -27,6 +27,7 @@
 
 import org.apache.causeway.core.security.CausewayModuleCoreSecurity;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
@@ -40,8 +41,13 @@
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.security.authorization.Authorizor;
 
+import lombok.val;
+
 /**
  * Authorizes the user in the current session view and use members of an object.
+ * <p>
+ * Optionally caches the decisions of the {@link Authorizor} per set of roles
+ * (see {@link CausewayConfiguration.Security.AuthorizationDecisionCache}).
  *
  * @since 1.x {@index}
  */
@@ -56,6 +62,7 @@ public class AuthorizationManager {
     private final Authorizor authorizor;
     private final ActionSemanticsResolver actionSemanticsResolver;
     private final boolean actionsWithSafeSemanticsRequireOnlyViewingPermission;
+    private final @Nullable AuthorizationDecisionCache decisionCache;
 
     @Inject
     public AuthorizationManager(
@@ -68,6 +75,11 @@ public AuthorizationManager(
                 config.getSecurity().isActionsWithSafeSemanticsRequireOnlyViewingPermission();
         this.actionSemanticsResolver = actionSemanticsResolver;
 
+        val decisionCacheConfig = config.getSecurity().getAuthorizationDecisionCache();
+        this.decisionCache = decisionCacheConfig.isEnabled()
+                ? new AuthorizationDecisionCache(decisionCacheConfig, System::nanoTime)
+                : null;
+
         _Assert.assertTrue(_NullSafe.size(authorizors)>0, ()->
             String.format(
                     "At least one %s is required to be registered for injection.",
@@ -96,7 +108,7 @@ public boolean isUsable(
         if(containsSudoSuperuserRole(authentication)) {
             return true;
         }
-        if (authorizor.isUsable(authentication, identifier)) {
+        if (authorizorIsUsable(authentication, identifier)) {
             return true;
         }
         if (actionsWithSafeSemanticsRequireOnlyViewingPermission
@@ -128,14 +140,36 @@ public boolean isVisible(
         if(containsSudoSuperuserRole(authentication)) {
             return true;
         }
-        if (authorizor.isVisible(authentication, identifier)) {
+        if (authorizorIsVisible(authentication, identifier)) {
             return true;
         }
         return false;
     }
 
+    /**
+     * Discards any cached authorization decisions.
+     */
+    @EventListener(AuthorizationChangedEvent.class)
+    public void onAuthorizationChanged(final AuthorizationChangedEvent event) {
+        if(decisionCache != null) {
+            decisionCache.invalidate();
+        }
+    }
+
     // -- HELPER
 
+    private boolean authorizorIsUsable(final InteractionContext authentication, final Identifier identifier) {
+        return decisionCache != null
+                ? decisionCache.isUsable(authentication, identifier, id->authorizor.isUsable(authentication, id))
+                : authorizor.isUsable(authentication, identifier);
+    }
+
+    private boolean authorizorIsVisible(final InteractionContext authentication, final Identifier identifier) {
+        return decisionCache != null
+                ? decisionCache.isVisible(authentication, identifier, id->authorizor.isVisible(authentication, id))
+                : authorizor.isVisible(authentication, identifier);
+    }
+
     private static boolean containsSudoSuperuserRole(
             final @Nullable InteractionContext session) {
         if(session==null || session.getUser()==null) {
@@ -0,0 +1,121 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.security.authorization.manager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.applib.id.LogicalType;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+import lombok.val;
+
+class AuthorizationDecisionCacheTest {
+
+    AuthorizationDecisionCache cache;
+    AtomicLong nanoTime;
+    AtomicInteger authorizorCalls;
+    Predicate<Identifier> authorizor;
+
+    final Identifier identifier = Identifier.propertyIdentifier(
+            LogicalType.fqcn(Customer.class), "name");
+
+    static class Customer {}
+
+    @BeforeEach
+    void setup() {
+        val config = new CausewayConfiguration.Security.AuthorizationDecisionCache();
+        config.setEnabled(true);
+        config.setTimeToLive(Duration.ofMinutes(1));
+        config.setMaxRoleSets(2);
+        nanoTime = new AtomicLong();
+        cache = new AuthorizationDecisionCache(config, nanoTime::get);
+        authorizorCalls = new AtomicInteger();
+        authorizor = id->{
+            authorizorCalls.incrementAndGet();
+            return true;
+        };
+    }
+
+    private static InteractionContext user(final String name, final String... roleNames) {
+        return InteractionContext.ofUserWithSystemDefaults(UserMemento.ofNameAndRoleNames(name, roleNames));
+    }
+
+    @Test
+    void users_with_same_roles_share_decisions() {
+        assertTrue(cache.isVisible(user("sven", "a", "b"), identifier, authorizor));
+        assertTrue(cache.isVisible(user("dick", "b", "a"), identifier, authorizor));
+        assertEquals(1, authorizorCalls.get());
+    }
+
+    @Test
+    void viewing_and_changing_are_decided_separately() {
+        assertTrue(cache.isVisible(user("sven", "a"), identifier, authorizor));
+        assertFalse(cache.isUsable(user("sven", "a"), identifier, id->false));
+        assertFalse(cache.isUsable(user("sven", "a"), identifier, authorizor));
+        assertEquals(1, authorizorCalls.get());
+    }
+
+    @Test
+    void users_with_other_roles_do_not_share_decisions() {
+        cache.isVisible(user("sven", "a"), identifier, authorizor);
+        cache.isVisible(user("dick", "a", "b"), identifier, authorizor);
+        assertEquals(2, authorizorCalls.get());
+    }
+
+    @Test
+    void decisions_expire() {
+        cache.isVisible(user("sven", "a"), identifier, authorizor);
+        nanoTime.addAndGet(Duration.ofMinutes(2).toNanos());
+        cache.isVisible(user("sven", "a"), identifier, authorizor);
+        assertEquals(2, authorizorCalls.get());
+    }
+
+    @Test
+    void least_recently_used_role_set_is_evicted() {
+        cache.isVisible(user("sven", "a"), identifier, authorizor);
+        cache.isVisible(user("dick", "b"), identifier, authorizor);
+        cache.isVisible(user("sven", "a"), identifier, authorizor); // hit
+        cache.isVisible(user("bob", "c"), identifier, authorizor); // evicts "b"
+        cache.isVisible(user("sven", "a"), identifier, authorizor); // hit
+        cache.isVisible(user("dick", "b"), identifier, authorizor);
+        assertEquals(4, authorizorCalls.get());
+    }
+
+    @Test
+    void invalidation_discards_decisions() {
+        cache.isVisible(user("sven", "a"), identifier, authorizor);
+        cache.invalidate();
+        cache.isVisible(user("sven", "a"), identifier, authorizor);
+        assertEquals(2, authorizorCalls.get());
+    }
+
+}
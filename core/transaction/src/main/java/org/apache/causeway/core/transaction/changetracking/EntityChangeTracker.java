@@ -75,6 +75,16 @@ public interface EntityChangeTracker extends DisposableBean {
      */
     void enlistDeleting(ManagedObject entity) ;
 
+    /**
+     * Publishing support: for object stores to notify that an (updated) object has just been flushed,
+     * such that the post-modification values of its properties could be captured early.
+     *
+     * <p>
+     * Does nothing by default.
+     * </p>
+     */
+    default void onEntityFlushed(final ManagedObject entity) {}
+
     /**
      * Not strictly part of the concern of entity tracking, but allows the default implementation to also implement
      * the {@link org.apache.causeway.applib.services.metrics.MetricsService}.
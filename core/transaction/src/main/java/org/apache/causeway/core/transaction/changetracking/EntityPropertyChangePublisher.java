@@ -30,10 +30,12 @@
 public interface EntityPropertyChangePublisher {
 
     /**
-     * Notifies {@link org.apache.causeway.applib.services.publishing.spi.EntityPropertyChangeSubscriber}s that
-     * a property of an entity has changed using the
+     * Notifies {@link org.apache.causeway.applib.services.publishing.spi.EntityPropertyChangeSubscriber}s of
+     * all properties of entities changed within the current transaction, using the
+     * {@link org.apache.causeway.applib.services.publishing.spi.EntityPropertyChangeSubscriber#onBulkChanging(org.apache.causeway.commons.collections.Can)}
+     * callback (which by default delegates to
      * {@link org.apache.causeway.applib.services.publishing.spi.EntityPropertyChangeSubscriber#onChanging(EntityPropertyChange)}
-     * callback.
+     * for each change).
      */
     void publishChangedProperties();
 
@@ -32,6 +32,7 @@
 import org.apache.causeway.extensions.commandlog.applib.dom.mixins.CommandLogEntry_openResultObject;
 import org.apache.causeway.extensions.commandlog.applib.dom.mixins.CommandLogEntry_siblingCommands;
 import org.apache.causeway.extensions.commandlog.applib.fakescheduler.FakeScheduler;
+import org.apache.causeway.extensions.commandlog.applib.job.BackgroundCommandsExecutor;
 import org.apache.causeway.extensions.commandlog.applib.job.RunBackgroundCommandsJob;
 import org.apache.causeway.extensions.commandlog.applib.subscriber.CommandSubscriberForCommandLog;
 
@@ -57,6 +58,7 @@
 
         BackgroundService.class,
         BackgroundService.PersistCommandExecutorService.class,
+        BackgroundCommandsExecutor.class,
 
         FakeScheduler.class,
 })
@@ -135,6 +135,8 @@ public static class Nq {
         public static final String FIND_RECENT_BY_USERNAME              = LOGICAL_TYPE_NAME + ".findRecentByUsername";
         public static final String FIND_FIRST                           = LOGICAL_TYPE_NAME + ".findFirst";
         public static final String FIND_SINCE                           = LOGICAL_TYPE_NAME + ".findSince";
+        public static final String FIND_ORDERED_BY_PK                   = LOGICAL_TYPE_NAME + ".findOrderedByPk";
+        public static final String FIND_ORDERED_BY_PK_AFTER             = LOGICAL_TYPE_NAME + ".findOrderedByPkAfter";
         /**
          * The most recent (replayed) command previously replicated from primary to secondary.
          *
@@ -151,6 +153,7 @@ public static class Nq {
         public static final String FIND_BY_REPLAY_STATE                 = LOGICAL_TYPE_NAME + ".findNotYetReplayed";
         public static final String FIND_BACKGROUND_AND_NOT_YET_STARTED  = LOGICAL_TYPE_NAME + ".findBackgroundAndNotYetStarted";
         public static final String FIND_RECENT_BACKGROUND_BY_TARGET     = LOGICAL_TYPE_NAME + ".findRecentBackgroundByTarget";
+        public static final String CLAIM_BACKGROUND                     = LOGICAL_TYPE_NAME + ".claimBackground";
     }
 
 
@@ -665,6 +668,43 @@ class DomainEvent extends PropertyDomainEvent<String> {}
     }
 
 
+
+    @java.lang.annotation.Target({ ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface ClaimedBy {
+        int MAX_LENGTH = 255;
+        boolean NULLABLE = true;
+        String ALLOWS_NULL = "true";
+    }
+    /**
+     * For a {@link org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn#BACKGROUND background} command,
+     * identifies the node that most recently claimed it for execution.
+     *
+     * @see #getLeaseUntil()
+     * @see org.apache.causeway.extensions.commandlog.applib.job.RunBackgroundCommandsJob
+     */
+    @Domain.Exclude
+    public abstract String getClaimedBy();
+    public abstract void setClaimedBy(String claimedBy);
+
+
+
+    @java.lang.annotation.Target({ ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface LeaseUntil {
+        boolean NULLABLE = true;
+        String ALLOWS_NULL = "true";
+    }
+    /**
+     * For a {@link org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn#BACKGROUND background} command,
+     * until when the {@link #getClaimedBy() claim} on it is held.  Once expired (for example because the claiming
+     * node died), the command may be claimed again.
+     */
+    @Domain.Exclude
+    public abstract java.sql.Timestamp getLeaseUntil();
+    public abstract void setLeaseUntil(java.sql.Timestamp leaseUntil);
+
+
     @Programmatic
     public void saveAnalysis(final String analysis) {
         if (analysis == null) {
@@ -27,11 +27,13 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
 
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.annotation.Propagation;
 
 import org.apache.causeway.applib.exceptions.RecoverableException;
 import org.apache.causeway.applib.jaxb.JavaSqlXMLGregorianCalendarMarshalling;
@@ -41,6 +43,7 @@
 import org.apache.causeway.applib.services.command.Command;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
@@ -71,6 +74,7 @@ public NotFoundException(final UUID interactionId) {
     @Inject Provider<RepositoryService> repositoryServiceProvider;
     @Inject FactoryService factoryService;
     @Inject CausewaySystemEnvironment causewaySystemEnvironment;
+    @Inject TransactionService transactionService;
 
     private final Class<C> commandLogEntryClass;
 
@@ -281,6 +285,38 @@ public List<C> findBackgroundAndNotYetStarted() {
                 Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED));
     }
 
+    /**
+     * As {@link #findBackgroundAndNotYetStarted()}, but returning at most the specified number of (the oldest)
+     * commands.
+     */
+    public List<C> findBackgroundAndNotYetStarted(final int limit) {
+        return repositoryService().allMatches(
+                Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED)
+                        .withLimit(limit));
+    }
+
+    /**
+     * Attempts to claim the not yet started background command with the specified interactionId for execution by
+     * the specified node, until the specified time.
+     *
+     * <p>
+     *     The claim succeeds only if the command is not currently claimed, or if its previous
+     *     {@link CommandLogEntry#getLeaseUntil() lease} has expired.  This allows several nodes (or threads) to
+     *     execute background commands concurrently, without any command being executed more than once.
+     * </p>
+     *
+     * <p>
+     *     Implementations must claim using a single conditional update, so that the claim is atomic.
+     * </p>
+     *
+     * @return whether the command was claimed.
+     */
+    public abstract boolean claimBackground(
+            final UUID interactionId,
+            final String claimedBy,
+            final Timestamp now,
+            final Timestamp leaseUntil);
+
     public List<C> findRecentBackgroundByTarget(final Bookmark target) {
         return repositoryService().allMatches(
                 Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_RECENT_BACKGROUND_BY_TARGET)
@@ -376,6 +412,50 @@ public void truncateLog() {
         repositoryService().removeAll(commandLogEntryClass);
     }
 
+    /**
+     * Re-writes the {@link CommandLogEntry#getCommandDto() commandDto} of all entries,
+     * so that it is stored using the currently configured format (<code>causeway.persistence.dto-storage.format</code>).
+     * <p>
+     * Entries are processed in batches of given size, each in its own transaction, paging by primary key
+     * (rather than by offset, which would have to skip over all previously re-written entries).
+     *
+     * @return the number of entries re-written
+     */
+    public int rewriteCommandDtos(final int batchSize) {
+        int rewritten = 0;
+        UUID after = null;
+        while(true) {
+            final UUID lastRewritten = after;
+            final List<UUID> rewrittenInBatch = transactionService.callTransactional(
+                            Propagation.REQUIRES_NEW,
+                            () -> rewriteCommandDtos(lastRewritten, batchSize))
+                    .ifFailureFail()
+                    .getValue()
+                    .orElseGet(Collections::emptyList);
+            rewritten += rewrittenInBatch.size();
+            if(rewrittenInBatch.size() < batchSize) {
+                return rewritten;
+            }
+            after = rewrittenInBatch.get(rewrittenInBatch.size() - 1);
+        }
+    }
+
+    /**
+     * @return the interactionIds of the entries re-written, in primary key order
+     */
+    private List<UUID> rewriteCommandDtos(final @Nullable UUID after, final int limit) {
+        val query = after == null
+                ? Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_ORDERED_BY_PK)
+                : Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_ORDERED_BY_PK_AFTER)
+                        .withParameter("afterInteractionId", after);
+        val entries = repositoryService().allMatches(query.withRange(QueryRange.limit(limit)));
+        val dtoMapper = CommandDtoUtils.dtoMapper();
+        entries.forEach(entry->entry.setCommandDto(dtoMapper.clone(entry.getCommandDto())));
+        return entries.stream()
+                .map(CommandLogEntry::getInteractionId)
+                .collect(Collectors.toList());
+    }
+
     // --
 
 
@@ -0,0 +1,294 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandlog.applib.job;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.clock.ClockService;
+import org.apache.causeway.applib.services.command.CommandExecutorService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.commandlog.applib.CausewayModuleExtCommandLogApplib;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepository;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Executes background {@link CommandLogEntry}s on a pool of worker threads, as used by
+ * {@link RunBackgroundCommandsJob}.
+ *
+ * <p>
+ *     Each run claims a batch of not yet started background commands through an atomic lease
+ *     ({@link CommandLogEntryRepository#claimBackground(UUID, String, Timestamp, Timestamp)}), so that several
+ *     nodes of a cluster may run concurrently without executing any command twice.  Claims whose lease has
+ *     expired (for example because the claiming node died) are claimed again.
+ * </p>
+ *
+ * <p>
+ *     Commands with the same target are executed one after the other, in the order they were created: if an
+ *     earlier command for a target is claimed by another node (or cannot be claimed), then none of the later
+ *     commands for that target are claimed either.  Commands with different targets are executed concurrently.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(BackgroundCommandsExecutor.LOGICAL_TYPE_NAME)
+@Log4j2
+public class BackgroundCommandsExecutor {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogApplib.NAMESPACE + ".BackgroundCommandsExecutor";
+
+    /**
+     * How many more not yet started commands are read than are claimed, to allow for those skipped because
+     * their target is blocked by an earlier command.
+     */
+    private static final int READ_AHEAD_FACTOR = 4;
+
+    private final InteractionService interactionService;
+    private final TransactionService transactionService;
+    private final CommandLogEntryRepository<? extends CommandLogEntry> commandLogEntryRepository;
+    private final CommandExecutorService commandExecutorService;
+    private final ClockService clockService;
+    private final CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands config;
+
+    private final ExecutorService workerPool;
+    private final String nodeId;
+
+    private final LongAdder commandsExecuted = new LongAdder();
+    private final LongAdder commandsFailed = new LongAdder();
+    private volatile int queueDepth;
+    private volatile double throughputPerSecond;
+
+    @Inject
+    public BackgroundCommandsExecutor(
+            final InteractionService interactionService,
+            final TransactionService transactionService,
+            final CommandLogEntryRepository<? extends CommandLogEntry> commandLogEntryRepository,
+            final CommandExecutorService commandExecutorService,
+            final ClockService clockService,
+            final CausewayConfiguration causewayConfiguration) {
+        this.interactionService = interactionService;
+        this.transactionService = transactionService;
+        this.commandLogEntryRepository = commandLogEntryRepository;
+        this.commandExecutorService = commandExecutorService;
+        this.clockService = clockService;
+        this.config = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands();
+        this.workerPool = Executors.newFixedThreadPool(Math.max(1, config.getThreads()));
+        this.nodeId = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+    }
+
+    /**
+     * Waits for any commands currently executing to complete, but for no longer than the lease duration (after which
+     * they could be claimed by another node anyway), then interrupts them.
+     */
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdown();
+        try {
+            if(!workerPool.awaitTermination(config.getLeaseDuration().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("background commands still executing after {}, interrupting", config.getLeaseDuration());
+                workerPool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workerPool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Claims the next batch of not yet started background commands, and executes them, returning once all
+     * have been executed.
+     *
+     * @param interactionContext - the context in which to claim and execute the commands.
+     */
+    public void executeNotYetStarted(final InteractionContext interactionContext) {
+
+        final long startedAtNanos = System.nanoTime();
+
+        val commandDtosByTarget = interactionService.call(interactionContext, this::claimNextBatch);
+
+        val futures = new ArrayList<CompletableFuture<Void>>();
+        for (val commandDtos : commandDtosByTarget.values()) {
+            futures.add(CompletableFuture.runAsync(
+                    () -> interactionService.run(interactionContext, () -> executeInOrder(commandDtos)),
+                    workerPool));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        final int executed = commandDtosByTarget.values().stream().mapToInt(List::size).sum();
+        if(executed > 0) {
+            final double elapsedSeconds = Math.max(1, System.nanoTime() - startedAtNanos) / 1_000_000_000d;
+            throughputPerSecond = executed / elapsedSeconds;
+            log.debug("executed {} background commands for {} targets in {}s ({} remaining)",
+                    executed, commandDtosByTarget.size(), elapsedSeconds, queueDepth);
+        }
+    }
+
+    // -- METRICS
+
+    /**
+     * Total number of background commands executed (whether successfully or not) by this node.
+     */
+    public long getCommandsExecuted() {
+        return commandsExecuted.longValue();
+    }
+
+    /**
+     * Total number of background commands that could not be executed by this node, because of an exception.
+     */
+    public long getCommandsFailed() {
+        return commandsFailed.longValue();
+    }
+
+    /**
+     * Number of not yet started background commands remaining after the most recent claim (as seen by this
+     * node, and counting no further than the read-ahead of a single batch).
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * Number of background commands per second executed by the most recent (non-empty) run on this node.
+     */
+    public double getThroughputPerSecond() {
+        return throughputPerSecond;
+    }
+
+    // -- HELPER
+
+    @Value
+    private static class Claimable {
+        Bookmark target;
+        CommandDto commandDto;
+    }
+
+    private Map<Object, List<CommandDto>> claimNextBatch() {
+
+        final int batchSize = Math.max(1, config.getBatchSize());
+
+        // we obtain the list of Commands first; we use their CommandDto as it is serializable across transactions
+        val notYetStarted = transactionService.callTransactional(
+                        Propagation.REQUIRES_NEW,
+                        () -> {
+                            val list = new ArrayList<Claimable>();
+                            for (val entry : commandLogEntryRepository
+                                    .findBackgroundAndNotYetStarted(batchSize * READ_AHEAD_FACTOR)) {
+                                list.add(new Claimable(entry.getTarget(), entry.getCommandDto()));
+                            }
+                            return list;
+                        })
+                .ifFailureFail()    // we give up if unable to find these
+                .getValue()
+                .orElseGet(ArrayList::new);
+
+        val now = clockService.getClock().nowAsJavaSqlTimestamp();
+        val leaseUntil = new Timestamp(now.getTime() + config.getLeaseDuration().toMillis());
+
+        // LinkedHashMap preserves the order in which targets are first encountered
+        final Map<Object, List<CommandDto>> claimedByTarget = new LinkedHashMap<>();
+        final Set<Bookmark> blockedTargets = new HashSet<>();
+        int claimed = 0;
+
+        for (val claimable : notYetStarted) {
+            if(claimed >= batchSize) {
+                break;
+            }
+            val target = claimable.getTarget();
+            if(target != null && blockedTargets.contains(target)) {
+                continue; // an earlier command for this target is not ours to execute
+            }
+            val commandDto = claimable.getCommandDto();
+            val interactionId = UUID.fromString(commandDto.getInteractionId());
+            val success = transactionService.callTransactional(
+                        Propagation.REQUIRES_NEW,
+                        () -> commandLogEntryRepository.claimBackground(interactionId, nodeId, now, leaseUntil))
+                    .ifFailure(throwable -> log.warn("Failed to claim command: " + interactionId, throwable))
+                    .getValue()
+                    .orElse(false);
+            if(!success) {
+                if(target != null) {
+                    blockedTargets.add(target);
+                }
+                continue;
+            }
+            // commands without a target are not ordered with respect to any other
+            claimedByTarget
+                .computeIfAbsent(target != null ? target : interactionId, __ -> new ArrayList<>())
+                .add(commandDto);
+            claimed++;
+        }
+
+        queueDepth = notYetStarted.size() - claimed;
+        return claimedByTarget;
+    }
+
+    /**
+     * Executes each command within its own transaction.  Failure of one should not impact the next.
+     */
+    private void executeInOrder(final List<CommandDto> commandDtos) {
+        for (val commandDto : commandDtos) {
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                // it's necessary to look up the CommandLogEntry again because we are within a new transaction.
+                val commandLogEntryIfAny = commandLogEntryRepository.findByInteractionId(UUID.fromString(commandDto.getInteractionId()));
+
+                // finally, we execute
+                commandLogEntryIfAny.ifPresent(commandLogEntry ->
+                        commandExecutorService.executeCommand(
+                                CommandExecutorService.InteractionContextPolicy.NO_SWITCH, commandDto));
+            })
+            .ifSuccess(__ -> commandsExecuted.increment())
+            .ifFailure(throwable -> {
+                commandsFailed.increment();
+                log.error("Failed to execute command: " +
+                        CommandDtoUtils.dtoMapper().toString(commandDto), throwable);
+            });
+        }
+    }
+
+}
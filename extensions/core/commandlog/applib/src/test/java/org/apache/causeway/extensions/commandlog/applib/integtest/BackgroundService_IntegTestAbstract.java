@@ -18,7 +18,12 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.integtest;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -220,6 +225,118 @@ void using_background_service() {
 
     }
 
+    @Test
+    void claim_is_exclusive_until_lease_expires() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+        val interactionId = scheduleBumps(1).get(0);
+
+        val now = new Timestamp(System.currentTimeMillis());
+        val inOneMinute = new Timestamp(now.getTime() + 60_000L);
+        val inTwoMinutes = new Timestamp(now.getTime() + 120_000L);
+
+        // when, then
+        assertThat(claim(interactionId, "node-a", now, inOneMinute)).isTrue();
+        assertThat(claim(interactionId, "node-b", now, inOneMinute)).isFalse();
+
+        // and when lease expired
+        assertThat(claim(interactionId, "node-b", inOneMinute, inTwoMinutes)).isFalse(); // not yet, lease held until
+        assertThat(claim(interactionId, "node-b", new Timestamp(inOneMinute.getTime() + 1), inTwoMinutes)).isTrue();
+
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val commandLogEntry = commandLogEntryRepository.findByInteractionId(interactionId).orElseThrow();
+            assertThat(commandLogEntry.getClaimedBy()).isEqualTo("node-b");
+            assertThat(commandLogEntry.getLeaseUntil()).isEqualTo(inTwoMinutes);
+        }).ifFailureFail();
+
+        // and when started, can no longer be claimed
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            commandLogEntryRepository.findByInteractionId(interactionId).orElseThrow().setStartedAt(now);
+        }).ifFailureFail();
+        assertThat(claim(interactionId, "node-c", new Timestamp(inTwoMinutes.getTime() + 1), inTwoMinutes)).isFalse();
+    }
+
+    @Test
+    void commands_for_same_target_are_executed_in_order() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+        scheduleBumps(3);
+
+        // when
+        runBackgroundCommandsJob.execute(mockQuartzJobExecutionContext);
+        interactionService.nextInteraction();
+
+        // then
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            assertThat(counter.getNum()).isEqualTo(3L);
+
+            val entries = commandLogEntryRepository.findAll().stream()
+                    .sorted(Comparator.comparing(CommandLogEntry::getTimestamp))
+                    .collect(Collectors.toList());
+            assertThat(entries).hasSize(3);
+            entries.forEach(entry -> assertThat(entry.getStartedAt()).isNotNull());
+            for (int i = 1; i < entries.size(); i++) {
+                val previous = entries.get(i - 1);
+                // each only started once the previous had started (and completed, if recorded)
+                assertThat(entries.get(i).getStartedAt()).isAfterOrEqualTo(
+                        previous.getCompletedAt() != null ? previous.getCompletedAt() : previous.getStartedAt());
+            }
+        }).ifFailureFail();
+    }
+
+    @Test
+    void commands_for_same_target_are_not_executed_while_an_earlier_one_is_claimed_elsewhere() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+        val interactionIds = scheduleBumps(3);
+        val now = new Timestamp(System.currentTimeMillis());
+        assertThat(claim(interactionIds.get(0), "some-other-node", now, new Timestamp(now.getTime() + 3_600_000L)))
+            .isTrue();
+
+        // when
+        runBackgroundCommandsJob.execute(mockQuartzJobExecutionContext);
+        interactionService.nextInteraction();
+
+        // then
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            assertThat(counter.getNum()).isNull();
+            assertThat(commandLogEntryRepository.findBackgroundAndNotYetStarted()).hasSize(3);
+        }).ifFailureFail();
+    }
+
+    /**
+     * @return the interactionIds of the background commands, in the order they were created
+     */
+    @SneakyThrows
+    private List<UUID> scheduleBumps(final int count) {
+        val interactionIds = new ArrayList<UUID>();
+        for (int i = 0; i < count; i++) {
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                val counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+                backgroundService.execute(counter).bumpUsingDeclaredAction();
+            }).ifFailureFail();
+            Thread.sleep(10); // so that each command has a distinct timestamp
+        }
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            commandLogEntryRepository.findBackgroundAndNotYetStarted()
+                .forEach(entry -> interactionIds.add(entry.getInteractionId()));
+        }).ifFailureFail();
+        assertThat(interactionIds).hasSize(count);
+        return interactionIds;
+    }
+
+    private boolean claim(final UUID interactionId, final String claimedBy, final Timestamp now, final Timestamp leaseUntil) {
+        return transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                    commandLogEntryRepository.claimBackground(interactionId, claimedBy, now, leaseUntil))
+                .ifFailureFail()
+                .getValue().orElseThrow();
+    }
+
     private void removeAllCommandLogEntriesAndCounters() {
         transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
             commandLogEntryRepository.removeAll();
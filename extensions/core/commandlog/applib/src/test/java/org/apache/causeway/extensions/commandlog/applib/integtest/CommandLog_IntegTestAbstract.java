@@ -474,6 +474,26 @@ void test_all_the_repository_methods() {
 
     }
 
+    @Test
+    void rewrite_command_dtos_in_batches() {
+
+        // given
+        for (int i = 0; i < 5; i++) {
+            counter1 = counterRepository.findByName("counter-1");
+            wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+            interactionService.nextInteraction();
+        }
+        Assertions.assertThat(commandLogEntryRepository.findMostRecent()).hasSize(5);
+
+        // when
+        val rewritten = commandLogEntryRepository.rewriteCommandDtos(2);
+
+        // then
+        Assertions.assertThat(rewritten).isEqualTo(5);
+        Assertions.assertThat(commandLogEntryRepository.findMostRecent()).hasSize(5)
+                .allSatisfy(entry -> Assertions.assertThat(entry.getCommandDto()).isNotNull());
+    }
+
     @Inject CommandLogEntryRepository<? extends CommandLogEntry> commandLogEntryRepository;
     @Inject SudoService sudoService;
     @Inject ClockService clockService;
@@ -132,6 +132,17 @@
                   + "  FROM " + CommandLogEntry.FQCN + " "
                   + " ORDER BY timestamp DESC, interactionId DESC"
                   + " RANGE 0,100"),
+    @Query(
+            name = Nq.FIND_ORDERED_BY_PK,
+            value = "SELECT "
+                  + "  FROM " + CommandLogEntry.FQCN + " "
+                  + " ORDER BY interactionId ASC"),  // programmatic range
+    @Query(
+            name = Nq.FIND_ORDERED_BY_PK_AFTER,
+            value = "SELECT "
+                  + "  FROM " + CommandLogEntry.FQCN + " "
+                  + " WHERE interactionId > :afterInteractionId "
+                  + " ORDER BY interactionId ASC"),  // programmatic range
     @Query(
             name  = Nq.FIND_RECENT_BY_USERNAME,
             value = "SELECT "
@@ -328,4 +339,16 @@ public CommandLogEntry(
     @Getter @Setter
     private String replayStateFailureReason;
 
+
+    @Column(allowsNull = ClaimedBy.ALLOWS_NULL, length = ClaimedBy.MAX_LENGTH)
+    @Domain.Exclude
+    @Getter @Setter
+    private String claimedBy;
+
+
+    @Column(allowsNull = LeaseUntil.ALLOWS_NULL)
+    @Domain.Exclude
+    @Getter @Setter
+    private java.sql.Timestamp leaseUntil;
+
 }
@@ -18,6 +18,11 @@
  */
 package org.apache.causeway.extensions.commandlog.jdo.dom;
 
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -25,6 +30,9 @@
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.extensions.commandlog.jdo.CausewayModuleExtCommandLogPersistenceJdo;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
+
+import lombok.val;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -43,6 +51,36 @@ public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    @Inject JdoSupportService jdoSupportService;
+
+    /**
+     * Claims using a single conditional (bulk) update, so is atomic.
+     * <p>
+     * DataNucleus only parses a JDOQL <code>UPDATE</code> if bulk updates are allowed at the time the query is
+     * created, hence this query is not declared on {@link CommandLogEntry} alongside the other (named) queries,
+     * but executed using {@link JdoSupportService#executeBulkUpdate(String, Map)}.
+     */
+    @Override
+    public boolean claimBackground(
+            final UUID interactionId,
+            final String claimedBy,
+            final Timestamp now,
+            final Timestamp leaseUntil) {
+        val updated = jdoSupportService.executeBulkUpdate(
+                    "UPDATE " + CommandLogEntry.FQCN + " "
+                  + "   SET claimedBy = :claimedBy, "
+                  + "       leaseUntil = :leaseUntil "
+                  + " WHERE interactionId == :interactionId "
+                  + "    && startedAt == null "
+                  + "    && (leaseUntil == null || leaseUntil < :now) ",
+                Map.of(
+                    "interactionId", interactionId,
+                    "claimedBy", claimedBy,
+                    "now", now,
+                    "leaseUntil", leaseUntil));
+        return updated == 1L;
+    }
+
     /**
      * The DN annotation processor (from artifact {@literal org.datanucleus:datanucleus-jdo-query})
      * should  generate Q classes under 'target/generated-sources/annotations'.
@@ -142,6 +142,17 @@
             query = "SELECT cl "
                     + "  FROM CommandLogEntry cl "
                     + " ORDER BY cl.timestamp DESC, cl.pk.interactionId DESC"), // programmatic LIMIT 30
+    @NamedQuery(
+            name = Nq.FIND_ORDERED_BY_PK,
+            query = "SELECT cl "
+                  + "  FROM CommandLogEntry cl "
+                  + " ORDER BY cl.pk.interactionId ASC"),  // programmatic range
+    @NamedQuery(
+            name = Nq.FIND_ORDERED_BY_PK_AFTER,
+            query = "SELECT cl "
+                  + "  FROM CommandLogEntry cl "
+                  + " WHERE cl.pk.interactionId > :afterInteractionId "
+                  + " ORDER BY cl.pk.interactionId ASC"),  // programmatic range
     @NamedQuery(
             name  = Nq.FIND_RECENT_BY_USERNAME,
             query = "SELECT cl "
@@ -187,6 +198,14 @@
                   + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
                   + "   AND cl.startedAt is null "
                   + " ORDER BY cl.timestamp ASC"),
+    @NamedQuery(
+            name  = Nq.CLAIM_BACKGROUND,
+            query = "UPDATE CommandLogEntry cl "
+                  + "   SET cl.claimedBy  = :claimedBy, "
+                  + "       cl.leaseUntil = :leaseUntil "
+                  + " WHERE cl.pk.interactionId = :interactionId "
+                  + "   AND cl.startedAt is null "
+                  + "   AND (cl.leaseUntil is null OR cl.leaseUntil < :now)"),
         @NamedQuery(
             name  = Nq.FIND_RECENT_BACKGROUND_BY_TARGET,
             query = "SELECT cl "
@@ -341,4 +360,16 @@ public void setInteractionId(final UUID interactionId) {
     @Getter @Setter
     private String replayStateFailureReason;
 
+
+    @Column(nullable = ClaimedBy.NULLABLE, length = ClaimedBy.MAX_LENGTH)
+    @Domain.Exclude
+    @Getter @Setter
+    private String claimedBy;
+
+
+    @Column(nullable = LeaseUntil.NULLABLE)
+    @Domain.Exclude
+    @Getter @Setter
+    private java.sql.Timestamp leaseUntil;
+
 }
@@ -18,13 +18,19 @@
  */
 package org.apache.causeway.extensions.commandlog.jpa.dom;
 
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry.Nq;
 import org.apache.causeway.extensions.commandlog.jpa.CausewayModuleExtCommandLogPersistenceJpa;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -43,4 +49,25 @@ public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    @Inject JpaSupportService jpaSupportService;
+
+    /**
+     * Claims using a single conditional (bulk) update, so is atomic.
+     */
+    @Override
+    public boolean claimBackground(
+            final UUID interactionId,
+            final String claimedBy,
+            final Timestamp now,
+            final Timestamp leaseUntil) {
+        final int updated = jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class)
+                .createNamedQuery(Nq.CLAIM_BACKGROUND)
+                .setParameter("interactionId", interactionId)
+                .setParameter("claimedBy", claimedBy)
+                .setParameter("now", now)
+                .setParameter("leaseUntil", leaseUntil)
+                .executeUpdate();
+        return updated == 1;
+    }
+
 }
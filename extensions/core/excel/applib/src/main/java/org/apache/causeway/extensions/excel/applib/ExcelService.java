@@ -19,7 +19,9 @@
 package org.apache.causeway.extensions.excel.applib;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.apache.causeway.applib.exceptions.RecoverableException;
 import org.apache.causeway.applib.value.Blob;
@@ -63,6 +65,23 @@ <T> Blob toExcel(WorksheetContent worksheetContent, String fileName, InputStream
     Blob toExcel(List<WorksheetContent> worksheetContents, String fileName, InputStream in)
             throws ExcelServiceDefault.Exception;
 
+    /**
+     * As {@link #toExcel(List, String)}, but using a streaming workbook, which keeps only a window of rows in
+     * memory rather than the entire workbook; suitable for large tables.
+     *
+     * <p>
+     *     The size of the window is configured by
+     *     <code>causeway.extensions.excel-download.streaming-row-access-window-size</code>.
+     * </p>
+     */
+    Blob toExcelStreaming(List<WorksheetContent> worksheetContents, String fileName) throws ExcelService.Exception;
+
+    /**
+     * As {@link #toExcelStreaming(List, String)}, but writing the spreadsheet directly to the provided
+     * {@link OutputStream} (which is not closed).
+     */
+    void toExcelStreaming(List<WorksheetContent> worksheetContents, OutputStream out) throws ExcelService.Exception;
+
     <T> Blob toExcelPivot(List<T> domainObjects, Class<T> cls, String fileName) throws ExcelService.Exception;
 
     <T> Blob toExcelPivot(List<T> domainObjects, Class<T> cls, String sheetName, String fileName)
@@ -94,6 +113,21 @@ <T> List<T> fromExcel(Blob excelBlob, Class<T> cls, String sheetName, Mode mode)
     List<List<?>> fromExcel(Blob excelBlob, WorksheetSpec.Matcher matcher, WorksheetSpec.Sequencer sequencer)
             throws ExcelServiceDefault.Exception;
 
+    /**
+     * As {@link #fromExcel(Blob, WorksheetSpec)}, but reading the sheet using a streaming (SAX) parser, and passing
+     * each object to the provided consumer as soon as its row has been read, rather than returning them all in a
+     * list; suitable for large spreadsheets.
+     *
+     * <p>
+     *     Formula cells are read using their cached (last calculated) value.
+     * </p>
+     */
+    <T> void fromExcelStreaming(InputStream in, WorksheetSpec worksheetSpec, Consumer<T> rowConsumer)
+            throws ExcelService.Exception;
+
+    <T> void fromExcelStreaming(Blob excelBlob, WorksheetSpec worksheetSpec, Consumer<T> rowConsumer)
+            throws ExcelService.Exception;
+
     class Exception extends RecoverableException {
 
         private static final long serialVersionUID = 1L;
@@ -21,7 +21,9 @@
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.function.Consumer;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.Priority;
@@ -112,6 +114,20 @@ public Blob toExcel(
         return helper.toExcel(worksheetContents, fileName, in);
     }
 
+    @Override
+    public Blob toExcelStreaming(
+            final List<WorksheetContent> worksheetContents,
+            final String fileName) throws ExcelServiceDefault.Exception {
+        return helper.toExcelStreaming(worksheetContents, fileName);
+    }
+
+    @Override
+    public void toExcelStreaming(
+            final List<WorksheetContent> worksheetContents,
+            final OutputStream out) throws ExcelServiceDefault.Exception {
+        helper.toExcelStreaming(worksheetContents, out);
+    }
+
     @Override
     public <T> Blob toExcelPivot(
             final List<T> domainObjects,
@@ -213,4 +229,24 @@ public List<List<?>> fromExcel(
     }
 
 
+    @Override
+    public <T> void fromExcelStreaming(
+            final InputStream in,
+            final WorksheetSpec worksheetSpec,
+            final Consumer<T> rowConsumer) throws ExcelServiceDefault.Exception {
+        helper.fromExcelStreaming(in, worksheetSpec, rowConsumer);
+    }
+
+    @Override
+    public <T> void fromExcelStreaming(
+            final Blob excelBlob,
+            final WorksheetSpec worksheetSpec,
+            final Consumer<T> rowConsumer) throws ExcelServiceDefault.Exception {
+        try (ByteArrayInputStream bais = new ByteArrayInputStream(excelBlob.getBytes())) {
+            helper.fromExcelStreaming(bais, worksheetSpec, rowConsumer);
+        } catch (IOException e) {
+            throw new ExcelServiceDefault.Exception(e);
+        }
+    }
+
 }
@@ -39,6 +39,7 @@
 import org.joda.time.DateTime;
 import org.joda.time.LocalDate;
 import org.joda.time.LocalDateTime;
+import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.bookmark.BookmarkService;
@@ -48,10 +49,39 @@
 
 final class _CellMarshaller {
 
+    /**
+     * The (read-only) aspects of a {@link Cell} required for importing, so that cells may also be
+     * provided by a streaming (SAX-based) reader.
+     */
+    interface CellValue {
+        int getColumnIndex();
+        CellType getCellType();
+        boolean getBooleanCellValue();
+        double getNumericCellValue();
+        Date getDateCellValue();
+        String getStringCellValue();
+        @Nullable Comment getCellComment();
+
+        static CellValue of(final Cell cell) {
+            return new CellValue() {
+                @Override public int getColumnIndex() { return cell.getColumnIndex(); }
+                @Override public CellType getCellType() { return cell.getCellType(); }
+                @Override public boolean getBooleanCellValue() { return cell.getBooleanCellValue(); }
+                @Override public double getNumericCellValue() { return cell.getNumericCellValue(); }
+                @Override public Date getDateCellValue() { return cell.getDateCellValue(); }
+                @Override public String getStringCellValue() { return cell.getStringCellValue(); }
+                @Override public Comment getCellComment() { return cell.getCellComment(); }
+            };
+        }
+    }
+
     private final CellStyle dateCellStyle;
     private final CellStyle defaultCellStyle;
     private final BookmarkService bookmarkService;
 
+    // lazily created, as there is a limit on the number of cell styles per workbook
+    private CellStyle wrappedCellStyle;
+
     _CellMarshaller(
             final BookmarkService bookmarkService,
             final CellStyle dateCellStyle,
@@ -240,12 +270,14 @@ private boolean setCellValue(final Cell cell, final Object valueAsObj) {
         return false;
     }
 
-    private static void setCellValueForString(final Cell cell, final String objectAsStr, final CellStyle cellStyle) {
+    private void setCellValueForString(final Cell cell, final String objectAsStr, final CellStyle cellStyle) {
         // char 10 is for linebreak within a cell; to display correctly wrap text needs to be set to true
         if (objectAsStr.contains(Character.toString((char)10))) {
-            CellStyle wrappedCellStyle = cell.getSheet().getWorkbook().createCellStyle();
-            wrappedCellStyle.setVerticalAlignment(VerticalAlignment.TOP);
-            wrappedCellStyle.setWrapText(true);
+            if(wrappedCellStyle == null) {
+                wrappedCellStyle = cell.getSheet().getWorkbook().createCellStyle();
+                wrappedCellStyle.setVerticalAlignment(VerticalAlignment.TOP);
+                wrappedCellStyle.setWrapText(true);
+            }
             cell.setCellStyle(wrappedCellStyle);
         } else {
             cell.setCellStyle(cellStyle);
@@ -297,11 +329,11 @@ private static void setCellValueForDate(final Cell cell, final Date date, final
         cell.setCellStyle(dateCellStyle);
     }
 
-    String getStringCellValue(final Cell cell) {
+    String getStringCellValue(final CellValue cell) {
         return getCellValue(cell, String.class);
     }
 
-    Object getCellValue(final Cell cell, final OneToOneAssociation otoa) {
+    Object getCellValue(final CellValue cell, final OneToOneAssociation otoa) {
 
         final CellType cellType = cell.getCellType();
 
@@ -326,7 +358,7 @@ Object getCellValue(final Cell cell, final OneToOneAssociation otoa) {
     }
 
     @SuppressWarnings("unchecked")
-    private <T> T getCellValue(final Cell cell, final Class<T> requiredType) {
+    private <T> T getCellValue(final CellValue cell, final Class<T> requiredType) {
         final CellType cellType = cell.getCellType();
 
         if(requiredType == boolean.class || requiredType == Boolean.class) {
@@ -483,7 +515,7 @@ private <T> T getCellValue(final Cell cell, final Class<T> requiredType) {
     }
 
 
-    private Object getCellComment(final Cell cell, final Class<?> requiredType) {
+    private Object getCellComment(final CellValue cell, final Class<?> requiredType) {
         final Comment comment = cell.getCellComment();
         if(comment == null) {
             return null;
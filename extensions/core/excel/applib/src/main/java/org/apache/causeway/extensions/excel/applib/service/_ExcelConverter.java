@@ -22,6 +22,7 @@
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -30,6 +31,7 @@
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -42,6 +44,7 @@
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.lang.Nullable;
 
@@ -121,6 +124,48 @@ public Row newRow() {
     // //////////////////////////////////////
 
     File appendSheet(final List<WorksheetContent> worksheetContents, final XSSFWorkbook workbook) throws IOException {
+        validateSheetNames(worksheetContents);
+
+        final File tempFile =
+                File.createTempFile(_ExcelConverter.class.getName(), UUID.randomUUID().toString() + XLSX_SUFFIX);
+        try(final FileOutputStream fos = new FileOutputStream(tempFile)) {
+
+            for (WorksheetContent worksheetContent : worksheetContents) {
+                final WorksheetSpec spec = worksheetContent.getSpec();
+                appendSheet(workbook, worksheetContent.getDomainObjects(), spec.getFactory(), spec.getSheetName());
+            }
+            workbook.write(fos);
+        }
+        return tempFile;
+    }
+
+    /**
+     * As per {@link #appendSheet(List, XSSFWorkbook)}, however using a {@link SXSSFWorkbook}, which keeps only a
+     * window of <code>rowAccessWindowSize</code> rows in memory (flushing any others to a temporary file), and
+     * writing directly to the provided {@link OutputStream}.
+     */
+    void writeStreaming(
+            final List<WorksheetContent> worksheetContents,
+            final int rowAccessWindowSize,
+            final OutputStream out) throws IOException {
+        validateSheetNames(worksheetContents);
+
+        final SXSSFWorkbook workbook = new SXSSFWorkbook(rowAccessWindowSize);
+        workbook.setCompressTempFiles(true);
+        try {
+            for (WorksheetContent worksheetContent : worksheetContents) {
+                final WorksheetSpec spec = worksheetContent.getSpec();
+                appendSheet(workbook, worksheetContent.getDomainObjects(), spec.getFactory(), spec.getSheetName());
+            }
+            workbook.write(out);
+        } finally {
+            // deletes the temporary files backing the flushed rows
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private static void validateSheetNames(final List<WorksheetContent> worksheetContents) {
         final Set<String> worksheetNames = worksheetContents.stream()
                 .map(x -> x.getSpec().getSheetName())
                 .collect(Collectors.toSet());
@@ -134,22 +179,10 @@ File appendSheet(final List<WorksheetContent> worksheetContents, final XSSFWorkb
                                 worksheetName));
             }
         }
-
-        final File tempFile =
-                File.createTempFile(_ExcelConverter.class.getName(), UUID.randomUUID().toString() + XLSX_SUFFIX);
-        try(final FileOutputStream fos = new FileOutputStream(tempFile)) {
-
-            for (WorksheetContent worksheetContent : worksheetContents) {
-                final WorksheetSpec spec = worksheetContent.getSpec();
-                appendSheet(workbook, worksheetContent.getDomainObjects(), spec.getFactory(), spec.getSheetName());
-            }
-            workbook.write(fos);
-        }
-        return tempFile;
     }
 
     private Sheet appendSheet(
-            final XSSFWorkbook workbook,
+            final Workbook workbook,
             final List<?> domainObjects,
             final WorksheetSpec.RowFactory<?> factory,
             final String sheetName) throws IOException {
@@ -172,7 +205,7 @@ private Sheet appendSheet(
                     .forEach(annotatedAsHyperlink::add);
         }
 
-        final Sheet sheet = ((Workbook) workbook).createSheet(sheetName);
+        final Sheet sheet = workbook.createSheet(sheetName);
 
         final RowFactory rowFactory = new RowFactory(sheet);
         final Row headerRow = rowFactory.newRow();
@@ -393,28 +426,77 @@ private <T> List<T> fromWorkbook(
             final Workbook workbook,
             final WorksheetSpec worksheetSpec) {
 
-        final WorksheetSpec.RowFactory<Object> factory = worksheetSpec.getFactory();
-        this.serviceInjector.injectServicesInto(factory);
+        final List<T> importedItems = _Lists.newArrayList();
+        final RowImporter<T> rowImporter = new RowImporter<>(worksheetSpec, this.newCellMarshaller(workbook));
 
-        final Class<T> cls = _Casts.uncheckedCast(factory.getCls());
-        final String sheetName = worksheetSpec.getSheetName();
-        final Mode mode = worksheetSpec.getMode();
+        final Sheet sheet = lookupSheet(rowImporter.cls, worksheetSpec.getSheetName(), workbook);
 
-        final List<T> importedItems = _Lists.newArrayList();
+        for (final Row row : sheet) {
+            final List<_CellMarshaller.CellValue> cells = _Lists.newArrayList();
+            for (final Cell cell : row) {
+                cells.add(_CellMarshaller.CellValue.of(cell));
+            }
+            rowImporter.importRow(row.getRowNum(), cells, importedItems::add);
+        }
+        return importedItems;
+    }
 
-        final _CellMarshaller cellMarshaller = this.newCellMarshaller(workbook);
+    /**
+     * As per {@link #fromBytes(byte[], WorksheetSpec)}, however reading the sheet using a SAX parser (rather than
+     * loading the entire workbook into memory), and passing each imported object to the provided consumer (rather than
+     * collecting them into a list).
+     * <p>
+     * Formula cells are read using their cached (last calculated) value.
+     */
+    <T> void fromStreaming(
+            final File file,
+            final WorksheetSpec worksheetSpec,
+            final Consumer<T> consumer) throws IOException {
+
+        // the marshaller requires a workbook only for writing (styles), so an empty one will do
+        try(final XSSFWorkbook styles = new XSSFWorkbook()) {
+            final RowImporter<T> rowImporter = new RowImporter<>(worksheetSpec, this.newCellMarshaller(styles));
+            final List<String> sheetNames = determineCandidateSheetNames(worksheetSpec.getSheetName(), rowImporter.cls);
+            new _ExcelStreamingReader(file).read(sheetNames,
+                    (rowNum, cells) -> rowImporter.importRow(rowNum, cells, consumer));
+        }
+    }
 
-        final Sheet sheet = lookupSheet(cls, sheetName, workbook);
+    /**
+     * Imports rows one at a time, the first being the header row; holds on to the previously imported object only (in
+     * support of {@link RowHandler}).
+     */
+    private class RowImporter<T> {
 
-        boolean header = true;
-        final Map<Integer, Property> propertyByColumn = _Maps.newHashMap();
+        private final WorksheetSpec.RowFactory<Object> factory;
+        private final Class<T> cls;
+        private final String sheetName;
+        private final Mode mode;
+        private final _CellMarshaller cellMarshaller;
+        private final ObjectSpecification objectSpec;
+        private final Map<Integer, Property> propertyByColumn = _Maps.newHashMap();
 
-        final ObjectSpecification objectSpec = specificationLoader.specForType(cls).orElse(null);
+        private boolean header = true;
+        private T previousRow = null;
+
+        RowImporter(final WorksheetSpec worksheetSpec, final _CellMarshaller cellMarshaller) {
+            this.factory = worksheetSpec.getFactory();
+            serviceInjector.injectServicesInto(factory);
+
+            this.cls = _Casts.uncheckedCast(factory.getCls());
+            this.sheetName = worksheetSpec.getSheetName();
+            this.mode = worksheetSpec.getMode();
+            this.cellMarshaller = cellMarshaller;
+            this.objectSpec = specificationLoader.specForType(cls).orElse(null);
+        }
+
+        void importRow(
+                final int rowNum,
+                final Iterable<_CellMarshaller.CellValue> cells,
+                final Consumer<T> consumer) {
 
-        T previousRow = null;
-        for (final Row row : sheet) {
             if (header) {
-                for (final Cell cell : row) {
+                for (final _CellMarshaller.CellValue cell : cells) {
 
                     try{
                         if (cell.getCellType() != CellType.BLANK) {
@@ -432,91 +514,87 @@ private <T> List<T> fromWorkbook(
                         case RELAXED:
                             // ignore
                         default:
-                            throw new ExcelServiceDefault.Exception(String.format("Error processing Excel row nr. %d. Message: %s", row.getRowNum(), e.getMessage()), e);
+                            throw new ExcelServiceDefault.Exception(String.format("Error processing Excel row nr. %d. Message: %s", rowNum, e.getMessage()), e);
                         }
                     }
 
                 }
                 header = false;
-            } else {
-                // detail
-
-                // Let's require at least one column to be not null for detecting a blank row.
-                // Excel can have physical rows with cells empty that it seem do not existent for the user.
-                ManagedObject templateAdapter = null;
-                T imported = null;
-                for (final Cell cell : row) {
-
-                    try {
-
-                        final int columnIndex = cell.getColumnIndex();
-                        final Property property = propertyByColumn.get(columnIndex);
-                        if (property != null) {
-                            final OneToOneAssociation otoa = property.getOneToOneAssociation();
-                            final Object value = cellMarshaller.getCellValue(cell, otoa);
-                            if (value != null) {
-                                if (imported == null) {
-                                    // copy the row into a new object
-                                    imported = _Casts.uncheckedCast(factory.create());
-                                    // set excel metadata if applicable
-                                    if (ExcelMetaDataEnabled.class.isAssignableFrom(cls)){
-                                        ExcelMetaDataEnabled importedEnhanced = (ExcelMetaDataEnabled) imported;
-                                        importedEnhanced.setExcelRowNumber(row.getRowNum());
-                                        importedEnhanced.setExcelSheetName(sheetName);
-                                        imported = _Casts.uncheckedCast(importedEnhanced);
-                                    }
-                                    templateAdapter = this.objectManager.adapt(imported);
+                return;
+            }
+
+            // detail
+
+            // Let's require at least one column to be not null for detecting a blank row.
+            // Excel can have physical rows with cells empty that it seem do not existent for the user.
+            ManagedObject templateAdapter = null;
+            T imported = null;
+            for (final _CellMarshaller.CellValue cell : cells) {
+
+                try {
+
+                    final int columnIndex = cell.getColumnIndex();
+                    final Property property = propertyByColumn.get(columnIndex);
+                    if (property != null) {
+                        final OneToOneAssociation otoa = property.getOneToOneAssociation();
+                        final Object value = cellMarshaller.getCellValue(cell, otoa);
+                        if (value != null) {
+                            if (imported == null) {
+                                // copy the row into a new object
+                                imported = _Casts.uncheckedCast(factory.create());
+                                // set excel metadata if applicable
+                                if (ExcelMetaDataEnabled.class.isAssignableFrom(cls)){
+                                    ExcelMetaDataEnabled importedEnhanced = (ExcelMetaDataEnabled) imported;
+                                    importedEnhanced.setExcelRowNumber(rowNum);
+                                    importedEnhanced.setExcelSheetName(sheetName);
+                                    imported = _Casts.uncheckedCast(importedEnhanced);
                                 }
-                                final ManagedObject valueAdapter = this.objectManager.adapt(value);
-                                otoa.set(templateAdapter, valueAdapter, InteractionInitiatedBy.USER);
+                                templateAdapter = objectManager.adapt(imported);
                             }
-                        } else {
-                            // not expected; just ignore.
+                            final ManagedObject valueAdapter = objectManager.adapt(value);
+                            otoa.set(templateAdapter, valueAdapter, InteractionInitiatedBy.USER);
                         }
+                    } else {
+                        // not expected; just ignore.
+                    }
 
-                    } catch (final Exception e) {
-                        switch (mode) {
-                        case RELAXED:
-                            // ignore
-                            break;
-                        default:
-                            throw new ExcelServiceDefault.Exception(String.format("Error processing Excel row nr. %d. Message: %s", row.getRowNum(), e.getMessage()), e);
+                } catch (final Exception e) {
+                    switch (mode) {
+                    case RELAXED:
+                        // ignore
+                        break;
+                    default:
+                        throw new ExcelServiceDefault.Exception(String.format("Error processing Excel row nr. %d. Message: %s", rowNum, e.getMessage()), e);
 
-                        }
                     }
                 }
+            }
 
-                //
-                // TODO: v2: to review... there is no longer an API to remove adapters.
-                //  However, my hope is that it isn't needed, because we no longer maintain an oid <-> adapter map.
-                //
-//                // we need to remove the templateAdapter because earlier on we will have created an adapter (and corresponding OID)
-//                // for a view model where the OID is initially computed on the incomplete (in fact, empty) view model.
-//                // removing the adapter therefore removes the OID as well, so next time an adapter is needed for the view model
-//                // the OID will be recomputed based on the fully populated view model pojo.
-//                if(templateAdapter != null) {
-//                    this.objectManager.removeAdapter(templateAdapter);
-//                }
-
-                if (imported != null) {
-                    importedItems.add(imported);
-
-                    if(imported instanceof RowHandler) {
-                        val rowHandler = (RowHandler<?>) imported;
-                        val rowHandlerPrev = (RowHandler<?>) previousRow;
-
-                        rowHandler.handleRow(_Casts.uncheckedCast(rowHandlerPrev));
-                    }
-
-                    previousRow = imported;
+            //
+            // TODO: v2: to review... there is no longer an API to remove adapters.
+            //  However, my hope is that it isn't needed, because we no longer maintain an oid <-> adapter map.
+            //
+//            // we need to remove the templateAdapter because earlier on we will have created an adapter (and corresponding OID)
+//            // for a view model where the OID is initially computed on the incomplete (in fact, empty) view model.
+//            // removing the adapter therefore removes the OID as well, so next time an adapter is needed for the view model
+//            // the OID will be recomputed based on the fully populated view model pojo.
+//            if(templateAdapter != null) {
+//                objectManager.removeAdapter(templateAdapter);
+//            }
+
+            if (imported != null) {
+                consumer.accept(imported);
+
+                if(imported instanceof RowHandler) {
+                    val rowHandler = (RowHandler<?>) imported;
+                    val rowHandlerPrev = (RowHandler<?>) previousRow;
+
+                    rowHandler.handleRow(_Casts.uncheckedCast(rowHandlerPrev));
                 }
 
+                previousRow = imported;
             }
-
-
-
         }
-        return importedItems;
     }
 
     protected <T> Sheet lookupSheet(final Class<T> cls, final String sheetName, final Workbook workbook) {
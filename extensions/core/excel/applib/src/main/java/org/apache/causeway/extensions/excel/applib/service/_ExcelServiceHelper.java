@@ -21,8 +21,12 @@
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
@@ -31,6 +35,7 @@
 import org.apache.causeway.applib.services.inject.ServiceInjector;
 import org.apache.causeway.applib.value.Blob;
 import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
 import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
 import org.apache.causeway.extensions.excel.applib.WorksheetContent;
@@ -124,6 +129,38 @@ Blob toExcel(final List<WorksheetContent> worksheetContents, final String fileNa
         }
     }
 
+    /**
+     * As {@link #toExcel(List, String)}, but using a streaming workbook, keeping only a window of rows in memory.
+     *
+     * @see CausewayConfiguration.Extensions.ExcelDownload#getStreamingRowAccessWindowSize()
+     */
+    Blob toExcelStreaming(final List<WorksheetContent> worksheetContents, final String fileName) {
+        File file = null;
+        try {
+            file = File.createTempFile(_ExcelServiceHelper.class.getName(), ".xlsx");
+            try(final OutputStream out = Files.newOutputStream(file.toPath())) {
+                toExcelStreaming(worksheetContents, out);
+            }
+            return excelFileBlobConverter.toBlob(fileName, file);
+        } catch (final IOException ex) {
+            throw new ExcelServiceDefault.Exception(ex);
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    /**
+     * As {@link #toExcelStreaming(List, String)}, but writing the spreadsheet to the provided {@link OutputStream}
+     * (which is not closed).
+     */
+    void toExcelStreaming(final List<WorksheetContent> worksheetContents, final OutputStream out) {
+        try {
+            newExcelConverter().writeStreaming(worksheetContents, rowAccessWindowSize(), out);
+        } catch (final IOException ex) {
+            throw new ExcelServiceDefault.Exception(ex);
+        }
+    }
+
     /**
      * Creates a Blob holding a single-sheet spreadsheet with a pivot of the domain objects. The sheet name is derived from the
      * class name.
@@ -220,8 +257,39 @@ List<List<?>> fromExcel(
         }
     }
 
+    /**
+     * As {@link #fromExcel(Blob, WorksheetSpec)}, but reading the sheet using a SAX parser (rather than loading the
+     * entire workbook into memory), passing each object to the provided consumer as soon as its row has been read.
+     */
+    <T> void fromExcelStreaming(
+            final InputStream in,
+            final WorksheetSpec worksheetSpec,
+            final Consumer<T> rowConsumer) throws ExcelServiceDefault.Exception {
+        File file = null;
+        try {
+            // the SAX reader requires random access to the zip entries
+            file = File.createTempFile(_ExcelServiceHelper.class.getName(), ".xlsx");
+            Files.copy(in, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            newExcelConverter().fromStreaming(file, worksheetSpec, rowConsumer);
+        } catch (final IOException e) {
+            throw new ExcelServiceDefault.Exception(e);
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
     // -- HELPER
 
+    private int rowAccessWindowSize() {
+        return causewayConfiguration.getExtensions().getExcelDownload().getStreamingRowAccessWindowSize();
+    }
+
+    private static void deleteQuietly(final File file) {
+        if(file != null) {
+            file.delete();
+        }
+    }
+
     @SneakyThrows
     private _ExcelConverter newExcelConverter() {
         return new _ExcelConverter(specificationLoader, objectManager, bookmarkService, serviceInjector);
@@ -241,4 +309,7 @@ private _ExcelConverter newExcelConverter() {
     @javax.inject.Inject
     ObjectManager objectManager;
 
+    @javax.inject.Inject
+    CausewayConfiguration causewayConfiguration;
+
 }
@@ -0,0 +1,291 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.excel.applib.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Comment;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellAddress;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.Comments;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.springframework.lang.Nullable;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import org.apache.causeway.commons.internal.collections._Lists;
+import org.apache.causeway.commons.internal.collections._Maps;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Reads the rows of a single sheet of an <code>.xlsx</code> file using a SAX parser, so that (unlike the
+ * <code>XSSFWorkbook</code> usermodel) only the current row is held in memory.
+ */
+@RequiredArgsConstructor
+class _ExcelStreamingReader {
+
+    private final File file;
+
+    /**
+     * Reads the first sheet found with any of the given (candidate) names, passing the (0-based) row number and the
+     * (non-empty) cells of each row to the provided consumer.
+     */
+    void read(
+            final List<String> sheetNames,
+            final BiConsumer<Integer, List<_CellMarshaller.CellValue>> rowConsumer) throws IOException {
+
+        try(final OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            val reader = new XSSFReader(pkg);
+            val sharedStrings = reader.getSharedStringsTable();
+            val date1904 = isDate1904(reader);
+
+            // first pass over the sheets, to honour the order of the candidate names
+            final Map<String, SheetRef> sheetsByName = _Maps.newHashMap();
+            val sheetIterator = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while(sheetIterator.hasNext()) {
+                try(val ignore = sheetIterator.next()) {
+                    sheetsByName.put(sheetIterator.getSheetName(),
+                            new SheetRef(sheetIterator.getSheetPart(), sheetIterator.getSheetComments()));
+                }
+            }
+
+            final SheetRef sheetRef = sheetNames.stream()
+                    .map(sheetsByName::get)
+                    .filter(x -> x != null)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            String.format("Could not locate sheet named any of: '%s'", sheetNames)));
+
+            try(final InputStream sheetData = sheetRef.part.getInputStream()) {
+                val handler = new SheetHandler(sharedStrings, sheetRef.comments, date1904, rowConsumer);
+                parse(sheetData, handler);
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException(e);
+        }
+    }
+
+    // -- HELPER
+
+    @RequiredArgsConstructor
+    private static class SheetRef {
+        private final PackagePart part;
+        private final @Nullable Comments comments;
+    }
+
+    private static boolean isDate1904(final XSSFReader reader)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        final boolean[] date1904 = {false};
+        try(final InputStream workbookData = reader.getWorkbookData()) {
+            parse(workbookData, new DefaultHandler() {
+                @Override
+                public void startElement(final String uri, final String localName, final String qName, final Attributes attributes) {
+                    if("workbookPr".equals(localName)) {
+                        val value = attributes.getValue("date1904");
+                        date1904[0] = "1".equals(value) || "true".equalsIgnoreCase(value);
+                    }
+                }
+            });
+        }
+        return date1904[0];
+    }
+
+    private static void parse(final InputStream in, final DefaultHandler handler)
+            throws IOException, SAXException, ParserConfigurationException {
+        val xmlReader = XMLHelper.newXMLReader();
+        xmlReader.setContentHandler(handler);
+        xmlReader.parse(new InputSource(in));
+    }
+
+    /**
+     * Handles the <code>&lt;row&gt;</code> and <code>&lt;c&gt;</code> elements of a sheet's XML.
+     */
+    @RequiredArgsConstructor
+    private static class SheetHandler extends DefaultHandler {
+
+        private final SharedStrings sharedStrings;
+        private final @Nullable Comments comments;
+        private final boolean date1904;
+        private final BiConsumer<Integer, List<_CellMarshaller.CellValue>> rowConsumer;
+
+        private int rowNum = -1;
+        private List<_CellMarshaller.CellValue> cells;
+
+        // current cell
+        private String cellRef;
+        private String cellType;
+        private int columnIndex;
+        private StringBuilder value;
+        private boolean collectingText;
+
+        @Override
+        public void startElement(final String uri, final String localName, final String qName, final Attributes attributes) {
+            switch (localName) {
+            case "row":
+                val r = attributes.getValue("r");
+                rowNum = r != null
+                        ? Integer.parseInt(r) - 1
+                        : rowNum + 1;
+                cells = _Lists.newArrayList();
+                columnIndex = -1;
+                break;
+            case "c":
+                cellRef = attributes.getValue("r");
+                cellType = attributes.getValue("t");
+                columnIndex = cellRef != null
+                        ? new CellReference(cellRef).getCol()
+                        : columnIndex + 1;
+                value = null;
+                break;
+            case "v":
+            case "t": // inline strings, possibly in several runs
+                if(value == null) {
+                    value = new StringBuilder();
+                }
+                collectingText = true;
+                break;
+            default:
+                break;
+            }
+        }
+
+        @Override
+        public void characters(final char[] ch, final int start, final int length) {
+            if(collectingText) {
+                value.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(final String uri, final String localName, final String qName) {
+            switch (localName) {
+            case "v":
+            case "t":
+                collectingText = false;
+                break;
+            case "c":
+                cells.add(newCellValue());
+                break;
+            case "row":
+                rowConsumer.accept(rowNum, cells);
+                cells = null;
+                break;
+            default:
+                break;
+            }
+        }
+
+        private _CellMarshaller.CellValue newCellValue() {
+            final String text = value != null ? value.toString() : null;
+            final CellType type;
+            if(text == null) {
+                type = CellType.BLANK;
+            } else if(cellType == null || "n".equals(cellType)) {
+                type = CellType.NUMERIC;
+            } else switch (cellType) {
+                case "b":
+                    type = CellType.BOOLEAN;
+                    break;
+                case "e":
+                    type = CellType.ERROR;
+                    break;
+                default: // "s", "str", "inlineStr"
+                    type = CellType.STRING;
+                    break;
+            }
+            final String stringValue = "s".equals(cellType) && text != null
+                    ? sharedStrings.getItemAt(Integer.parseInt(text.trim())).getString()
+                    : text;
+            final Comment comment = comments != null && cellRef != null
+                    ? comments.findCellComment(new CellAddress(cellRef))
+                    : null;
+            return new StreamedCellValue(columnIndex, type, stringValue, date1904, comment);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class StreamedCellValue implements _CellMarshaller.CellValue {
+
+        private final int columnIndex;
+        private final CellType cellType;
+        private final String value;
+        private final boolean date1904;
+        private final Comment comment;
+
+        @Override
+        public int getColumnIndex() {
+            return columnIndex;
+        }
+
+        @Override
+        public CellType getCellType() {
+            return cellType;
+        }
+
+        @Override
+        public boolean getBooleanCellValue() {
+            return "1".equals(value) || "true".equalsIgnoreCase(value);
+        }
+
+        @Override
+        public double getNumericCellValue() {
+            return cellType == CellType.BLANK
+                    ? 0.0
+                    : Double.parseDouble(value);
+        }
+
+        @Override
+        public Date getDateCellValue() {
+            return cellType == CellType.BLANK
+                    ? null
+                    : DateUtil.getJavaDate(getNumericCellValue(), date1904);
+        }
+
+        @Override
+        public String getStringCellValue() {
+            return value != null ? value : "";
+        }
+
+        @Override
+        public Comment getCellComment() {
+            return comment;
+        }
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.excel.applib.service;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.ClientAnchor;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExcelStreamingReaderTest {
+
+    private static final Date DATE = Date.from(
+            LocalDateTime.of(2023, 3, 1, 10, 15).atZone(ZoneId.systemDefault()).toInstant());
+
+    private File file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = File.createTempFile(ExcelStreamingReaderTest.class.getName(), ".xlsx");
+    }
+
+    @AfterEach
+    void tearDown() {
+        file.delete();
+    }
+
+    @Test
+    void reads_the_cells_of_each_row() throws IOException {
+
+        // given
+        try(final XSSFWorkbook workbook = new XSSFWorkbook()) {
+            workbook.createSheet("other").createRow(0).createCell(0).setCellValue("not this one");
+            final Sheet sheet = workbook.createSheet("items");
+            final Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("name");
+            header.createCell(1).setCellValue("quantity");
+            final Row row1 = sheet.createRow(1);
+            row1.createCell(0).setCellValue("apple");
+            row1.createCell(1).setCellValue(2.5);
+            row1.createCell(2).setCellValue(true);
+            row1.createCell(3).setCellValue(DATE);
+            row1.createCell(4).setCellFormula("B2*2");
+            // row 2 is missing, and row 3 has a gap between its cells
+            final Row row3 = sheet.createRow(3);
+            row3.createCell(0).setCellValue("pear");
+            row3.createCell(3).setCellValue(7);
+            workbook.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            write(workbook);
+        }
+
+        // when
+        final Map<Integer, List<_CellMarshaller.CellValue>> cellsByRow = read("items");
+
+        // then
+        Assertions.assertThat(cellsByRow).containsOnlyKeys(0, 1, 3);
+
+        final List<_CellMarshaller.CellValue> header = cellsByRow.get(0);
+        Assertions.assertThat(header).hasSize(2);
+        Assertions.assertThat(header.get(0).getCellType()).isEqualTo(CellType.STRING);
+        Assertions.assertThat(header.get(0).getStringCellValue()).isEqualTo("name");
+        Assertions.assertThat(header.get(1).getStringCellValue()).isEqualTo("quantity");
+
+        final List<_CellMarshaller.CellValue> row1 = cellsByRow.get(1);
+        Assertions.assertThat(row1).extracting(_CellMarshaller.CellValue::getColumnIndex).containsExactly(0, 1, 2, 3, 4);
+        Assertions.assertThat(row1.get(0).getStringCellValue()).isEqualTo("apple");
+        Assertions.assertThat(row1.get(1).getCellType()).isEqualTo(CellType.NUMERIC);
+        Assertions.assertThat(row1.get(1).getNumericCellValue()).isEqualTo(2.5);
+        Assertions.assertThat(row1.get(2).getCellType()).isEqualTo(CellType.BOOLEAN);
+        Assertions.assertThat(row1.get(2).getBooleanCellValue()).isTrue();
+        Assertions.assertThat(row1.get(3).getDateCellValue()).isEqualTo(DATE);
+        // formula cells are read by their cached value
+        Assertions.assertThat(row1.get(4).getNumericCellValue()).isEqualTo(5.0);
+
+        final List<_CellMarshaller.CellValue> row3 = cellsByRow.get(3);
+        Assertions.assertThat(row3).extracting(_CellMarshaller.CellValue::getColumnIndex).containsExactly(0, 3);
+        Assertions.assertThat(row3.get(0).getStringCellValue()).isEqualTo("pear");
+        Assertions.assertThat(row3.get(1).getNumericCellValue()).isEqualTo(7.0);
+    }
+
+    @Test
+    void reads_inline_strings_and_comments() throws IOException {
+
+        // given (a streaming workbook writes inline rather than shared strings)
+        try(final SXSSFWorkbook workbook = new SXSSFWorkbook()) {
+            final Sheet sheet = workbook.createSheet("items");
+            final Row row = sheet.createRow(0);
+            row.createCell(0).setCellValue("inline");
+            addComment(workbook, sheet, row, 0, "a comment");
+            write(workbook);
+            workbook.dispose();
+        }
+
+        // when
+        final Map<Integer, List<_CellMarshaller.CellValue>> cellsByRow = read("items");
+
+        // then
+        final _CellMarshaller.CellValue cell = cellsByRow.get(0).get(0);
+        Assertions.assertThat(cell.getCellType()).isEqualTo(CellType.STRING);
+        Assertions.assertThat(cell.getStringCellValue()).isEqualTo("inline");
+        Assertions.assertThat(cell.getCellComment().getString().getString()).isEqualTo("a comment");
+    }
+
+    @Test
+    void reads_the_first_of_the_candidate_sheets_found() throws IOException {
+
+        // given
+        try(final XSSFWorkbook workbook = new XSSFWorkbook()) {
+            workbook.createSheet("first").createRow(0).createCell(0).setCellValue("first");
+            workbook.createSheet("second").createRow(0).createCell(0).setCellValue("second");
+            write(workbook);
+        }
+
+        // when
+        final Map<Integer, List<_CellMarshaller.CellValue>> cellsByRow = read("missing", "second", "first");
+
+        // then
+        Assertions.assertThat(cellsByRow.get(0).get(0).getStringCellValue()).isEqualTo("second");
+        Assertions.assertThatThrownBy(() -> read("missing"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // -- HELPER
+
+    private void write(final Workbook workbook) throws IOException {
+        try(final FileOutputStream fos = new FileOutputStream(file)) {
+            workbook.write(fos);
+        }
+    }
+
+    private Map<Integer, List<_CellMarshaller.CellValue>> read(final String... sheetNames) throws IOException {
+        final Map<Integer, List<_CellMarshaller.CellValue>> cellsByRow = new LinkedHashMap<>();
+        new _ExcelStreamingReader(file).read(List.of(sheetNames),
+                (rowNum, cells) -> cellsByRow.put(rowNum, new ArrayList<>(cells)));
+        return cellsByRow;
+    }
+
+    private static void addComment(
+            final Workbook workbook, final Sheet sheet, final Row row, final int column, final String text) {
+        final ClientAnchor anchor = workbook.getCreationHelper().createClientAnchor();
+        anchor.setCol1(column);
+        anchor.setCol2(column + 2);
+        anchor.setRow1(row.getRowNum());
+        anchor.setRow2(row.getRowNum() + 2);
+        final var comment = sheet.createDrawingPatriarch().createCellComment(anchor);
+        comment.setString(workbook.getCreationHelper().createRichTextString(text));
+        row.getCell(column).setCellComment(comment);
+    }
+
+}
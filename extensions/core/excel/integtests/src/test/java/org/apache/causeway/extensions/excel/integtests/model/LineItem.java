@@ -0,0 +1,69 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.excel.integtests.model;
+
+import javax.inject.Named;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlTransient;
+
+import org.apache.causeway.applib.annotation.DomainObject;
+import org.apache.causeway.applib.annotation.Nature;
+import org.apache.causeway.applib.annotation.Programmatic;
+import org.apache.causeway.extensions.excel.applib.RowHandler;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Named("excel.test.LineItem")
+@DomainObject(nature = Nature.VIEW_MODEL)
+@XmlRootElement(name = "LineItem")
+@XmlAccessorType(XmlAccessType.FIELD)
+@NoArgsConstructor
+public class LineItem implements RowHandler<LineItem> {
+
+    public LineItem(final String name, final Integer quantity) {
+        this.name = name;
+        this.quantity = quantity;
+    }
+
+    @Getter @Setter
+    private String name;
+
+    @Getter @Setter
+    private Integer quantity;
+
+    @XmlTransient
+    @Getter(onMethod_ = {@Programmatic})
+    private boolean handled;
+
+    @XmlTransient
+    @Getter(onMethod_ = {@Programmatic})
+    private LineItem previousRow;
+
+    @Programmatic
+    @Override
+    public void handleRow(final LineItem previousRow) {
+        this.previousRow = previousRow;
+        this.handled = true;
+    }
+
+}
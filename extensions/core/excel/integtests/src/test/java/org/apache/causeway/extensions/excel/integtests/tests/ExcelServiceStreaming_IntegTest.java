@@ -0,0 +1,187 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.excel.integtests.tests;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.applib.value.Blob;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+import org.apache.causeway.extensions.excel.applib.CausewayModuleExtExcelApplib;
+import org.apache.causeway.extensions.excel.applib.ExcelService;
+import org.apache.causeway.extensions.excel.applib.WorksheetContent;
+import org.apache.causeway.extensions.excel.applib.WorksheetSpec;
+import org.apache.causeway.extensions.excel.integtests.model.ExcelTestDomainModel;
+import org.apache.causeway.extensions.excel.integtests.model.LineItem;
+import org.apache.causeway.persistence.jdo.datanucleus.CausewayModulePersistenceJdoDatanucleus;
+import org.apache.causeway.security.bypass.CausewayModuleSecurityBypass;
+import org.apache.causeway.testing.integtestsupport.applib.CausewayIntegrationTestAbstract;
+
+import lombok.val;
+
+/**
+ * Round trips more rows than the streaming row threshold through the streaming and the in-memory (DOM) export and
+ * import paths of the {@link ExcelService}; with a small row access window, so that the streaming export flushes most
+ * rows to disk.
+ * <p>
+ * Has its own app manifest, as the row objects are view models (no fixtures required).
+ */
+@SpringBootTest(
+        classes = ExcelServiceStreaming_IntegTest.AppManifest.class
+)
+@TestPropertySource(CausewayPresets.UseLog4j2Test)
+@TestPropertySource(properties = {
+        "causeway.extensions.excel-download.streaming-row-threshold=250",
+        "causeway.extensions.excel-download.streaming-row-access-window-size=10",
+})
+public class ExcelServiceStreaming_IntegTest extends CausewayIntegrationTestAbstract {
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import({
+            CausewayModuleCoreRuntimeServices.class,
+            CausewayModuleSecurityBypass.class,
+            CausewayModulePersistenceJdoDatanucleus.class,
+            CausewayModuleExtExcelApplib.class,
+    })
+    @ComponentScan(basePackageClasses = ExcelTestDomainModel.class)
+    public static class AppManifest {
+    }
+
+    private static final String SHEET_NAME = "lineItems";
+
+    @Inject ExcelService excelService;
+    @Inject CausewayConfiguration causewayConfiguration;
+
+    List<LineItem> lineItems;
+
+    @BeforeEach
+    void setUp() {
+        val numRows = causewayConfiguration.getExtensions().getExcelDownload().getStreamingRowThreshold() + 1;
+        lineItems = new ArrayList<>();
+        for (int i = 0; i < numRows; i++) {
+            lineItems.add(new LineItem("item-" + i, i));
+        }
+    }
+
+    @Test
+    void streaming_export_round_trips() {
+
+        // when
+        val blob = excelService.toExcelStreaming(List.of(worksheetContent()), "lineItems.xlsx");
+
+        // then
+        assertRoundTrip(excelService.fromExcel(blob, LineItem.class, SHEET_NAME));
+        assertRoundTrip(fromExcelStreaming(blob));
+    }
+
+    @Test
+    void streaming_export_to_output_stream_round_trips() throws Exception {
+
+        // when
+        val out = new ByteArrayOutputStream();
+        excelService.toExcelStreaming(List.of(worksheetContent()), out);
+
+        // then
+        val imported = new ArrayList<LineItem>();
+        try(val in = new ByteArrayInputStream(out.toByteArray())) {
+            excelService.<LineItem>fromExcelStreaming(in, worksheetSpec(), imported::add);
+        }
+        assertRoundTrip(imported);
+    }
+
+    @Test
+    void dom_export_round_trips() {
+
+        // when
+        val blob = excelService.toExcel(lineItems, LineItem.class, SHEET_NAME, "lineItems.xlsx");
+
+        // then
+        assertRoundTrip(excelService.fromExcel(blob, LineItem.class, SHEET_NAME));
+        assertRoundTrip(fromExcelStreaming(blob));
+    }
+
+    @Test
+    void streaming_import_handles_each_row_after_it_is_consumed() {
+
+        // given
+        val blob = excelService.toExcelStreaming(List.of(worksheetContent()), "lineItems.xlsx");
+
+        // when
+        val handledWhenConsumed = new ArrayList<Boolean>();
+        val imported = new ArrayList<LineItem>();
+        excelService.<LineItem>fromExcelStreaming(blob, worksheetSpec(), lineItem -> {
+            handledWhenConsumed.add(lineItem.isHandled());
+            imported.add(lineItem);
+        });
+
+        // then
+        assertThat(handledWhenConsumed).hasSize(lineItems.size()).containsOnly(false);
+        assertRoundTrip(imported);
+    }
+
+    // -- HELPER
+
+    private WorksheetSpec worksheetSpec() {
+        return new WorksheetSpec(LineItem.class, SHEET_NAME);
+    }
+
+    private WorksheetContent worksheetContent() {
+        return new WorksheetContent(lineItems, worksheetSpec());
+    }
+
+    private List<LineItem> fromExcelStreaming(final Blob blob) {
+        val imported = new ArrayList<LineItem>();
+        excelService.<LineItem>fromExcelStreaming(blob, worksheetSpec(), imported::add);
+        return imported;
+    }
+
+    private void assertRoundTrip(final List<LineItem> imported) {
+        assertThat(imported.stream().map(LineItem::getName).collect(Collectors.toList()))
+                .isEqualTo(lineItems.stream().map(LineItem::getName).collect(Collectors.toList()));
+        assertThat(imported.stream().map(LineItem::getQuantity).collect(Collectors.toList()))
+                .isEqualTo(lineItems.stream().map(LineItem::getQuantity).collect(Collectors.toList()));
+
+        // each row handled, with the row imported before it
+        for (int i = 0; i < imported.size(); i++) {
+            val lineItem = imported.get(i);
+            assertThat(lineItem.isHandled()).isTrue();
+            assertThat(lineItem.getPreviousRow()).isSameAs(i == 0 ? null : imported.get(i - 1));
+        }
+    }
+
+}
@@ -125,6 +125,29 @@ public class DomainEvent extends ActionDomainEvent<findAll> { }
     }
 
 
+    @Action(
+            domainEvent = rewriteDtos.DomainEvent.class,
+            semantics = SemanticsOf.IDEMPOTENT_ARE_YOU_SURE
+    )
+    @ActionLayout(
+            cssClassFa = "fa-compress",
+            describedAs = "Re-writes the DTOs of all execution log entries, in batches, using the configured storage format",
+            sequence="50")
+    public class rewriteDtos {
+        public class DomainEvent extends ActionDomainEvent<rewriteDtos> { }
+
+        @MemberSupport public int act(final int batchSize) {
+            return executionLogEntryRepository.rewriteInteractionDtos(batchSize);
+        }
+        @MemberSupport public int default0Act() {
+            return 1000;
+        }
+        @MemberSupport public String validate0Act(final int batchSize) {
+            return batchSize < 1 ? "Batch size must be positive" : null;
+        }
+    }
+
+
 
 
     private LocalDate now() {
@@ -46,6 +46,7 @@
 import org.apache.causeway.applib.annotation.Programmatic;
 import org.apache.causeway.applib.annotation.Property;
 import org.apache.causeway.applib.annotation.Publishing;
+import org.apache.causeway.applib.jaxb.JavaSqlXMLGregorianCalendarMarshalling;
 import org.apache.causeway.applib.mixins.system.DomainChangeRecord;
 import org.apache.causeway.applib.mixins.system.HasInteractionId;
 import org.apache.causeway.applib.mixins.system.HasInteractionIdAndSequence;
@@ -61,8 +62,10 @@
 import org.apache.causeway.applib.util.ToString;
 import org.apache.causeway.commons.internal.base._Temporals;
 import org.apache.causeway.extensions.executionlog.applib.CausewayModuleExtExecutionLogApplib;
+import org.apache.causeway.schema.ixn.v2.ActionInvocationDto;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 import org.apache.causeway.schema.ixn.v2.MemberExecutionDto;
+import org.apache.causeway.schema.ixn.v2.PropertyEditDto;
 
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
@@ -110,6 +113,8 @@ public static abstract class ActionDomainEvent extends CausewayModuleExtExecutio
     public static class Nq {
         public static final String FIND_BY_INTERACTION_ID = LOGICAL_TYPE_NAME + ".findByInteractionId";
         public static final String FIND_BY_INTERACTION_ID_AND_SEQUENCE = LOGICAL_TYPE_NAME + ".findByInteractionIdAndSequence";
+        public static final String FIND_ORDERED_BY_PK = LOGICAL_TYPE_NAME + ".findOrderedByPk";
+        public static final String FIND_ORDERED_BY_PK_AFTER = LOGICAL_TYPE_NAME + ".findOrderedByPkAfter";
         public static final String FIND_BY_TARGET_AND_TIMESTAMP_BETWEEN = LOGICAL_TYPE_NAME + ".findByTargetAndTimestampBetween";
         public static final String FIND_BY_TARGET_AND_TIMESTAMP_AFTER = LOGICAL_TYPE_NAME + ".findByTargetAndTimestampAfter";
         public static final String FIND_BY_TARGET_AND_TIMESTAMP_BEFORE = LOGICAL_TYPE_NAME + ".findByTargetAndTimestampBefore";
@@ -168,6 +173,46 @@ public void init(final Execution<? extends MemberExecutionDto, ?> execution) {
         }
     }
 
+    /**
+     * Initializes from an {@link InteractionDto} wrapping a single execution, as created by
+     * {@link #init(Execution)}; used when entries are persisted asynchronously (write-behind).
+     */
+    @Programmatic
+    public void init(final InteractionDto interactionDto) {
+        val interactionId = UUID.fromString(interactionDto.getInteractionId());
+        setInteractionId(interactionId);
+
+        val memberExecutionDto = interactionDto.getExecution();
+        setSequence(memberExecutionDto.getSequence());
+        setInteractionDto(interactionDto);
+
+        val timings = memberExecutionDto.getMetrics()!=null
+                ? memberExecutionDto.getMetrics().getTimings()
+                : null;
+        val startedAt = timings!=null
+                ? JavaSqlXMLGregorianCalendarMarshalling.toTimestamp(timings.getStartedAt())
+                : null;
+        setTimestamp(startedAt);
+        setStartedAt(startedAt);
+        setCompletedAt(timings!=null
+                ? JavaSqlXMLGregorianCalendarMarshalling.toTimestamp(timings.getCompletedAt())
+                : null);
+
+        setLogicalMemberIdentifier(memberExecutionDto.getLogicalMemberIdentifier());
+
+        setTarget(Bookmark.forOidDto(memberExecutionDto.getTarget()));
+        setUsername(memberExecutionDto.getUsername());
+
+        if(memberExecutionDto instanceof PropertyEditDto) {
+            setExecutionType(ExecutionLogEntryType.PROPERTY_EDIT);
+        } else if(memberExecutionDto instanceof ActionInvocationDto) {
+            setExecutionType(ExecutionLogEntryType.ACTION_INVOCATION);
+        } else {
+            // shouldn't happen, there are no other subtypes
+            throw new IllegalArgumentException(String.format("Execution subtype unknown: %s", memberExecutionDto.getClass().getName()));
+        }
+    }
+
 
     private static final DateTimeFormatter formatter =
             DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
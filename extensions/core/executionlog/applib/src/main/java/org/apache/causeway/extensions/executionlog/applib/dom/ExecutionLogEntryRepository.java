@@ -22,24 +22,32 @@
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
 
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.annotation.Propagation;
 
 import org.apache.causeway.applib.exceptions.RecoverableException;
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.iactn.Execution;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
+import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 import lombok.Getter;
+import lombok.Value;
 import lombok.val;
 
 /**
@@ -65,6 +73,7 @@ public NotFoundException(final UUID interactionId) {
     @Inject Provider<RepositoryService> repositoryServiceProvider;
     @Inject FactoryService factoryService;
     @Inject CausewaySystemEnvironment causewaySystemEnvironment;
+    @Inject TransactionService transactionService;
 
     protected ExecutionLogEntryRepository(final Class<E> executionLogEntryClass) {
         this.executionLogEntryClass = executionLogEntryClass;
@@ -91,6 +100,27 @@ public E createEntryAndPersist(final Execution execution) {
         return e;
     }
 
+    /**
+     * Creates and persists an entry for each of the provided {@link InteractionDto}s (each wrapping a single
+     * execution), as queued by the write-behind mode of the execution subscriber.
+     *
+     * @param skipExisting - whether to skip those that have already been persisted (by interaction id and
+     *      sequence), as is required when replaying a write-behind journal
+     */
+    public void createEntriesAndPersist(final List<InteractionDto> interactionDtos, final boolean skipExisting) {
+        for (val interactionDto : interactionDtos) {
+            if(skipExisting
+                    && findByInteractionIdAndSequence(
+                            UUID.fromString(interactionDto.getInteractionId()),
+                            interactionDto.getExecution().getSequence()).isPresent()) {
+                continue;
+            }
+            E e = factoryService.detachedEntity(executionLogEntryClass);
+            e.init(interactionDto);
+            persist(e);
+        }
+    }
+
     public List<E> findByInteractionId(final UUID interactionId) {
         return repositoryService().allMatches(
                 Query.named(executionLogEntryClass,  ExecutionLogEntry.Nq.FIND_BY_INTERACTION_ID)
@@ -240,6 +270,57 @@ public void removeAll() {
         repositoryService().removeAll(executionLogEntryClass);
     }
 
+    /**
+     * Re-writes the {@link ExecutionLogEntry#getInteractionDto() interactionDto} of all entries,
+     * so that it is stored using the currently configured format (<code>causeway.persistence.dto-storage.format</code>).
+     * <p>
+     * Entries are processed in batches of given size, each in its own transaction, paging by primary key
+     * (rather than by offset, which would have to skip over all previously re-written entries).
+     *
+     * @return the number of entries re-written
+     */
+    public int rewriteInteractionDtos(final int batchSize) {
+        int rewritten = 0;
+        PrimaryKey after = null;
+        while(true) {
+            final PrimaryKey lastRewritten = after;
+            final List<PrimaryKey> rewrittenInBatch = transactionService.callTransactional(
+                            Propagation.REQUIRES_NEW,
+                            () -> rewriteInteractionDtos(lastRewritten, batchSize))
+                    .ifFailureFail()
+                    .getValue()
+                    .orElseGet(Collections::emptyList);
+            rewritten += rewrittenInBatch.size();
+            if(rewrittenInBatch.size() < batchSize) {
+                return rewritten;
+            }
+            after = rewrittenInBatch.get(rewrittenInBatch.size() - 1);
+        }
+    }
+
+    @Value
+    private static class PrimaryKey {
+        UUID interactionId;
+        int sequence;
+    }
+
+    /**
+     * @return the primary keys of the entries re-written, in primary key order
+     */
+    private List<PrimaryKey> rewriteInteractionDtos(final @Nullable PrimaryKey after, final int limit) {
+        val query = after == null
+                ? Query.named(executionLogEntryClass, ExecutionLogEntry.Nq.FIND_ORDERED_BY_PK)
+                : Query.named(executionLogEntryClass, ExecutionLogEntry.Nq.FIND_ORDERED_BY_PK_AFTER)
+                        .withParameter("afterInteractionId", after.getInteractionId())
+                        .withParameter("afterSequence", after.getSequence());
+        val entries = repositoryService().allMatches(query.withRange(QueryRange.limit(limit)));
+        val dtoMapper = InteractionDtoUtils.dtoMapper();
+        entries.forEach(entry->entry.setInteractionDto(dtoMapper.clone(entry.getInteractionDto())));
+        return entries.stream()
+                .map(entry->new PrimaryKey(entry.getInteractionId(), entry.getSequence()))
+                .collect(Collectors.toList());
+    }
+
 
     private static Timestamp toTimestampStartOfDayWithOffset(
             final @Nullable LocalDate dt,
@@ -388,6 +388,31 @@ void test_all_the_repository_methods() {
 
     }
 
+    @Test
+    void rewrite_interaction_dtos_in_batches() {
+
+        // given
+        counter1 = counterRepository.findByName("counter-1");
+        counter2 = counterRepository.findByName("counter-2");
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+        interactionService.closeInteractionLayers();    // to flush
+        interactionService.openInteraction();
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter2).act();
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter2).act();
+        interactionService.closeInteractionLayers();    // to flush
+        interactionService.openInteraction();
+
+        // when (batches break within an interaction's sequence of entries)
+        val rewritten = executionLogEntryRepository.rewriteInteractionDtos(2);
+
+        // then
+        assertThat(rewritten).isEqualTo(5);
+        assertThat(executionLogEntryRepository.findMostRecent()).hasSize(5)
+                .allSatisfy(entry -> assertThat(entry.getInteractionDto()).isNotNull());
+    }
+
     @Inject ExecutionLogEntryRepository<? extends ExecutionLogEntry> executionLogEntryRepository;
     @Inject SudoService sudoService;
     @Inject ClockService clockService;
@@ -0,0 +1,152 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.executionlog.applib.integtest;
+
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.Propagation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.wrapper.WrapperFactory;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.internal.concurrent._ThreadSleep;
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntry;
+import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntryRepository;
+import org.apache.causeway.extensions.executionlog.applib.integtest.model.Counter;
+import org.apache.causeway.extensions.executionlog.applib.integtest.model.CounterRepository;
+import org.apache.causeway.extensions.executionlog.applib.integtest.model.Counter_bumpUsingMixin;
+import org.apache.causeway.extensions.executionlog.applib.spiimpl.ExecutionSubscriberForExecutionLog;
+import org.apache.causeway.schema.ixn.v2.ActionInvocationDto;
+import org.apache.causeway.testing.integtestsupport.applib.CausewayIntegrationTestAbstract;
+
+import lombok.val;
+
+/**
+ * Subclasses are expected to enable write-behind, using
+ * {@link #WRITE_BEHIND_ENABLED} (and {@link #WRITE_BEHIND_FLUSH_INTERVAL}).
+ */
+public abstract class ExecutionLog_writeBehind_IntegTestAbstract extends CausewayIntegrationTestAbstract {
+
+    public static final String WRITE_BEHIND_ENABLED = "causeway.extensions.execution-log.write-behind.enabled=true";
+    public static final String WRITE_BEHIND_FLUSH_INTERVAL = "causeway.extensions.execution-log.write-behind.flush-interval=10ms";
+
+    @BeforeAll
+    static void beforeAll() {
+        CausewayPresets.forcePrototyping();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        counterRepository.removeAll();
+        executionLogEntryRepository.removeAll();
+        interactionService.nextInteraction();
+
+        assertThat(executionSubscriber.getWriteBehindQueue()).isPresent();
+    }
+
+    protected abstract Counter newCounter(String name);
+
+    @Test
+    void invoke_mixin_is_persisted_asynchronously() {
+
+        // given
+        Counter counter1 = counterRepository.persist(newCounter("counter-1"));
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+        }
+        interactionService.nextInteraction();
+
+        // then
+        val all = awaitEntries(5);
+        assertThat(all).hasSize(5);
+
+        ExecutionLogEntry executionLogEntry = all.get(0);
+        assertThat(executionLogEntry.getInteractionId()).isNotNull();
+        assertThat(executionLogEntry.getStartedAt()).isNotNull();
+        assertThat(executionLogEntry.getCompletedAt()).isNotNull();
+        assertThat(executionLogEntry.getLogicalMemberIdentifier()).isEqualTo("executionlog.test.Counter#bumpUsingMixin");
+        assertThat(executionLogEntry.getUsername()).isEqualTo("__system");
+        assertThat(executionLogEntry.getTarget()).isNotNull();
+        assertThat(executionLogEntry.getInteractionDto().getExecution()).isInstanceOf(ActionInvocationDto.class);
+
+        val writeBehindQueue = executionSubscriber.getWriteBehindQueue().orElseThrow();
+        assertThat(writeBehindQueue.getItemsWritten()).isGreaterThanOrEqualTo(5L);
+        assertThat(writeBehindQueue.getItemsFailed()).isZero();
+    }
+
+    @Test
+    void invoke_mixin_rolled_back_is_not_persisted() {
+
+        // given
+        Counter counter1 = counterRepository.persist(newCounter("counter-1"));
+        interactionService.nextInteraction();
+        val writeBehindQueue = executionSubscriber.getWriteBehindQueue().orElseThrow();
+        val itemsWrittenBefore = writeBehindQueue.getItemsWritten();
+
+        // when
+        val result = transactionService.runTransactional(Propagation.REQUIRES_NEW, ()->{
+            wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counterRepository.findByName("counter-1")).act();
+            throw new IllegalStateException("rolling back");
+        });
+        assertThat(result.isFailure()).isTrue();
+
+        // ... and then a committed one
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+        interactionService.nextInteraction();
+
+        // then only the committed execution is persisted
+        val all = awaitEntries(1);
+        _ThreadSleep.millis(100); // give the writer the chance to (wrongly) write the rolled back one too
+        interactionService.nextInteraction();
+        assertThat(executionLogEntryRepository.findMostRecent()).hasSize(1);
+        assertThat(all).hasSize(1);
+        assertThat(writeBehindQueue.getItemsWritten() - itemsWrittenBefore).isEqualTo(1L);
+    }
+
+    private List<? extends ExecutionLogEntry> awaitEntries(final int expected) {
+        List<? extends ExecutionLogEntry> all = List.of();
+        for (int attempt = 0; attempt < 100; attempt++) {
+            all = executionLogEntryRepository.findMostRecent();
+            if(all.size() >= expected) {
+                break;
+            }
+            _ThreadSleep.millis(50);
+            interactionService.nextInteraction();
+        }
+        return all;
+    }
+
+    @Inject ExecutionSubscriberForExecutionLog executionSubscriber;
+    @Inject ExecutionLogEntryRepository<? extends ExecutionLogEntry> executionLogEntryRepository;
+    @Inject InteractionService interactionService;
+    @Inject CounterRepository counterRepository;
+    @Inject WrapperFactory wrapperFactory;
+    @Inject TransactionService transactionService;
+
+}
@@ -55,6 +55,18 @@
         @Index(name = "ExecutionLogEntry__username_timestamp__IDX", members = { "username", "timestamp" }),
 })
 @Queries( {
+    @Query(
+            name = Nq.FIND_ORDERED_BY_PK,
+            value = "SELECT "
+                  + "  FROM " + ExecutionLogEntry.FQCN + " "
+                  + " ORDER BY interactionId ASC, sequence ASC"),  // programmatic range
+    @Query(
+            name = Nq.FIND_ORDERED_BY_PK_AFTER,
+            value = "SELECT "
+                  + "  FROM " + ExecutionLogEntry.FQCN + " "
+                  + " WHERE interactionId > :afterInteractionId "
+                  + "    || (interactionId == :afterInteractionId && sequence > :afterSequence) "
+                  + " ORDER BY interactionId ASC, sequence ASC"),  // programmatic range
     @Query(
             name = Nq.FIND_BY_INTERACTION_ID,
             value = "SELECT "
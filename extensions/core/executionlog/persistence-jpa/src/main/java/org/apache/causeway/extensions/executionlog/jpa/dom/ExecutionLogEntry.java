@@ -64,6 +64,18 @@
         }
 )
 @NamedQueries( {
+    @NamedQuery(
+            name = Nq.FIND_ORDERED_BY_PK,
+            query = "SELECT ele "
+                  + "  FROM ExecutionLogEntry ele "
+                  + " ORDER BY ele.pk.interactionId ASC, ele.pk.sequence ASC"),  // programmatic range
+    @NamedQuery(
+            name = Nq.FIND_ORDERED_BY_PK_AFTER,
+            query = "SELECT ele "
+                  + "  FROM ExecutionLogEntry ele "
+                  + " WHERE ele.pk.interactionId > :afterInteractionId "
+                  + "    OR (ele.pk.interactionId = :afterInteractionId AND ele.pk.sequence > :afterSequence) "
+                  + " ORDER BY ele.pk.interactionId ASC, ele.pk.sequence ASC"),  // programmatic range
     @NamedQuery(
             name = Nq.FIND_BY_INTERACTION_ID,
             query = "SELECT ele "
@@ -27,6 +27,7 @@
 import org.apache.causeway.applib.annotation.ActionLayout;
 import org.apache.causeway.applib.annotation.DomainService;
 import org.apache.causeway.applib.annotation.DomainServiceLayout;
+import org.apache.causeway.applib.annotation.MemberSupport;
 import org.apache.causeway.applib.annotation.NatureOfService;
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.annotation.RestrictTo;
@@ -75,6 +76,18 @@ public List<? extends ExecutionOutboxEntry> findAll() {
         return executionOutboxEntryRepository.findAll();
     }
 
+    @Action(semantics = SemanticsOf.IDEMPOTENT_ARE_YOU_SURE)
+    @ActionLayout(describedAs = "Re-writes the DTOs of all entries in the outbox, in batches, using the configured storage format")
+    public int rewriteDtos(final int batchSize) {
+        return executionOutboxEntryRepository.rewriteInteractionDtos(batchSize);
+    }
+    @MemberSupport public int default0RewriteDtos() {
+        return 1000;
+    }
+    @MemberSupport public String validate0RewriteDtos(final int batchSize) {
+        return batchSize < 1 ? "Batch size must be positive" : null;
+    }
+
     final ExecutionOutboxEntryRepository<? extends ExecutionOutboxEntry> executionOutboxEntryRepository;
     final ClockService clockService;
 
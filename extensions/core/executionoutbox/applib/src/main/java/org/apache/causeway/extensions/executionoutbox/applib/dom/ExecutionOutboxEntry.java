@@ -46,6 +46,7 @@
 import org.apache.causeway.applib.annotation.PropertyLayout;
 import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.jaxb.JavaSqlXMLGregorianCalendarMarshalling;
 import org.apache.causeway.applib.mixins.system.DomainChangeRecord;
 import org.apache.causeway.applib.mixins.system.HasInteractionId;
 import org.apache.causeway.applib.mixins.system.HasInteractionIdAndSequence;
@@ -61,8 +62,10 @@
 import org.apache.causeway.applib.util.ToString;
 import org.apache.causeway.commons.internal.base._Temporals;
 import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
+import org.apache.causeway.schema.ixn.v2.ActionInvocationDto;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 import org.apache.causeway.schema.ixn.v2.MemberExecutionDto;
+import org.apache.causeway.schema.ixn.v2.PropertyEditDto;
 
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
@@ -109,7 +112,12 @@ public static abstract class ActionDomainEvent extends CausewayModuleExtExecutio
     @UtilityClass
     public static class Nq {
         public static final String FIND_BY_INTERACTION_ID_AND_SEQUENCE = LOGICAL_TYPE_NAME + ".findByInteractionIdAndSequence";
+        public static final String FIND_ORDERED_BY_PK = LOGICAL_TYPE_NAME + ".findOrderedByPk";
+        public static final String FIND_ORDERED_BY_PK_AFTER = LOGICAL_TYPE_NAME + ".findOrderedByPkAfter";
         public static final String FIND_OLDEST = LOGICAL_TYPE_NAME + ".findOldest";
+        public static final String FIND_ORDERED_BY_POSITION = LOGICAL_TYPE_NAME + ".findOrderedByPosition";
+        public static final String FIND_AFTER = LOGICAL_TYPE_NAME + ".findAfter";
+        public static final String DELETE_UP_TO_POSITION = LOGICAL_TYPE_NAME + ".deleteUpToPosition";
     }
 
     @UtilityClass
@@ -157,6 +165,46 @@ public void init(final Execution<? extends MemberExecutionDto, ?> execution) {
         }
     }
 
+    /**
+     * Initializes from an {@link InteractionDto} wrapping a single execution, as created by
+     * {@link #init(Execution)}; used when entries are persisted asynchronously (write-behind).
+     */
+    @Programmatic
+    public void init(final InteractionDto interactionDto) {
+        val interactionId = UUID.fromString(interactionDto.getInteractionId());
+        setInteractionId(interactionId);
+
+        val memberExecutionDto = interactionDto.getExecution();
+        setSequence(memberExecutionDto.getSequence());
+        setInteractionDto(interactionDto);
+
+        val timings = memberExecutionDto.getMetrics()!=null
+                ? memberExecutionDto.getMetrics().getTimings()
+                : null;
+        val startedAt = timings!=null
+                ? JavaSqlXMLGregorianCalendarMarshalling.toTimestamp(timings.getStartedAt())
+                : null;
+        setTimestamp(startedAt);
+        setStartedAt(startedAt);
+        setCompletedAt(timings!=null
+                ? JavaSqlXMLGregorianCalendarMarshalling.toTimestamp(timings.getCompletedAt())
+                : null);
+
+        setLogicalMemberIdentifier(memberExecutionDto.getLogicalMemberIdentifier());
+
+        setTarget(Bookmark.forOidDto(memberExecutionDto.getTarget()));
+        setUsername(memberExecutionDto.getUsername());
+
+        if(memberExecutionDto instanceof PropertyEditDto) {
+            setExecutionType(ExecutionOutboxEntryType.PROPERTY_EDIT);
+        } else if(memberExecutionDto instanceof ActionInvocationDto) {
+            setExecutionType(ExecutionOutboxEntryType.ACTION_INVOCATION);
+        } else {
+            // shouldn't happen, there are no other subtypes
+            throw new IllegalArgumentException(String.format("Execution subtype unknown: %s", memberExecutionDto.getClass().getName()));
+        }
+    }
+
 
     private static final DateTimeFormatter formatter =
             DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
@@ -231,6 +279,20 @@ class DomainEvent extends PropertyDomainEvent<Integer> {}
     public abstract void setSequence(int sequence);
 
 
+    /**
+     * Monotonically increasing position of this entry within the outbox, assigned by the datastore when the entry is
+     * inserted.
+     *
+     * <p>
+     * Used to page through the outbox, and to acknowledge (that is, delete) all entries up to a given one, see
+     * {@link ExecutionOutboxEntryRepository#findAfter(UUID, int, int)} and
+     * {@link ExecutionOutboxEntryRepository#deleteUpTo(UUID, int)}.
+     * </p>
+     */
+    @Programmatic
+    public abstract Long getPosition();
+
+
 
     @Property(
             domainEvent = ExecutionType.DomainEvent.class
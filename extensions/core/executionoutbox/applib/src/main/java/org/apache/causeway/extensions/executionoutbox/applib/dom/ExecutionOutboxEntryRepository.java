@@ -19,20 +19,27 @@
 package org.apache.causeway.extensions.executionoutbox.applib.dom;
 
 import java.sql.Timestamp;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
 
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.annotation.Propagation;
+
 import org.apache.causeway.applib.annotation.Programmatic;
 import org.apache.causeway.applib.exceptions.RecoverableException;
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.iactn.Execution;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
@@ -40,6 +47,8 @@
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 import lombok.Getter;
+import lombok.Value;
+import lombok.val;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -66,6 +75,7 @@ public NotFoundException(final UUID interactionId) {
     @Inject Provider<RepositoryService> repositoryServiceProvider;
     @Inject FactoryService factoryService;
     @Inject CausewaySystemEnvironment causewaySystemEnvironment;
+    @Inject TransactionService transactionService;
     @Inject CausewayConfiguration causewayConfiguration;
 
     protected ExecutionOutboxEntryRepository(final Class<E> executionOutboxEntryClass) {
@@ -93,6 +103,27 @@ public E createEntryAndPersist(final Execution execution) {
         return e;
     }
 
+    /**
+     * Creates and persists an entry for each of the provided {@link InteractionDto}s (each wrapping a single
+     * execution), as queued by the write-behind mode of the execution subscriber.
+     *
+     * @param skipExisting - whether to skip those that have already been persisted (by interaction id and
+     *      sequence), as is required when replaying a write-behind journal
+     */
+    public void createEntriesAndPersist(final List<InteractionDto> interactionDtos, final boolean skipExisting) {
+        for (val interactionDto : interactionDtos) {
+            if(skipExisting
+                    && findByInteractionIdAndSequence(
+                            UUID.fromString(interactionDto.getInteractionId()),
+                            interactionDto.getExecution().getSequence()).isPresent()) {
+                continue;
+            }
+            E e = factoryService.detachedEntity(executionOutboxEntryClass);
+            e.init(interactionDto);
+            persist(e);
+        }
+    }
+
     public Optional<E> findByInteractionIdAndSequence(final UUID interactionId, final int sequence) {
         return repositoryService().firstMatch(
                 Query.named(executionOutboxEntryClass,  ExecutionOutboxEntry.Nq.FIND_BY_INTERACTION_ID_AND_SEQUENCE)
@@ -107,6 +138,35 @@ public List<E> findOldest() {
                         .withLimit(causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi().getMaxPending()));
     }
 
+    /**
+     * Returns (at most <code>limit</code>) entries following the identified one, in order of their
+     * {@link ExecutionOutboxEntry#getPosition() position}, so that the outbox can be drained using the last entry
+     * processed as a (high-watermark) cursor.
+     *
+     * <p>
+     *     If there is no cursor, or if the entry it identifies no longer exists (because it has since been
+     *     {@link #deleteUpTo(UUID, int) acknowledged}, along with all entries before it), then the entries are
+     *     returned from the start.
+     * </p>
+     *
+     * <p>
+     *     Positions are assigned as entries are inserted; an entry whose transaction commits only after a later
+     *     positioned entry has been read is therefore behind the cursor, and is deleted unread if acknowledged.
+     *     With write-behind enabled, entries are inserted by a single writer (per node), in the order they are
+     *     committed.
+     * </p>
+     */
+    public List<E> findAfter(final @Nullable UUID interactionId, final int sequence, final int limit) {
+        val positionIfAny = interactionId != null
+                ? positionOf(interactionId, sequence)
+                : Optional.<Long>empty();
+        val query = positionIfAny
+                .map(position -> Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_AFTER)
+                        .withParameter("afterPosition", position))
+                .orElseGet(() -> Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_ORDERED_BY_POSITION));
+        return repositoryService().allMatches(query.withLimit(limit));
+    }
+
     public ExecutionOutboxEntry upsert(
             final UUID interactionId,
             final int sequence,
@@ -165,6 +225,40 @@ public boolean deleteByInteractionIdAndSequence(final UUID interactionId, final
         }
     }
 
+    /**
+     * Identifies an entry, used to page through all entries by primary key.
+     */
+    @Value
+    public static class PrimaryKey {
+        UUID interactionId;
+        int sequence;
+    }
+
+    /**
+     * Acknowledges the identified entry (typically the last one returned by {@link #findAfter(UUID, int, int)}
+     * and since processed), along with all entries before it; that is, deletes all entries up to and including
+     * its {@link ExecutionOutboxEntry#getPosition() position}, using a single bulk delete.
+     *
+     * @return the number of entries deleted; zero if the entry no longer exists (ie. has already been acknowledged)
+     */
+    @Programmatic
+    public int deleteUpTo(final UUID interactionId, final int sequence) {
+        return positionOf(interactionId, sequence)
+                .map(this::deleteUpToPosition)
+                .orElse(0);
+    }
+
+    private Optional<Long> positionOf(final UUID interactionId, final int sequence) {
+        return findByInteractionIdAndSequence(interactionId, sequence)
+                .map(ExecutionOutboxEntry::getPosition);
+    }
+
+    /**
+     * Persistence-specific subclasses implement this using a single bulk delete of all entries with a
+     * {@link ExecutionOutboxEntry#getPosition() position} up to and including the given one.
+     */
+    protected abstract int deleteUpToPosition(long position);
+
     private void persist(final E commandLogEntry) {
         repositoryService().persist(commandLogEntry);
     }
@@ -195,4 +289,49 @@ public void removeAll() {
         repositoryService().removeAll(executionOutboxEntryClass);
     }
 
+    /**
+     * Re-writes the {@link ExecutionOutboxEntry#getInteractionDto() interactionDto} of all entries,
+     * so that it is stored using the currently configured format (<code>causeway.persistence.dto-storage.format</code>).
+     * <p>
+     * Entries are processed in batches of given size, each in its own transaction, paging by primary key
+     * (rather than by offset, which would have to skip over all previously re-written entries).
+     *
+     * @return the number of entries re-written
+     */
+    public int rewriteInteractionDtos(final int batchSize) {
+        int rewritten = 0;
+        PrimaryKey after = null;
+        while(true) {
+            final PrimaryKey lastRewritten = after;
+            final List<PrimaryKey> rewrittenInBatch = transactionService.callTransactional(
+                            Propagation.REQUIRES_NEW,
+                            () -> rewriteInteractionDtos(lastRewritten, batchSize))
+                    .ifFailureFail()
+                    .getValue()
+                    .orElseGet(Collections::emptyList);
+            rewritten += rewrittenInBatch.size();
+            if(rewrittenInBatch.size() < batchSize) {
+                return rewritten;
+            }
+            after = rewrittenInBatch.get(rewrittenInBatch.size() - 1);
+        }
+    }
+
+    /**
+     * @return the primary keys of the entries re-written, in primary key order
+     */
+    private List<PrimaryKey> rewriteInteractionDtos(final @Nullable PrimaryKey after, final int limit) {
+        val query = after == null
+                ? Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_ORDERED_BY_PK)
+                : Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_ORDERED_BY_PK_AFTER)
+                        .withParameter("afterInteractionId", after.getInteractionId())
+                        .withParameter("afterSequence", after.getSequence());
+        val entries = repositoryService().allMatches(query.withRange(QueryRange.limit(limit)));
+        val dtoMapper = InteractionDtoUtils.dtoMapper();
+        entries.forEach(entry->entry.setInteractionDto(dtoMapper.clone(entry.getInteractionDto())));
+        return entries.stream()
+                .map(entry->new PrimaryKey(entry.getInteractionId(), entry.getSequence()))
+                .collect(Collectors.toList());
+    }
+
 }
@@ -27,10 +27,13 @@
 import org.apache.causeway.applib.annotation.Action;
 import org.apache.causeway.applib.annotation.DomainService;
 import org.apache.causeway.applib.annotation.NatureOfService;
+import org.apache.causeway.applib.annotation.Optionality;
+import org.apache.causeway.applib.annotation.Parameter;
 import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.annotation.SemanticsOf;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.util.schema.InteractionsDtoUtils;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository;
@@ -44,6 +47,12 @@
  * {@link ExecutionOutboxEntry outbox entries} to be processed, and then later to request them to be
  * {@link #deleteMany(String) deleted}.
  *
+ * <p>
+ *     Alternatively, a client draining a large backlog can use the last entry it has processed as a (high-watermark)
+ *     cursor, to obtain the entries {@link #pendingAfter(String, int, int) following} it, and then to
+ *     {@link #acknowledge(String, int) acknowledge} it along with all entries before it, using a bulk delete.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Named(OutboxRestApi.LOGICAL_TYPE_NAME)
@@ -75,6 +84,37 @@ public OutboxEvents pending() {
         return outboxEvents;
     }
 
+    /**
+     * As per {@link #pending()}, but returns (at most <code>limit</code>) entries following the one identified by the
+     * <code>interactionId</code> and <code>sequence</code> cursor, or from the start if there is no such entry (any
+     * more), in order of their position in the outbox.
+     *
+     * <p>
+     *     The <code>limit</code> is capped by <code>causeway.extensions.execution-outbox.rest-api.max-pending</code>.
+     * </p>
+     *
+     * @see ExecutionOutboxEntryRepository#findAfter(UUID, int, int)
+     */
+    @Action(
+            semantics = SemanticsOf.SAFE,
+            executionPublishing = Publishing.DISABLED,
+            commandPublishing = Publishing.DISABLED
+    )
+    public OutboxEvents pendingAfter(
+            @Parameter(optionality = Optionality.OPTIONAL)
+            final String interactionId,
+            final int sequence,
+            final int limit) {
+        val maxPending = causewayConfiguration.getExtensions().getExecutionOutbox().getRestApi().getMaxPending();
+        val outboxEvents = factoryService.viewModel(new OutboxEvents());
+        List<? extends ExecutionOutboxEntry> entries = entryRepository.findAfter(
+                interactionId != null ? UUID.fromString(interactionId) : null,
+                sequence,
+                Math.max(1, Math.min(limit, maxPending)));
+        outboxEvents.getExecutions().addAll(entries);
+        return outboxEvents;
+    }
+
     @Action(
             semantics = SemanticsOf.IDEMPOTENT,
             executionPublishing = Publishing.DISABLED,
@@ -99,6 +139,24 @@ public void deleteMany(final String interactionsDtoXml) {
                 });
     }
 
+    /**
+     * Acknowledges (that is, deletes) the entry identified by the <code>interactionId</code> and
+     * <code>sequence</code> cursor, typically the last one returned by {@link #pendingAfter(String, int, int)} and
+     * since processed, along with all entries before it, using a single bulk delete.
+     *
+     * @return the number of entries deleted
+     * @see ExecutionOutboxEntryRepository#deleteUpTo(UUID, int)
+     */
+    @Action(
+            semantics = SemanticsOf.IDEMPOTENT,
+            executionPublishing = Publishing.DISABLED,
+            commandPublishing = Publishing.DISABLED
+    )
+    public int acknowledge(final String interactionId, final int sequence) {
+        return entryRepository.deleteUpTo(UUID.fromString(interactionId), sequence);
+    }
+
     @Inject FactoryService factoryService;
+    @Inject CausewayConfiguration causewayConfiguration;
 
 }
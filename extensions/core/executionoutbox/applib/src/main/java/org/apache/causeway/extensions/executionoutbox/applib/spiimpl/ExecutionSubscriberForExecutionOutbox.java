@@ -18,6 +18,12 @@
  */
 package org.apache.causeway.extensions.executionoutbox.applib.spiimpl;
 
+import java.io.File;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -28,31 +34,83 @@
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import org.apache.causeway.applib.services.iactn.Execution;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 import org.apache.causeway.applib.services.publishing.spi.ExecutionSubscriber;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.commons.internal.concurrent._WriteBehindQueue;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository;
+import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 import lombok.RequiredArgsConstructor;
+import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
 /**
+ * Persists an {@link ExecutionOutboxEntry} for each execution, either synchronously within the execution's
+ * transaction (the default), or - if write-behind is enabled - asynchronously in batches, by a background
+ * writer.
+ * <p>
+ * With write-behind, the execution is snapshotted straight away, but only handed to the background writer once
+ * the execution's transaction has committed; if it is rolled back, the snapshot is discarded.
+ * <p>
+ * Note that with write-behind, outbox entries are no longer committed atomically with the execution's changes.
+ *
  * @since 2.0 {@index}
  */
-
 @Service
 @Named(ExecutionSubscriberForExecutionOutbox.LOGICAL_TYPE_NAME)
 @Priority(PriorityPrecedence.MIDPOINT)
 @Qualifier("Outbox")
 @RequiredArgsConstructor(onConstructor_ = {@Inject})
 @Log4j2
-
 public class ExecutionSubscriberForExecutionOutbox implements ExecutionSubscriber {
 
     static final String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionOutboxApplib.NAMESPACE + ".ExecutionSubscriberForExecutionOutbox";
 
     final ExecutionOutboxEntryRepository<? extends ExecutionOutboxEntry> repository;
     final CausewayConfiguration causewayConfiguration;
+    final InteractionService interactionService;
+    final TransactionService transactionService;
+
+    private _WriteBehindQueue<InteractionDto> writeBehindQueue;
+
+    @PostConstruct
+    public void init() {
+        val writeBehind = causewayConfiguration.getExtensions().getExecutionOutbox().getWriteBehind();
+        if(!isEnabled()
+                || !writeBehind.isEnabled()) {
+            return;
+        }
+        val dtoMapper = InteractionDtoUtils.dtoMapper();
+        writeBehindQueue = _WriteBehindQueue.create(
+                "executionoutbox",
+                _WriteBehindQueue.Options.<InteractionDto>builder()
+                    .capacity(writeBehind.getQueueCapacity())
+                    .batchSize(writeBehind.getBatchSize())
+                    .flushInterval(writeBehind.getFlushInterval())
+                    .offerTimeout(writeBehind.getOfferTimeout())
+                    .shutdownTimeout(writeBehind.getShutdownTimeout())
+                    .journalFile(writeBehind.getJournalFile().map(File::new).orElse(null))
+                    .journalEncoder(dtoMapper::toString)
+                    .journalDecoder(dtoMapper::read)
+                    .journalReplayWriter(interactionDtos->persistInOwnTransaction(interactionDtos, true))
+                    .build(),
+                interactionDtos->persistInOwnTransaction(interactionDtos, false))
+                .start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if(writeBehindQueue != null) {
+            writeBehindQueue.close();
+        }
+    }
 
     @Override
     public boolean isEnabled() {
@@ -65,7 +123,65 @@ public void onExecution(Execution<?, ?> execution) {
             return;
         }
 
-        repository.createEntryAndPersist(execution);
+        if(writeBehindQueue == null) {
+            repository.createEntryAndPersist(execution);
+            return;
+        }
+
+        val interactionDto = snapshotOf(execution);
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offerElsePersistInOwnTransaction(interactionDto);
+                }
+            });
+            return;
+        }
+
+        if(!writeBehindQueue.offer(interactionDto)) {
+            repository.createEntryAndPersist(execution);
+        }
+    }
+
+    /**
+     * Metrics (queue depth, lag, etc.) of the write-behind queue, if enabled.
+     */
+    public Optional<_WriteBehindQueue<InteractionDto>> getWriteBehindQueue() {
+        return Optional.ofNullable(writeBehindQueue);
+    }
+
+    // -- HELPER
+
+    private static InteractionDto snapshotOf(final Execution<?, ?> execution) {
+        val interactionDto = new InteractionDto();
+        interactionDto.setInteractionId(execution.getInteraction().getInteractionId().toString());
+        interactionDto.setExecution(execution.getDto());
+        // detach from the (still referenced) execution
+        return InteractionDtoUtils.dtoMapper().clone(interactionDto);
+    }
+
+    /**
+     * If the queue is full (or closed), writes synchronously instead; the execution's own transaction has already
+     * committed, so this needs a transaction of its own.
+     */
+    private void offerElsePersistInOwnTransaction(final InteractionDto interactionDto) {
+        if(writeBehindQueue.offer(interactionDto)) {
+            return;
+        }
+        try {
+            persistInOwnTransaction(List.of(interactionDto), false);
+        } catch (Exception e) {
+            log.error("failed to persist {} for interaction {}",
+                    ExecutionOutboxEntry.class.getSimpleName(), interactionDto.getInteractionId(), e);
+        }
+    }
+
+    private void persistInOwnTransaction(final List<InteractionDto> interactionDtos, final boolean skipExisting) {
+        interactionService.runAnonymous(()->
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, ()->
+                repository.createEntriesAndPersist(interactionDtos, skipExisting))
+            .ifFailureFail());
     }
 
 }
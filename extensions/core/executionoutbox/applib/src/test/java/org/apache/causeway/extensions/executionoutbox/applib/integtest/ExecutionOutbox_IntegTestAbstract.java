@@ -18,9 +18,11 @@
  */
 package org.apache.causeway.extensions.executionoutbox.applib.integtest;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -283,6 +285,93 @@ void test_all_the_repository_methods() {
 
     }
 
+    @Test
+    void find_after_and_delete_up_to() {
+
+        // given
+        counter1 = counterRepository.findByName("counter-1");
+        counter2 = counterRepository.findByName("counter-2");
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+        interactionService.closeInteractionLayers();    // to flush
+        interactionService.openInteraction();
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter2).act();
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter2).act();
+        interactionService.closeInteractionLayers();    // to flush
+        interactionService.openInteraction();
+
+        val all = executionOutboxEntryRepository.findAfter(null, 0, 10);
+        assertThat(all).hasSize(5);
+        assertThat(all).extracting(ExecutionOutboxEntry::getPosition).isSorted().doesNotHaveDuplicates();
+
+        // when paging through using the last entry of each page as the cursor
+        val page1 = executionOutboxEntryRepository.findAfter(null, 0, 2);
+        val cursor1 = page1.get(1);
+        val page2 = executionOutboxEntryRepository.findAfter(cursor1.getInteractionId(), cursor1.getSequence(), 2);
+        val cursor2 = page2.get(1);
+        val page3 = executionOutboxEntryRepository.findAfter(cursor2.getInteractionId(), cursor2.getSequence(), 2);
+
+        // then
+        assertThat(keysOf(page1)).isEqualTo(keysOf(all.subList(0, 2)));
+        assertThat(keysOf(page2)).isEqualTo(keysOf(all.subList(2, 4)));
+        assertThat(keysOf(page3)).isEqualTo(keysOf(all.subList(4, 5)));
+
+        // when acknowledging up to the first cursor
+        val deleted = executionOutboxEntryRepository.deleteUpTo(cursor1.getInteractionId(), cursor1.getSequence());
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(executionOutboxEntryRepository.findAll()).hasSize(3);
+        // ... the (acknowledged) cursor no longer exists, so the entries are returned from the start, which is after it
+        assertThat(keysOf(executionOutboxEntryRepository.findAfter(cursor1.getInteractionId(), cursor1.getSequence(), 10)))
+                .isEqualTo(keysOf(all.subList(2, 5)));
+        // ... and acknowledging again is a no-op
+        assertThat(executionOutboxEntryRepository.deleteUpTo(cursor1.getInteractionId(), cursor1.getSequence())).isZero();
+    }
+
+    @Test
+    void delete_up_to_does_not_delete_an_entry_inserted_after_the_cursor_was_read() {
+
+        // given
+        counter1 = counterRepository.findByName("counter-1");
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+        interactionService.closeInteractionLayers();    // to flush
+        interactionService.openInteraction();
+
+        val page = executionOutboxEntryRepository.findAfter(null, 0, 10);
+        assertThat(page).hasSize(2);
+        val cursor = page.get(1);
+
+        // when an entry with an earlier timestamp is inserted only after the page was returned
+        val template = page.get(0);
+        val lateEntry = executionOutboxEntryRepository.upsert(
+                UUID.randomUUID(), 0, template.getExecutionType(),
+                new Timestamp(template.getTimestamp().getTime() - 60_000L),
+                template.getUsername(), template.getTarget(), template.getLogicalMemberIdentifier(),
+                template.getInteractionDto());
+        interactionService.closeInteractionLayers();    // to flush
+        interactionService.openInteraction();
+
+        // then it is positioned after the cursor
+        assertThat(keysOf(executionOutboxEntryRepository.findAfter(cursor.getInteractionId(), cursor.getSequence(), 10)))
+                .isEqualTo(keysOf(List.of(lateEntry)));
+
+        // when the page is acknowledged
+        val deleted = executionOutboxEntryRepository.deleteUpTo(cursor.getInteractionId(), cursor.getSequence());
+
+        // then the late entry is not deleted
+        assertThat(deleted).isEqualTo(2);
+        assertThat(keysOf(executionOutboxEntryRepository.findAll())).isEqualTo(keysOf(List.of(lateEntry)));
+    }
+
+    private static List<String> keysOf(final List<? extends ExecutionOutboxEntry> entries) {
+        return entries.stream()
+                .map(entry -> entry.getInteractionId() + "#" + entry.getSequence())
+                .collect(Collectors.toList());
+    }
+
     @Inject ExecutionOutboxEntryRepository<? extends ExecutionOutboxEntry> executionOutboxEntryRepository;
     @Inject SudoService sudoService;
     @Inject ClockService clockService;
@@ -22,6 +22,8 @@
 
 import javax.inject.Named;
 import javax.jdo.annotations.Column;
+import javax.jdo.annotations.Extension;
+import javax.jdo.annotations.IdGeneratorStrategy;
 import javax.jdo.annotations.IdentityType;
 import javax.jdo.annotations.Index;
 import javax.jdo.annotations.Indices;
@@ -50,11 +52,24 @@
         table = ExecutionOutboxEntry.TABLE,
         objectIdClass= ExecutionOutboxEntryPK.class)
 @Indices({
+        @Index(name = "ExecutionOutboxEntry__position__IDX", members = { "position" }, unique = "true"),
         @Index(name = "ExecutionOutboxEntry__timestamp__IDX", members = { "timestamp" }),
         @Index(name = "ExecutionOutboxEntry__target__timestamp__IDX", members = { "target", "timestamp" }),
         @Index(name = "ExecutionOutboxEntry__username__timestamp__IDX", members = { "username", "timestamp" }),
 })
 @Queries( {
+    @Query(
+            name = Nq.FIND_ORDERED_BY_PK,
+            value = "SELECT "
+                  + "  FROM " + ExecutionOutboxEntry.FQCN + " "
+                  + " ORDER BY interactionId ASC, sequence ASC"),  // programmatic range
+    @Query(
+            name = Nq.FIND_ORDERED_BY_PK_AFTER,
+            value = "SELECT "
+                  + "  FROM " + ExecutionOutboxEntry.FQCN + " "
+                  + " WHERE interactionId > :afterInteractionId "
+                  + "    || (interactionId == :afterInteractionId && sequence > :afterSequence) "
+                  + " ORDER BY interactionId ASC, sequence ASC"),  // programmatic range
     @Query(
             name = Nq.FIND_BY_INTERACTION_ID_AND_SEQUENCE,
             value = "SELECT "
@@ -67,6 +82,17 @@
                   + "  FROM " + ExecutionOutboxEntry.FQCN + " "
                   + " ORDER BY timestamp ASC, interactionId ASC, sequence DESC"
                     + " RANGE 0,100"),
+    @Query(
+            name = Nq.FIND_ORDERED_BY_POSITION,
+            value = "SELECT "
+                  + "  FROM " + ExecutionOutboxEntry.FQCN + " "
+                  + " ORDER BY position ASC"),  // programmatic range
+    @Query(
+            name = Nq.FIND_AFTER,
+            value = "SELECT "
+                  + "  FROM " + ExecutionOutboxEntry.FQCN + " "
+                  + " WHERE position > :afterPosition "
+                  + " ORDER BY position ASC"),  // programmatic range
 })
 @Named(ExecutionOutboxEntry.LOGICAL_TYPE_NAME)
 @DomainObject(
@@ -77,7 +103,7 @@
 public class ExecutionOutboxEntry extends org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry {
 
 
-    public static final String FQCN = "org.apache.causeway.extensions.executionlog.jdo.dom.ExecutionLogEntry";
+    public static final String FQCN = "org.apache.causeway.extensions.executionoutbox.jdo.dom.ExecutionOutboxEntry";
     @PrimaryKey
     @InteractionId
     @Column(allowsNull = InteractionId.ALLOWS_NULL, length=InteractionId.MAX_LENGTH)
@@ -92,6 +118,18 @@ public class ExecutionOutboxEntry extends org.apache.causeway.extensions.executi
     private int sequence;
 
 
+    /**
+     * Values are not cached (ahead of being used), so that they increase monotonically even when entries are
+     * inserted by several nodes.
+     */
+    @Persistent(
+            valueStrategy = IdGeneratorStrategy.INCREMENT,
+            extensions = @Extension(vendorName = "datanucleus", key = "key-cache-size", value = "1"))
+    @Column(allowsNull = "false")
+    @Getter
+    private Long position;
+
+
     @Column(allowsNull = ExecutionType.ALLOWS_NULL, length = ExecutionType.MAX_LENGTH)
     @ExecutionType
     @Getter @Setter
@@ -18,6 +18,9 @@
  */
 package org.apache.causeway.extensions.executionoutbox.jdo.dom;
 
+import java.util.Map;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
@@ -27,6 +30,7 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
 
 import lombok.Builder;
 
@@ -57,4 +61,19 @@ protected ExecutionOutboxEntry newExecutionOutboxEntry() {
         return null;
     }
 
+    @Inject JdoSupportService jdoSupportService;
+
+    /**
+     * DataNucleus only parses a JDOQL <code>DELETE</code> if bulk deletes are allowed at the time the query is
+     * created, hence this query is not declared on {@link ExecutionOutboxEntry} alongside the other (named) queries,
+     * but executed using {@link JdoSupportService#executeBulkUpdate(String, Map)}.
+     */
+    @Override
+    protected int deleteUpToPosition(final long position) {
+        return (int) jdoSupportService.executeBulkUpdate(
+                    "DELETE FROM " + ExecutionOutboxEntry.FQCN + " "
+                  + " WHERE position <= :upToPosition ",
+                Map.of("upToPosition", position));
+    }
+
 }
@@ -35,9 +35,15 @@
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
 import javax.persistence.Table;
+import javax.persistence.TableGenerator;
 import javax.persistence.Transient;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
+import org.eclipse.persistence.annotations.Customizer;
+import org.eclipse.persistence.annotations.IdValidation;
+import org.eclipse.persistence.config.DescriptorCustomizer;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+
 import org.apache.causeway.applib.annotation.DomainObject;
 import org.apache.causeway.applib.annotation.Editing;
 import org.apache.causeway.applib.annotation.Publishing;
@@ -58,12 +64,25 @@
         schema = ExecutionOutboxEntry.SCHEMA,
         name = ExecutionOutboxEntry.TABLE,
         indexes = {
+                @Index(name = "ExecutionOutboxEntry__position__IDX", columnList = "position", unique = true),
                 @Index(name = "ExecutionOutboxEntry__timestamp__IDX", columnList = "timestamp"),
                 @Index(name = "ExecutionOutboxEntry__target__timestamp__IDX", columnList = "target, timestamp"),
                 @Index(name = "ExecutionOutboxEntry__username__timestamp__IDX", columnList = "username, timestamp"),
         }
 )
 @NamedQueries( {
+    @NamedQuery(
+            name = Nq.FIND_ORDERED_BY_PK,
+            query = "SELECT ele "
+                  + "  FROM ExecutionOutboxEntry ele "
+                  + " ORDER BY ele.pk.interactionId ASC, ele.pk.sequence ASC"),  // programmatic range
+    @NamedQuery(
+            name = Nq.FIND_ORDERED_BY_PK_AFTER,
+            query = "SELECT ele "
+                  + "  FROM ExecutionOutboxEntry ele "
+                  + " WHERE ele.pk.interactionId > :afterInteractionId "
+                  + "    OR (ele.pk.interactionId = :afterInteractionId AND ele.pk.sequence > :afterSequence) "
+                  + " ORDER BY ele.pk.interactionId ASC, ele.pk.sequence ASC"),  // programmatic range
     @NamedQuery(
             name = Nq.FIND_BY_INTERACTION_ID_AND_SEQUENCE,
             query = "SELECT ele "
@@ -75,7 +94,27 @@
             query = "SELECT ele "
                   + "  FROM ExecutionOutboxEntry ele "
                   + " ORDER BY ele.timestamp ASC, ele.pk.interactionId ASC, ele.pk.sequence DESC"),  // programmatic range 0,100
+    @NamedQuery(
+            name = Nq.FIND_ORDERED_BY_POSITION,
+            query = "SELECT ele "
+                  + "  FROM ExecutionOutboxEntry ele "
+                  + " ORDER BY ele.position ASC"),  // programmatic range
+    @NamedQuery(
+            name = Nq.FIND_AFTER,
+            query = "SELECT ele "
+                  + "  FROM ExecutionOutboxEntry ele "
+                  + " WHERE ele.position > :afterPosition "
+                  + " ORDER BY ele.position ASC"),  // programmatic range
+    @NamedQuery(
+            name = Nq.DELETE_UP_TO_POSITION,
+            query = "DELETE "
+                  + "  FROM ExecutionOutboxEntry ele "
+                  + " WHERE ele.position <= :upToPosition "),
 })
+@TableGenerator(
+        name = ExecutionOutboxEntry.POSITION_GENERATOR,
+        allocationSize = 1)     // not cached (ahead of being used), so increases monotonically across nodes
+@Customizer(ExecutionOutboxEntry.PositionSequencing.class)
 @Named(ExecutionOutboxEntry.LOGICAL_TYPE_NAME)
 @DomainObject(
         editing = Editing.DISABLED,
@@ -115,6 +154,27 @@ public void setSequence(int sequence) {
     }
 
 
+    static final String POSITION_GENERATOR = "ExecutionOutboxEntry_position";
+
+    @Column(nullable = false)
+    @Getter
+    private Long position;
+
+    /**
+     * JPA only supports generated values for (simple) primary keys, so the {@link #getPosition() position} is
+     * sequenced by EclipseLink directly.
+     */
+    public static class PositionSequencing implements DescriptorCustomizer {
+        @Override
+        public void customize(final ClassDescriptor descriptor) {
+            descriptor.setSequenceNumberField(descriptor.getMappingForAttributeName("position").getField());
+            descriptor.setSequenceNumberName(POSITION_GENERATOR);
+            // a sequence of 0 is a valid part of the primary key
+            descriptor.setIdValidation(IdValidation.NULL);
+        }
+    }
+
+
     @Column(nullable = ExecutionType.NULLABLE, length = ExecutionType.MAX_LENGTH)
     @Enumerated(EnumType.STRING)
     @ExecutionType
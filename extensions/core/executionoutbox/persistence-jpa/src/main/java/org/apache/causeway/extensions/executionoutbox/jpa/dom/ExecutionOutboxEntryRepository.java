@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.extensions.executionoutbox.jpa.dom;
 
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
@@ -27,6 +28,8 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry.Nq;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 import lombok.Builder;
 
@@ -57,4 +60,14 @@ protected ExecutionOutboxEntry newExecutionOutboxEntry() {
         return null;
     }
 
+    @Inject JpaSupportService jpaSupportService;
+
+    @Override
+    protected int deleteUpToPosition(final long position) {
+        return jpaSupportService.getEntityManagerElseFail(ExecutionOutboxEntry.class)
+                .createNamedQuery(Nq.DELETE_UP_TO_POSITION)
+                .setParameter("upToPosition", position)
+                .executeUpdate();
+    }
+
 }
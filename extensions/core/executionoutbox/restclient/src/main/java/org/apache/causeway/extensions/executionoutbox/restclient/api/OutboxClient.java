@@ -27,9 +27,12 @@
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.core.MediaType;
 
+import org.springframework.lang.Nullable;
+
 import org.apache.causeway.applib.util.schema.InteractionsDtoUtils;
 import org.apache.causeway.commons.functional.Try;
 import org.apache.causeway.commons.io.JsonUtils;
+import org.apache.causeway.extensions.executionoutbox.restclient.api.acknowledge.AcknowledgeMessage;
 import org.apache.causeway.extensions.executionoutbox.restclient.api.delete.DeleteMessage;
 import org.apache.causeway.extensions.executionoutbox.restclient.api.deleteMany.DeleteManyMessage;
 import org.apache.causeway.viewer.restfulobjects.client.AuthenticationMode;
@@ -131,6 +134,46 @@ public List<InteractionDto> pending() {
                 .orElseGet(Collections::emptyList);
     }
 
+    /**
+     * Returns (at most <code>limit</code>) pending interactions following the one identified by the given cursor,
+     * typically the last one processed; or the oldest if there is no cursor.
+     *
+     * @param interactionId - of the cursor, or <code>null</code> for none
+     * @param sequence - of the cursor
+     * @see #acknowledge(String, int)
+     */
+    public List<InteractionDto> pendingAfter(
+            final @Nullable String interactionId,
+            final int sequence,
+            final int limit) {
+
+        val queryString = (interactionId != null ? "interactionId=" + interactionId + "&" : "")
+                + "sequence=" + sequence + "&limit=" + limit;
+        Invocation.Builder invocationBuilder = client.request(outboxClientConfig.getPendingAfterUri() + "?" + queryString)
+                .accept(RestfulClientMediaType.RO_XML.mediaTypeFor(InteractionsDto.class));
+        var response = invocationBuilder.get();
+
+        final Try<InteractionsDto> digest = client.digest(response, InteractionsDto.class);
+
+        digest.ifFailureFail();
+        return digest.getValue()
+                .map(InteractionsDto::getInteractionDto)
+                .orElseGet(Collections::emptyList);
+    }
+
+    /**
+     * Acknowledges (that is, deletes) the interaction identified by the given cursor, typically the last one obtained
+     * using {@link #pendingAfter(String, int, int)} and since processed, along with all interactions before it.
+     *
+     * <p>
+     *     As per {@link #deleteMany(List)}, but deleting all interactions up to the cursor using a single bulk delete.
+     * </p>
+     */
+    public void acknowledge(final String interactionId, final int sequence) {
+        invoke(outboxClientConfig.getAcknowledgeUri(),
+                new AcknowledgeMessage(interactionId, sequence));
+    }
+
     public void delete(final String interactionId, final int sequence) {
         invoke(outboxClientConfig.getDeleteUri(),
                 new DeleteMessage(interactionId, sequence));
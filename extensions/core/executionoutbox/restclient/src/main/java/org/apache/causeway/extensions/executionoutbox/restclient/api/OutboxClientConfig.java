@@ -47,4 +47,10 @@ public class OutboxClientConfig {
     @XmlElement(name="deleteManyUri")
     private String deleteManyUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/deleteMany/invoke";
 
+    @XmlElement(name="pendingAfterUri")
+    private String pendingAfterUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/pendingAfter/invoke";
+
+    @XmlElement(name="acknowledgeUri")
+    private String acknowledgeUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/acknowledge/invoke";
+
 }
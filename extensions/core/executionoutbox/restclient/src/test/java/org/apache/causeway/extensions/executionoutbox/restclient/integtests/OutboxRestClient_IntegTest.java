@@ -237,6 +237,60 @@ void scenario() {
 
     }
 
+    @Test
+    void scenario_using_cursor() {
+
+        // given
+        interactionService.runAnonymous(() -> {
+            counter1 = counterRepository.findByName("counter-1");
+            counter2 = counterRepository.findByName("counter-2");
+
+            bump(counter1, 30);
+            bump(counter2, 30);
+        });
+
+        // when
+        List<InteractionDto> pending1 = outboxClient.pendingAfter(null, 0, 25);
+
+        // then
+        assertThat(pending1).hasSize(25);
+
+        // when
+        InteractionDto cursor1 = pending1.get(24);
+        List<InteractionDto> pending2 = outboxClient.pendingAfter(cursor1.getInteractionId(), cursor1.getExecution().getSequence(), 25);
+
+        // then
+        assertThat(pending2).hasSize(25);
+        assertThat(pending2).doesNotContainAnyElementsOf(pending1);
+
+        // when
+        outboxClient.acknowledge(cursor1.getInteractionId(), cursor1.getExecution().getSequence());
+
+        // then
+        interactionService.runAnonymous(() -> {
+            List<? extends ExecutionOutboxEntry> all = repositoryService.allInstances(org.apache.causeway.extensions.executionoutbox.jpa.dom.ExecutionOutboxEntry.class);
+            assertThat(all).hasSize(35); // the original 60, subtract the 25 acknowledged.
+        });
+
+        // when
+        InteractionDto cursor2 = pending2.get(24);
+        List<InteractionDto> pending3 = outboxClient.pendingAfter(cursor2.getInteractionId(), cursor2.getExecution().getSequence(), 25);
+        outboxClient.acknowledge(cursor2.getInteractionId(), cursor2.getExecution().getSequence());
+
+        // then
+        assertThat(pending3).hasSize(10);
+        interactionService.runAnonymous(() -> {
+            List<? extends ExecutionOutboxEntry> all = repositoryService.allInstances(org.apache.causeway.extensions.executionoutbox.jpa.dom.ExecutionOutboxEntry.class);
+            assertThat(all).hasSize(10);
+        });
+
+        // when the (acknowledged) cursor no longer exists, then the remaining are returned from the start
+        List<InteractionDto> pending4 = outboxClient.pendingAfter(cursor2.getInteractionId(), cursor2.getExecution().getSequence(), 25);
+
+        // then
+        assertThat(pending4).hasSize(10);
+    }
+
     private void bump(final org.apache.causeway.extensions.executionoutbox.applib.integtest.model.Counter counter, final int numberOfTimes) {
         IntStream.range(0, numberOfTimes).forEach(x -> {
             wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter).act();
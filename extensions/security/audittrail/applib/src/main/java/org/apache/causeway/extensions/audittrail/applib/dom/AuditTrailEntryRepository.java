@@ -33,6 +33,9 @@
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
 
 import lombok.AccessLevel;
@@ -53,15 +56,44 @@
     @Inject RepositoryService repositoryService;
     @Inject FactoryService factoryService;
     @Inject CausewaySystemEnvironment causewaySystemEnvironment;
+    @Inject TransactionService transactionService;
+    @Inject CausewayConfiguration causewayConfiguration;
 
     public Class<E> getEntityClass() {
         return auditTrailEntryClass;
     }
 
     public AuditTrailEntry createFor(final EntityPropertyChange change) {
+        return repositoryService.persistAndFlush(newEntryFor(change));
+    }
+
+    /**
+     * Creates an entry for each of the provided changes, flushing only once per
+     * {@link #getBatchSize() batch} rather than once per entry.
+     *
+     * <p>
+     *     Subclasses may override to make use of the persistence mechanism's own bulk support.
+     * </p>
+     */
+    public void createForAll(final Can<EntityPropertyChange> changes) {
+        changes.partitionInnerBound(getBatchSize())
+            .forEach(batch->{
+                batch.forEach(change->repositoryService.persist(newEntryFor(change)));
+                transactionService.flushTransaction();
+            });
+    }
+
+    /**
+     * The maximum number of entries written in a single batch by {@link #createForAll(Can)}.
+     */
+    protected int getBatchSize() {
+        return causewayConfiguration.getExtensions().getAuditTrail().getBatchSize();
+    }
+
+    protected E newEntryFor(final EntityPropertyChange change) {
         E entry = factoryService.detachedEntity(auditTrailEntryClass);
         entry.init(change);
-        return repositoryService.persistAndFlush(entry);
+        return entry;
     }
 
     public Optional<E> findFirstByTarget(final Bookmark target) {
@@ -32,6 +32,7 @@
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChangeSubscriber;
 import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.extensions.audittrail.applib.CausewayModuleExtAuditTrailApplib;
 import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntry;
 import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepository;
@@ -73,4 +74,12 @@ public void onChanging(EntityPropertyChange entityPropertyChange) {
         auditTrailEntryRepository.createFor(entityPropertyChange);
     }
 
+    @Override
+    public void onBulkChanging(Can<EntityPropertyChange> entityPropertyChanges) {
+        if (!isEnabled()) {
+            return;
+        }
+        auditTrailEntryRepository.createForAll(entityPropertyChanges);
+    }
+
 }
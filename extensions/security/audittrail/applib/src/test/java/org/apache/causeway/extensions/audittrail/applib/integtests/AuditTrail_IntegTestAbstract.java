@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.extensions.audittrail.applib.integtests;
 
+import java.util.ArrayList;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -29,9 +30,11 @@
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.apache.causeway.applib.mixins.system.DomainChangeRecord;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.bookmark.BookmarkService;
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
+import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.core.config.presets.CausewayPresets;
 import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntry;
 import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepository;
@@ -97,6 +100,25 @@ void created() {
                 .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPostValue).isNull());
     }
 
+    @Test
+    void created_many_spanning_multiple_batches() {
+
+        // when
+        val numCounters = 40; // at least 3 properties each, so exceeds the default batch size
+        for (int i = 0; i < numCounters; i++) {
+            counterRepository.persist(newCounter("counter-" + i));
+        }
+        interactionService.nextInteraction();
+
+        // then
+        val entries = auditTrailEntryRepository.findAll();
+        val entriesByTarget = entries.stream().collect(Collectors.groupingBy(AuditTrailEntry::getTarget));
+        assertThat(entriesByTarget).hasSize(numCounters);
+        entriesByTarget.values().forEach(entriesForTarget->
+            assertThat(entriesForTarget.stream().map(AuditTrailEntry::getPropertyId))
+                    .contains("name", "num", "num2"));
+    }
+
     @Test
     void updated_using_mixin() {
 
@@ -154,6 +176,42 @@ void updated_using_mixin() {
 
     }
 
+    @Test
+    void updated_repeatedly_with_flushes_in_between() {
+
+        // given
+        val numCounters = 10; // exceeds the spill threshold of the bounded mode variant of this test
+        val targets = new ArrayList<Bookmark>();
+        for (int i = 0; i < numCounters; i++) {
+            targets.add(bookmarkService.bookmarkFor(counterRepository.persist(newCounter("counter-" + i))).orElseThrow());
+        }
+        interactionService.nextInteraction();
+
+        auditTrailEntryRepository.removeAll();
+        interactionService.nextInteraction();
+
+        // when
+        val counters = targets.stream()
+                .map(target->bookmarkService.lookup(target, Counter.class).orElseThrow())
+                .collect(Collectors.toList());
+        counters.forEach(counter->counter.setNum(1L));
+        transactionService.flushTransaction();
+        counters.forEach(counter->counter.setNum(2L));
+        transactionService.flushTransaction();
+        counters.subList(numCounters / 2, numCounters).forEach(counter->counter.setNum(null)); // reverted
+        interactionService.nextInteraction();
+
+        // then
+        val entries = auditTrailEntryRepository.findAll();
+        assertThat(entries).hasSize(numCounters / 2);
+        assertThat(entries.stream().map(AuditTrailEntry::getTarget))
+                .containsExactlyInAnyOrderElementsOf(targets.subList(0, numCounters / 2));
+        entries.forEach(entry->assertThat(entry)
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPropertyId).isEqualTo("num"))
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPreValue).isNull())
+                .satisfies(e -> assertThat(e).extracting(AuditTrailEntry::getPostValue).isEqualTo("2")));
+    }
+
     @Test
     void deleted() {
 
@@ -203,6 +261,7 @@ void deleted() {
     @Inject CounterRepository<? extends Counter> counterRepository;
     @Inject WrapperFactory wrapperFactory;
     @Inject BookmarkService bookmarkService;
+    @Inject TransactionService transactionService;
     @Inject AuditTrailEntryRepository<? extends AuditTrailEntry> auditTrailEntryRepository;
 
 
@@ -19,12 +19,43 @@
  */
 package org.apache.causeway.extensions.audittrail.jdo.dom;
 
+import javax.inject.Inject;
+
 import org.springframework.stereotype.Service;
 
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
+
+import lombok.val;
+
 @Service
 public class AuditTrailEntryRepository extends org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepository<AuditTrailEntry> {
 
     public AuditTrailEntryRepository() {
         super(AuditTrailEntry.class);
     }
+
+    @Inject JdoSupportService jdoSupportService;
+
+    /**
+     * Persists each batch using a single {@link javax.jdo.PersistenceManager#makePersistentAll(java.util.Collection)},
+     * flushing once per batch.
+     *
+     * <p>
+     *     How many of the inserts are then sent as a single JDBC batch is governed by
+     *     <code>datanucleus.rdbms.statementBatchLimit</code> (default 50).  This is read once by the store manager,
+     *     so is not changed here on the (shared) persistence manager.
+     * </p>
+     */
+    @Override
+    public void createForAll(final Can<EntityPropertyChange> changes) {
+        val pm = jdoSupportService.getPersistenceManager();
+        changes.partitionInnerBound(getBatchSize())
+            .forEach(batch->{
+                pm.makePersistentAll(batch.map(this::newEntryFor).toList());
+                pm.flush();
+            });
+    }
+
 }
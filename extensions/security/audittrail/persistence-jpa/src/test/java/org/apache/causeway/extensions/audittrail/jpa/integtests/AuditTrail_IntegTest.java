@@ -28,6 +28,7 @@
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.context.annotation.PropertySources;
+import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 
 import org.apache.causeway.core.config.beans.CausewayBeanTypeRegistry;
@@ -47,6 +48,7 @@
         }
 )
 @ActiveProfiles("test")
+@DirtiesContext // JPA entity listeners would otherwise stay bound to the context of a previous test
 public class AuditTrail_IntegTest extends AuditTrail_IntegTestAbstract {
 
 
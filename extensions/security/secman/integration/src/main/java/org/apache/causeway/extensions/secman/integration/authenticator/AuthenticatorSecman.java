@@ -18,23 +18,49 @@
  */
 package org.apache.causeway.extensions.secman.integration.authenticator;
 
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import javax.inject.Inject;
+import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import org.apache.causeway.applib.events.lifecycle.ObjectRemovingEvent;
 import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
 import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.security.authentication.AuthenticationRequest;
 import org.apache.causeway.core.security.authentication.AuthenticationRequestPassword;
 import org.apache.causeway.core.security.authentication.Authenticator;
+import org.apache.causeway.core.transaction.changetracking.events.PostStoreEvent;
+import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
 import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUserRepository;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUserStatus;
 
+import lombok.NonNull;
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
@@ -51,6 +77,9 @@
  * <p>
  * This Authenticator is a fallback and is only used if there is no other
  * implementation available.
+ * <p>
+ * Successful authentications can optionally be held in a {@link CredentialCache}, for stateless clients that
+ * re-authenticate on every request.
  *
  * @since 2.0 {@index}
  */
@@ -59,13 +88,22 @@ public class AuthenticatorSecman implements Authenticator {
 
     private final ApplicationUserRepository applicationUserRepository;
     private final PasswordEncoder passwordEncoder;
+    private final @Nullable CredentialCache credentialCache;
 
-    @Inject
     public AuthenticatorSecman(
             final ApplicationUserRepository applicationUserRepository,
             final @Qualifier("Secman") PasswordEncoder passwordEncoder) {
+        this(applicationUserRepository, passwordEncoder, null);
+    }
+
+    @Inject
+    public AuthenticatorSecman(
+            final ApplicationUserRepository applicationUserRepository,
+            final @Qualifier("Secman") PasswordEncoder passwordEncoder,
+            final @Nullable CredentialCache credentialCache) {
         this.applicationUserRepository = applicationUserRepository;
         this.passwordEncoder = passwordEncoder;
+        this.credentialCache = credentialCache;
     }
 
     @Override
@@ -83,15 +121,16 @@ public InteractionContext authenticate(final AuthenticationRequest request, fina
             return null;
         }
 
-        return applicationUserRepository.findByUsername(username)
-                // if user is LOCKED, then veto
-                .filter(appUser -> ApplicationUserStatus.isUnlocked(appUser.getStatus()))
-                // if user has no encrypted password persisted, then veto
-                .filter(appUser -> appUser.isHasPassword())
-                .filter(appUser -> passwordEncoder.matches(rawPassword, appUser.getEncryptedPassword()))
-                .map(appUser -> {
+        val roleNamesIfAuthenticated = credentialCache!=null
+                && credentialCache.isEnabled()
+                && rawPassword!=null
+                ? credentialCache.computeIfAbsent(username, rawPassword, ()->verify(username, rawPassword))
+                : verify(username, rawPassword);
+
+        return roleNamesIfAuthenticated
+                .map(appUserRoleNames -> {
                     val roleNames = Stream.concat(
-                            appUser.getRoles().stream().map(ApplicationRole::getName),
+                            appUserRoleNames.stream(),
                             request.streamRoles());
                     val user = UserMemento.ofNameAndRoleNames(username, roleNames)
                             .withAuthenticationCode(code);
@@ -100,6 +139,21 @@ public InteractionContext authenticate(final AuthenticationRequest request, fina
                 .orElse(null);
     }
 
+    /**
+     * @return the names of the user's roles, if authenticated
+     */
+    private Optional<List<String>> verify(final String username, final String rawPassword) {
+        return applicationUserRepository.findByUsername(username)
+                // if user is LOCKED, then veto
+                .filter(appUser -> ApplicationUserStatus.isUnlocked(appUser.getStatus()))
+                // if user has no encrypted password persisted, then veto
+                .filter(appUser -> appUser.isHasPassword())
+                .filter(appUser -> passwordEncoder.matches(rawPassword, appUser.getEncryptedPassword()))
+                .map(appUser -> appUser.getRoles().stream()
+                        .map(ApplicationRole::getName)
+                        .collect(Collectors.toList()));
+    }
+
     @Override
     public void logout() {
         // nothing needs to be done.  On logout the top-level AuthenticationManager
@@ -108,4 +162,222 @@ public void logout() {
         // be re-authenticated.
     }
 
+    /**
+     * Application-scoped, bounded cache of successful authentications, keyed by a keyed hash (HMAC) of the
+     * credentials, using a random key generated on start-up. Entries expire after a configurable time-to-live,
+     * and all are invalidated whenever an {@link ApplicationUser} or {@link ApplicationRole} is changed.
+     * <p>
+     * Exposes hit/miss counts, eg. for monitoring.
+     *
+     * @see CausewayConfiguration.Extensions.Secman.AuthenticationCache
+     */
+    @Component
+    @Named(CausewayModuleExtSecmanApplib.NAMESPACE + ".AuthenticatorSecman.CredentialCache")
+    @Log4j2
+    public static class CredentialCache {
+
+        private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+        private final boolean enabled;
+        private final long timeToLiveNanos;
+        private final LongSupplier nanoClock;
+        private final SecretKeySpec hmacKey;
+
+        private final Map<String, CachedAuthentication> entriesByKey;
+
+        /**
+         * Incremented on every invalidation, so that authentications verified concurrently with a change are not cached.
+         */
+        private long generation;
+
+        private final LongAdder hitCount = new LongAdder();
+        private final LongAdder missCount = new LongAdder();
+        private final LongAdder evictionCount = new LongAdder();
+        private final LongAdder invalidationCount = new LongAdder();
+
+        @Inject
+        public CredentialCache(final CausewayConfiguration causewayConfiguration) {
+            this(causewayConfiguration.getExtensions().getSecman().getAuthenticationCache(), System::nanoTime);
+        }
+
+        CredentialCache(
+                final CausewayConfiguration.Extensions.Secman.AuthenticationCache config,
+                final LongSupplier nanoClock) {
+            this.enabled = config.isEnabled();
+            this.timeToLiveNanos = config.getTimeToLive().toNanos();
+            this.nanoClock = nanoClock;
+            val keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            this.hmacKey = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+            val maxSize = config.getMaxSize();
+            this.entriesByKey = new LinkedHashMap<>(16, 0.75f, /*accessOrder*/ false) {
+                private static final long serialVersionUID = 1L;
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, CachedAuthentication> eldest) {
+                    val evict = size() > maxSize;
+                    if(evict) {
+                        evictionCount.increment();
+                    }
+                    return evict;
+                }
+            };
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * @param verification - invoked on a cache miss; returns the names of the user's roles if authenticated,
+         *      otherwise empty (which is not cached)
+         */
+        Optional<List<String>> computeIfAbsent(
+                final @NonNull String username,
+                final @NonNull String rawPassword,
+                final Supplier<Optional<List<String>>> verification) {
+
+            val key = keyFor(username, rawPassword);
+            final long generationBefore;
+            synchronized (this) {
+                val entry = entriesByKey.get(key);
+                if(entry != null) {
+                    if(nanoClock.getAsLong() - entry.createdAtNanos < timeToLiveNanos) {
+                        hitCount.increment();
+                        return Optional.of(entry.roleNames);
+                    }
+                    entriesByKey.remove(key);
+                    evictionCount.increment();
+                }
+                missCount.increment();
+                generationBefore = generation;
+            }
+
+            // verified outside of the lock, as is expensive
+            val roleNamesIfAuthenticated = verification.get();
+            roleNamesIfAuthenticated.ifPresent(roleNames->{
+                synchronized (this) {
+                    if(generation == generationBefore) {
+                        entriesByKey.put(key, new CachedAuthentication(List.copyOf(roleNames), nanoClock.getAsLong()));
+                    }
+                }
+            });
+            return roleNamesIfAuthenticated;
+        }
+
+        synchronized void invalidate() {
+            generation++;
+            if(!entriesByKey.isEmpty()) {
+                invalidationCount.increment();
+                entriesByKey.clear();
+            }
+        }
+
+        // -- METRICS
+
+        public synchronized int getSize() {
+            return entriesByKey.size();
+        }
+
+        public long getHitCount() {
+            return hitCount.sum();
+        }
+
+        public long getMissCount() {
+            return missCount.sum();
+        }
+
+        /**
+         * Number of entries evicted, either because expired or because the cache was full.
+         */
+        public long getEvictionCount() {
+            return evictionCount.sum();
+        }
+
+        /**
+         * Number of times the (non-empty) cache was cleared, because of a change to users or roles.
+         */
+        public long getInvalidationCount() {
+            return invalidationCount.sum();
+        }
+
+        public double getHitRatio() {
+            val hits = getHitCount();
+            val total = hits + getMissCount();
+            return total == 0
+                    ? 0.
+                    : (double) hits / total;
+        }
+
+        // -- INVALIDATION
+
+        @EventListener(PostStoreEvent.class)
+        public void onPostStore(final PostStoreEvent event) {
+            onChanged(event.getPersistableObject());
+        }
+
+        @EventListener(ObjectRemovingEvent.class)
+        public void onRemoving(final ObjectRemovingEvent<?> event) {
+            onChanged(event.getSource());
+        }
+
+        @EventListener(CausewayModuleExtSecmanApplib.ActionDomainEvent.class)
+        public void onActionExecuted(final CausewayModuleExtSecmanApplib.ActionDomainEvent<?> event) {
+            if(event.getEventPhase().isExecuted()) {
+                invalidateNowAndAfterCompletion();
+            }
+        }
+
+        private void onChanged(final Object entity) {
+            if(entity instanceof ApplicationUser
+                    || entity instanceof ApplicationRole) {
+                invalidateNowAndAfterCompletion();
+            }
+        }
+
+        /**
+         * Invalidates once immediately and again once the transaction has completed
+         * (so that other requests cannot meanwhile re-populate the cache from data not yet committed).
+         */
+        private void invalidateNowAndAfterCompletion() {
+            if(!enabled) {
+                return;
+            }
+            log.debug("invalidating cached authentications");
+            invalidate();
+            if(TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(final int status) {
+                        invalidate();
+                    }
+                });
+            }
+        }
+
+        // -- HELPER
+
+        private String keyFor(final String username, final String rawPassword) {
+            try {
+                val mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(hmacKey);
+                mac.update(username.getBytes(StandardCharsets.UTF_8));
+                mac.update((byte) 0);
+                return Base64.getEncoder().encodeToString(
+                        mac.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8)));
+            } catch (GeneralSecurityException e) {
+                throw _Exceptions.unrecoverable(e);
+            }
+        }
+
+        private static final class CachedAuthentication {
+            private final List<String> roleNames;
+            private final long createdAtNanos;
+            private CachedAuthentication(final List<String> roleNames, final long createdAtNanos) {
+                this.roleNames = roleNames;
+                this.createdAtNanos = createdAtNanos;
+            }
+        }
+
+    }
+
 }
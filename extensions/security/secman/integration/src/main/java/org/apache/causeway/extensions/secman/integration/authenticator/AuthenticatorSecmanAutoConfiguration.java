@@ -24,6 +24,7 @@
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
@@ -35,6 +36,9 @@
  */
 @AutoConfigureOrder(PriorityPrecedence.LATE)
 @Configuration
+@Import({
+    AuthenticatorSecman.CredentialCache.class
+})
 public class AuthenticatorSecmanAutoConfiguration  {
 
     @Bean(CausewayModuleExtSecmanApplib.NAMESPACE + ".AuthenticatorSecman")
@@ -42,9 +46,10 @@ public class AuthenticatorSecmanAutoConfiguration  {
     @Qualifier("Secman")
     public Authenticator authenticatorSecman(
             final ApplicationUserRepository applicationUserRepository,
-            final @Qualifier("Secman") PasswordEncoder passwordEncoder) {
+            final @Qualifier("Secman") PasswordEncoder passwordEncoder,
+            final AuthenticatorSecman.CredentialCache credentialCache) {
         return new AuthenticatorSecman(
-                applicationUserRepository, passwordEncoder);
+                applicationUserRepository, passwordEncoder, credentialCache);
     }
 
 }
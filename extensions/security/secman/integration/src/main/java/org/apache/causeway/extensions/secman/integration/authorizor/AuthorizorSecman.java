@@ -18,8 +18,11 @@
  */
 package org.apache.causeway.extensions.secman.integration.authorizor;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 import javax.inject.Inject;
@@ -28,24 +31,35 @@
 
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.annotation.InteractionScope;
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.events.lifecycle.ObjectRemovingEvent;
 import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
 import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
 import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.security.authorization.Authorizor;
+import org.apache.causeway.core.security.authorization.manager.AuthorizationChangedEvent;
+import org.apache.causeway.core.transaction.changetracking.events.PostStoreEvent;
 import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermission;
 import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode;
 import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUserRepository;
 
 import lombok.NonNull;
 import lombok.val;
+import lombok.extern.log4j.Log4j2;
 
 /**
  * <p>
@@ -59,6 +73,19 @@
  * used for authorization.
  * </p>
  *
+ * <p>
+ * Each user's permissions are looked up once per interaction.  If enabled (see
+ * {@link CausewayConfiguration.Extensions.Secman.PermissionCache}), they are instead held in an application-wide
+ * {@link SharedPermissionCache}, with answers memoized per {@link Identifier} and
+ * {@link ApplicationPermissionMode mode}, such that repeated visibility and usability checks (across requests) are
+ * simple hash lookups.  That cache is bounded, its entries expire, and it is invalidated whenever an
+ * {@link ApplicationUser}, {@link ApplicationRole} or {@link ApplicationPermission} is changed (within this JVM only).
+ * (While impersonating, permissions are always held only for the duration of the interaction, because they derive
+ * from the impersonated roles.)
+ * On any such change, an {@link AuthorizationChangedEvent} is published, so that any decisions cached by the
+ * <code>AuthorizationManager</code> are discarded too.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Service
@@ -69,6 +96,7 @@ public class AuthorizorSecman implements Authorizor {
 
     @Inject ApplicationUserRepository applicationUserRepository;
     @Inject Provider<PermissionCache> cache;
+    @Inject SharedPermissionCache sharedCache;
 
     @Override
     public boolean isVisible(final InteractionContext authentication, final Identifier identifier) {
@@ -87,7 +115,20 @@ private boolean grants(
             final Identifier identifier,
             final ApplicationPermissionMode permissionMode) {
 
-        val userName = authentication.getUser().getName();
+        val user = authentication.getUser();
+        val userName = user.getName();
+
+        if(!user.isImpersonating()
+                && sharedCache.isEnabled()) {
+            return sharedCache
+                    .computeIfAbsent(userName, ()->
+                    applicationUserRepository
+                    .findByUsername(userName)
+                    .map(ApplicationUser::getPermissionSet))
+                    .map(compiledPermissions->compiledPermissions.grants(identifier, permissionMode))
+                    .orElse(false);
+        }
+
         val permissionSetIfAny = cache.get()
                 .computeIfAbsent(userName, ()->
                 applicationUserRepository
@@ -122,4 +163,193 @@ Optional<ApplicationPermissionValueSet> computeIfAbsent(
 
     }
 
+    /**
+     * Application-scoped, bounded cache of the {@link CompiledPermissionSet} of each (non-impersonated) user, shared
+     * by users having equal permissions. Entries expire after a configurable time-to-live, and all are invalidated
+     * whenever an {@link ApplicationUser}, {@link ApplicationRole} or {@link ApplicationPermission} is changed.
+     * <p>
+     * Invalidation is local to this JVM; with multiple nodes, changes made through another node are only seen once
+     * entries have expired.
+     *
+     * @see CausewayConfiguration.Extensions.Secman.PermissionCache
+     */
+    @Component
+    @Named(CausewayModuleExtSecmanApplib.NAMESPACE + ".AuthorizorSecman.SharedPermissionCache")
+    @Log4j2
+    static class SharedPermissionCache {
+
+        @Inject ApplicationEventPublisher eventPublisher;
+
+        private final boolean enabled;
+        private final long timeToLiveNanos;
+        private final LongSupplier nanoClock;
+
+        private final Map<String, CachedPermissions> permissionsByUsername;
+        private final Map<ApplicationPermissionValueSet, CompiledPermissionSet> compiledByPermissionSet;
+
+        /**
+         * Incremented on every invalidation, so that permissions loaded concurrently with a change are not cached.
+         */
+        private long generation;
+
+        @Inject
+        SharedPermissionCache(final CausewayConfiguration causewayConfiguration) {
+            this(causewayConfiguration.getExtensions().getSecman().getPermissionCache(), System::nanoTime);
+        }
+
+        SharedPermissionCache(
+                final CausewayConfiguration.Extensions.Secman.PermissionCache config,
+                final LongSupplier nanoClock) {
+            this.enabled = config.isEnabled();
+            this.timeToLiveNanos = config.getTimeToLive().toNanos();
+            this.nanoClock = nanoClock;
+            this.permissionsByUsername = boundedMap(config.getMaxEntries());
+            // there cannot be more distinct permission sets in use than there are users
+            this.compiledByPermissionSet = boundedMap(config.getMaxEntries());
+        }
+
+        boolean isEnabled() {
+            return enabled;
+        }
+
+        Optional<CompiledPermissionSet> computeIfAbsent(
+                final @NonNull String userName,
+                final Supplier<Optional<ApplicationPermissionValueSet>> lookup) {
+
+            final long generationBefore;
+            synchronized (this) {
+                val cached = permissionsByUsername.get(userName);
+                if(cached != null) {
+                    if(nanoClock.getAsLong() - cached.createdAtNanos < timeToLiveNanos) {
+                        return cached.permissions;
+                    }
+                    permissionsByUsername.remove(userName);
+                }
+                generationBefore = generation;
+            }
+
+            // looked up outside of the lock, as involves the database
+            val permissionSetIfAny = lookup.get();
+
+            synchronized (this) {
+                val compiled = permissionSetIfAny
+                        .map(permissionSet->compiledByPermissionSet
+                                .computeIfAbsent(permissionSet, CompiledPermissionSet::new));
+                if(generation == generationBefore) {
+                    permissionsByUsername.put(userName, new CachedPermissions(compiled, nanoClock.getAsLong()));
+                }
+                return compiled;
+            }
+        }
+
+        synchronized void invalidate() {
+            generation++;
+            permissionsByUsername.clear();
+            compiledByPermissionSet.clear();
+        }
+
+        synchronized int getSize() {
+            return permissionsByUsername.size();
+        }
+
+        @EventListener(PostStoreEvent.class)
+        public void onPostStore(final PostStoreEvent event) {
+            onChanged(event.getPersistableObject());
+        }
+
+        @EventListener(ObjectRemovingEvent.class)
+        public void onRemoving(final ObjectRemovingEvent<?> event) {
+            onChanged(event.getSource());
+        }
+
+        @EventListener(CausewayModuleExtSecmanApplib.ActionDomainEvent.class)
+        public void onActionExecuted(final CausewayModuleExtSecmanApplib.ActionDomainEvent<?> event) {
+            if(event.getEventPhase().isExecuted()) {
+                invalidateNowAndAfterCompletion();
+            }
+        }
+
+        private void onChanged(final Object entity) {
+            if(entity instanceof ApplicationUser
+                    || entity instanceof ApplicationRole
+                    || entity instanceof ApplicationPermission) {
+                invalidateNowAndAfterCompletion();
+            }
+        }
+
+        /**
+         * Invalidates once immediately (for the current interaction) and again once the transaction has completed
+         * (so that other interactions cannot meanwhile re-populate the cache from data not yet committed).
+         */
+        private void invalidateNowAndAfterCompletion() {
+            log.debug("invalidating permissions");
+            invalidateAndNotify();
+            if(TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(final int status) {
+                        invalidateAndNotify();
+                    }
+                });
+            }
+        }
+
+        private void invalidateAndNotify() {
+            invalidate();
+            if(eventPublisher != null) {
+                eventPublisher.publishEvent(AuthorizationChangedEvent.of());
+            }
+        }
+
+        private static <K, V> Map<K, V> boundedMap(final int maxSize) {
+            return new LinkedHashMap<>(16, 0.75f, /*accessOrder*/ false) {
+                private static final long serialVersionUID = 1L;
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        private static final class CachedPermissions {
+            private final Optional<CompiledPermissionSet> permissions;
+            private final long createdAtNanos;
+            private CachedPermissions(final Optional<CompiledPermissionSet> permissions, final long createdAtNanos) {
+                this.permissions = permissions;
+                this.createdAtNanos = createdAtNanos;
+            }
+        }
+
+    }
+
+    /**
+     * Memoizes the answers of an {@link ApplicationPermissionValueSet} per {@link Identifier} and
+     * {@link ApplicationPermissionMode}.
+     *
+     * <p>
+     *     Note that this compiles the user's permissions as a whole, rather than per role: permissions granted by
+     *     different roles to the same feature path are evaluated together (allow versus veto), so the answers of
+     *     individual roles cannot simply be combined.
+     * </p>
+     */
+    static class CompiledPermissionSet {
+
+        private final ApplicationPermissionValueSet permissionSet;
+        private final Map<Identifier, Boolean> viewing = new ConcurrentHashMap<>();
+        private final Map<Identifier, Boolean> changing = new ConcurrentHashMap<>();
+
+        CompiledPermissionSet(final ApplicationPermissionValueSet permissionSet) {
+            this.permissionSet = permissionSet;
+        }
+
+        boolean grants(final Identifier identifier, final ApplicationPermissionMode mode) {
+            val answers = mode == ApplicationPermissionMode.CHANGING
+                    ? changing
+                    : viewing;
+            return answers.computeIfAbsent(identifier, __->
+                    permissionSet.grants(ApplicationFeatureId.fromIdentifier(identifier), mode));
+        }
+
+    }
+
 }
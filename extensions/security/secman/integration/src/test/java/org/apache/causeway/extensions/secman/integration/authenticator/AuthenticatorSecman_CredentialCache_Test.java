@@ -0,0 +1,126 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.authenticator;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+import lombok.val;
+
+class AuthenticatorSecman_CredentialCache_Test {
+
+    AuthenticatorSecman.CredentialCache cache;
+    AtomicInteger verificationCount;
+    AtomicLong nanoTime;
+
+    @BeforeEach
+    void setup() {
+        val config = new CausewayConfiguration.Extensions.Secman.AuthenticationCache();
+        config.setEnabled(true);
+        config.setTimeToLive(Duration.ofMinutes(1));
+        config.setMaxSize(2);
+        nanoTime = new AtomicLong();
+        cache = new AuthenticatorSecman.CredentialCache(config, nanoTime::get);
+        verificationCount = new AtomicInteger();
+    }
+
+    private Optional<List<String>> verify(final boolean authenticated) {
+        verificationCount.incrementAndGet();
+        return authenticated
+                ? Optional.of(List.of("regular-user"))
+                : Optional.empty();
+    }
+
+    @Test
+    void successful_authentication_is_verified_once() {
+        assertThat(cache.computeIfAbsent("sven", "pass", ()->verify(true))).contains(List.of("regular-user"));
+        assertThat(cache.computeIfAbsent("sven", "pass", ()->verify(true))).contains(List.of("regular-user"));
+
+        assertThat(verificationCount.get()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void failed_authentication_or_other_password_is_not_cached() {
+        cache.computeIfAbsent("sven", "pass", ()->verify(true));
+
+        assertThat(cache.computeIfAbsent("sven", "wrong", ()->verify(false))).isEmpty();
+        assertThat(cache.computeIfAbsent("sven", "wrong", ()->verify(false))).isEmpty();
+
+        assertThat(verificationCount.get()).isEqualTo(3);
+        assertThat(cache.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    void entries_expire() {
+        cache.computeIfAbsent("sven", "pass", ()->verify(true));
+        nanoTime.addAndGet(Duration.ofMinutes(2).toNanos());
+        cache.computeIfAbsent("sven", "pass", ()->verify(true));
+
+        assertThat(verificationCount.get()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void cache_is_bounded() {
+        cache.computeIfAbsent("sven", "pass", ()->verify(true));
+        cache.computeIfAbsent("dick", "pass", ()->verify(true));
+        cache.computeIfAbsent("bob", "pass", ()->verify(true));
+
+        assertThat(cache.getSize()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+
+        cache.computeIfAbsent("sven", "pass", ()->verify(true)); // the eldest was evicted
+        assertThat(verificationCount.get()).isEqualTo(4);
+    }
+
+    @Test
+    void invalidation_clears_all() {
+        cache.computeIfAbsent("sven", "pass", ()->verify(true));
+        cache.invalidate();
+        cache.computeIfAbsent("sven", "pass", ()->verify(true));
+
+        assertThat(verificationCount.get()).isEqualTo(2);
+        assertThat(cache.getInvalidationCount()).isEqualTo(1);
+    }
+
+    @Test
+    void authentication_verified_concurrently_with_invalidation_is_not_cached() {
+        cache.computeIfAbsent("sven", "pass", ()->{
+            cache.invalidate(); // eg. password changed meanwhile
+            return verify(true);
+        });
+        cache.computeIfAbsent("sven", "pass", ()->verify(true));
+
+        assertThat(verificationCount.get()).isEqualTo(2);
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.authorizor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.applib.id.LogicalType;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValue;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.integration.permissions.ApplicationFeatureIdTransformerIdentity;
+import org.apache.causeway.extensions.secman.integration.permissions.PermissionsEvaluationServiceForSecman;
+
+import static org.apache.causeway.applib.services.appfeat.ApplicationFeatureId.newNamespace;
+import static org.apache.causeway.core.config.CausewayConfiguration.Extensions.Secman.PermissionsEvaluationPolicy.ALLOW_BEATS_VETO;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode.CHANGING;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode.VIEWING;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionRule.ALLOW;
+
+import lombok.val;
+
+class AuthorizorSecman_SharedPermissionCache_Test {
+
+    CausewayConfiguration.Extensions.Secman.PermissionCache config;
+    AtomicLong nanoClock;
+    AuthorizorSecman.SharedPermissionCache cache;
+    AtomicInteger lookupCount;
+    Identifier lastName;
+
+    @BeforeEach
+    void setup() {
+        config = new CausewayConfiguration.Extensions.Secman.PermissionCache();
+        config.setEnabled(true);
+        config.setTimeToLive(Duration.ofMinutes(1));
+        config.setMaxEntries(2);
+        nanoClock = new AtomicLong();
+        cache = new AuthorizorSecman.SharedPermissionCache(config, nanoClock::get);
+        lookupCount = new AtomicInteger();
+        lastName = Identifier.propertyIdentifier(LogicalType.eager(Object.class, "customer.Customer"), "lastName");
+    }
+
+    private Optional<ApplicationPermissionValueSet> lookup() {
+        lookupCount.incrementAndGet();
+        val evaluator = PermissionsEvaluationServiceForSecman.builder()
+                .applicationFeatureIdTransformer(new ApplicationFeatureIdTransformerIdentity())
+                .policy(ALLOW_BEATS_VETO)
+                .build();
+        return Optional.of(new ApplicationPermissionValueSet(
+                List.of(new ApplicationPermissionValue(newNamespace("customer"), ALLOW, VIEWING)),
+                evaluator));
+    }
+
+    @Test
+    void permissions_are_looked_up_once_per_user() {
+        val compiled = cache.computeIfAbsent("sven", this::lookup).orElseThrow();
+        cache.computeIfAbsent("sven", this::lookup);
+
+        assertThat(lookupCount.get()).isEqualTo(1);
+        assertThat(compiled.grants(lastName, VIEWING)).isTrue();
+        assertThat(compiled.grants(lastName, CHANGING)).isFalse();
+    }
+
+    @Test
+    void users_with_equal_permissions_share_compiled_permissions() {
+        val sven = cache.computeIfAbsent("sven", this::lookup).orElseThrow();
+        val dick = cache.computeIfAbsent("dick", this::lookup).orElseThrow();
+
+        assertThat(dick).isSameAs(sven);
+    }
+
+    @Test
+    void permissions_are_looked_up_again_after_invalidation() {
+        cache.computeIfAbsent("sven", this::lookup);
+        cache.invalidate();
+        cache.computeIfAbsent("sven", this::lookup);
+
+        assertThat(lookupCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void permissions_looked_up_during_invalidation_are_not_cached() {
+        cache.computeIfAbsent("sven", ()->{
+            cache.invalidate();
+            return lookup();
+        });
+        cache.computeIfAbsent("sven", this::lookup);
+
+        assertThat(lookupCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void permissions_are_looked_up_again_once_expired() {
+        cache.computeIfAbsent("sven", this::lookup);
+        nanoClock.addAndGet(Duration.ofSeconds(59).toNanos());
+        cache.computeIfAbsent("sven", this::lookup);
+        assertThat(lookupCount.get()).isEqualTo(1);
+
+        nanoClock.addAndGet(Duration.ofSeconds(1).toNanos());
+        cache.computeIfAbsent("sven", this::lookup);
+        assertThat(lookupCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void oldest_users_are_evicted_when_full() {
+        cache.computeIfAbsent("sven", this::lookup);
+        cache.computeIfAbsent("dick", this::lookup);
+        cache.computeIfAbsent("bob", this::lookup);
+        assertThat(cache.getSize()).isEqualTo(2);
+        assertThat(lookupCount.get()).isEqualTo(3);
+
+        cache.computeIfAbsent("bob", this::lookup);
+        cache.computeIfAbsent("dick", this::lookup);
+        assertThat(lookupCount.get()).isEqualTo(3);
+        cache.computeIfAbsent("sven", this::lookup);
+        assertThat(lookupCount.get()).isEqualTo(4);
+    }
+
+    @Test
+    void disabled_by_default() {
+        assertThat(new AuthorizorSecman.SharedPermissionCache(
+                new CausewayConfiguration.Extensions.Secman.PermissionCache(), nanoClock::get).isEnabled())
+        .isFalse();
+    }
+
+}
@@ -35,6 +35,7 @@
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.apache.wicket.model.LoadableDetachableModel;
 
@@ -67,7 +68,7 @@ static class RowFactory {
         }
 
         public Row newRow() {
-            return sheet.createRow((short) rowNum++);
+            return sheet.createRow(rowNum++);
         }
     }
 
@@ -87,7 +88,14 @@ protected File load() {
     }
 
     private File createFile() throws IOException, FileNotFoundException {
-        try(final Workbook wb = new XSSFWorkbook()) {
+        val dataRows = table().getDataRowsFiltered().getValue();
+        val excelDownloadConfig = model.getConfiguration().getExtensions().getExcelDownload();
+
+        // large tables are written using a streaming workbook, keeping only a window of rows in memory
+        final Workbook wb = dataRows.size() > excelDownloadConfig.getStreamingRowThreshold()
+                ? new SXSSFWorkbook(excelDownloadConfig.getStreamingRowAccessWindowSize())
+                : new XSSFWorkbook();
+        try {
             String sheetName = table().getTitle().getValue();
             if(sheetName==null||sheetName.length()==0) sheetName = "Collection";
             val tempFile = File.createTempFile(ExcelFileModel.class.getCanonicalName(), sheetName + ".xlsx");
@@ -103,20 +111,18 @@ private File createFile() throws IOException, FileNotFoundException {
                 // header row
                 int i=0;
                 for(val column : dataColumns) {
-                    final Cell cell = row.createCell((short) i++);
+                    final Cell cell = row.createCell(i++);
                     cell.setCellValue(column.getColumnFriendlyName().getValue());
                 }
 
                 final CellStyle dateCellStyle = createDateFormatCellStyle(wb);
 
-                val dataRows = table().getDataRowsFiltered().getValue();
-
                 // detail rows
                 for (val dataRow : dataRows) {
                     row = rowFactory.newRow();
                     i=0;
                     for(val column : dataColumns) {
-                        final Cell cell = row.createCell((short) i++);
+                        final Cell cell = row.createCell(i++);
                         setCellValue(dataRow.getCellElement(column), cell, dateCellStyle);
                     }
                 }
@@ -128,6 +134,12 @@ private File createFile() throws IOException, FileNotFoundException {
 
             }
             return tempFile;
+        } finally {
+            if(wb instanceof SXSSFWorkbook) {
+                // deletes the temporary files backing the flushed rows
+                ((SXSSFWorkbook) wb).dispose();
+            }
+            wb.close();
         }
     }
 
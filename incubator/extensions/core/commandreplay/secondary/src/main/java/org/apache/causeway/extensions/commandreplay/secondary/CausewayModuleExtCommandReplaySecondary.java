@@ -33,6 +33,7 @@
 import org.apache.causeway.extensions.commandreplay.secondary.fetch.CommandFetcher;
 import org.apache.causeway.extensions.commandreplay.secondary.job.ReplicateAndReplayJob;
 import org.apache.causeway.extensions.commandreplay.secondary.mixins.Object_openOnPrimary;
+import org.apache.causeway.extensions.commandreplay.secondary.status.ReplicationMetrics;
 import org.apache.causeway.extensions.commandreplay.secondary.ui.CommandReplayOnSecondaryService;
 import org.apache.causeway.schema.CausewayModuleSchema;
 import org.apache.causeway.testing.fixtures.applib.CausewayModuleTestingFixturesApplib;
@@ -70,6 +71,7 @@
 
         // @Service's
         SecondaryConfig.class,
+        ReplicationMetrics.class,
 
         // Mixins
         Object_openOnPrimary.class,
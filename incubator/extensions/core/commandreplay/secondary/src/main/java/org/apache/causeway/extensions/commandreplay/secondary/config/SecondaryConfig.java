@@ -27,6 +27,7 @@
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.commandreplay.secondary.fetch.CommandPrefetcher;
 
 import lombok.Getter;
 import lombok.val;
@@ -45,6 +46,14 @@ public class SecondaryConfig {
     @Getter final String primaryBaseUrlRestful;
     @Getter final String primaryBaseUrlWicket;
     @Getter final int batchSize;
+    @Getter final int maxBatchSize;
+    @Getter final int prefetchBatches;
+
+    /**
+     * Adapted by each {@link CommandPrefetcher} in turn, so that the batch size reached while catching up carries
+     * over from one run of the replication job to the next.
+     */
+    @Getter final CommandPrefetcher.BatchSize adaptiveBatchSize;
 
     @Getter final String quartzUser;
     @Getter final List<String> quartzRoles;
@@ -58,6 +67,9 @@ public SecondaryConfig(@NotNull final CausewayConfiguration causewayConfiguratio
         primaryBaseUrlRestful = primaryAccess.getBaseUrlRestful().orElse(null);
         primaryBaseUrlWicket = primaryAccess.getBaseUrlWicket().orElse(null);
         batchSize = config.getBatchSize();
+        maxBatchSize = Math.max(batchSize, config.getPipeline().getMaxBatchSize());
+        prefetchBatches = config.getPipeline().getPrefetchBatches();
+        adaptiveBatchSize = new CommandPrefetcher.BatchSize(batchSize, maxBatchSize);
 
         quartzUser = config.getQuartzSession().getUser();
         quartzRoles = config.getQuartzSession().getRoles();
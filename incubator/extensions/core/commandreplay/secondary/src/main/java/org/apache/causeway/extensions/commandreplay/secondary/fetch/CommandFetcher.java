@@ -22,6 +22,7 @@
 import java.util.List;
 import java.util.UUID;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.ws.rs.core.GenericType;
@@ -34,6 +35,7 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.client.SuppressionType;
 import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.extensions.commandlog.applib.CausewayModuleExtCommandLogApplib;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry;
 import org.apache.causeway.extensions.commandreplay.secondary.config.SecondaryConfig;
@@ -68,11 +70,21 @@ public class CommandFetcher {
     private final SecondaryConfig secondaryConfig;
     private final boolean useRequestDebugLogging;
 
+    /**
+     * Reused for all calls to the primary (rather than setting up a new client, and so connections, for every poll).
+     */
+    private final _Lazy<RestfulClient> client = _Lazy.threadSafe(this::newClient);
+
     @Inject
     public CommandFetcher(final SecondaryConfig secondaryConfig) {
         this(secondaryConfig, false);
     }
 
+    @PreDestroy
+    public void close() {
+        client.getMemoized().ifPresent(RestfulClient::close);
+    }
+
     /**
      * Replicates a single command.
      *
@@ -106,16 +118,38 @@ private Can<CommandDto> fetchCommands(final CommandLogEntry previousHwmIfAny)
         return commands;
     }
 
+    /**
+     * Fetches the next batch of commands, following the command with the given interaction id.
+     * <p>
+     * May be called from any thread.
+     *
+     * @param interactionId - of the command to follow, or <tt>null</tt> to start with the first command
+     * @param batchSize - maximum number of commands to fetch
+     * @throws StatusException
+     */
+    public Can<CommandDto> fetchCommands(
+            final @Nullable UUID interactionId,
+            final int batchSize) throws StatusException {
+
+        log.debug("finding up to {} commands on primary ...", batchSize);
+
+        return callPrimary(interactionId, batchSize);
+    }
+
     // package private in support of JUnit
     Can<CommandDto> callPrimary(final @Nullable UUID interactionId) throws StatusException {
+        return callPrimary(interactionId, secondaryConfig.getBatchSize());
+    }
+
+    private Can<CommandDto> callPrimary(final @Nullable UUID interactionId, final int batchSize) throws StatusException {
 
-        val client = newClient(secondaryConfig, useRequestDebugLogging);
+        val client = this.client.get();
         val request = client.request(URL_SUFFIX)
                 .accept(RestfulClientMediaType.SIMPLE_JSON.mediaTypeFor(CommandDto.class, EnumSet.of(SuppressionType.RO)));
 
         val args = client.arguments()
                 .addActionParameter("interactionId", interactionId!=null ? interactionId.toString() : null)
-                .addActionParameter("batchSize", secondaryConfig.getBatchSize())
+                .addActionParameter("batchSize", batchSize)
                 .build();
 
         final Response response = request.post(args);
@@ -129,9 +163,7 @@ Can<CommandDto> callPrimary(final @Nullable UUID interactionId) throws StatusExc
         return digest.getValue().orElseThrow();
     }
 
-    private static RestfulClient newClient(
-            final SecondaryConfig secondaryConfig,
-            final boolean useRequestDebugLogging) {
+    private RestfulClient newClient() {
 
         val clientConfig = RestfulClientConfig.builder()
                 .restfulBaseUrl(secondaryConfig.getPrimaryBaseUrlRestful())
@@ -0,0 +1,259 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandreplay.secondary.fetch;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.extensions.commandreplay.secondary.status.ReplicationMetrics;
+import org.apache.causeway.extensions.commandreplay.secondary.status.SecondaryStatus;
+import org.apache.causeway.extensions.commandreplay.secondary.status.StatusException;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Fetches batches of commands from the primary on a background (daemon) thread, so that the next batch(es) are
+ * fetched while the current one is being replayed.
+ * <p>
+ * Holds at most <code>prefetchBatches</code> batches not yet {@link #take() taken}; each batch starts with the
+ * command following the last one of the previous batch. Fetching stops once the primary returns an empty batch or
+ * fails, or once {@link #close() closed}.
+ * <p>
+ * Batches are not persisted by the prefetcher, so any not yet taken when closed are simply fetched again later.
+ *
+ * @since 2.0 {@index}
+ */
+@Log4j2
+public class CommandPrefetcher implements AutoCloseable {
+
+    /**
+     * Fetches the batch of (at most <code>batchSize</code>) commands following the command with the given
+     * interaction id (or the very first commands, if <tt>null</tt>).
+     *
+     * @see CommandFetcher#fetchCommands(UUID, int)
+     */
+    @FunctionalInterface
+    public interface BatchFetcher {
+        Can<CommandDto> fetch(@Nullable UUID afterInteractionId, int batchSize) throws StatusException;
+    }
+
+    public static CommandPrefetcher start(
+            final @NonNull BatchFetcher fetcher,
+            final @Nullable UUID afterInteractionId,
+            final int prefetchBatches,
+            final @NonNull BatchSize batchSize,
+            final @NonNull ReplicationMetrics metrics) {
+        val prefetcher = new CommandPrefetcher(fetcher, afterInteractionId, prefetchBatches, batchSize, metrics);
+        prefetcher.thread.start();
+        return prefetcher;
+    }
+
+    private final BatchFetcher fetcher;
+    private final BatchSize batchSize;
+    private final ReplicationMetrics metrics;
+    private final BlockingQueue<Batch> queue;
+    private final Thread thread;
+
+    private volatile boolean closed;
+
+    // only accessed by the consuming thread
+    private @Nullable UUID lastTakenInteractionId;
+    private @Nullable Batch terminalBatch;
+
+    private CommandPrefetcher(
+            final BatchFetcher fetcher,
+            final @Nullable UUID afterInteractionId,
+            final int prefetchBatches,
+            final BatchSize batchSize,
+            final ReplicationMetrics metrics) {
+        if(prefetchBatches < 1) {
+            throw new IllegalArgumentException(
+                    String.format("prefetchBatches must be at least 1, got %d", prefetchBatches));
+        }
+        this.fetcher = fetcher;
+        this.batchSize = batchSize;
+        this.metrics = metrics;
+        this.queue = new ArrayBlockingQueue<>(prefetchBatches);
+        this.lastTakenInteractionId = afterInteractionId;
+        this.thread = new Thread(()->fetchAfter(afterInteractionId), "causeway-commandreplay-prefetcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Whether the next batch {@link #take() taken} follows the command with the given interaction id, that is,
+     * whether all commands taken so far have been replayed.
+     */
+    public boolean follows(final @Nullable UUID interactionId) {
+        return Objects.equals(lastTakenInteractionId, interactionId);
+    }
+
+    /**
+     * Takes the next batch, waiting for it to be fetched if required.
+     *
+     * @return the commands, empty once the primary has no more commands (for now)
+     * @throws StatusException - if the primary could not be called
+     */
+    public Can<CommandDto> take() throws StatusException {
+        if(terminalBatch != null) {
+            return terminalBatch.getOrThrow();
+        }
+        final Batch batch;
+        try {
+            batch = queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Can.empty();
+        }
+        metrics.setPrefetchedBatches(queue.size());
+        if(batch.isTerminal()) {
+            terminalBatch = batch;
+        } else {
+            lastTakenInteractionId = interactionIdOf(batch.commands.getLast().orElseThrow());
+        }
+        return batch.getOrThrow();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        thread.interrupt();
+        queue.clear();
+        metrics.setPrefetchedBatches(0);
+    }
+
+    // -- BATCH SIZE
+
+    /**
+     * Adapts the batch size to how far the secondary lags behind the primary: doubles it (up to <code>max</code>)
+     * while the primary returns full batches, and halves it (down to <code>min</code>) once batches come back less
+     * than half full.
+     */
+    public static final class BatchSize {
+
+        private final int min;
+        private final int max;
+        private volatile int current;
+
+        public BatchSize(final int min, final int max) {
+            if(min < 1 || max < min) {
+                throw new IllegalArgumentException(String.format("invalid batch size bounds [%d, %d]", min, max));
+            }
+            this.min = min;
+            this.max = max;
+            this.current = min;
+        }
+
+        public int current() {
+            return current;
+        }
+
+        void onFetched(final int requested, final int received) {
+            if(received >= requested) {
+                current = Math.min(max, requested * 2);
+            } else if(received < requested / 2) {
+                current = Math.max(min, requested / 2);
+            }
+        }
+    }
+
+    // -- HELPER
+
+    private void fetchAfter(final @Nullable UUID afterInteractionId) {
+        UUID after = afterInteractionId;
+        try {
+            while(!closed) {
+                val batch = fetchBatchAfter(after);
+                queue.put(batch);
+                metrics.setPrefetchedBatches(queue.size());
+                if(batch.isTerminal()) {
+                    return;
+                }
+                after = interactionIdOf(batch.commands.getLast().orElseThrow());
+            }
+        } catch (InterruptedException e) {
+            // closed
+        }
+    }
+
+    private Batch fetchBatchAfter(final @Nullable UUID after) {
+        val requested = batchSize.current();
+        val startedAt = System.nanoTime();
+        try {
+            val commands = fetcher.fetch(after, requested);
+            batchSize.onFetched(requested, commands.size());
+            metrics.onBatchFetched(requested, commands.size(),
+                    Duration.ofNanos(System.nanoTime() - startedAt),
+                    commands.getLast().map(CommandPrefetcher::timestampOf).orElse(null));
+            return Batch.of(commands);
+        } catch (StatusException e) {
+            return Batch.failed(e);
+        } catch (RuntimeException e) {
+            log.warn("failed to fetch commands from primary", e);
+            return Batch.failed(new StatusException(SecondaryStatus.REST_CALL_FAILING, e));
+        }
+    }
+
+    private static UUID interactionIdOf(final CommandDto commandDto) {
+        return UUID.fromString(commandDto.getInteractionId());
+    }
+
+    private static @Nullable Instant timestampOf(final CommandDto commandDto) {
+        return commandDto.getTimestamp() != null
+                ? commandDto.getTimestamp().toGregorianCalendar().toInstant()
+                : null;
+    }
+
+    @RequiredArgsConstructor
+    private static final class Batch {
+        private final @Nullable Can<CommandDto> commands;
+        private final @Nullable StatusException failure;
+
+        static Batch of(final Can<CommandDto> commands) {
+            return new Batch(commands, null);
+        }
+
+        static Batch failed(final StatusException failure) {
+            return new Batch(null, failure);
+        }
+
+        boolean isTerminal() {
+            return failure != null
+                    || commands.isEmpty();
+        }
+
+        Can<CommandDto> getOrThrow() throws StatusException {
+            if(failure != null) {
+                throw failure;
+            }
+            return commands;
+        }
+    }
+
+}
@@ -26,16 +26,23 @@
 
 import javax.inject.Inject;
 
+import org.springframework.lang.Nullable;
+
 import org.apache.causeway.applib.services.command.CommandExecutorService;
 import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepository;
 import org.apache.causeway.extensions.commandlog.applib.dom.ReplayState;
 import org.apache.causeway.extensions.commandreplay.secondary.analysis.CommandReplayAnalysisService;
+import org.apache.causeway.extensions.commandreplay.secondary.config.SecondaryConfig;
 import org.apache.causeway.extensions.commandreplay.secondary.fetch.CommandFetcher;
+import org.apache.causeway.extensions.commandreplay.secondary.fetch.CommandPrefetcher;
 import org.apache.causeway.extensions.commandreplay.secondary.spi.ReplayCommandExecutionController;
+import org.apache.causeway.extensions.commandreplay.secondary.status.ReplicationMetrics;
 import org.apache.causeway.extensions.commandreplay.secondary.status.SecondaryStatus;
 import org.apache.causeway.extensions.commandreplay.secondary.status.StatusException;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 import lombok.val;
 import lombok.extern.log4j.Log4j2;
@@ -50,6 +57,11 @@
  *     files.
  * </p>
  *
+ * <p>
+ *     Unless disabled (see {@link SecondaryConfig#getPrefetchBatches()}), the next batch(es) of commands are fetched
+ *     from the primary while the current batch is being replayed, using a {@link CommandPrefetcher}.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Log4j2
@@ -61,14 +73,22 @@ public class ReplicateAndRunCommands implements Callable<SecondaryStatus> {
     @Inject CommandLogEntryRepository<? extends CommandLogEntry> commandLogEntryRepository;
     @Inject CommandReplayAnalysisService analysisService;
     @Inject Optional<ReplayCommandExecutionController> controller;
+    @Inject SecondaryConfig secondaryConfig;
+    @Inject ReplicationMetrics metrics;
+
+    private CommandPrefetcher prefetcher;
 
     @Override
     public SecondaryStatus call() {
         try {
             doCall();
+            metrics.setStatus(SecondaryStatus.OK);
             return SecondaryStatus.OK;
         } catch (StatusException e) {
+            metrics.setStatus(e.secondaryStatus);
             return e.secondaryStatus;
+        } finally {
+            closePrefetcher();
         }
     }
 
@@ -107,7 +127,7 @@ private void doCall() throws  StatusException  {
                 }
 
                 // fetch next command(s) from primary (if any)
-                val commandDtos = commandFetcher.fetchCommand(hwm);
+                val commandDtos = fetchCommands(hwm);
                 commandsToReplay = commandDtos.stream()
                         .map(dto ->
                                 transactionService.callWithinCurrentTransactionElseCreateNew(
@@ -126,6 +146,37 @@ private void doCall() throws  StatusException  {
         }
     }
 
+    private Can<CommandDto> fetchCommands(final @Nullable CommandLogEntry hwm) throws StatusException {
+
+        if(secondaryConfig.getPrefetchBatches() == 0) {
+            return commandFetcher.fetchCommand(hwm);
+        }
+
+        val hwmInteractionId = hwm != null
+                ? hwm.getInteractionId()
+                : null;
+
+        if(prefetcher == null
+                || !prefetcher.follows(hwmInteractionId)) {
+            // first time around, or not all commands taken so far have been replayed
+            closePrefetcher();
+            prefetcher = CommandPrefetcher.start(
+                    commandFetcher::fetchCommands,
+                    hwmInteractionId,
+                    secondaryConfig.getPrefetchBatches(),
+                    secondaryConfig.getAdaptiveBatchSize(),
+                    metrics);
+        }
+        return prefetcher.take();
+    }
+
+    private void closePrefetcher() {
+        if(prefetcher != null) {
+            prefetcher.close();
+            prefetcher = null;
+        }
+    }
+
     /**
      *
      * @param commandsToReplay
@@ -177,6 +228,7 @@ private ReplayState executeCommandInTranAndAnalyse(final CommandLogEntry command
         transactionService.runWithinCurrentTransactionElseCreateNew(() -> {
             analysisService.analyse(commandLogEntry);
         });
+        metrics.onCommandReplayed();
 
         return commandLogEntry.getReplayState();
 
@@ -0,0 +1,141 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandreplay.secondary.status;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.inject.Named;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.extensions.commandlog.applib.CausewayModuleExtCommandLogApplib;
+
+/**
+ * Status and lag of the replication of commands from the primary, as observed by the secondary.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(CausewayModuleExtCommandLogApplib.NAMESPACE_REPLAY_SECONDARY + ".ReplicationMetrics")
+@javax.annotation.Priority(PriorityPrecedence.MIDPOINT)
+public class ReplicationMetrics {
+
+    private final AtomicLong batchesFetched = new AtomicLong();
+    private final AtomicLong commandsFetched = new AtomicLong();
+    private final AtomicLong commandsReplayed = new AtomicLong();
+    private final AtomicLong fetchMillisTotal = new AtomicLong();
+    private final AtomicInteger batchSize = new AtomicInteger();
+    private final AtomicInteger prefetchedBatches = new AtomicInteger();
+    private final AtomicReference<Instant> lastFetchedCommandTimestamp = new AtomicReference<>();
+    private final AtomicReference<SecondaryStatus> status = new AtomicReference<>(SecondaryStatus.UNKNOWN_STATE);
+
+    public void onBatchFetched(
+            final int requestedBatchSize,
+            final int commandCount,
+            final Duration fetchDuration,
+            final @Nullable Instant lastCommandTimestamp) {
+        batchesFetched.incrementAndGet();
+        commandsFetched.addAndGet(commandCount);
+        fetchMillisTotal.addAndGet(fetchDuration.toMillis());
+        batchSize.set(requestedBatchSize);
+        if(commandCount == 0) {
+            // caught up with the primary
+            lastFetchedCommandTimestamp.set(null);
+        } else if(lastCommandTimestamp != null) {
+            lastFetchedCommandTimestamp.set(lastCommandTimestamp);
+        }
+    }
+
+    public void onCommandReplayed() {
+        commandsReplayed.incrementAndGet();
+    }
+
+    public void setPrefetchedBatches(final int prefetchedBatches) {
+        this.prefetchedBatches.set(prefetchedBatches);
+    }
+
+    public void setStatus(final SecondaryStatus status) {
+        this.status.set(status);
+    }
+
+    // -- METRICS
+
+    public SecondaryStatus getStatus() {
+        return status.get();
+    }
+
+    public long getBatchesFetched() {
+        return batchesFetched.get();
+    }
+
+    public long getCommandsFetched() {
+        return commandsFetched.get();
+    }
+
+    public long getCommandsReplayed() {
+        return commandsReplayed.get();
+    }
+
+    /**
+     * The batch size most recently requested from the primary.
+     */
+    public int getBatchSize() {
+        return batchSize.get();
+    }
+
+    /**
+     * Number of batches fetched from the primary, but not yet taken for replay.
+     */
+    public int getPrefetchedBatches() {
+        return prefetchedBatches.get();
+    }
+
+    public long getAverageFetchMillis() {
+        final long batches = getBatchesFetched();
+        return batches == 0
+                ? 0
+                : fetchMillisTotal.get() / batches;
+    }
+
+    /**
+     * How far (in time) the most recently fetched command lags behind now, or {@link Duration#ZERO} if none was
+     * fetched yet or if the most recent batch was empty (that is, the secondary has caught up with the primary).
+     */
+    public Duration getLag() {
+        final Instant timestamp = lastFetchedCommandTimestamp.get();
+        return timestamp == null
+                ? Duration.ZERO
+                : Duration.between(timestamp, Instant.now());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ReplicationMetrics[status=%s,batchesFetched=%d,commandsFetched=%d,commandsReplayed=%d,"
+                + "batchSize=%d,prefetchedBatches=%d,averageFetchMillis=%d,lag=%s]",
+                getStatus(), getBatchesFetched(), getCommandsFetched(), getCommandsReplayed(),
+                getBatchSize(), getPrefetchedBatches(), getAverageFetchMillis(), getLag());
+    }
+
+}
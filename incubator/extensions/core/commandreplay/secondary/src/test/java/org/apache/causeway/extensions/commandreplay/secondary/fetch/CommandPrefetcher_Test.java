@@ -0,0 +1,226 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandreplay.secondary.fetch;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.xml.datatype.DatatypeFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.extensions.commandreplay.secondary.status.ReplicationMetrics;
+import org.apache.causeway.extensions.commandreplay.secondary.status.SecondaryStatus;
+import org.apache.causeway.extensions.commandreplay.secondary.status.StatusException;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+class CommandPrefetcher_Test {
+
+    /**
+     * Stands in for the primary, serving the commands following a given interaction id.
+     */
+    static class StandInPrimary implements CommandPrefetcher.BatchFetcher {
+
+        final List<CommandDto> commands;
+        final List<Integer> requestedBatchSizes = new ArrayList<>();
+        final AtomicInteger fetchCount = new AtomicInteger();
+        volatile CountDownLatch fetchLatch = new CountDownLatch(0);
+        volatile boolean failing;
+
+        StandInPrimary(final int numberOfCommands) {
+            this(numberOfCommands, ZonedDateTime.now());
+        }
+
+        @SneakyThrows
+        StandInPrimary(final int numberOfCommands, final ZonedDateTime timestamp) {
+            val datatypeFactory = DatatypeFactory.newInstance();
+            this.commands = IntStream.range(0, numberOfCommands)
+                    .mapToObj(i->{
+                        val dto = new CommandDto();
+                        dto.setInteractionId(UUID.randomUUID().toString());
+                        dto.setTimestamp(datatypeFactory.newXMLGregorianCalendar(GregorianCalendar.from(timestamp)));
+                        return dto;
+                    })
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public synchronized Can<CommandDto> fetch(final UUID afterInteractionId, final int batchSize)
+                throws StatusException {
+            fetchCount.incrementAndGet();
+            fetchLatch.countDown();
+            requestedBatchSizes.add(batchSize);
+            if(failing) {
+                throw new StatusException(SecondaryStatus.REST_CALL_FAILING);
+            }
+            int from = 0;
+            if(afterInteractionId != null) {
+                while(!commands.get(from++).getInteractionId().equals(afterInteractionId.toString()));
+            }
+            return Can.ofCollection(commands.subList(from, Math.min(commands.size(), from + batchSize)));
+        }
+    }
+
+    ReplicationMetrics metrics;
+    CommandPrefetcher.BatchSize batchSize;
+    CommandPrefetcher prefetcher;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new ReplicationMetrics();
+        batchSize = new CommandPrefetcher.BatchSize(2, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if(prefetcher != null) {
+            prefetcher.close();
+        }
+    }
+
+    private CommandPrefetcher start(final StandInPrimary primary, final UUID after, final int prefetchBatches) {
+        prefetcher = CommandPrefetcher.start(primary, after, prefetchBatches, batchSize, metrics);
+        return prefetcher;
+    }
+
+    @Test
+    void takes_all_commands_in_order_then_empty() throws StatusException {
+        val primary = new StandInPrimary(25);
+        start(primary, null, 2);
+
+        final List<CommandDto> taken = new ArrayList<>();
+        Can<CommandDto> batch;
+        while(!(batch = prefetcher.take()).isEmpty()) {
+            batch.forEach(taken::add);
+            assertTrue(prefetcher.follows(UUID.fromString(taken.get(taken.size() - 1).getInteractionId())));
+        }
+
+        assertEquals(primary.commands, taken);
+        assertTrue(prefetcher.take().isEmpty()); // stays empty
+        assertEquals(25, metrics.getCommandsFetched());
+    }
+
+    @Test
+    void starts_after_given_command() throws StatusException {
+        val primary = new StandInPrimary(5);
+        val after = UUID.fromString(primary.commands.get(2).getInteractionId());
+        start(primary, after, 1);
+
+        assertTrue(prefetcher.follows(after));
+        assertEquals(primary.commands.subList(3, 5), prefetcher.take().toList());
+    }
+
+    @Test
+    void next_batch_is_fetched_while_current_is_replayed() throws Exception {
+        val primary = new StandInPrimary(10);
+        primary.fetchLatch = new CountDownLatch(2);
+        start(primary, null, 1);
+
+        prefetcher.take();
+
+        // the second batch is fetched without taking (ie. while replaying) the first
+        assertTrue(primary.fetchLatch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void prefetching_is_bounded() throws Exception {
+        val primary = new StandInPrimary(1000);
+        start(primary, null, 2);
+
+        TimeUnit.MILLISECONDS.sleep(200);
+
+        // 2 batches queued, plus at most one being put
+        assertTrue(primary.fetchCount.get() <= 3);
+        assertTrue(metrics.getPrefetchedBatches() <= 2);
+    }
+
+    @Test
+    void batch_size_grows_while_lagging_and_shrinks_once_caught_up() throws StatusException {
+        val primary = new StandInPrimary(2 + 4 + 8 + 8 + 1);
+        start(primary, null, 1);
+
+        while(!prefetcher.take().isEmpty());
+
+        // full, full, full, full (capped), partial, then caught up
+        assertEquals(List.of(2, 4, 8, 8, 8, 4), primary.requestedBatchSizes);
+    }
+
+    @Test
+    void batch_size_carries_over_to_the_next_prefetcher() throws StatusException {
+        val primary = new StandInPrimary(1000);
+        start(primary, null, 1);
+        prefetcher.take(); // full, so the batch size has grown
+        prefetcher.close();
+
+        // as for the next run of the replication job
+        val nextPrimary = new StandInPrimary(1000);
+        start(nextPrimary, null, 1);
+        prefetcher.take();
+
+        assertTrue(nextPrimary.requestedBatchSizes.get(0) >= 4);
+    }
+
+    @Test
+    void lag_is_reset_once_caught_up() throws StatusException {
+        val primary = new StandInPrimary(25, ZonedDateTime.now().minusHours(1));
+        start(primary, null, 1);
+
+        prefetcher.take();
+        assertTrue(metrics.getLag().compareTo(Duration.ofMinutes(59)) > 0);
+
+        while(!prefetcher.take().isEmpty());
+        assertEquals(Duration.ZERO, metrics.getLag());
+    }
+
+    @Test
+    void failure_is_propagated_and_stops_fetching() throws Exception {
+        val primary = new StandInPrimary(10);
+        primary.failing = true;
+        start(primary, null, 2);
+
+        val ex = assertThrows(StatusException.class, prefetcher::take);
+        assertEquals(SecondaryStatus.REST_CALL_FAILING, ex.secondaryStatus);
+        assertThrows(StatusException.class, prefetcher::take);
+
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertEquals(1, primary.fetchCount.get());
+        assertFalse(prefetcher.follows(UUID.randomUUID()));
+    }
+
+}
@@ -19,6 +19,7 @@
 module org.apache.causeway.persistence.commons {
     exports org.apache.causeway.persistence.jpa.integration.changetracking;
     exports org.apache.causeway.persistence.commons;
+    exports org.apache.causeway.persistence.commons.dto;
 
     requires java.annotation;
     requires java.desktop;
@@ -22,6 +22,7 @@
 import org.springframework.context.annotation.Import;
 
 import org.apache.causeway.core.runtime.CausewayModuleCoreRuntime;
+import org.apache.causeway.persistence.commons.dto.DtoStorageCodecConfigurer;
 import org.apache.causeway.persistence.jpa.integration.changetracking.EntityChangeTrackerDefault;
 
 @Configuration
@@ -29,6 +30,9 @@
         // modules
         CausewayModuleCoreRuntime.class,
 
+        // @Component's
+        DtoStorageCodecConfigurer.class,
+
         // @Service's
         EntityChangeTrackerDefault.class,
         EntityChangeTrackerDefault.TransactionSubscriber.class,
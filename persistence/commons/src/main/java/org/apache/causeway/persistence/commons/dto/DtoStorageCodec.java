@@ -0,0 +1,114 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.dto;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.io.DtoMapper;
+import org.apache.causeway.core.config.CausewayConfiguration.Persistence.DtoStorage.Format;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.SneakyThrows;
+import lombok.val;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Encodes and decodes schema DTOs to and from their (CLOB) database column representation,
+ * as used by the framework's JPA and JDO type converters.
+ * <p>
+ * Values are written in the configured {@link Format}, while reading detects the format
+ * by means of the {@link #COMPRESSED_V1_MARKER version marker}, so that rows written in either
+ * format can be read transparently.
+ *
+ * @see org.apache.causeway.core.config.CausewayConfiguration.Persistence.DtoStorage
+ * @since 2.0 {@index}
+ */
+@UtilityClass
+public class DtoStorageCodec {
+
+    /**
+     * Prefixes the GZIP compressed, Base64 encoded representation of a DTO's XML.
+     * <p>
+     * As XML cannot start with this marker, its presence unambiguously identifies the format;
+     * any future (incompatible) compressed representation should introduce a new marker.
+     */
+    public static final String COMPRESSED_V1_MARKER = "gzip+base64:v1:";
+
+    /**
+     * The format used for writing; set by the framework from configuration.
+     */
+    @Getter @Setter
+    private volatile @NonNull Format format = Format.XML;
+
+    @Nullable
+    public <T> String encode(final @NonNull DtoMapper<T> dtoMapper, final @Nullable T dto) {
+        if(dto==null) {
+            return null;
+        }
+        val xml = dtoMapper.toString(dto);
+        return format.isCompressed()
+                ? COMPRESSED_V1_MARKER + compress(xml)
+                : xml;
+    }
+
+    @Nullable
+    public <T> T decode(final @NonNull DtoMapper<T> dtoMapper, final @Nullable String datastoreValue) {
+        if(datastoreValue==null) {
+            return null;
+        }
+        return dtoMapper.read(isCompressed(datastoreValue)
+                ? decompress(datastoreValue.substring(COMPRESSED_V1_MARKER.length()))
+                : datastoreValue);
+    }
+
+    public boolean isCompressed(final @Nullable String datastoreValue) {
+        return datastoreValue!=null
+                && datastoreValue.startsWith(COMPRESSED_V1_MARKER);
+    }
+
+    // -- HELPER
+
+    @SneakyThrows
+    private String compress(final String xml) {
+        val bos = new ByteArrayOutputStream(xml.length() / 4);
+        try(val gzip = new GZIPOutputStream(bos)) {
+            gzip.write(xml.getBytes(StandardCharsets.UTF_8));
+        }
+        return Base64.getEncoder().encodeToString(bos.toByteArray());
+    }
+
+    private String decompress(final String base64) {
+        try(val gzip = new GZIPInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(base64)))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("corrupted compressed DTO", e);
+        }
+    }
+
+}
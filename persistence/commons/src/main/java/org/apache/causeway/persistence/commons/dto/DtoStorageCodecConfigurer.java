@@ -0,0 +1,54 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.dto;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.stereotype.Component;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Applies the configured {@link CausewayConfiguration.Persistence.DtoStorage#getFormat() DTO storage format}
+ * to the {@link DtoStorageCodec}, whose clients (type converters) are not managed by Spring.
+ *
+ * @since 2.0 {@index}
+ */
+@Component
+@Named("causeway.persistence.commons.DtoStorageCodecConfigurer")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+@Log4j2
+public class DtoStorageCodecConfigurer {
+
+    private final CausewayConfiguration causewayConfiguration;
+
+    @PostConstruct
+    public void init() {
+        val format = causewayConfiguration.getPersistence().getDtoStorage().getFormat();
+        DtoStorageCodec.setFormat(format);
+        log.info("schema DTOs will be stored as {}", format);
+    }
+
+}
@@ -19,12 +19,15 @@
  */
 package org.apache.causeway.persistence.jpa.integration.changetracking;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import javax.annotation.Priority;
@@ -50,12 +53,14 @@
 import org.apache.causeway.applib.services.metrics.MetricsService;
 import org.apache.causeway.applib.services.publishing.spi.EntityChanges;
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.applib.services.queryresultscache.SharedQueryResultsCache;
 import org.apache.causeway.applib.services.xactn.TransactionId;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.collections._Sets;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.metamodel.facets.object.publish.entitychange.EntityChangePublishingFacet;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
@@ -67,6 +72,7 @@
 import org.apache.causeway.core.transaction.changetracking.EntityChangesPublisher;
 import org.apache.causeway.core.transaction.changetracking.EntityPropertyChangePublisher;
 import org.apache.causeway.core.transaction.changetracking.HasEnlistedEntityChanges;
+import org.apache.causeway.core.transaction.events.TransactionAfterCompletionEvent;
 import org.apache.causeway.core.transaction.events.TransactionBeforeCompletionEvent;
 
 import lombok.AccessLevel;
@@ -88,6 +94,13 @@
  * data held in this service is private to each user's interaction.
  * </p>
  *
+ * <p>
+ * In {@link CausewayConfiguration.Persistence.EntityChangeTracking.Mode#BOUNDED bounded} mode (intended for bulk
+ * transactions), the changes of an entity are finalized as soon as it has been flushed, retaining only those
+ * properties that actually changed in compact form, and releasing the entity itself. Once the configured
+ * spill threshold is exceeded, these are written to a temporary file; either way they are published in chunks.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Service
@@ -108,6 +121,8 @@
     private final EntityPropertyChangePublisher entityPropertyChangePublisher;
     private final EntityChangesPublisher entityChangesPublisher;
     private final Provider<InteractionProvider> interactionProviderProvider;
+    private final Optional<SharedQueryResultsCache> sharedQueryResultsCacheIfAny;
+    private final CausewayConfiguration causewayConfiguration;
 
     /**
      * Contains a record for every objectId/propertyId that was changed.
@@ -121,6 +136,14 @@
     private final _Lazy<Set<PropertyChangeRecord>> entityPropertyChangeRecordsForPublishing
         = _Lazy.threadSafe(this::capturePostValuesAndDrain);
 
+    /**
+     * Only used in {@link CausewayConfiguration.Persistence.EntityChangeTracking.Mode#BOUNDED bounded} mode:
+     * the finalized property changes of entities already flushed (in compact form, and possibly spilled to disk),
+     * whose records have been removed from {@link #enlistedPropertyChangeRecordsById}.
+     */
+    private final _Lazy<_PropertyChangeRecordBuffer> flushedPropertyChanges
+        = _Lazy.threadSafe(()->new _PropertyChangeRecordBuffer(spillThreshold()));
+
 
     @Getter(AccessLevel.PACKAGE)
     private final Map<Bookmark, EntityChangeKind> changeKindByEnlistedAdapter = _Maps.newLinkedHashMap();
@@ -129,16 +152,24 @@
     private final LongAdder entityChangeEventCount = new LongAdder();
     private final AtomicBoolean persistentChangesEncountered = new AtomicBoolean();
 
+    /**
+     * The types of all entities created, updated or deleted within the transaction, irrespective of whether enabled
+     * for entity change publishing; used to invalidate the {@link SharedQueryResultsCache}, if any.
+     */
+    private final Set<Class<?>> changedEntityTypes = _Sets.newHashSet();
+
 
     @Override
     public void destroy() throws Exception {
         enlistedPropertyChangeRecordsById.clear();
         entityPropertyChangeRecordsForPublishing.clear();
+        clearFlushedPropertyChanges();
         changeKindByEnlistedAdapter.clear();
 
         numberEntitiesLoaded.reset();
         entityChangeEventCount.reset();
         persistentChangesEncountered.set(false);
+        changedEntityTypes.clear();
     }
 
     Set<PropertyChangeRecord> snapshotPropertyChangeRecords() {
@@ -167,10 +198,26 @@ private Set<PropertyChangeRecord> capturePostValuesAndDrain() {
 
         enlistedPropertyChangeRecordsById.clear();
 
+        if(isBounded()) {
+            records.forEach(this::addFlushedPropertyChange);
+            return Collections.emptySet();
+        }
+
         return records;
 
     }
 
+    /**
+     * The number of property changes to be published; has the same side-effects as
+     * {@link #snapshotPropertyChangeRecords()}.
+     */
+    int numberPropertyChangeRecordsForPublishing() {
+        val snapshot = snapshotPropertyChangeRecords();
+        return isBounded()
+                ? flushedPropertyChanges.get().size()
+                : snapshot.size();
+    }
+
     private boolean isEntityExcludedForChangePublishing(final ManagedObject entity) {
 
         if(!EntityChangePublishingFacet.isPublishingEnabled(entity.getSpecification())) {
@@ -231,6 +278,20 @@ public void onTransactionCompleting(final TransactionBeforeCompletionEvent event
             entityChangeTracker().onTransactionCompleting(event);
         }
 
+        /**
+         * TRANSACTION END BOUNDARY
+         * @apiNote intended to be called after transaction completion by the framework internally
+         */
+        @EventListener(value = TransactionAfterCompletionEvent.class)
+        @Order(PriorityPrecedence.LATE)
+        public void onTransactionCompleted(final TransactionAfterCompletionEvent event) {
+
+            if(!interactionService.isInInteraction()) {
+                return;
+            }
+            entityChangeTracker().onTransactionCompleted(event);
+        }
+
         private EntityChangeTrackerDefault entityChangeTracker() {
             return entityChangeTrackerProvider.get();
         }
@@ -248,6 +309,24 @@ void onTransactionCompleting(final TransactionBeforeCompletionEvent event) {
         }
     }
 
+    /**
+     * As called by {@link TransactionSubscriber}, so long as there is an {@link Interaction} in
+     * {@link InteractionScope scope}.
+     *
+     * <p>
+     *     Invalidates only once the transaction has completed, so that other interactions cannot re-populate the
+     *     {@link SharedQueryResultsCache} from data that is not yet committed.
+     * </p>
+     */
+    void onTransactionCompleted(final TransactionAfterCompletionEvent event) {
+        if(changedEntityTypes.isEmpty()) {
+            return;
+        }
+        sharedQueryResultsCacheIfAny
+            .ifPresent(sharedCache->sharedCache.invalidate(changedEntityTypes));
+        changedEntityTypes.clear();
+    }
+
     private void doPublish() {
         _Xray.publish(this, interactionProviderProvider);
 
@@ -261,6 +340,7 @@ private void postPublishing() {
 
         enlistedPropertyChangeRecordsById.clear();
         entityPropertyChangeRecordsForPublishing.clear();
+        clearFlushedPropertyChanges();
 
         changeKindByEnlistedAdapter.clear();
         entityChangeEventCount.reset();
@@ -286,11 +366,36 @@ public Can<EntityPropertyChange> getPropertyChanges(
             final java.sql.Timestamp timestamp,
             final String userName,
             final TransactionId txId) {
+        if(isBounded()) {
+            val propertyChanges = new ArrayList<EntityPropertyChange>();
+            streamPropertyChanges(timestamp, userName, txId, chunk->chunk.forEach(propertyChanges::add));
+            return Can.ofCollection(propertyChanges);
+        }
         return snapshotPropertyChangeRecords().stream()
                 .map(propertyChangeRecord -> propertyChangeRecord.toEntityPropertyChange(timestamp, userName, txId))
                 .collect(Can.toCan());
     }
 
+    @Override
+    public void streamPropertyChanges(
+            final java.sql.Timestamp timestamp,
+            final String userName,
+            final TransactionId txId,
+            final Consumer<Can<EntityPropertyChange>> chunkConsumer) {
+        if(!isBounded()) {
+            HasEnlistedEntityPropertyChanges.super.streamPropertyChanges(timestamp, userName, txId, chunkConsumer);
+            return;
+        }
+        snapshotPropertyChangeRecords(); // finalizes any changes not yet flushed
+        val flushed = flushedPropertyChanges.get();
+        if(flushed.isEmpty()) {
+            chunkConsumer.accept(Can.empty());
+            return;
+        }
+        flushed.forEachChunk(spillThreshold(), rows->
+            chunkConsumer.accept(rows.map(row->row.toEntityPropertyChange(timestamp, userName, txId))));
+    }
+
     // -- DEPENDENCIES
 
     Interaction currentInteraction() {
@@ -342,9 +447,54 @@ private boolean enlistForChangeKindPublishing(
         return false;
     }
 
+    private void enlistChangedEntityType(final ManagedObject entity) {
+        if(sharedQueryResultsCacheIfAny.isPresent()) {
+            changedEntityTypes.add(entity.getSpecification().getCorrespondingClass());
+        }
+    }
+
     // side-effect free, used by XRay
     long countPotentialPropertyChangeRecords() {
-        return enlistedPropertyChangeRecordsById.size();
+        return enlistedPropertyChangeRecordsById.size()
+                + (flushedPropertyChanges.isMemoized()
+                        ? flushedPropertyChanges.get().size()
+                        : 0);
+    }
+
+    // -- BOUNDED MODE
+
+    private boolean isBounded() {
+        return causewayConfiguration.getPersistence().getEntityChangeTracking().getMode().isBounded();
+    }
+
+    private int spillThreshold() {
+        return causewayConfiguration.getPersistence().getEntityChangeTracking().getSpillThreshold();
+    }
+
+    /**
+     * Finalizes the enlisted records of given entity (capturing their post values), moving them
+     * to the {@link #flushedPropertyChanges} buffer, thus releasing the entity.
+     */
+    private void releaseEnlisted(final ManagedObject entity, final boolean deleting) {
+        val deleted = deleting
+                || MmEntityUtils.getEntityState(entity).isTransientOrRemoved();
+        MmEntityUtils.streamPropertyChangeRecordIdsForChangePublishing(entity)
+                .map(enlistedPropertyChangeRecordsById::remove)
+                .filter(Objects::nonNull)
+                .map(rec -> deleted
+                        ? rec.withPostValueSetToDeleted()
+                        : rec.withPostValueSetToCurrent())
+                .forEach(this::addFlushedPropertyChange);
+    }
+
+    private void addFlushedPropertyChange(final PropertyChangeRecord record) {
+        flushedPropertyChanges.get().add(_PropertyChangeRecordBuffer.Row.of(record));
+    }
+
+    private void clearFlushedPropertyChanges() {
+        if(flushedPropertyChanges.isMemoized()) {
+            flushedPropertyChanges.get().clear();
+        }
     }
 
     // -- ENTITY CHANGE TRACKING
@@ -353,6 +503,7 @@ long countPotentialPropertyChangeRecords() {
     public void enlistCreated(final ManagedObject entity) {
 
         _Xray.enlistCreated(entity, interactionProviderProvider);
+        enlistChangedEntityType(entity);
 
         if (isEntityExcludedForChangePublishing(entity)) {
             return;
@@ -364,6 +515,11 @@ public void enlistCreated(final ManagedObject entity) {
         MmEntityUtils.streamPropertyChangeRecordIdsForChangePublishing(entity)
                 .filter(pcrId -> ! enlistedPropertyChangeRecordsById.containsKey(pcrId)) // only if not previously seen
                 .forEach(pcrId -> enlistedPropertyChangeRecordsById.put(pcrId, PropertyChangeRecord.ofNew(pcrId)));
+
+        if(isBounded()) {
+            // already flushed, as called post persist
+            releaseEnlisted(entity, false);
+        }
     }
 
     @Override
@@ -372,6 +528,7 @@ public void enlistUpdating(
             final @Nullable Function<ManagedObject, Can<PropertyChangeRecord>> propertyChangeRecordSupplier) {
 
         _Xray.enlistUpdating(entity, interactionProviderProvider);
+        enlistChangedEntityType(entity);
 
         if (isEntityExcludedForChangePublishing(entity)) {
             return;
@@ -407,6 +564,7 @@ public void enlistUpdating(
     public void enlistDeleting(final ManagedObject entity) {
 
         _Xray.enlistDeleting(entity, interactionProviderProvider);
+        enlistChangedEntityType(entity);
 
         if (isEntityExcludedForChangePublishing(entity)) {
             return;
@@ -419,7 +577,29 @@ public void enlistDeleting(final ManagedObject entity) {
             MmEntityUtils.streamPropertyChangeRecordIdsForChangePublishing(entity)
                     .forEach(pcrId -> enlistedPropertyChangeRecordsById
                             .computeIfAbsent(pcrId, id -> PropertyChangeRecord.ofDeleting(id)));
+
+            if(isBounded()) {
+                releaseEnlisted(entity, true);
+            }
+        } else if(isBounded()) {
+            // eg. created earlier within this transaction, with its changes already released;
+            // merging cancels these out
+            MmEntityUtils.streamPropertyChangeRecordIdsForChangePublishing(entity)
+                    .map(PropertyChangeRecord::ofDeleting)
+                    .map(_PropertyChangeRecordBuffer.Row::of)
+                    .forEach(flushedPropertyChanges.get()::mergeIfPresent);
+        }
+    }
+
+    @Override
+    public void onEntityFlushed(final ManagedObject entity) {
+        if(!isBounded()
+                || entityPropertyChangeRecordsForPublishing.isMemoized()
+                || !EntityChangePublishingFacet.isPublishingEnabled(entity.getSpecification())
+                || ManagedObjects.bookmark(entity).isEmpty()) {
+            return;
         }
+        releaseEnlisted(entity, false);
     }
 
     /**
@@ -60,7 +60,7 @@ public static Optional<EntityChanges> createChangingEntities(
                 entityChangeTracker.numberEntitiesLoaded(),
                 // side-effect: it locks the result for this transaction,
                 // such that cannot enlist on top of it
-                entityChangeTracker.snapshotPropertyChangeRecords().size(),
+                entityChangeTracker.numberPropertyChangeRecordsForPublishing(),
                 changeKindByEnlistedAdapter);
 
         return Optional.of(changingEntities);
@@ -0,0 +1,403 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.apache.causeway.persistence.jpa.integration.changetracking;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.applib.services.xactn.TransactionId;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyValuePlaceholder;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Holds the property changes of entities that have already been flushed, in compact (string) form, such that
+ * the {@link org.apache.causeway.core.metamodel.object.ManagedObject}s they originated from can be released.
+ * <p>
+ * Up to {@code spillThreshold} rows are held in memory, where a subsequent change to the same property is merged
+ * into the row already held. Beyond that, the rows held are spilled to a temporary file (readable by the owner only),
+ * to be read back in chunks when published. The keys of the spilled rows are kept in memory, so that a subsequent
+ * change to a property already spilled is still merged, albeit only when read back.
+ * <p>
+ * Not thread-safe, just like the (interaction scoped) {@link EntityChangeTrackerDefault} that owns it.
+ */
+@Log4j2
+final class _PropertyChangeRecordBuffer implements AutoCloseable {
+
+    @Value(staticConstructor = "of")
+    static class Row {
+        private final @NonNull Bookmark bookmark;
+        private final @NonNull String propertyId;
+        private final @Nullable String preValue;
+        private final @Nullable String postValue;
+        /** whether the pre value is the {@link PropertyValuePlaceholder#NEW} placeholder */
+        private final boolean created;
+        /** whether the post value is the {@link PropertyValuePlaceholder#DELETED} placeholder */
+        private final boolean deleted;
+
+        static Row of(final @NonNull PropertyChangeRecord record) {
+            val preAndPostValue = record.getPreAndPostValue();
+            return of(record.getBookmark(), record.getPropertyId(),
+                    preAndPostValue.getPreString(), preAndPostValue.getPostString(),
+                    preAndPostValue.getPre() == PropertyValuePlaceholder.NEW,
+                    preAndPostValue.getPost() == PropertyValuePlaceholder.DELETED);
+        }
+
+        String key() {
+            return bookmark.stringify() + "#" + propertyId;
+        }
+
+        /**
+         * Same semantics as {@link org.apache.causeway.core.metamodel.services.objectlifecycle.PreAndPostValue#shouldPublish()}.
+         */
+        boolean shouldPublish() {
+            if(created && deleted) {
+                return false;
+            }
+            return created
+                    || deleted
+                    || !Objects.equals(preValue, postValue);
+        }
+
+        /**
+         * @return a row with the pre value of this row and the post value of the {@code later} one
+         */
+        Row mergeWith(final @NonNull Row later) {
+            return of(bookmark, propertyId, preValue, later.postValue, created, later.deleted);
+        }
+
+        EntityPropertyChange toEntityPropertyChange(
+                final Timestamp timestamp,
+                final String username,
+                final TransactionId txId) {
+            return EntityPropertyChange.of(
+                    txId.getInteractionId(), txId.getSequence(),
+                    bookmark, bookmark.getLogicalTypeName() + "#" + propertyId, propertyId,
+                    preValue, postValue,
+                    username, timestamp);
+        }
+    }
+
+    private final int spillThreshold;
+    private final Map<String, Row> rowsByKey = _Maps.newLinkedHashMap();
+
+    private File spillFile;
+    private DataOutputStream spillOut;
+    private int spilledCount;
+    /** keys of the rows spilled, an index to merge subsequent changes on read */
+    private final Set<String> spilledKeys = new HashSet<>();
+    private final Set<String> spilledMoreThanOnce = new HashSet<>();
+
+    _PropertyChangeRecordBuffer(final int spillThreshold) {
+        this.spillThreshold = spillThreshold;
+    }
+
+    /**
+     * Adds (or merges) the row, removing it altogether if (once merged) there is nothing to publish.
+     * <p>
+     * If a row for the same property has already been spilled, the row is held regardless, to be merged with the
+     * spilled one(s) when read back.
+     */
+    void add(final @NonNull Row row) {
+        val key = row.key();
+        val existing = rowsByKey.remove(key);
+        val merged = existing!=null
+                ? existing.mergeWith(row)
+                : row;
+        if(merged.shouldPublish()
+                || spilledKeys.contains(key)) {
+            rowsByKey.put(key, merged);
+        }
+        if(rowsByKey.size() > spillThreshold) {
+            spill();
+        }
+    }
+
+    /**
+     * As {@link #add(Row)}, but only if a row for the same property is held (whether in memory or spilled).
+     */
+    void mergeIfPresent(final @NonNull Row row) {
+        val key = row.key();
+        if(rowsByKey.containsKey(key)
+                || spilledKeys.contains(key)) {
+            add(row);
+        }
+    }
+
+    /**
+     * Number of rows to publish, whether held in memory or spilled.
+     * <p>
+     * If any rows are still to be merged with spilled ones, these are counted by reading back the spilled rows.
+     */
+    int size() {
+        if(!hasRowsToMergeOnRead()) {
+            return rowsByKey.size() + spilledCount;
+        }
+        val count = new int[] {0};
+        forEachRow(row->count[0]++);
+        return count[0];
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Passes all rows held (spilled ones first, so in the order they were added) to given {@code chunkConsumer},
+     * in chunks of up to {@code chunkSize}.
+     */
+    void forEachChunk(final int chunkSize, final @NonNull Consumer<Can<Row>> chunkConsumer) {
+        val chunk = new ArrayList<Row>(Math.min(chunkSize, rowsByKey.size() + spilledCount));
+        forEachRow(row->{
+            chunk.add(row);
+            flushIfFull(chunk, chunkSize, chunkConsumer);
+        });
+        if(!chunk.isEmpty()) {
+            chunkConsumer.accept(Can.ofCollection(chunk));
+        }
+    }
+
+    /**
+     * Passes all rows to publish to given {@code rowConsumer}, in the order they were first added, merging the
+     * rows of any property spilled more than once, or also held in memory.
+     */
+    private void forEachRow(final Consumer<Row> rowConsumer) {
+        // first pass: merge the rows of those properties held more than once (only their merged rows are held)
+        final Map<String, Row> mergedByKey = new HashMap<>();
+        if(hasRowsToMergeOnRead()) {
+            readSpilled(row->{
+                val key = row.key();
+                if(spilledMoreThanOnce.contains(key)
+                        || rowsByKey.containsKey(key)) {
+                    mergedByKey.merge(key, row, Row::mergeWith);
+                }
+            });
+            mergedByKey.replaceAll((key, merged)->{
+                val later = rowsByKey.get(key);
+                return later!=null
+                        ? merged.mergeWith(later)
+                        : merged;
+            });
+        }
+        // second pass: each merged row in place of the first of the rows it was merged from
+        val emittedKeys = new HashSet<String>();
+        readSpilled(row->{
+            val merged = mergedByKey.get(row.key());
+            if(merged==null) {
+                rowConsumer.accept(row);
+            } else if(emittedKeys.add(row.key())
+                    && merged.shouldPublish()) {
+                rowConsumer.accept(merged);
+            }
+        });
+        for (val row : rowsByKey.values()) {
+            if(!mergedByKey.containsKey(row.key())) {
+                rowConsumer.accept(row);
+            }
+        }
+    }
+
+    private boolean hasRowsToMergeOnRead() {
+        if(!spilledMoreThanOnce.isEmpty()) {
+            return true;
+        }
+        if(spilledKeys.isEmpty()) {
+            return false;
+        }
+        for (val key : rowsByKey.keySet()) {
+            if(spilledKeys.contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void readSpilled(final Consumer<Row> rowConsumer) {
+        if(spilledCount == 0) {
+            return;
+        }
+        closeSpillOut();
+        try(val in = new DataInputStream(new BufferedInputStream(new FileInputStream(spillFile)))) {
+            for (int i = 0; i < spilledCount; i++) {
+                rowConsumer.accept(read(in));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to read back spilled property changes from " + spillFile, e);
+        }
+    }
+
+    /**
+     * Discards all rows held, deleting the temporary file (if any).
+     */
+    void clear() {
+        rowsByKey.clear();
+        spilledKeys.clear();
+        spilledMoreThanOnce.clear();
+        closeSpillOut();
+        if(spillFile!=null) {
+            if(!spillFile.delete()) {
+                spillFile.deleteOnExit();
+            }
+            spillFile = null;
+        }
+        spilledCount = 0;
+    }
+
+    @Override
+    public void close() {
+        clear();
+    }
+
+    // -- HELPER
+
+    private void spill() {
+        try {
+            if(spillOut==null) {
+                if(spillFile==null) {
+                    spillFile = createTempFile();
+                    spillFile.deleteOnExit();
+                    log.info("spilling entity property changes to {}", spillFile);
+                }
+                // append, as might have been closed for reading
+                spillOut = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(spillFile, true)));
+            }
+            for (val row : rowsByKey.values()) {
+                write(spillOut, row);
+                val key = row.key();
+                if(!spilledKeys.add(key)) {
+                    spilledMoreThanOnce.add(key);
+                }
+            }
+            spillOut.flush();
+            spilledCount += rowsByKey.size();
+            rowsByKey.clear();
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to spill property changes to " + spillFile, e);
+        }
+    }
+
+    /**
+     * The property values may be sensitive, so the file is created readable by its owner only.
+     */
+    private static File createTempFile() throws IOException {
+        if(FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            return Files.createTempFile("causeway-property-changes-", ".bin",
+                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")))
+                    .toFile();
+        }
+        val file = Files.createTempFile("causeway-property-changes-", ".bin").toFile();
+        file.setReadable(false, false);
+        file.setReadable(true, true);
+        file.setWritable(false, false);
+        file.setWritable(true, true);
+        return file;
+    }
+
+    private void closeSpillOut() {
+        if(spillOut==null) {
+            return;
+        }
+        try {
+            spillOut.close();
+        } catch (IOException e) {
+            log.warn("failed to close {}", spillFile, e);
+        }
+        spillOut = null;
+    }
+
+    private static <T> void flushIfFull(
+            final List<T> chunk, final int chunkSize, final Consumer<Can<T>> chunkConsumer) {
+        if(chunk.size() >= chunkSize) {
+            chunkConsumer.accept(Can.ofCollection(chunk));
+            chunk.clear();
+        }
+    }
+
+    private static void write(final DataOutputStream out, final Row row) throws IOException {
+        out.writeUTF(row.getBookmark().stringify());
+        out.writeUTF(row.getPropertyId());
+        writeNullable(out, row.getPreValue());
+        writeNullable(out, row.getPostValue());
+        out.writeBoolean(row.isCreated());
+        out.writeBoolean(row.isDeleted());
+    }
+
+    private static Row read(final DataInputStream in) throws IOException {
+        return Row.of(
+                Bookmark.parseElseFail(in.readUTF()),
+                in.readUTF(),
+                readNullable(in),
+                readNullable(in),
+                in.readBoolean(),
+                in.readBoolean());
+    }
+
+    // writeUTF is limited to 64k (encoded) bytes, so values are written as length-prefixed UTF-8 instead
+    private static void writeNullable(final DataOutputStream out, final @Nullable String value) throws IOException {
+        if(value==null) {
+            out.writeInt(-1);
+            return;
+        }
+        val bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static @Nullable String readNullable(final DataInputStream in) throws IOException {
+        val length = in.readInt();
+        if(length < 0) {
+            return null;
+        }
+        val bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.dto;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.core.config.CausewayConfiguration.Persistence.DtoStorage.Format;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+
+import lombok.val;
+
+class DtoStorageCodecTest {
+
+    private CommandDto dto;
+
+    @BeforeEach
+    void setUp() {
+        dto = new CommandDto();
+        dto.setMajorVersion("2");
+        dto.setMinorVersion("0");
+        dto.setInteractionId("a-b-c-d");
+        dto.setUsername("sven");
+        CommandDtoUtils.setUserData(dto, "someKey", "someValue");
+    }
+
+    @AfterEach
+    void tearDown() {
+        DtoStorageCodec.setFormat(Format.XML);
+    }
+
+    @Test
+    void xml_roundtrip() {
+        DtoStorageCodec.setFormat(Format.XML);
+        val mapper = CommandDtoUtils.dtoMapper();
+
+        val stored = DtoStorageCodec.encode(mapper, dto);
+
+        assertFalse(DtoStorageCodec.isCompressed(stored));
+        assertEquals(mapper.toString(dto), stored);
+        assertEquals(stored, mapper.toString(DtoStorageCodec.decode(mapper, stored)));
+    }
+
+    @Test
+    void compressed_roundtrip() {
+        DtoStorageCodec.setFormat(Format.COMPRESSED);
+        val mapper = CommandDtoUtils.dtoMapper();
+
+        val stored = DtoStorageCodec.encode(mapper, dto);
+
+        assertTrue(stored.startsWith(DtoStorageCodec.COMPRESSED_V1_MARKER));
+        assertEquals(mapper.toString(dto), mapper.toString(DtoStorageCodec.decode(mapper, stored)));
+    }
+
+    @Test
+    void reading_is_transparent_regardless_of_configured_format() {
+        val mapper = CommandDtoUtils.dtoMapper();
+        DtoStorageCodec.setFormat(Format.XML);
+        val storedAsXml = DtoStorageCodec.encode(mapper, dto);
+        DtoStorageCodec.setFormat(Format.COMPRESSED);
+        val storedCompressed = DtoStorageCodec.encode(mapper, dto);
+
+        // when reading with COMPRESSED configured
+        assertEquals(mapper.toString(dto), mapper.toString(DtoStorageCodec.decode(mapper, storedAsXml)));
+
+        // when reading with XML configured
+        DtoStorageCodec.setFormat(Format.XML);
+        assertEquals(mapper.toString(dto), mapper.toString(DtoStorageCodec.decode(mapper, storedCompressed)));
+    }
+
+    @Test
+    void nulls_are_passed_through() {
+        val mapper = CommandDtoUtils.dtoMapper();
+        assertNull(DtoStorageCodec.encode(mapper, null));
+        assertNull(DtoStorageCodec.decode(mapper, null));
+    }
+
+}
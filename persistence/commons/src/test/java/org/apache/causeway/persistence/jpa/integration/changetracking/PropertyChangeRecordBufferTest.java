@@ -0,0 +1,202 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jpa.integration.changetracking;
+
+import java.io.File;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.persistence.jpa.integration.changetracking._PropertyChangeRecordBuffer.Row;
+
+import lombok.val;
+
+class PropertyChangeRecordBufferTest {
+
+    @Test
+    void rowsBeyondThreshold_shouldBeSpilled_andReadBackInOrder() {
+        try(val buffer = new _PropertyChangeRecordBuffer(3)) {
+
+            for (int i = 0; i < 10; i++) {
+                buffer.add(updated(i, "name", "a" + i, "b" + i));
+            }
+            buffer.add(updated(10, "name", null, "b10"));
+            assertEquals(11, buffer.size());
+
+            val chunkSizes = new ArrayList<Integer>();
+            val rows = new ArrayList<Row>();
+            buffer.forEachChunk(4, chunk->{
+                chunkSizes.add(chunk.size());
+                chunk.forEach(rows::add);
+            });
+
+            assertEquals(List.of(4, 4, 3), chunkSizes);
+            for (int i = 0; i < 10; i++) {
+                assertEquals(updated(i, "name", "a" + i, "b" + i), rows.get(i));
+            }
+            assertNull(rows.get(10).getPreValue());
+
+            buffer.clear();
+            assertTrue(buffer.isEmpty());
+        }
+    }
+
+    @Test
+    void subsequentChanges_shouldBeMerged() {
+        try(val buffer = new _PropertyChangeRecordBuffer(100)) {
+
+            buffer.add(Row.of(bookmark(1), "name", "[NEW]", "a", true, false));
+            buffer.add(updated(1, "name", "a", "b"));
+            buffer.add(updated(2, "name", "a", "b"));
+            buffer.add(updated(2, "name", "b", "a")); // reverted, so nothing to publish
+            buffer.add(updated(3, "name", "a", "a")); // unchanged
+
+            val rows = new ArrayList<Row>();
+            buffer.forEachChunk(10, chunk->chunk.forEach(rows::add));
+            assertEquals(List.of(Row.of(bookmark(1), "name", "[NEW]", "b", true, false)), rows);
+
+            // created then deleted within the same transaction
+            buffer.mergeIfPresent(Row.of(bookmark(1), "name", "b", "[DELETED]", false, true));
+            buffer.mergeIfPresent(Row.of(bookmark(4), "name", "b", "[DELETED]", false, true));
+            assertTrue(buffer.isEmpty());
+        }
+    }
+
+    @Test
+    void subsequentChangesToSpilledRows_shouldBeMergedOnRead() {
+        try(val buffer = new _PropertyChangeRecordBuffer(2)) {
+
+            buffer.add(Row.of(bookmark(1), "name", "[NEW]", "a", true, false));
+            buffer.add(updated(2, "name", "a", "b"));
+            buffer.add(updated(3, "name", "a", "b")); // spills all three
+            buffer.add(updated(1, "name", "a", "b"));
+            buffer.add(updated(2, "name", "b", "a")); // reverted
+            buffer.add(updated(4, "name", "a", "b")); // spills again
+            buffer.add(updated(1, "name", "b", "c"));
+            buffer.mergeIfPresent(Row.of(bookmark(3), "name", "b", "[DELETED]", false, true));
+
+            assertEquals(3, buffer.size());
+            assertEquals(List.of(
+                        Row.of(bookmark(1), "name", "[NEW]", "c", true, false),
+                        Row.of(bookmark(3), "name", "a", "[DELETED]", false, true),
+                        updated(4, "name", "a", "b")),
+                    rowsOf(buffer));
+
+            // created then deleted within the same transaction, though spilled in between
+            buffer.mergeIfPresent(Row.of(bookmark(1), "name", "c", "[DELETED]", false, true));
+            assertEquals(2, buffer.size());
+        }
+    }
+
+    @Test
+    void spilling_shouldNotChangeTheRowsPublished() {
+        val random = new Random(42);
+        for (int run = 0; run < 20; run++) {
+            try(val bounded = new _PropertyChangeRecordBuffer(3);
+                val unbounded = new _PropertyChangeRecordBuffer(Integer.MAX_VALUE)) {
+
+                // each change's pre value is the post value of the previous change to the same entity
+                val values = new String[] {null, "a", "b", "c"};
+                val current = new HashMap<Integer, String>();
+                val deleted = new HashSet<Integer>();
+                for (int i = 0; i < 200; i++) {
+                    val id = random.nextInt(15);
+                    if(deleted.contains(id)) {
+                        continue;
+                    }
+                    val created = id >= 10; // created within the transaction, so can be deleted again
+                    final Row row;
+                    if(!current.containsKey(id)) {
+                        current.put(id, values[random.nextInt(4)]);
+                        row = created
+                                ? Row.of(bookmark(id), "name", "[NEW]", current.get(id), true, false)
+                                : updated(id, "name", null, current.get(id));
+                    } else if(created
+                            && random.nextInt(10) == 0) {
+                        deleted.add(id);
+                        bounded.mergeIfPresent(Row.of(bookmark(id), "name", current.get(id), "[DELETED]", false, true));
+                        unbounded.mergeIfPresent(Row.of(bookmark(id), "name", current.get(id), "[DELETED]", false, true));
+                        continue;
+                    } else {
+                        val post = values[random.nextInt(4)];
+                        row = updated(id, "name", current.put(id, post), post);
+                    }
+                    bounded.add(row);
+                    unbounded.add(row);
+                }
+
+                assertEquals(unbounded.size(), bounded.size());
+                // same rows, though not necessarily in the same order
+                assertEquals(new HashSet<>(rowsOf(unbounded)), new HashSet<>(rowsOf(bounded)));
+            }
+        }
+    }
+
+    @Test
+    void spillFile_shouldBeOwnerOnly_andDeletedOnClose() throws Exception {
+        final File spillFile;
+        try(val buffer = new _PropertyChangeRecordBuffer(1)) {
+            buffer.add(updated(1, "name", "a", "b"));
+            buffer.add(updated(2, "name", "a", "b"));
+            spillFile = spillFileOf(buffer);
+            assertTrue(spillFile.exists());
+            if(FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+                assertEquals("rw-------",
+                        PosixFilePermissions.toString(Files.getPosixFilePermissions(spillFile.toPath())));
+            }
+        }
+        assertFalse(spillFile.exists());
+    }
+
+    // -- HELPER
+
+    private static List<Row> rowsOf(final _PropertyChangeRecordBuffer buffer) {
+        val rows = new ArrayList<Row>();
+        buffer.forEachChunk(4, chunk->chunk.forEach(rows::add));
+        return rows;
+    }
+
+    private static File spillFileOf(final _PropertyChangeRecordBuffer buffer) throws Exception {
+        val field = _PropertyChangeRecordBuffer.class.getDeclaredField("spillFile");
+        field.setAccessible(true);
+        return (File) field.get(buffer);
+    }
+
+    private static Row updated(final int id, final String propertyId, final String pre, final String post) {
+        return Row.of(bookmark(id), propertyId, pre, post, false, false);
+    }
+
+    private static Bookmark bookmark(final int id) {
+        return Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "" + id);
+    }
+
+}
@@ -143,6 +143,38 @@ default <T> T executeQueryUnique(final Class<T> cls) {
      */
     <T> JDOQLTypedQuery<T> newTypesafeQuery(Class<T> cls);
 
+    /**
+     * Executes a (single-string) JDOQL bulk <code>UPDATE</code> or <code>DELETE</code> against the
+     * current thread's {@link PersistenceManager}, returning the number of instances affected.
+     *
+     * <p>
+     *     DataNucleus only parses and compiles such queries if <code>datanucleus.query.jdoql.allowAll</code> is
+     *     enabled (and does so too early for a query extension to be consulted).  It is therefore enabled on the
+     *     {@link PersistenceManager} only for the duration of this call, and then restored to its previous value
+     *     (DataNucleus' default, if not previously set).
+     * </p>
+     */
+    default long executeBulkUpdate(final String jdoql, final Map<String, ?> parameters) {
+        final String allowAll = "datanucleus.query.jdoql.allowAll";
+        final PersistenceManager pm = getPersistenceManager();
+        final Object allowAllBefore = pm.getProperties().entrySet().stream()
+                .filter(entry->allowAll.equalsIgnoreCase(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse("false");
+        pm.setProperty(allowAll, "true");
+        try {
+            final Query<?> query = pm.newQuery(jdoql);
+            try {
+                return ((Number) query.executeWithMap(parameters)).longValue();
+            } finally {
+                query.closeAll();
+            }
+        } finally {
+            pm.setProperty(allowAll, allowAllBefore);
+        }
+    }
+
     // -- UTILITY
 
     /**
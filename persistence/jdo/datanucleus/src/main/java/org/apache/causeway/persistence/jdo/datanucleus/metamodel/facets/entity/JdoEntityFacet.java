@@ -19,6 +19,8 @@
 package org.apache.causeway.persistence.jdo.datanucleus.metamodel.facets.entity;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -28,9 +30,12 @@
 import javax.inject.Inject;
 import javax.jdo.FetchGroup;
 import javax.jdo.PersistenceManager;
+import javax.jdo.identity.SingleFieldIdentity;
 
 import org.datanucleus.api.jdo.JDOQuery;
 import org.datanucleus.enhancement.Persistable;
+import org.datanucleus.identity.DatastoreId;
+import org.datanucleus.identity.SingleFieldId;
 import org.datanucleus.store.rdbms.RDBMSPropertyNames;
 import org.springframework.lang.Nullable;
 
@@ -92,6 +97,8 @@
     @Getter(value = AccessLevel.PROTECTED) @Accessors(fluent = true)
     @Inject private IdStringifierLookupService idStringifierLookupService;
 
+    private static final int FETCH_BY_BOOKMARKS_CHUNK_SIZE = 500;
+
     private final Class<?> entityClass;
 
     // lazily looks up the primaryKeyTypeFor (needs a PersistenceManager)
@@ -99,6 +106,11 @@
     private final PrimaryKeyType<?> primaryKeyTypeForDecoding = idStringifierLookupService()
             .primaryKeyTypeFor(entityClass, getOrmMetadata().primaryKeyClass());
 
+    // lazily looks up the JDOQL expression for the primary key if any (needs a PersistenceManager)
+    @Getter(lazy=true, value = AccessLevel.PRIVATE) @Accessors(fluent = true)
+    private final Optional<String> primaryKeyExpression =
+            _MetadataUtil.primaryKeyExpression(getPersistenceManager(), entityClass);
+
     // lazily looks up the ORM metadata (needs a PersistenceManager)
     @Getter(lazy=true)
     private final EntityOrmMetadata ormMetadata =
@@ -213,6 +225,67 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    /**
+     * Fetches in chunks of {@value #FETCH_BY_BOOKMARKS_CHUNK_SIZE}, using a JDOQL query on the primary key member
+     * (or on the datastore id), unless the entity uses neither datastore nor single field identity.
+     */
+    @Override
+    public Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+
+        val primaryKeyExpression = primaryKeyExpression().orElse(null);
+        if(primaryKeyExpression==null) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        final Map<Object, Object> entityPojosByKey = new HashMap<>();
+        getTransactionalProcessor().runWithinCurrentTransactionElseCreateNew(()->{
+            val persistenceManager = getPersistenceManager();
+            bookmarks
+                .map(this::primaryKeyValueFor)
+                .distinct()
+                .partitionInnerBound(FETCH_BY_BOOKMARKS_CHUNK_SIZE)
+                .forEach(keys->{
+                    val query = persistenceManager.newQuery(entityClass, ":keys.contains(" + primaryKeyExpression + ")");
+                    query.extension(RDBMSPropertyNames.PROPERTY_RDBMS_QUERY_MULTIVALUED_FETCH, "none");
+                    query.setNamedParameters(Map.of("keys", keys.toList()));
+                    _NullSafe.stream(query.executeList())
+                        .forEach(entityPojo->
+                            entityPojosByKey.put(
+                                    primaryKeyValueOf(persistenceManager.getObjectId(entityPojo)),
+                                    entityPojo));
+                });
+        })
+        .ifFailureFail();
+
+        final Map<Bookmark, Object> entityPojosByBookmark = new LinkedHashMap<>();
+        bookmarks.forEach(bookmark->{
+            val entityPojo = entityPojosByKey.get(primaryKeyValueFor(bookmark));
+            if(entityPojo!=null) {
+                entityPojosByBookmark.put(bookmark, entityPojo);
+            }
+        });
+        return entityPojosByBookmark;
+    }
+
+    private Object primaryKeyValueFor(final Bookmark bookmark) {
+        return primaryKeyValueOf(primaryKeyTypeForDecoding().destring(bookmark.getIdentifier()));
+    }
+
+    private static Object primaryKeyValueOf(final Object primaryKey) {
+        if(primaryKey instanceof SingleFieldIdentity) {
+            return ((SingleFieldIdentity) primaryKey).getKeyAsObject();
+        }
+        if(primaryKey instanceof SingleFieldId) {
+            return ((SingleFieldId<?, ?>) primaryKey).getKeyAsObject();
+        }
+        if(primaryKey instanceof DatastoreId) {
+            return ((DatastoreId) primaryKey).getKeyAsObject();
+        }
+        return primaryKey;
+    }
+
     @Override
     public Can<ManagedObject> fetchByQuery(final Query<?> query) {
 
@@ -26,6 +26,7 @@
 
 import org.datanucleus.api.jdo.JDOPersistenceManagerFactory;
 import org.datanucleus.identity.SCOID;
+import org.datanucleus.metadata.IdentityType;
 
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._NullSafe;
@@ -58,6 +59,38 @@ EntityOrmMetadata ormMetadataFor(
                 typeMetadata);
     }
 
+    /**
+     * Optionally the JDOQL expression for the key of an entity, that can be matched against the key values
+     * of its object ids (see {@code JdoEntityFacet#primaryKeyValueOf}),
+     * based on whether the entity uses datastore identity or (application) single field identity.
+     */
+    Optional<String> primaryKeyExpression(
+            final @NonNull PersistenceManager persistenceManager,
+            final @NonNull Class<?> entityClass) {
+
+        val pmf = (JDOPersistenceManagerFactory) persistenceManager.getPersistenceManagerFactory();
+        val contextLoader = Thread.currentThread().getContextClassLoader();
+        val nucleusContext = pmf.getNucleusContext();
+        val clr = nucleusContext.getClassLoaderResolver(contextLoader);
+        val classMetadata = nucleusContext.getMetaDataManager().getMetaDataForClass(entityClass, clr);
+
+        if(classMetadata==null) {
+            return Optional.empty();
+        }
+        if(classMetadata.getIdentityType()==IdentityType.DATASTORE) {
+            return Optional.of("JDOHelper.getObjectId(this)");
+        }
+        if(classMetadata.getIdentityType()!=IdentityType.APPLICATION
+                || !classMetadata.usesSingleFieldIdentityClass()) {
+            return Optional.empty();
+        }
+        val primaryKeyMemberNames = classMetadata.getPrimaryKeyMemberNames();
+        return primaryKeyMemberNames!=null
+                && primaryKeyMemberNames.length==1
+                    ? Optional.of(primaryKeyMemberNames[0])
+                    : Optional.empty();
+    }
+
     // -- HELPER
 
     private Can<ColumnOrmMetadata> columns(final TypeMetadata typeMetadata) {
@@ -21,9 +21,13 @@
 import org.datanucleus.store.types.converters.TypeConverter;
 
 import org.apache.causeway.applib.util.schema.ChangesDtoUtils;
+import org.apache.causeway.persistence.commons.dto.DtoStorageCodec;
 import org.apache.causeway.schema.chg.v2.ChangesDto;
 
 /**
+ * Stores the DTO in the configured format, while reading either format transparently.
+ *
+ * @see DtoStorageCodec
  * @since 2.0 {@index}
  */
 public class CausewayChangesDtoConverter implements TypeConverter<ChangesDto, String>{
@@ -32,12 +36,12 @@ public class CausewayChangesDtoConverter implements TypeConverter<ChangesDto, St
 
     @Override
     public String toDatastoreType(final ChangesDto memberValue) {
-        return ChangesDtoUtils.dtoMapper().toString(memberValue);
+        return DtoStorageCodec.encode(ChangesDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public ChangesDto toMemberType(final String datastoreValue) {
-        return ChangesDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoStorageCodec.decode(ChangesDtoUtils.dtoMapper(), datastoreValue);
     }
 
 }
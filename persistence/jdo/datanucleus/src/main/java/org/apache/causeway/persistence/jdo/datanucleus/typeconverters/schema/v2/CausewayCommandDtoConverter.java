@@ -21,9 +21,13 @@
 import org.datanucleus.store.types.converters.TypeConverter;
 
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.persistence.commons.dto.DtoStorageCodec;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 /**
+ * Stores the DTO in the configured format, while reading either format transparently.
+ *
+ * @see DtoStorageCodec
  * @since 2.0 {@index}
  */
 public class CausewayCommandDtoConverter implements TypeConverter<CommandDto, String>{
@@ -32,12 +36,12 @@ public class CausewayCommandDtoConverter implements TypeConverter<CommandDto, St
 
     @Override
     public String toDatastoreType(final CommandDto memberValue) {
-        return CommandDtoUtils.dtoMapper().toString(memberValue);
+        return DtoStorageCodec.encode(CommandDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public CommandDto toMemberType(final String datastoreValue) {
-        return CommandDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoStorageCodec.decode(CommandDtoUtils.dtoMapper(), datastoreValue);
     }
 
 }
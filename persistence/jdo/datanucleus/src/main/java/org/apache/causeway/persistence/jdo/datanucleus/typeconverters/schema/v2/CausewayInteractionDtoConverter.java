@@ -21,9 +21,13 @@
 import org.datanucleus.store.types.converters.TypeConverter;
 
 import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.persistence.commons.dto.DtoStorageCodec;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 /**
+ * Stores the DTO in the configured format, while reading either format transparently.
+ *
+ * @see DtoStorageCodec
  * @since 2.0 {@index}
  */
 public class CausewayInteractionDtoConverter implements TypeConverter<InteractionDto, String>{
@@ -32,12 +36,12 @@ public class CausewayInteractionDtoConverter implements TypeConverter<Interactio
 
     @Override
     public String toDatastoreType(final InteractionDto memberValue) {
-        return InteractionDtoUtils.dtoMapper().toString(memberValue);
+        return DtoStorageCodec.encode(InteractionDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public InteractionDto toMemberType(final String datastoreValue) {
-        return InteractionDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoStorageCodec.decode(InteractionDtoUtils.dtoMapper(), datastoreValue);
     }
 
 }
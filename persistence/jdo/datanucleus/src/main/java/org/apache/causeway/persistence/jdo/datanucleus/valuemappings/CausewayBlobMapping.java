@@ -18,6 +18,9 @@
  */
 package org.apache.causeway.persistence.jdo.datanucleus.valuemappings;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -26,6 +29,7 @@
 import org.datanucleus.ClassNameConstants;
 import org.datanucleus.ExecutionContext;
 import org.datanucleus.NucleusContext;
+import org.datanucleus.exceptions.NucleusDataStoreException;
 import org.datanucleus.metadata.AbstractMemberMetaData;
 import org.datanucleus.store.rdbms.RDBMSStoreManager;
 import org.datanucleus.store.rdbms.mapping.java.SingleFieldMultiMapping;
@@ -34,10 +38,21 @@
 import org.apache.causeway.applib.value.Blob;
 
 /**
+ * Streams the content of a lazy {@link Blob} (see {@link Blob#ofDataSource}) to the database,
+ * rather than reading it into memory.
+ * <p>
+ * Likewise, content read from the database that exceeds {@value #MEMORY_THRESHOLD} bytes is spooled to a
+ * temporary file, making for a lazy {@link Blob} (see {@link Blob#ofInputStreamSpooled}).
+ *
  * @since 1.x {@index}
  */
 public class CausewayBlobMapping extends SingleFieldMultiMapping {
 
+    /**
+     * Content of up to this many bytes is held in memory when read from the database.
+     */
+    public static final int MEMORY_THRESHOLD = 1024 * 1024;
+
     public CausewayBlobMapping() {
     }
 
@@ -101,7 +116,18 @@ public void setObject(ExecutionContext ec, PreparedStatement preparedStmt, int[]
         } else {
             getColumnMapping(0).setString(preparedStmt, exprIndex[0], blob.getName());
             getColumnMapping(1).setString(preparedStmt, exprIndex[1], blob.getMimeType().getBaseType());
-            getColumnMapping(2).setObject(preparedStmt, exprIndex[2], blob.getBytes());
+            if(blob.isMaterialized()) {
+                getColumnMapping(2).setObject(preparedStmt, exprIndex[2], blob.getBytes());
+            } else {
+                // the statement is executed only after this mapping returns, so can't read within a callback
+                final InputStream is = blob.asDataSource().tryOpenInputStream().valueAsNonNullElseFail();
+                try {
+                    preparedStmt.setBinaryStream(exprIndex[2], new ClosingAtEndInputStream(is));
+                } catch (SQLException e) {
+                    closeQuietly(is);
+                    throw new NucleusDataStoreException("failed to bind the content of " + blob, e);
+                }
+            }
         }
     }
 
@@ -123,11 +149,56 @@ public Object getObject(ExecutionContext ec, ResultSet resultSet, int[] exprInde
 
         final String name = getColumnMapping(0).getString(resultSet, exprIndex[0]);
         final String mimeTypeBase = getColumnMapping(1).getString(resultSet, exprIndex[1]);
-        final byte[] bytes = (byte[]) getColumnMapping(2).getObject(resultSet, exprIndex[2]);
-        if(name == null || mimeTypeBase == null || bytes == null) {
+        if(name == null || mimeTypeBase == null) {
             return null;
         }
-        return new Blob(name, mimeTypeBase, bytes);
+        try(final InputStream is = resultSet.getBinaryStream(exprIndex[2])) {
+            if(is == null) {
+                return null;
+            }
+            return Blob.ofInputStreamSpooled(name, mimeTypeBase, is, MEMORY_THRESHOLD);
+        } catch (SQLException | IOException e) {
+            throw new NucleusDataStoreException("failed to read the content of Blob " + name, e);
+        }
+    }
+
+    // -- HELPER
+
+    /**
+     * The JDBC driver reads the content when the statement is executed, but need not close the stream,
+     * so it is closed once read to the end.
+     */
+    private static final class ClosingAtEndInputStream extends FilterInputStream {
+
+        ClosingAtEndInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if(b == -1) {
+                close();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int n = super.read(b, off, len);
+            if(n == -1) {
+                close();
+            }
+            return n;
+        }
+    }
+
+    private static void closeQuietly(final InputStream is) {
+        try {
+            is.close();
+        } catch (IOException e) {
+            // ignore
+        }
     }
 
 
@@ -33,6 +33,9 @@
 import org.apache.causeway.applib.value.Clob;
 
 /**
+ * Binds the {@link Clob}'s content as a String, hence a lazy {@link Clob}
+ * (see {@link Clob#ofDataSource}) is read into memory when persisted.
+ *
  * @since 1.x {@index}
  */
 public class CausewayClobMapping extends SingleFieldMultiMapping {
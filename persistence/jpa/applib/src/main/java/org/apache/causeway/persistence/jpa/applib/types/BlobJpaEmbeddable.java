@@ -82,6 +82,12 @@ public final class BlobJpaEmbeddable {
 
     /**
      * Factory method to marshall a {@link Blob} into a {@link BlobJpaEmbeddable}
+     * <p>
+     * Reads the content of a lazy {@link Blob} (see {@link Blob#ofDataSource}) into memory.
+     * Unlike with JDO, the content is not streamed to or from the database,
+     * as EclipseLink reads {@link Lob} columns into a {@code byte[]} before any converter sees them;
+     * to not hold large content in memory, keep it outside the entity (eg. in a content store)
+     * and return a lazy {@link Blob} for it.
      *
      * @see #toBlob(BlobJpaEmbeddable)
      */
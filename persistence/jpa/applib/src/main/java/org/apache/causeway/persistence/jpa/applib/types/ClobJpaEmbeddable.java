@@ -81,6 +81,8 @@ public final class ClobJpaEmbeddable {
 
     /**
      * Factory method to marshall a {@link Clob} into a {@link ClobJpaEmbeddable}
+     * <p>
+     * Reads the content of a lazy {@link Clob} (see {@link Clob#ofDataSource}) into memory.
      *
      * @see #toClob(ClobJpaEmbeddable)
      */
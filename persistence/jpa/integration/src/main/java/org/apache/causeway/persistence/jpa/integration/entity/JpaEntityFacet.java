@@ -19,11 +19,15 @@
 package org.apache.causeway.persistence.jpa.integration.entity;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.inject.Inject;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.metamodel.Type.PersistenceType;
 
 import org.springframework.data.jpa.repository.JpaContext;
 import org.springframework.lang.Nullable;
@@ -59,6 +63,8 @@
     @Inject private JpaContext jpaContext;
     @Inject private IdStringifierLookupService idStringifierLookupService;
 
+    private static final int FETCH_BY_BOOKMARKS_CHUNK_SIZE = 500;
+
     private final Class<?> entityClass;
     private PrimaryKeyType<?> primaryKeyType;
 
@@ -114,6 +120,52 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    /**
+     * Fetches in chunks of {@value #FETCH_BY_BOOKMARKS_CHUNK_SIZE}, using an IN-query on the primary key,
+     * unless the entity has a composite or embedded primary key.
+     */
+    @Override
+    public Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+
+        val entityManager = getEntityManager();
+        val entityType = entityManager.getMetamodel().entity(entityClass);
+        if(!entityType.hasSingleIdAttribute()
+                || entityType.getIdType().getPersistenceType() != PersistenceType.BASIC) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        val idAttribute = entityType.getId(entityType.getIdType().getJavaType());
+        val persistenceUnitUtil = getPersistenceUnitUtil(entityManager);
+
+        final Map<Object, Object> entityPojosByPrimaryKey = new HashMap<>();
+        bookmarks
+            .map(bookmark->primaryKeyType.destring(bookmark.getIdentifier()))
+            .distinct()
+            .partitionInnerBound(FETCH_BY_BOOKMARKS_CHUNK_SIZE)
+            .forEach(primaryKeys->{
+                val cb = entityManager.getCriteriaBuilder();
+                val cr = cb.createQuery(entityClass);
+                val root = cr.from(entityClass);
+                cr.select(_Casts.uncheckedCast(root))
+                    .where(root.get(idAttribute.getName()).in(primaryKeys.toList()));
+                entityManager.createQuery(cr)
+                    .getResultStream()
+                    .forEach(entityPojo->
+                        entityPojosByPrimaryKey.put(persistenceUnitUtil.getIdentifier(entityPojo), entityPojo));
+            });
+
+        final Map<Bookmark, Object> entityPojosByBookmark = new LinkedHashMap<>();
+        bookmarks.forEach(bookmark->{
+            val entityPojo = entityPojosByPrimaryKey.get(primaryKeyType.destring(bookmark.getIdentifier()));
+            if(entityPojo!=null) {
+                entityPojosByBookmark.put(bookmark, entityPojo);
+            }
+        });
+        return entityPojosByBookmark;
+    }
+
     private Class<?> getPrimaryKeyType() {
         return getOrmMetadata().primaryKeyClass();
     }
@@ -22,9 +22,13 @@
 import javax.persistence.Converter;
 
 import org.apache.causeway.applib.util.schema.ChangesDtoUtils;
+import org.apache.causeway.persistence.commons.dto.DtoStorageCodec;
 import org.apache.causeway.schema.chg.v2.ChangesDto;
 
 /**
+ * Stores the DTO in the configured format, while reading either format transparently.
+ *
+ * @see DtoStorageCodec
  * @since 2.0 {@index}
  */
 @Converter(autoApply = true)
@@ -33,12 +37,12 @@
 
     @Override
     public String convertToDatabaseColumn(final ChangesDto memberValue) {
-        return ChangesDtoUtils.dtoMapper().toString(memberValue);
+        return DtoStorageCodec.encode(ChangesDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public ChangesDto convertToEntityAttribute(final String datastoreValue) {
-        return ChangesDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoStorageCodec.decode(ChangesDtoUtils.dtoMapper(), datastoreValue);
     }
 
 }
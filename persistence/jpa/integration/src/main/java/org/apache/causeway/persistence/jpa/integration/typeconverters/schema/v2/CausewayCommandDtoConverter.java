@@ -22,9 +22,13 @@
 import javax.persistence.Converter;
 
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.persistence.commons.dto.DtoStorageCodec;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 /**
+ * Stores the DTO in the configured format, while reading either format transparently.
+ *
+ * @see DtoStorageCodec
  * @since 2.0 {@index}
  */
 @Converter(autoApply = true)
@@ -33,12 +37,12 @@
 
     @Override
     public String convertToDatabaseColumn(final CommandDto memberValue) {
-        return CommandDtoUtils.dtoMapper().toString(memberValue);
+        return DtoStorageCodec.encode(CommandDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public CommandDto convertToEntityAttribute(final String datastoreValue) {
-        return CommandDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoStorageCodec.decode(CommandDtoUtils.dtoMapper(), datastoreValue);
     }
 
 }
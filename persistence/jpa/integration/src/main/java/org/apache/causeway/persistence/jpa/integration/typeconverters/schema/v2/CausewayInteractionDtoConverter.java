@@ -22,9 +22,13 @@
 import javax.persistence.Converter;
 
 import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.persistence.commons.dto.DtoStorageCodec;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 /**
+ * Stores the DTO in the configured format, while reading either format transparently.
+ *
+ * @see DtoStorageCodec
  * @since 2.0 {@index}
  */
 @Converter(autoApply = true)
@@ -33,12 +37,12 @@
 
     @Override
     public String convertToDatabaseColumn(final InteractionDto memberValue) {
-        return InteractionDtoUtils.dtoMapper().toString(memberValue);
+        return DtoStorageCodec.encode(InteractionDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public InteractionDto convertToEntityAttribute(final String datastoreValue) {
-        return InteractionDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoStorageCodec.decode(InteractionDtoUtils.dtoMapper(), datastoreValue);
     }
 
 }
@@ -0,0 +1,209 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.regressiontests.cmdexecauditsess.generic.integtest;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.PackedManagedObject;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMemento;
+import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoCollection;
+import org.apache.causeway.regressiontests.cmdexecauditsess.generic.integtest.model.Counter;
+import org.apache.causeway.regressiontests.cmdexecauditsess.generic.integtest.model.CounterRepository;
+import org.apache.causeway.testing.integtestsupport.applib.CausewayIntegrationTestAbstract;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+/**
+ * Recovering a collection of entity mementos fetches the entities in bulk, in chunks of 500 keys.
+ */
+public abstract class ObjectManager_IntegTestAbstract extends CausewayIntegrationTestAbstract {
+
+    private static final int COUNTERS = 1_100;
+
+    @BeforeAll
+    static void beforeAll() {
+        CausewayPresets.forcePrototyping();
+    }
+
+    List<ObjectMemento> mementos;
+
+    @BeforeEach
+    void beforeEach() {
+        interactionService.nextInteraction();
+
+        counterRepository.removeAll();
+        val counters = new ArrayList<Counter>();
+        for (int i = 0; i < COUNTERS; i++) {
+            counters.add(counterRepository.persist(newCounter("counter-" + i)));
+        }
+        Collections.shuffle(counters, new Random(1L));
+
+        mementos = counters.stream()
+                .map(objectManager::adapt)
+                .map(objectManager::mementifyElseFail)
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        interactionService.nextInteraction();
+    }
+
+    protected abstract Counter newCounter(String name);
+
+    @Test
+    void demementify_preserves_order() {
+
+        // when
+        val objects = demementify(mementos);
+
+        // then
+        assertThat(bookmarksOf(objects)).isEqualTo(bookmarksOf(mementos));
+        objects.forEach(object->assertThat(object.getPojo()).isInstanceOf(Counter.class));
+    }
+
+    @Test
+    void demementify_when_some_entities_are_missing() {
+
+        // given
+        val missing = new ArrayList<Bookmark>();
+        for (int i = 0; i < mementos.size(); i += 10) {
+            val bookmark = mementos.get(i).getBookmark();
+            repositoryService.removeAndFlush(objectManager.loadObjectElseFail(bookmark).getPojo());
+            missing.add(bookmark);
+        }
+        interactionService.nextInteraction();
+
+        // when
+        val objects = demementify(mementos);
+
+        // then
+        assertThat(objects.size()).isEqualTo(mementos.size());
+        for (int i = 0; i < mementos.size(); i++) {
+            val memento = mementos.get(i);
+            val object = objects.getElseFail(i);
+            if(missing.contains(memento.getBookmark())) {
+                // same as when recovered one by one
+                val recoveredOneByOne = objectManager.demementify(memento);
+                assertThat(object.getSpecialization()).isEqualTo(recoveredOneByOne.getSpecialization());
+                assertThat(object.getPojo()).isNull();
+            } else {
+                assertThat(object.getBookmark()).contains(memento.getBookmark());
+            }
+        }
+    }
+
+    @Test
+    void demementify_fetches_in_chunks_of_500() {
+
+        assertThat(selectsFromCounterWhile(()->demementify(mementos.subList(0, 500))))
+                .isEqualTo(1);
+        interactionService.nextInteraction();
+
+        assertThat(selectsFromCounterWhile(()->demementify(mementos.subList(0, 501))))
+                .isEqualTo(2);
+        interactionService.nextInteraction();
+
+        assertThat(selectsFromCounterWhile(()->demementify(mementos)))
+                .isEqualTo(3);
+    }
+
+    // -- HELPER
+
+    private Can<ManagedObject> demementify(final List<ObjectMemento> mementos) {
+        val logicalType = mementos.get(0).getLogicalType();
+        val packed = (PackedManagedObject) objectManager.demementify(
+                ObjectMementoCollection.of(new ArrayList<>(mementos), logicalType));
+        return packed.unpack();
+    }
+
+    private static List<Bookmark> bookmarksOf(final List<ObjectMemento> mementos) {
+        return mementos.stream()
+                .map(ObjectMemento::getBookmark)
+                .collect(Collectors.toList());
+    }
+
+    private static List<Bookmark> bookmarksOf(final Can<ManagedObject> objects) {
+        return objects.stream()
+                .map(object->object.getBookmark().orElseThrow())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Number of SELECT statements on the Counter table, as counted by the (H2) database.
+     */
+    @SneakyThrows
+    private long selectsFromCounterWhile(final Runnable runnable) {
+        setQueryStatistics(false); // clears any previous statistics
+        setQueryStatistics(true);
+        try {
+            runnable.run();
+            try (val connection = dataSource.getConnection();
+                 val statement = connection.createStatement();
+                 val resultSet = statement.executeQuery(
+                         "SELECT SQL_STATEMENT, EXECUTION_COUNT FROM INFORMATION_SCHEMA.QUERY_STATISTICS")) {
+                long selects = 0;
+                while (resultSet.next()) {
+                    val sql = resultSet.getString(1).toUpperCase();
+                    if(sql.startsWith("SELECT")
+                            && sql.contains("COUNTER")
+                            && !sql.contains("QUERY_STATISTICS")) {
+                        selects += resultSet.getLong(2);
+                    }
+                }
+                return selects;
+            }
+        } finally {
+            setQueryStatistics(false);
+        }
+    }
+
+    private void setQueryStatistics(final boolean enabled) throws SQLException {
+        try (val connection = dataSource.getConnection();
+             val statement = connection.createStatement()) {
+            statement.execute("SET QUERY_STATISTICS " + (enabled ? "TRUE" : "FALSE"));
+        }
+    }
+
+    @Inject InteractionService interactionService;
+    @Inject RepositoryService repositoryService;
+    @Inject ObjectManager objectManager;
+    @Inject CounterRepository<? extends Counter> counterRepository;
+    @Inject DataSource dataSource;
+
+}
@@ -0,0 +1,38 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.regressiontests.cmdexecauditsess.jpa.integtests;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import org.apache.causeway.regressiontests.cmdexecauditsess.generic.integtest.ObjectManager_IntegTestAbstract;
+import org.apache.causeway.regressiontests.cmdexecauditsess.jpa.integtests.model.Counter;
+
+@SpringBootTest(
+        classes = CmdExecAuditSessLog_IntegTest.AppManifest.class
+)
+@ActiveProfiles("test")
+public class ObjectManager_IntegTest extends ObjectManager_IntegTestAbstract {
+
+
+    protected org.apache.causeway.regressiontests.cmdexecauditsess.generic.integtest.model.Counter newCounter(String name) {
+        return Counter.builder().name(name).build();
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.publishing.jpa;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.apache.causeway.commons.internal.base._Timing;
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.metamodel.services.publishing.ExecutionPublisher;
+import org.apache.causeway.testdomain.conf.Configuration_usingJpa;
+import org.apache.causeway.testdomain.jpa.JpaTestFixtures;
+import org.apache.causeway.testdomain.jpa.entities.JpaBook;
+import org.apache.causeway.testdomain.publishing.conf.Configuration_usingExecutionPublishing;
+import org.apache.causeway.testdomain.publishing.subscriber.ExecutionSubscriberForTesting;
+import org.apache.causeway.testdomain.util.kv.KVStoreForTesting;
+import org.apache.causeway.testing.integtestsupport.applib.CausewayIntegrationTestAbstract;
+
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Compares the cost of (wrapped) action invocations with an {@link ExecutionSubscriberForTesting} being notified
+ * (and hence requesting the execution's DTO), against the same invocations with publishing suppressed
+ * (so that the DTO is never built).
+ */
+@SpringBootTest(
+        classes = {
+                Configuration_usingJpa.class,
+                Configuration_usingExecutionPublishing.class,
+        },
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:JpaExecutionPublishingPerformanceTest",
+        })
+@TestPropertySource(CausewayPresets.UseLog4j2Test)
+@Transactional
+//XXX not a real test, just for performance tuning
+@Log4j2
+class JpaExecutionPublishingPerformanceTest extends CausewayIntegrationTestAbstract {
+
+    @Inject private JpaTestFixtures testFixtures;
+    @Inject private ExecutionPublisher executionPublisher;
+    @Inject private KVStoreForTesting kvStore;
+
+    static int WARMUP_ITERATIONS = 1_000;
+    static int ITERATIONS = 10_000;
+
+    private JpaBook book;
+
+    @BeforeEach
+    void setup() {
+        testFixtures.clearRepository();
+        testFixtures.add3Books();
+        book = repositoryService.allInstances(JpaBook.class).get(0);
+
+        invokeRepeatedly(WARMUP_ITERATIONS);
+        executionPublisher.withPublishingSuppressed(()->invokeRepeatedly(WARMUP_ITERATIONS));
+        ExecutionSubscriberForTesting.clearPublishedEntries(kvStore);
+    }
+
+    @Test
+    void actionInvocation_withAndWithoutSubscriber() {
+
+        val withSubscriber = _Timing.run(()->invokeRepeatedly(ITERATIONS));
+        ExecutionSubscriberForTesting.clearPublishedEntries(kvStore);
+
+        val withoutSubscriber = _Timing.run(()->
+            executionPublisher.withPublishingSuppressed(()->invokeRepeatedly(ITERATIONS)));
+
+        log.info("{} action invocations, with subscriber: {} ({} µs/op)",
+                ITERATIONS, withSubscriber, withSubscriber.getMicros()/ITERATIONS);
+        log.info("{} action invocations, without subscriber: {} ({} µs/op)",
+                ITERATIONS, withoutSubscriber, withoutSubscriber.getMicros()/ITERATIONS);
+    }
+
+    // -- HELPER
+
+    private int invokeRepeatedly(final int iterations) {
+        for(int i=0; i<iterations; ++i) {
+            wrap(book).doubleThePrice();
+        }
+        return iterations;
+    }
+
+}
@@ -28,6 +28,9 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.asciidoctor.Asciidoctor;
 import org.asciidoctor.Attributes;
 import org.asciidoctor.Options;
@@ -46,6 +49,7 @@
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.html._HtmlCache;
 import org.apache.causeway.core.config.CausewayConfiguration;
 
 import lombok.NonNull;
@@ -63,17 +67,21 @@ public class CausewayModuleValAsciidocApplib {
     @ConditionalOnMissingBean(AdocToHtmlConverter.class)
     @Qualifier("Default")
     public AdocToHtmlConverter createAdocToHtmlConverter(final CausewayConfiguration config) throws MalformedURLException {
-        val asciidoctor = Asciidoctor.Factory.create();
-
         val krokiBaseUri = config.getValueTypes().getKroki().getBackendUrl();
         val requestTimeout = config.getValueTypes().getKroki().getRequestTimeout();
+        val poolSize = config.getValueTypes().getAsciiDoc().getConverterPoolSize();
 
-        if(krokiBaseUri!=null) {
-            asciidoctor.javaExtensionRegistry().preprocessor(new OpenBlockPreProcessor());
-            asciidoctor.javaExtensionRegistry().block("plantuml", new PlantumlBlockProcessor(krokiBaseUri, requestTimeout));
+        final List<Asciidoctor> asciidoctors = new ArrayList<>(poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            val asciidoctor = Asciidoctor.Factory.create();
+            if(krokiBaseUri!=null) {
+                asciidoctor.javaExtensionRegistry().preprocessor(new OpenBlockPreProcessor());
+                asciidoctor.javaExtensionRegistry().block("plantuml", new PlantumlBlockProcessor(krokiBaseUri, requestTimeout));
+            }
+            asciidoctors.add(asciidoctor);
         }
 
-        return new AdocToHtmlConverter(asciidoctor, org.asciidoctor.Options.builder()
+        return new AdocToHtmlConverter(asciidoctors, org.asciidoctor.Options.builder()
                 .safe(SafeMode.UNSAFE)
                 .toFile(false)
                 .attributes(Attributes.builder()
@@ -91,22 +99,50 @@ public static AdocToHtmlConverter instance() {
 
         private static AdocToHtmlConverter instance;
 
-        private final @NonNull Asciidoctor asciidoctor;
+        private static final AtomicInteger instanceCount = new AtomicInteger();
+
+        /**
+         * Pool of Asciidoctor instances (all set up the same way), each used by one conversion at a time.
+         */
+        private final @NonNull BlockingQueue<Asciidoctor> asciidoctors;
         private final @NonNull Options options;
 
+        /**
+         * Identifies this converter (with its options and extensions) within the {@link _HtmlCache#shared()}.
+         */
+        private final @NonNull String converterKey;
+
         public AdocToHtmlConverter(@NonNull final Asciidoctor asciidoctor, @NonNull final Options options) {
+            this(List.of(asciidoctor), options);
+        }
+
+        /**
+         * @param asciidoctors - pool of (equally configured) Asciidoctor instances, allowing for concurrent conversions
+         */
+        public AdocToHtmlConverter(@NonNull final List<Asciidoctor> asciidoctors, @NonNull final Options options) {
             super();
-            this.asciidoctor = asciidoctor;
+            if(asciidoctors.isEmpty()) {
+                throw new IllegalArgumentException("at least one Asciidoctor instance is required");
+            }
+            this.asciidoctors = new ArrayBlockingQueue<>(asciidoctors.size(), false, asciidoctors);
             this.options = options;
+            this.converterKey = "asciidoc#" + instanceCount.incrementAndGet();
             instance = this;
         }
 
+        public int getPoolSize() {
+            return asciidoctors.remainingCapacity() + asciidoctors.size();
+        }
+
         /**
          * For syntax highlighting to work, the client/browser needs to load specific
          * Javascript and CSS.
          * The framework supports this out of the box with its various viewers,
          * using <i>Prism</i> web-jars.
          *
+         * <p>
+         * The HTML is cached (keyed by a hash of the adoc), see {@link _HtmlCache#shared()}.
+         *
          * @param adoc - formated input to be converted to HTML
          *
          * @see <a href="https://prismjs.com/">prismjs.com</a>
@@ -114,7 +150,24 @@ public AdocToHtmlConverter(@NonNull final Asciidoctor asciidoctor, @NonNull fina
         public String adocToHtml(final @Nullable String adoc) {
             return _Strings.isEmpty(adoc)
                     ? ""
-                    : asciidoctor.convert(adoc, options);
+                    : _HtmlCache.shared().computeIfAbsent(converterKey, adoc, this::convert);
+        }
+
+        // -- HELPER
+
+        private String convert(final String adoc) {
+            final Asciidoctor asciidoctor;
+            try {
+                asciidoctor = asciidoctors.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted while waiting for an Asciidoctor instance", e);
+            }
+            try {
+                return asciidoctor.convert(adoc, options);
+            } finally {
+                asciidoctors.add(asciidoctor);
+            }
         }
 
     }
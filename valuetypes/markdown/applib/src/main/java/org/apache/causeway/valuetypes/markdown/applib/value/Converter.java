@@ -26,6 +26,9 @@
 import com.vladsch.flexmark.parser.Parser;
 import com.vladsch.flexmark.util.data.MutableDataSet;
 
+import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.commons.internal.html._HtmlCache;
+
 /**
  * @since 2.0 {@index}
  */
@@ -37,20 +40,25 @@ public final class Converter {
      * The framework supports this out of the box with its various viewers,
      * using <i>Prism</i> web-jars.
      *
+     * <p>
+     * The HTML is cached (keyed by a hash of the markdown), see {@link _HtmlCache#shared()}.
+     *
      * @param markdown - formated input to be converted to HTML
      *
      * @see <a href="https://prismjs.com/">prismjs.com</a>
      */
     public static String mdToHtml(final String markdown) {
-        if(markdownSupport==null) {
-            markdownSupport = new MarkdownSupport();
-        }
-        return markdownSupport.toHtml(markdown);
+        return _HtmlCache.shared().computeIfAbsent(CONVERTER_KEY, markdown, markdownSupport.get()::toHtml);
     }
 
     // -- HELPER
 
-    private static MarkdownSupport markdownSupport;
+    /**
+     * Identifies the options (extensions) used by {@link MarkdownSupport}.
+     */
+    private static final String CONVERTER_KEY = "markdown[tables,strikethrough]";
+
+    private static final _Lazy<MarkdownSupport> markdownSupport = _Lazy.threadSafe(MarkdownSupport::new);
 
     private static class MarkdownSupport {
         private Parser parser;
@@ -0,0 +1,94 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.valuetypes.markdown.applib.value;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.commons.internal.base._Timing;
+import org.apache.causeway.commons.internal.html._HtmlCache;
+
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+//XXX not a real test, just for performance tuning
+@Log4j2
+class MarkdownRenderingPerformanceTest {
+
+    static final int DOCUMENTS = 20;
+    static final int RENDERINGS = 50;
+
+    @BeforeEach
+    void setUp() {
+        _HtmlCache.shared().clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        _HtmlCache.shared().setMaxEntries(_HtmlCache.DEFAULT_MAX_ENTRIES);
+    }
+
+    @Test
+    void repeatedRendering() {
+        val documents = IntStream.range(0, DOCUMENTS)
+                .mapToObj(MarkdownRenderingPerformanceTest::document)
+                .collect(Collectors.toList());
+
+        _HtmlCache.shared().setMaxEntries(0);
+        val uncached = _Timing.run(()->render(documents));
+
+        _HtmlCache.shared().setMaxEntries(_HtmlCache.DEFAULT_MAX_ENTRIES);
+        val cached = _Timing.run(()->render(documents));
+
+        log.info("rendering {} documents {} times: uncached {}, cached {}, {}",
+                DOCUMENTS, RENDERINGS, uncached, cached, _HtmlCache.shared());
+
+        assertEquals(DOCUMENTS, _HtmlCache.shared().getSize());
+        assertTrue(_HtmlCache.shared().getHitCount() >= (long) DOCUMENTS * (RENDERINGS - 1));
+    }
+
+    // -- HELPER
+
+    private static void render(final Iterable<String> documents) {
+        for (int i = 0; i < RENDERINGS; i++) {
+            for (val document : documents) {
+                // new instances, as a table of view models would produce them
+                assertTrue(Markdown.valueOf(document).asHtml().startsWith("<h1>"));
+            }
+        }
+    }
+
+    private static String document(final int index) {
+        val sb = new StringBuilder()
+                .append("# Document ").append(index).append("\n\n");
+        for (int i = 0; i < 20; i++) {
+            sb.append("Some *emphasized* and ~~struck~~ text, paragraph ").append(i).append(".\n\n")
+              .append("| col a | col b |\n|---|---|\n| ").append(i).append(" | ").append(index).append(" |\n\n");
+        }
+        return sb.toString();
+    }
+
+}
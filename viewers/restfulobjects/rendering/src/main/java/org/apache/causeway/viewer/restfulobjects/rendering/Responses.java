@@ -25,6 +25,9 @@
 
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+import com.fasterxml.jackson.databind.JsonNode;
 
 import org.apache.causeway.applib.services.clock.ClockService;
 import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
@@ -72,6 +75,12 @@ public static Response.ResponseBuilder ofOk(
 
         final MediaType mediaType = renderer.getMediaType();
 
+        final JsonMapper.PrettyPrinting prettyPrinting = inferPrettyPrinting(renderer);
+        final Object entity = hasStreamedContent(entityRepresentation.asJsonNode())
+                // eg. Blob content, not to be buffered as a String
+                ? (StreamingOutput) outputStream->JsonMapper.instance(prettyPrinting).write(entityRepresentation, outputStream)
+                : JsonWriterUtil.jsonFor(entityRepresentation, prettyPrinting);
+
         final Date now = now(renderer);
         SimpleDateFormat dateFormat = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss z", Locale.US);
         dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
@@ -81,11 +90,27 @@ public static Response.ResponseBuilder ofOk(
                 .header("Date", dateFormat.format(now))
                 .type(mediaType)
                 .cacheControl(caching.getCacheControl())
-                .entity(JsonWriterUtil.jsonFor(entityRepresentation, inferPrettyPrinting(renderer)));
+                .entity(entity);
 
         return response;
     }
 
+    /**
+     * Whether any node is a {@link com.fasterxml.jackson.databind.node.POJONode}, whose content is only
+     * produced when written.
+     */
+    private static boolean hasStreamedContent(final JsonNode jsonNode) {
+        if(jsonNode.isPojo()) {
+            return true;
+        }
+        for(val child : jsonNode) {
+            if(hasStreamedContent(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static Date now(final ReprRenderer<?> renderer) {
         if(renderer instanceof ReprRendererAbstract) {
             ((ReprRendererAbstract<?>)renderer).getResourceContext().getMetaModelContext().getServiceRegistry()
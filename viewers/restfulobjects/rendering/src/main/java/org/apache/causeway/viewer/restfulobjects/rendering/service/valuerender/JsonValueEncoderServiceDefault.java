@@ -32,6 +32,7 @@
 import org.springframework.util.ClassUtils;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.value.Blob;
 import org.apache.causeway.applib.value.semantics.ValueDecomposition;
 import org.apache.causeway.applib.value.semantics.ValueSemanticsProvider;
 import org.apache.causeway.commons.functional.Try;
@@ -168,6 +169,15 @@ public void appendValueAndFormat(
         if(jsonValueConverter != null) {
             jsonValueConverter.appendValueAndFormat(valueAdapter, context, repr);
             return;
+        } else if(isStreamedBlob(valueAdapter)) {
+            // not materialized, so don't read it into memory; the content is streamed when the response is written
+            val blob = (Blob) valueAdapter.getPojo();
+            val blobRepr = JsonRepresentation.newMap()
+                    .mapPutString("name", blob.getName())
+                    .mapPutString("mimeType", blob.getMimeType().getBaseType())
+                    .mapPutJsonNode("bytes", _StreamedBlobBytes.of(blob).asJsonNode());
+            repr.mapPutJsonRepresentation("value", blobRepr);
+            appendFormats(repr, null, ValueType.BLOB.value(), context.isSuppressExtensions());
         } else {
             final Optional<ValueDecomposition> valueDecompositionIfAny = decompose(valueAdapter);
             if(valueDecompositionIfAny.isPresent()) {
@@ -210,6 +220,12 @@ public void appendValueAndFormat(
         }
     }
 
+    private static boolean isStreamedBlob(final ManagedObject valueAdapter) {
+        return !ManagedObjects.isNullOrUnspecifiedOrEmpty(valueAdapter)
+                && valueAdapter.getPojo() instanceof Blob
+                && !((Blob) valueAdapter.getPojo()).isMaterialized();
+    }
+
     private static Optional<ValueDecomposition> decompose(final ManagedObject valueAdapter) {
         if(ManagedObjects.isNullOrUnspecifiedOrEmpty(valueAdapter)) {
             return Optional.empty();
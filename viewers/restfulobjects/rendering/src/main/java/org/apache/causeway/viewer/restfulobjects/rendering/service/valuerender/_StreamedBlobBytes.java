@@ -0,0 +1,65 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.service.valuerender;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.node.POJONode;
+
+import org.apache.causeway.applib.value.Blob;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes the content of a (not yet materialized) {@link Blob} as base64,
+ * reading it from its {@link org.apache.causeway.commons.io.DataSource} only when the
+ * JSON is actually written to the response.
+ */
+@RequiredArgsConstructor(staticName = "of")
+final class _StreamedBlobBytes implements JsonSerializable {
+
+    private final @NonNull Blob blob;
+
+    JsonNode asJsonNode() {
+        return new POJONode(this);
+    }
+
+    @Override
+    public void serialize(final JsonGenerator gen, final SerializerProvider serializers) throws IOException {
+        try(final InputStream is = blob.asDataSource().tryOpenInputStream().valueAsNonNullElseFail()) {
+            gen.writeBinary(is, -1);
+        }
+    }
+
+    @Override
+    public void serializeWithType(
+            final JsonGenerator gen,
+            final SerializerProvider serializers,
+            final TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+
+}
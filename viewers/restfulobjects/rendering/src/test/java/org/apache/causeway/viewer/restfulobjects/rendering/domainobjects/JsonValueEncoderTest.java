@@ -18,8 +18,12 @@
  */
 package org.apache.causeway.viewer.restfulobjects.rendering.domainobjects;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.fasterxml.jackson.databind.node.BigIntegerNode;
 import com.fasterxml.jackson.databind.node.BooleanNode;
@@ -41,7 +45,13 @@
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import org.apache.causeway.applib.value.Blob;
+import org.apache.causeway.applib.value.NamedWithMimeType.CommonMimeType;
+import org.apache.causeway.commons.io.DataSource;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.causeway.viewer.restfulobjects.applib.util.JsonMapper;
+import org.apache.causeway.viewer.restfulobjects.rendering.service.valuerender.JsonValueConverter;
 
 import lombok.val;
 
@@ -229,4 +239,34 @@ void whenReprIsString() throws Exception {
         assertSame(spec, adapter.getSpecification());
     }
 
+    @Test
+    void whenBlobIsLazy_contentIsStreamedOnWrite() throws Exception {
+        // given
+        val bytes = new byte[] {1, 2, 3};
+        val opened = new AtomicInteger();
+        val blob = Blob.ofDataSource("a Blob", CommonMimeType.BIN, DataSource.ofInputStreamSupplier(()->{
+            opened.incrementAndGet();
+            return new ByteArrayInputStream(bytes);
+        }));
+        val adapter = ManagedObject.value(specFor(Blob.class), blob);
+        val representation = JsonRepresentation.newMap();
+
+        // when
+        jsonValueEncoder.appendValueAndFormat(adapter, representation, JsonValueConverter.Context.forTesting(null, null));
+
+        // then
+        assertThat(opened.get(), is(0));
+
+        // when
+        val os = new ByteArrayOutputStream();
+        JsonMapper.instance(JsonMapper.PrettyPrinting.DISABLE).write(representation, os);
+
+        // then
+        assertThat(opened.get(), is(1));
+        val written = JsonMapper.instance().read(new String(os.toByteArray(), StandardCharsets.UTF_8));
+        assertThat(written.getString("value.name"), is("a Blob.bin"));
+        assertThat(written.getString("value.mimeType"), is("application/octet-stream"));
+        assertThat(written.getString("value.bytes"), is("AQID"));
+    }
+
 }
@@ -23,6 +23,7 @@
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.valuesemantics.BigDecimalValueSemantics;
 import org.apache.causeway.core.metamodel.valuesemantics.BigIntegerValueSemantics;
+import org.apache.causeway.core.metamodel.valuesemantics.BlobValueSemantics;
 import org.apache.causeway.core.metamodel.valuesemantics.BooleanValueSemantics;
 import org.apache.causeway.core.metamodel.valuesemantics.ByteValueSemantics;
 import org.apache.causeway.core.metamodel.valuesemantics.DoubleValueSemantics;
@@ -51,6 +52,7 @@ protected void setUp() {
                 .withValueSemantics(new ByteValueSemantics())
                 .withValueSemantics(new DoubleValueSemantics())
                 .withValueSemantics(new FloatValueSemantics())
+                .withValueSemantics(new BlobValueSemantics())
                 ;
 
         jsonValueEncoder = new JsonValueEncoderServiceDefault(mmc.getSpecificationLoader());
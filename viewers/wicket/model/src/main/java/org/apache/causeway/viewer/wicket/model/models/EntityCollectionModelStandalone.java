@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.viewer.wicket.model.models;
 
+import java.util.Optional;
+
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.PackedManagedObject;
@@ -50,6 +52,22 @@ public static EntityCollectionModelStandalone forActionModel(
                         collectionAsAdapter));
     }
 
+    /**
+     * Optionally, for a safe action with a paged result, without invoking the action.
+     * @see DataTableModelWkt#forActionModelIfPaged(BookmarkedObjectWkt, org.apache.causeway.core.metamodel.spec.feature.ObjectAction, Can)
+     */
+    public static Optional<EntityCollectionModelStandalone> forActionModelIfPaged(
+            final @NonNull ActionModel actionModel,
+            final @NonNull Can<ManagedObject> args) {
+
+        return DataTableModelWkt.forActionModelIfPaged(
+                        BookmarkedObjectWkt
+                            .ofAdapter(actionModel.getMetaModelContext(), actionModel.getParentObject()),
+                        actionModel.getAction(),
+                        args)
+                .map(EntityCollectionModelStandalone::new);
+    }
+
     // -- CONSTRUCTOR
 
     private EntityCollectionModelStandalone(
@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.viewer.wicket.model.models.interaction.coll;
 
+import java.util.Optional;
+
 import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.commons.collections.Can;
@@ -67,10 +69,35 @@ public static DataTableModelWkt forActionModel(
                 args,
                 actionResult);
 
+        return forActionTable(bookmarkedObjectModel, managedAction, args, table);
+    }
+
+    /**
+     * Optionally, for a safe action with a paged result, without invoking the action.
+     * @see DataTableModel#forActionIfPaged(ManagedAction, Can)
+     */
+    public static Optional<DataTableModelWkt> forActionModelIfPaged(
+            final @NonNull BookmarkedObjectWkt bookmarkedObjectModel,
+            final @NonNull ObjectAction actMetaModel,
+            final @NonNull Can<ManagedObject> args) {
+
+        val managedAction = ManagedAction
+                .of(bookmarkedObjectModel.getObject(), actMetaModel, Where.NOT_SPECIFIED);
+
+        return DataTableModel.forActionIfPaged(managedAction, args)
+                .map(table->forActionTable(bookmarkedObjectModel, managedAction, args, table));
+    }
+
+    private static DataTableModelWkt forActionTable(
+            final BookmarkedObjectWkt bookmarkedObjectModel,
+            final ManagedAction managedAction,
+            final Can<ManagedObject> args,
+            final DataTableModel table) {
+
         val tableMemento = table.getMemento(managedAction.getMementoForArgs(args));
 
         val model = new DataTableModelWkt(
-                bookmarkedObjectModel, actMetaModel.getFeatureIdentifier(), tableMemento);
+                bookmarkedObjectModel, managedAction.getAction().getFeatureIdentifier(), tableMemento);
 
         model.setObject(table); // memoize
 
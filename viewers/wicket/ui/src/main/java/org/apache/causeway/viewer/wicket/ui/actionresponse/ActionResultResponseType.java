@@ -19,6 +19,7 @@
 package org.apache.causeway.viewer.wicket.ui.actionresponse;
 
 import java.net.URL;
+import java.util.Optional;
 
 import org.apache.wicket.ajax.AjaxRequestTarget;
 import org.apache.wicket.request.IRequestHandler;
@@ -265,6 +266,19 @@ public static ActionResultResponse determineAndInterpretResult(
                 .interpretResult(model, targetIfAny, typeAndAdapter.resultAdapter, args);
     }
 
+    /**
+     * Optionally, the standalone collection page of a safe action with a paged result,
+     * without invoking the action; rule checking applies as if it was invoked.
+     * @see EntityCollectionModelStandalone#forActionModelIfPaged(ActionModel, Can)
+     */
+    public static Optional<ActionResultResponse> interpretPagedResultIfAny(
+            final ActionModel model,
+            final Can<ManagedObject> args) {
+        return EntityCollectionModelStandalone.forActionModelIfPaged(model, args)
+                .map(collectionModel->ActionResultResponse.toPage(
+                        StandaloneCollectionPage.class, new StandaloneCollectionPage(collectionModel)));
+    }
+
     public static ActionResultResponse toEntityPage(final @NonNull ManagedObject entityOrViewmodel) {
         return ActionResultResponse.toPage(EntityPage.class, entityOrViewmodel.refreshBookmark().orElseThrow());
     }
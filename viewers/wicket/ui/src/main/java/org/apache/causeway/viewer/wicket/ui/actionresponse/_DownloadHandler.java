@@ -18,17 +18,18 @@
  */
 package org.apache.causeway.viewer.wicket.ui.actionresponse;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 
 import org.apache.wicket.request.IRequestHandler;
 import org.apache.wicket.request.handler.resource.ResourceStreamRequestHandler;
 import org.apache.wicket.request.resource.ContentDisposition;
-import org.apache.wicket.util.resource.AbstractResourceStream;
+import org.apache.wicket.util.lang.Bytes;
+import org.apache.wicket.util.resource.AbstractResourceStreamWriter;
 import org.apache.wicket.util.resource.IResourceStream;
-import org.apache.wicket.util.resource.ResourceStreamNotFoundException;
 import org.apache.wicket.util.resource.StringResourceStream;
 
 import org.apache.causeway.applib.value.Blob;
@@ -58,30 +59,55 @@ public IRequestHandler downloadHandler(
 
     // -- HELPER
 
+    /**
+     * Writes directly to the response, so a lazy {@link Blob} is streamed rather than buffered.
+     */
     private IResourceStream resourceStreamFor(final Blob blob) {
-        final IResourceStream resourceStream = new AbstractResourceStream() {
+        final IResourceStream resourceStream = new AbstractResourceStreamWriter() {
 
             private static final long serialVersionUID = 1L;
 
             @Override
-            public InputStream getInputStream() throws ResourceStreamNotFoundException {
-                return new ByteArrayInputStream(blob.getBytes());
+            public void write(final OutputStream output) throws IOException {
+                blob.writeBytesTo(output);
             }
 
             @Override
-            public String getContentType() {
-                return blob.getMimeType().toString();
+            public Bytes length() {
+                return blob.isMaterialized()
+                        ? Bytes.bytes(blob.getBytes().length)
+                        : null; // unknown
             }
 
             @Override
-            public void close() throws IOException {
+            public String getContentType() {
+                return blob.getMimeType().toString();
             }
         };
         return resourceStream;
     }
 
     private IResourceStream resourceStreamFor(final Clob clob) {
-        return new StringResourceStream(clob.getChars(), clob.getMimeType().toString());
+        if(clob.isMaterialized()) {
+            return new StringResourceStream(clob.getChars(), clob.getMimeType().toString());
+        }
+        // lazy, so stream directly to the response (UTF-8 encoded)
+        return new AbstractResourceStreamWriter() {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public void write(final OutputStream output) throws IOException {
+                val writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+                clob.writeCharsTo(writer);
+                writer.flush();
+            }
+
+            @Override
+            public String getContentType() {
+                return clob.getMimeType().getBaseType() + ";charset=UTF-8";
+            }
+        };
     }
 
     private IRequestHandler handlerFor(
@@ -25,7 +25,10 @@
 import org.apache.wicket.extensions.markup.html.repeater.util.SortParam;
 import org.apache.wicket.extensions.markup.html.repeater.util.SortableDataProvider;
 import org.apache.wicket.model.IModel;
+import org.apache.wicket.model.LoadableDetachableModel;
 
+import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.applib.services.tablecol.TablePagingService;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.metamodel.interactions.managed.nonscalar.DataRow;
 import org.apache.causeway.core.metamodel.interactions.managed.nonscalar.DataTableModel;
@@ -38,6 +41,9 @@
 
 /**
  * Part of the {@link AjaxFallbackDefaultDataTable} API.
+ * <p>
+ * If the table is {@link DataTableModel#isPaged() paged} (as per {@link TablePagingService}),
+ * then only the requested page is fetched, with sorting pushed down to the underlying query.
  */
 public class CollectionContentsSortableDataProvider
 extends SortableDataProvider<DataRow, String> {
@@ -68,10 +74,28 @@ public long size() {
 
     @Override
     public Iterator<DataRow> iterator(final long skip, final long limit) {
-        val visibleRows = getDataTableModel().getDataRowsFiltered().getValue();
+        val dataTableModel = getDataTableModel();
+        if(dataTableModel.isPaged()) {
+            val sort = getSort();
+            val sortPropertyId = lookupPropertyFor(sort).map(OneToOneAssociation::getId).orElse(null);
+            return dataTableModel
+                    .getDataRowsPage(QueryRange.of(skip, limit), sortPropertyId, sort==null || sort.isAscending())
+                    .iterator();
+        }
+        val visibleRows = dataTableModel.getDataRowsFiltered().getValue();
         return sorted(visibleRows).iterator(Math.toIntExact(skip), Math.toIntExact(limit));
     }
 
+    @Override
+    public void detach() {
+        // if paged, re-query the element count with the next request
+        if(!(dataTableModelHolder instanceof LoadableDetachableModel)
+                || ((LoadableDetachableModel<?>) dataTableModelHolder).isAttached()) {
+            getDataTableModel().invalidatePagedElementCount();
+        }
+        super.detach();
+    }
+
     // -- HELPER
 
     private Can<DataRow> sorted(final Can<DataRow> dataRows) {
@@ -37,6 +37,7 @@
 import org.apache.causeway.viewer.wicket.model.models.FormExecutorContext;
 import org.apache.causeway.viewer.wicket.model.models.HasCommonContext;
 import org.apache.causeway.viewer.wicket.model.models.ScalarPropertyModel;
+import org.apache.causeway.viewer.wicket.ui.actionresponse.ActionResultResponse;
 import org.apache.causeway.viewer.wicket.ui.actionresponse.ActionResultResponseType;
 
 import lombok.NonNull;
@@ -110,6 +111,21 @@ public FormExecutionOutcome executeAndProcessResults(
                 _Debug.log("[EXECUTOR] execute %s ...", whatIsExecuted);
             });
 
+            // a safe action with a paged result need not be invoked up front,
+            // instead its result page fetches just the visible rows plus a count
+            if(!formExecutorContext.getAssociatedParameter().isPresent()) {
+                val pagedResultResponseIfAny = actionOrPropertyModel.fold(
+                        act->ActionResultResponseType.interpretPagedResultIfAny(act, act.snapshotArgs()),
+                        prop->Optional.<ActionResultResponse>empty());
+                if(pagedResultResponseIfAny.isPresent()) {
+                    val pagedResultResponse = pagedResultResponseIfAny.get();
+                    pagedResultResponse
+                        .getHandlingStrategy()
+                        .handleResults(getMetaModelContext(), pagedResultResponse);
+                    return FormExecutionOutcome.SUCCESS_AND_REDIRECED_TO_RESULT_PAGE;
+                }
+            }
+
             //
             // the following line will (attempt to) invoke the action, and will in turn either:
             //